@@ -0,0 +1,92 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.serialization.runtime.GraphLoader;
+import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntimeBuilder;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarLibrary;
+import org.finos.legend.pure.m3.serialization.runtime.binary.SimplePureRepositoryJarLibrary;
+
+/**
+ * Helpers to build Pure runtimes for the benchmarks. Runtimes only contain
+ * the platform repository, which is loaded from its PAR file rather than
+ * compiled from source.
+ */
+public class BenchmarkRuntimes
+{
+    private static final String PLATFORM = "platform";
+
+    private BenchmarkRuntimes()
+    {
+    }
+
+    public static PureRuntime newRuntime()
+    {
+        return newRuntime(null);
+    }
+
+    public static PureRuntime newRuntime(FunctionExecution functionExecution)
+    {
+        Message message = newMessage();
+        PureRuntime runtime = new PureRuntimeBuilder(newCodeStorage())
+                .withMessage(message)
+                .build();
+        if (functionExecution != null)
+        {
+            functionExecution.init(runtime, message);
+        }
+        return runtime;
+    }
+
+    public static PureRuntime newLoadedRuntime()
+    {
+        return newLoadedRuntime(null);
+    }
+
+    public static PureRuntime newLoadedRuntime(FunctionExecution functionExecution)
+    {
+        PureRuntime runtime = newRuntime(functionExecution);
+        newGraphLoader(runtime, newPlatformJarLibrary()).loadAll(newMessage());
+        return runtime;
+    }
+
+    public static PureRepositoryJarLibrary newPlatformJarLibrary()
+    {
+        return SimplePureRepositoryJarLibrary.newLibrary(GraphLoader.findJars(Lists.immutable.with(PLATFORM), Thread.currentThread().getContextClassLoader(), newMessage()));
+    }
+
+    public static GraphLoader newGraphLoader(PureRuntime runtime, PureRepositoryJarLibrary jarLibrary)
+    {
+        return new GraphLoader(runtime.getModelRepository(), runtime.getContext(), runtime.getIncrementalCompiler().getParserLibrary(), runtime.getIncrementalCompiler().getDslLibrary(), runtime.getSourceRegistry(), runtime.getURLPatternLibrary(), jarLibrary);
+    }
+
+    public static Message newMessage()
+    {
+        return new Message("");
+    }
+
+    private static MutableRepositoryCodeStorage newCodeStorage()
+    {
+        return new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository()));
+    }
+}
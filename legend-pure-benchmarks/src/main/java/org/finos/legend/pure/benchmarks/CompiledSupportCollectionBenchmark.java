@@ -0,0 +1,116 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CompiledSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link CompiledSupport} collection helpers which generated code calls
+ * for the most common Pure collection functions. Collections have one hundred
+ * elements per unit of scale.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CompiledSupportCollectionBenchmark
+{
+    @Param({"S", "M", "L"})
+    public ModelSize size;
+
+    private ImmutableList<Long> numbers;
+    private ImmutableList<String> strings;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        int count = this.size.getScale() * 100;
+        this.numbers = Lists.immutable.withAll(CompiledSupport.range(0L, count, 1L, null));
+        this.strings = this.numbers.collect(String::valueOf);
+    }
+
+    @Benchmark
+    public RichIterable<Long> range()
+    {
+        return CompiledSupport.range(0L, this.numbers.size(), 1L, null);
+    }
+
+    @Benchmark
+    public RichIterable<?> concatenate()
+    {
+        return CompiledSupport.concatenate(this.numbers, this.numbers);
+    }
+
+    @Benchmark
+    public RichIterable<Long> add()
+    {
+        return CompiledSupport.add(this.numbers, -1L);
+    }
+
+    @Benchmark
+    public RichIterable<Long> init()
+    {
+        return CompiledSupport.init(this.numbers);
+    }
+
+    @Benchmark
+    public RichIterable<Long> tail()
+    {
+        return CompiledSupport.tail(this.numbers);
+    }
+
+    @Benchmark
+    public RichIterable<? extends Long> map()
+    {
+        return CompiledSupport.mapToOneOverMany(this.numbers, (n, es) -> n + 1L, null);
+    }
+
+    @Benchmark
+    public Long fold()
+    {
+        return CompiledSupport.fold(this.numbers, (Long acc, Long n) -> acc + n, 0L);
+    }
+
+    @Benchmark
+    public Long plus()
+    {
+        return CompiledSupport.plus(this.numbers);
+    }
+
+    @Benchmark
+    public String joinStrings()
+    {
+        return CompiledSupport.joinStrings(this.strings, "[", ", ", "]");
+    }
+}
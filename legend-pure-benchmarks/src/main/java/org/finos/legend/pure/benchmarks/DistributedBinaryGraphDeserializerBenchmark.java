@@ -0,0 +1,80 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphDeserializer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphSerializer;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriters;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retrieval of the classes of a synthetic model with
+ * {@link DistributedBinaryGraphDeserializer#getInstances}. The platform and
+ * the model are serialized to memory once per trial; each invocation uses a
+ * new deserializer, so nothing is served from its caches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DistributedBinaryGraphDeserializerBenchmark
+{
+    private static final String PACKAGE = "bench";
+
+    @Param({"S", "M", "L"})
+    public ModelSize size;
+
+    private final MutableMap<String, byte[]> fileBytes = Maps.mutable.empty();
+    private ListIterable<String> classIds;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        PureRuntime runtime = BenchmarkRuntimes.newLoadedRuntime();
+        runtime.createInMemoryAndCompile(Maps.immutable.with(PACKAGE + ".pure", SyntheticModels.newClassModel(PACKAGE, this.size)));
+        DistributedBinaryGraphSerializer.newSerializer(runtime).serialize(FileWriters.fromInMemoryByteArrayMap(this.fileBytes));
+        this.classIds = DistributedBinaryGraphDeserializer.fromInMemoryByteArrays(this.fileBytes)
+                .getClassifierInstanceIds(M3Paths.Class)
+                .select(id -> id.startsWith(PACKAGE + "::"))
+                .toSortedList();
+    }
+
+    @Benchmark
+    public ListIterable<Obj> getInstances()
+    {
+        return DistributedBinaryGraphDeserializer.fromInMemoryByteArrays(this.fileBytes).getInstances(M3Paths.Class, this.classIds);
+    }
+}
@@ -0,0 +1,99 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interpreted execution of a naively recursive Pure function with
+ * {@link FunctionExecutionInterpreted}. The recursion depth grows with the
+ * size, and the number of calls grows exponentially with the depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FunctionExecutionInterpretedBenchmark
+{
+    private static final String PACKAGE = "bench";
+
+    @Param({"S", "M", "L"})
+    public ModelSize size;
+
+    private FunctionExecutionInterpreted functionExecution;
+    private CoreInstance function;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        this.functionExecution = new FunctionExecutionInterpreted();
+        PureRuntime runtime = BenchmarkRuntimes.newLoadedRuntime(this.functionExecution);
+        runtime.createInMemoryAndCompile(Maps.immutable.with(PACKAGE + ".pure", SyntheticModels.newRecursiveFunction(PACKAGE, getDepth(this.size))));
+        this.function = runtime.getFunction(PACKAGE + "::run():Integer[1]");
+        if (this.function == null)
+        {
+            throw new IllegalStateException("Could not find function " + PACKAGE + "::run():Integer[1]");
+        }
+    }
+
+    @Benchmark
+    public CoreInstance executeFunction()
+    {
+        return this.functionExecution.start(this.function, Lists.immutable.empty());
+    }
+
+    private static int getDepth(ModelSize size)
+    {
+        switch (size)
+        {
+            case S:
+            {
+                return 10;
+            }
+            case M:
+            {
+                return 15;
+            }
+            case L:
+            {
+                return 20;
+            }
+            default:
+            {
+                throw new IllegalArgumentException("Unknown size: " + size);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.finos.legend.pure.m3.serialization.runtime.GraphLoader;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.binary.PureRepositoryJarLibrary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of the platform graph from its PAR file with
+ * {@link GraphLoader}. Each invocation loads into a new, empty runtime.
+ *
+ * <p>Unlike the other suites, this one is not sized: {@link GraphLoader} only
+ * reads PAR files, and the platform is the only one available on the
+ * benchmark class path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class GraphLoaderBenchmark
+{
+    private PureRepositoryJarLibrary jarLibrary;
+    private PureRuntime runtime;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        this.jarLibrary = BenchmarkRuntimes.newPlatformJarLibrary();
+    }
+
+    @Setup(Level.Invocation)
+    public void newRuntime()
+    {
+        this.runtime = BenchmarkRuntimes.newRuntime();
+    }
+
+    @Benchmark
+    public PureRuntime loadAll()
+    {
+        BenchmarkRuntimes.newGraphLoader(this.runtime, this.jarLibrary).loadAll(BenchmarkRuntimes.newMessage());
+        return this.runtime;
+    }
+}
@@ -0,0 +1,39 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+/**
+ * Size of the synthetic models and data used by the benchmarks. Each
+ * benchmark interprets the scale in terms of its own workload (number of
+ * classes, number of collection elements, recursion depth, etc).
+ */
+public enum ModelSize
+{
+    S(10),
+    M(100),
+    L(1000);
+
+    private final int scale;
+
+    ModelSize(int scale)
+    {
+        this.scale = scale;
+    }
+
+    public int getScale()
+    {
+        return this.scale;
+    }
+}
@@ -0,0 +1,115 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+/**
+ * Generators for synthetic Pure code used by the benchmarks.
+ */
+public class SyntheticModels
+{
+    private SyntheticModels()
+    {
+    }
+
+    /**
+     * Generate a model with one class and one function per unit of scale.
+     * Each class has primitive properties, a qualified property, and an
+     * association-like reference to the next class; each function navigates
+     * its class, so that post-processing has real function matching and type
+     * inference work to do.
+     *
+     * @param pkg  package for all generated elements
+     * @param size model size
+     * @return Pure code
+     */
+    public static String newClassModel(String pkg, ModelSize size)
+    {
+        int count = size.getScale();
+        StringBuilder builder = new StringBuilder(count * 384);
+        for (int i = 0; i < count; i++)
+        {
+            String className = pkg + "::C" + i;
+            String nextClassName = pkg + "::C" + ((i + 1) % count);
+            builder.append("Class ").append(className).append('\n')
+                    .append("{\n")
+                    .append("    id : Integer[1];\n")
+                    .append("    name : String[1];\n")
+                    .append("    next : ").append(nextClassName).append("[0..1];\n")
+                    .append("    label()\n")
+                    .append("    {\n")
+                    .append("        $this.name + '_' + $this.name\n")
+                    .append("    }:String[1];\n")
+                    .append("}\n\n");
+            builder.append("function ").append(pkg).append("::describe").append(i).append("(c:").append(className).append("[1]):String[1]\n")
+                    .append("{\n")
+                    .append("    if($c.next->isEmpty(), |$c.label(), |$c.label() + $c.next->toOne().name)\n")
+                    .append("}\n\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Generate a class hierarchy with one class per unit of scale. The
+     * classes form a binary tree rooted at {@code <pkg>::C0}, and every third
+     * class also extends one of eight mixin classes, so that generalization
+     * resolution orders are neither trivial nor single chains.
+     *
+     * @param pkg  package for all generated elements
+     * @param size model size
+     * @return Pure code
+     */
+    public static String newClassHierarchy(String pkg, ModelSize size)
+    {
+        int count = size.getScale();
+        StringBuilder builder = new StringBuilder(count * 64);
+        for (int i = 0; i < 8; i++)
+        {
+            builder.append("Class ").append(pkg).append("::M").append(i).append(" {}\n");
+        }
+        builder.append("Class ").append(pkg).append("::C0 {}\n");
+        for (int i = 1; i < count; i++)
+        {
+            builder.append("Class ").append(pkg).append("::C").append(i).append(" extends ").append(pkg).append("::C").append((i - 1) / 2);
+            if (i % 3 == 0)
+            {
+                builder.append(", ").append(pkg).append("::M").append(i % 8);
+            }
+            builder.append(" {}\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Generate a naively recursive Fibonacci function, plus a no-argument
+     * function {@code <pkg>::run():Integer[1]} which applies it to the given
+     * depth.
+     *
+     * @param pkg   package for all generated elements
+     * @param depth argument passed to the recursive function
+     * @return Pure code
+     */
+    public static String newRecursiveFunction(String pkg, int depth)
+    {
+        return "function " + pkg + "::fib(n:Integer[1]):Integer[1]\n" +
+                "{\n" +
+                "    if($n < 2, |$n, |" + pkg + "::fib($n - 1) + " + pkg + "::fib($n - 2))\n" +
+                "}\n" +
+                "\n" +
+                "function " + pkg + "::run():Integer[1]\n" +
+                "{\n" +
+                "    " + pkg + "::fib(" + depth + ")\n" +
+                "}\n";
+    }
+}
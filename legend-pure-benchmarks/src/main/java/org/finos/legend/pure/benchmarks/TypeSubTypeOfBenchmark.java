@@ -0,0 +1,139 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.benchmarks;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.type.Type;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Subtype checks between random pairs of classes from a synthetic hierarchy,
+ * comparing a scan of the generalization resolution order
+ * ({@link Type#subTypeOf}), the generalization sets cached by the
+ * {@link Context}, and the type hierarchy index behind
+ * {@link ProcessorSupport#type_subTypeOf}. Each invocation checks the same
+ * fixed set of pairs, and the caches are warm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TypeSubTypeOfBenchmark
+{
+    private static final String PACKAGE = "bench";
+    private static final int PAIR_COUNT = 4096;
+
+    @Param({"S", "M", "L"})
+    public ModelSize size;
+
+    private ProcessorSupport processorSupport;
+    private Context context;
+    private CoreInstance[] types;
+    private CoreInstance[] possibleSuperTypes;
+
+    @Setup(Level.Trial)
+    public void setUp()
+    {
+        PureRuntime runtime = BenchmarkRuntimes.newLoadedRuntime();
+        runtime.createInMemoryAndCompile(Maps.immutable.with(PACKAGE + ".pure", SyntheticModels.newClassHierarchy(PACKAGE, this.size)));
+        this.processorSupport = runtime.getProcessorSupport();
+        this.context = runtime.getContext();
+
+        int count = this.size.getScale();
+        CoreInstance[] classes = new CoreInstance[count];
+        for (int i = 0; i < count; i++)
+        {
+            classes[i] = runtime.getCoreInstance(PACKAGE + "::C" + i);
+        }
+        // pick super types among the first classes, so that a fair share of the pairs are subtypes
+        Random random = new Random(314159L);
+        this.types = new CoreInstance[PAIR_COUNT];
+        this.possibleSuperTypes = new CoreInstance[PAIR_COUNT];
+        for (int i = 0; i < PAIR_COUNT; i++)
+        {
+            this.types[i] = classes[random.nextInt(count)];
+            this.possibleSuperTypes[i] = classes[random.nextInt(Math.min(count, 16))];
+        }
+
+        // warm the caches
+        generalizationSet();
+        hierarchyIndex();
+    }
+
+    @Benchmark
+    public int resolutionOrderScan()
+    {
+        int result = 0;
+        for (int i = 0; i < PAIR_COUNT; i++)
+        {
+            if (Type.subTypeOf(this.types[i], this.possibleSuperTypes[i], this.processorSupport))
+            {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int generalizationSet()
+    {
+        int result = 0;
+        for (int i = 0; i < PAIR_COUNT; i++)
+        {
+            CoreInstance type = this.types[i];
+            CoreInstance possibleSuperType = this.possibleSuperTypes[i];
+            if ((type == possibleSuperType) || this.context.getIfAbsentPutTypeGeneralizationSet(type, t -> Sets.immutable.withAll(Type.getGeneralizationResolutionOrder(t, this.processorSupport))).contains(possibleSuperType))
+            {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int hierarchyIndex()
+    {
+        int result = 0;
+        for (int i = 0; i < PAIR_COUNT; i++)
+        {
+            if (this.processorSupport.type_subTypeOf(this.types[i], this.possibleSuperTypes[i]))
+            {
+                result++;
+            }
+        }
+        return result;
+    }
+}
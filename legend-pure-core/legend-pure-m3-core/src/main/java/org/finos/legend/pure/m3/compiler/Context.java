@@ -16,19 +16,28 @@ package org.finos.legend.pure.m3.compiler;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ImmutableIntObjectMap;
+import org.eclipse.collections.api.map.primitive.MutableIntObjectMap;
 import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.IntObjectHashMap;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.pure.m3.compiler.visibility.AccessLevel;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.FunctionType;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.type.Type;
 import org.finos.legend.pure.m3.navigation.M3Paths;
 import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.M3PropertyPaths;
@@ -37,6 +46,7 @@ import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.tools.ConcurrentHashSet;
 
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 public class Context
@@ -49,7 +59,11 @@ public class Context
     private final ConcurrentMutableMap<CoreInstance, ImmutableList<String>> propertyPaths = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<CoreInstance, MutableSet<CoreInstance>> instancesByClassifier = ConcurrentHashMap.newMap();
     private final ConcurrentMutableMap<String, MutableSet<CoreInstance>> functionsByName = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, FunctionsByArity> functionsByNameAndArity = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, ConcurrentMutableMap<String, ImmutableList<CoreInstance>>> functionMatchesByName = ConcurrentHashMap.newMap();
+    private final LongAdder functionMatchSearches = new LongAdder();
     private final ConcurrentMutableMap<CoreInstance, ImmutableSet<CoreInstance>> typeGeneralizationSets = ConcurrentHashMap.newMap();
+    private final TypeHierarchyIndex typeHierarchyIndex = new TypeHierarchyIndex();
 
     private CoreInstance anyType;
     private CoreInstance nilType;
@@ -152,6 +166,22 @@ public class Context
         return type.isPersistent() ? this.typeGeneralizationSets.getIfAbsentPutWithKey(type, generator) : generator.valueOf(type);
     }
 
+    /**
+     * Return whether possibleGeneralization is among the generalizations
+     * of type (including type itself).  If the generalizations of type are
+     * not stored in the context, then calculate them by evaluating generator
+     * on type and store them as a bitset of compact type ids.
+     *
+     * @param type                   type
+     * @param possibleGeneralization possible generalization
+     * @param generator              function to calculate the generalizations of type
+     * @return whether possibleGeneralization is a generalization of type
+     */
+    public boolean typeHasGeneralization(CoreInstance type, CoreInstance possibleGeneralization, Function<? super CoreInstance, ? extends Iterable<? extends CoreInstance>> generator)
+    {
+        return type.isPersistent() ? this.typeHierarchyIndex.hasGeneralization(type, possibleGeneralization, generator) : Iterate.contains(generator.valueOf(type), possibleGeneralization);
+    }
+
     /**
      * Register the given instance by its classifier.  Throws an
      * exception if the classifier is null.
@@ -230,6 +260,8 @@ public class Context
     public void registerFunctionByName(String functionName, CoreInstance function)
     {
         this.functionsByName.getIfAbsentPut(functionName, ConcurrentHashSet::newSet).add(function);
+        this.functionsByNameAndArity.remove(functionName);
+        this.functionMatchesByName.remove(functionName);
     }
 
     public void registerFunctionsByName(String functionName, Iterable<? extends CoreInstance> functions)
@@ -237,6 +269,8 @@ public class Context
         if (Iterate.notEmpty(functions))
         {
             this.functionsByName.getIfAbsentPut(functionName, ConcurrentHashSet::newSet).addAllIterable(functions);
+            this.functionsByNameAndArity.remove(functionName);
+            this.functionMatchesByName.remove(functionName);
         }
     }
 
@@ -264,6 +298,84 @@ public class Context
         return (functions == null) ? Sets.immutable.empty() : functions.asUnmodifiable();
     }
 
+    /**
+     * Get the functions with the given name which take the given
+     * number of parameters. Functions whose arity cannot be computed
+     * (e.g., because their type cannot yet be resolved) are always
+     * included, so callers must still check each candidate fully.
+     * arityFunction signals this by returning a negative number.
+     *
+     * <p>The index is built lazily for each name using arityFunction
+     * and is discarded whenever a function with that name is
+     * registered, removed, or updated.
+     *
+     * @param functionName  function name
+     * @param arity         number of parameters
+     * @param arityFunction function to compute the arity of a function (negative if unknown)
+     * @return functions with the given name and (possibly) arity
+     */
+    public RichIterable<CoreInstance> getFunctionsForNameAndArity(String functionName, int arity, IntFunction<? super CoreInstance> arityFunction)
+    {
+        MutableSet<CoreInstance> functions = this.functionsByName.get(functionName);
+        if (functions == null)
+        {
+            return Lists.immutable.empty();
+        }
+
+        FunctionsByArity index = this.functionsByNameAndArity.get(functionName);
+        if ((index == null) || (index.sourceSize != functions.size()))
+        {
+            index = new FunctionsByArity(functions, arityFunction);
+            this.functionsByNameAndArity.put(functionName, index);
+        }
+        return index.getFunctions(arity);
+    }
+
+    /**
+     * Get the functions matching a function expression, among the
+     * functions with the given name. The expression is identified by
+     * key, which must capture everything the match depends on other
+     * than the functions and the type hierarchy. If the matches are not
+     * stored in the context, then find them by evaluating finder, store
+     * them, and return them.
+     *
+     * <p>Stored matches are discarded whenever a function with that
+     * name is registered, removed, or updated, and whenever a type
+     * (other than a function type) or the generalization hierarchy
+     * changes. They are kept across incremental compilations
+     * otherwise.
+     *
+     * @param functionName function name (without package)
+     * @param key          key identifying the function expression
+     * @param finder       function to find the matching functions
+     * @param <T>          function type
+     * @return matching functions
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends CoreInstance> ListIterable<T> getIfAbsentPutFunctionMatches(String functionName, String key, Supplier<? extends ListIterable<T>> finder)
+    {
+        ConcurrentMutableMap<String, ImmutableList<CoreInstance>> matchesByKey = this.functionMatchesByName.getIfAbsentPut(functionName, ConcurrentHashMap::newMap);
+        ImmutableList<CoreInstance> matches = matchesByKey.get(key);
+        if (matches == null)
+        {
+            this.functionMatchSearches.increment();
+            matches = Lists.immutable.withAll(finder.get());
+            matchesByKey.put(key, matches);
+        }
+        return (ListIterable<T>) matches;
+    }
+
+    /**
+     * Get the number of times function matches have been searched
+     * for, rather than reused from those stored in the context.
+     *
+     * @return number of function match searches
+     */
+    public long getFunctionMatchSearchCount()
+    {
+        return this.functionMatchSearches.sum();
+    }
+
     /**
      * Get all of the function names that functions are
      * registered for.
@@ -314,6 +426,7 @@ public class Context
         {
             instances.remove(coreInstance);
         }
+        this.typeHierarchyIndex.remove(coreInstance);
         this.update(coreInstance);
     }
 
@@ -328,14 +441,29 @@ public class Context
         this.coreInstanceByPath.remove(PackageableElement.getUserPathForPackageableElement(coreInstance));
         this.functionTypes.remove(coreInstance);
         this.accessLevels.remove(coreInstance);
+        // function expressions also have a function name, but changing one changes no match
+        CoreInstance funcName = coreInstance.getValueForMetaPropertyToOne(M3Properties.functionName);
+        if ((funcName != null) && M3PropertyPaths.functionName_Function.equals(coreInstance.getRealKeyByName(M3Properties.functionName)))
+        {
+            this.functionsByNameAndArity.remove(funcName.getName());
+            this.functionMatchesByName.remove(funcName.getName());
+        }
         // If there is a change to the generalization hierarchy, then we have to invalidate everything depending on the hierarchy.
-        if (this.generalizations.containsKey(coreInstance))
+        boolean hierarchyChanged = this.generalizations.containsKey(coreInstance);
+        if (hierarchyChanged)
         {
             this.classPropertiesByName.clear();
             this.generalizations.clear();
             this.propertyPaths.clear();
             this.typeGeneralizationSets.clear();
         }
+        // the index drops only the generalizations of the type and its subtypes, so it is not cleared with the rest
+        boolean typeIndexed = this.typeHierarchyIndex.invalidate(coreInstance);
+        // function types are matched structurally, so adding or removing one (e.g., with a lambda) changes no match
+        if ((this.typeGeneralizationSets.remove(coreInstance) != null) || typeIndexed || hierarchyChanged || ((coreInstance instanceof Type) && !(coreInstance instanceof FunctionType)))
+        {
+            this.functionMatchesByName.clear();
+        }
         if (this.anyType == coreInstance)
         {
             this.anyType = null;
@@ -355,11 +483,14 @@ public class Context
         this.functionTypes.clear();
         this.classPropertiesByName.clear();
         this.functionsByName.clear();
+        this.functionsByNameAndArity.clear();
+        this.functionMatchesByName.clear();
         this.generalizations.clear();
         this.accessLevels.clear();
         this.propertyPaths.clear();
         this.instancesByClassifier.clear();
         this.typeGeneralizationSets.clear();
+        this.typeHierarchyIndex.clear();
         this.anyType = null;
         this.nilType = null;
     }
@@ -388,4 +519,44 @@ public class Context
 
         return PrimitiveUtilities.getStringValue(functionName);
     }
+
+    private static class FunctionsByArity
+    {
+        private final int sourceSize;
+        private final ImmutableIntObjectMap<ImmutableList<CoreInstance>> functionsByArity;
+        private final ImmutableList<CoreInstance> unknownArity;
+
+        private FunctionsByArity(SetIterable<CoreInstance> functions, IntFunction<? super CoreInstance> arityFunction)
+        {
+            MutableIntObjectMap<MutableList<CoreInstance>> byArity = new IntObjectHashMap<>();
+            MutableList<CoreInstance> unknown = Lists.mutable.empty();
+            functions.forEach(function ->
+            {
+                int arity = arityFunction.intValueOf(function);
+                if (arity < 0)
+                {
+                    unknown.add(function);
+                }
+                else
+                {
+                    byArity.getIfAbsentPut(arity, Lists.mutable::empty).add(function);
+                }
+            });
+            this.sourceSize = functions.size();
+            MutableIntObjectMap<ImmutableList<CoreInstance>> immutableByArity = new IntObjectHashMap<>(byArity.size());
+            byArity.forEachKeyValue((arity, list) -> immutableByArity.put(arity, list.toImmutable()));
+            this.functionsByArity = immutableByArity.toImmutable();
+            this.unknownArity = unknown.toImmutable();
+        }
+
+        private RichIterable<CoreInstance> getFunctions(int arity)
+        {
+            ImmutableList<CoreInstance> functions = this.functionsByArity.get(arity);
+            if (functions == null)
+            {
+                return this.unknownArity;
+            }
+            return this.unknownArity.isEmpty() ? functions : functions.newWithAll(this.unknownArity);
+        }
+    }
 }
@@ -0,0 +1,161 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.compiler;
+
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.stack.primitive.MutableIntStack;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.stack.mutable.primitive.IntArrayStack;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+/**
+ * Index of the type generalization hierarchy for subtype checks. Each indexed type is assigned a compact integer id,
+ * and the generalizations of a type (including the type itself) are stored as a bitset of ids, so that a subtype check
+ * is a single bit test.
+ * <p>
+ * Invalidation is incremental: when a type changes, only the bitsets which contain it (i.e., those of the type and its
+ * subtypes) are dropped, and they are recomputed on next use. Ids of removed types are reused.
+ */
+final class TypeHierarchyIndex
+{
+    private final ConcurrentMutableMap<CoreInstance, Node> nodes = ConcurrentHashMap.newMap();
+    private final MutableIntStack freeIds = new IntArrayStack();
+    private int nextId = 0;
+
+    /**
+     * Return whether possibleGeneralization is among the generalizations of type (including type itself). If the
+     * generalizations of type are not yet indexed, they are computed by generator.
+     *
+     * @param type                   type
+     * @param possibleGeneralization possible generalization
+     * @param generator              function to compute the generalizations of type
+     * @return whether possibleGeneralization is a generalization of type
+     */
+    boolean hasGeneralization(CoreInstance type, CoreInstance possibleGeneralization, Function<? super CoreInstance, ? extends Iterable<? extends CoreInstance>> generator)
+    {
+        // computing the generalizations of type assigns ids to all of them, so this must come first
+        long[] generalizations = getGeneralizations(type, generator);
+        Node node = this.nodes.get(possibleGeneralization);
+        return (node != null) && isSet(generalizations, node.id);
+    }
+
+    /**
+     * Drop the indexed generalizations of the type and of all of its indexed subtypes. The type keeps its id.
+     *
+     * @param type type
+     * @return whether the type was indexed
+     */
+    boolean invalidate(CoreInstance type)
+    {
+        Node node = this.nodes.get(type);
+        if (node == null)
+        {
+            return false;
+        }
+        invalidate(node.id);
+        return true;
+    }
+
+    /**
+     * Remove the type from the index, dropping the indexed generalizations of all of its indexed subtypes. The id of
+     * the type is released for reuse.
+     *
+     * @param type type
+     * @return whether the type was indexed
+     */
+    synchronized boolean remove(CoreInstance type)
+    {
+        Node node = this.nodes.remove(type);
+        if (node == null)
+        {
+            return false;
+        }
+        invalidate(node.id);
+        this.freeIds.push(node.id);
+        return true;
+    }
+
+    synchronized void clear()
+    {
+        this.nodes.clear();
+        this.freeIds.clear();
+        this.nextId = 0;
+    }
+
+    private long[] getGeneralizations(CoreInstance type, Function<? super CoreInstance, ? extends Iterable<? extends CoreInstance>> generator)
+    {
+        Node node = getIfAbsentPutNode(type);
+        long[] generalizations = node.generalizations;
+        if (generalizations == null)
+        {
+            MutableIntList ids = new IntArrayList();
+            generator.valueOf(type).forEach(g -> ids.add(getIfAbsentPutNode(g).id));
+            long[] bits = new long[(ids.isEmpty() ? 0 : (ids.max() >>> 6)) + 1];
+            ids.each(id -> bits[id >>> 6] |= (1L << id));
+            node.generalizations = generalizations = bits;
+        }
+        return generalizations;
+    }
+
+    private void invalidate(int id)
+    {
+        this.nodes.forEachValue(node ->
+        {
+            long[] generalizations = node.generalizations;
+            if ((generalizations != null) && isSet(generalizations, id))
+            {
+                node.generalizations = null;
+            }
+        });
+    }
+
+    private Node getIfAbsentPutNode(CoreInstance type)
+    {
+        Node node = this.nodes.get(type);
+        if (node == null)
+        {
+            synchronized (this)
+            {
+                node = this.nodes.get(type);
+                if (node == null)
+                {
+                    node = new Node(this.freeIds.isEmpty() ? this.nextId++ : this.freeIds.pop());
+                    this.nodes.put(type, node);
+                }
+            }
+        }
+        return node;
+    }
+
+    private static boolean isSet(long[] bits, int id)
+    {
+        int word = id >>> 6;
+        return (word < bits.length) && ((bits[word] & (1L << id)) != 0L);
+    }
+
+    private static final class Node
+    {
+        private final int id;
+        private volatile long[] generalizations;
+
+        private Node(int id)
+        {
+            this.id = id;
+        }
+    }
+}
@@ -24,16 +24,26 @@ import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.api.tuple.Pair;
+import org.finos.legend.pure.m3.compiler.Context;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel._import.ImportGroup;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.PackageableFunction;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.GenericTypeOperation;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.FunctionExpression;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification;
+import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation._package._Package;
+import org.finos.legend.pure.m3.navigation.function.FunctionType;
+import org.finos.legend.pure.m3.navigation.generictype.GenericType;
 import org.finos.legend.pure.m3.navigation.imports.Imports;
+import org.finos.legend.pure.m3.navigation.measure.Measure;
+import org.finos.legend.pure.m3.navigation.multiplicity.Multiplicity;
 import org.finos.legend.pure.m3.tools.ListHelper;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
@@ -48,13 +58,37 @@ public class FunctionExpressionMatcher
         String functionToFindName = splitFunctionPath.get(lastIndex);
         ListIterable<String> functionPkg = (lastIndex == 0) ? Lists.immutable.with() : splitFunctionPath.take(lastIndex);
 
-        RichIterable<Function<?>> functionsToSearch = getFunctionsWithMatchingName(functionToFindName, functionPkg, functionExpression, processorSupport);
+        RichIterable<Function<?>> functionsToSearch = getFunctionsWithMatchingNameAndArity(functionToFindName, parametersValues.size(), functionPkg, functionExpression, processorSupport);
 
         SourceInformation sourceInformation = functionExpression.getSourceInformation();
 
         return getFunctionMatches(functionsToSearch, parametersValues, functionToFindName, sourceInformation, lenient, processorSupport);
     }
 
+    /**
+     * Find the functions matching a function expression, as {@link #findMatchingFunctionsInTheRepository(FunctionExpression, boolean, ProcessorSupport)}
+     * does, reusing the matches stored in the context for an earlier expression with the same function name, imports,
+     * and parameter types and multiplicities. Expressions whose parameter types cannot be described independently of
+     * the expression itself (e.g., generic type operations or relation types) are always matched afresh.
+     *
+     * @param functionExpression function expression
+     * @param lenient            whether to match leniently
+     * @param context            compiler context to store matches in
+     * @param processorSupport   processor support
+     * @return matching functions
+     */
+    public static ListIterable<Function<?>> findMatchingFunctionsInTheRepository(FunctionExpression functionExpression, boolean lenient, Context context, ProcessorSupport processorSupport) throws PureCompilationException
+    {
+        String key = (context == null) ? null : getFunctionMatchKey(functionExpression, lenient, processorSupport);
+        if (key == null)
+        {
+            return findMatchingFunctionsInTheRepository(functionExpression, lenient, processorSupport);
+        }
+        ListIterable<String> splitFunctionPath = PackageableElement.splitUserPath(functionExpression._functionName());
+        String functionToFindName = splitFunctionPath.getLast();
+        return context.getIfAbsentPutFunctionMatches(functionToFindName, key, () -> findMatchingFunctionsInTheRepository(functionExpression, lenient, processorSupport));
+    }
+
     public static <T extends Function<?>> ListIterable<T> getFunctionMatches(RichIterable<T> functionsToSearch, RichIterable<? extends ValueSpecification> parametersValues, String functionToFindName, SourceInformation sourceInformation, boolean lenient, ProcessorSupport processorSupport) throws PureCompilationException
     {
         return getFunctionMatches(functionsToSearch, ListHelper.wrapListIterable(parametersValues), functionToFindName, sourceInformation, lenient, processorSupport);
@@ -150,10 +184,118 @@ public class FunctionExpressionMatcher
         return bestFunctions.getFirst();
     }
 
-    private static RichIterable<Function<?>> getFunctionsWithMatchingName(String functionName, ListIterable<String> functionPackage, FunctionExpression functionExpression, ProcessorSupport processorSupport)
+    private static RichIterable<Function<?>> getFunctionsWithMatchingNameAndArity(String functionName, int arity, ListIterable<String> functionPackage, FunctionExpression functionExpression, ProcessorSupport processorSupport)
     {
+        RichIterable<CoreInstance> candidates = processorSupport.function_getFunctionsForNameAndArity(functionName, arity);
+        if (candidates.isEmpty())
+        {
+            return Lists.immutable.empty();
+        }
         SetIterable<org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement> packages = getValidPackages(functionPackage, functionExpression, processorSupport);
-        return processorSupport.function_getFunctionsForName(functionName).collectIf(f -> packages.contains(((PackageableFunction<?>) f)._package()), f -> (Function<?>) f, Lists.mutable.empty());
+        return candidates.collectIf(f -> packages.contains(((PackageableFunction<?>) f)._package()), f -> (Function<?>) f, Lists.mutable.empty());
+    }
+
+    private static String getFunctionMatchKey(FunctionExpression functionExpression, boolean lenient, ProcessorSupport processorSupport)
+    {
+        ImportGroup importGroup = functionExpression._importGroup();
+        if (importGroup == null)
+        {
+            return null;
+        }
+
+        StringBuilder builder = new StringBuilder(functionExpression._functionName()).append(lenient ? "|lenient|" : "|strict|");
+        importGroup._imports().forEach(imp -> builder.append(imp._path()).append(','));
+        builder.append('|');
+        for (ValueSpecification parameterValue : functionExpression._parametersValues())
+        {
+            if (!appendGenericTypeKey(builder, Instance.getValueForMetaPropertyToOneResolved(parameterValue, M3Properties.genericType, processorSupport), processorSupport))
+            {
+                return null;
+            }
+            appendMultiplicityKey(builder, Instance.getValueForMetaPropertyToOneResolved(parameterValue, M3Properties.multiplicity, processorSupport)).append(';');
+        }
+        return builder.toString();
+    }
+
+    private static boolean appendGenericTypeKey(StringBuilder builder, CoreInstance genericType, ProcessorSupport processorSupport)
+    {
+        if (genericType == null)
+        {
+            builder.append('?');
+            return true;
+        }
+        if ((genericType instanceof GenericTypeOperation) || genericType.getValueForMetaPropertyToMany(M3Properties.typeVariableValues).notEmpty())
+        {
+            return false;
+        }
+
+        CoreInstance rawType = Instance.getValueForMetaPropertyToOneResolved(genericType, M3Properties.rawType, processorSupport);
+        if (rawType == null)
+        {
+            CoreInstance typeParameter = genericType.getValueForMetaPropertyToOne(M3Properties.typeParameter);
+            if (typeParameter == null)
+            {
+                return false;
+            }
+            builder.append(GenericType.isTypeParameterContravariant(genericType) ? "$-" : "$").append(typeParameter.getValueForMetaPropertyToOne(M3Properties.name).getName());
+        }
+        else if (FunctionType.isFunctionType(rawType, processorSupport))
+        {
+            builder.append('{');
+            for (CoreInstance parameter : rawType.getValueForMetaPropertyToMany(M3Properties.parameters))
+            {
+                if (!appendGenericTypeKey(builder, Instance.getValueForMetaPropertyToOneResolved(parameter, M3Properties.genericType, processorSupport), processorSupport))
+                {
+                    return false;
+                }
+                appendMultiplicityKey(builder, Instance.getValueForMetaPropertyToOneResolved(parameter, M3Properties.multiplicity, processorSupport)).append(',');
+            }
+            builder.append("->");
+            if (!appendGenericTypeKey(builder, Instance.getValueForMetaPropertyToOneResolved(rawType, M3Properties.returnType, processorSupport), processorSupport))
+            {
+                return false;
+            }
+            appendMultiplicityKey(builder, Instance.getValueForMetaPropertyToOneResolved(rawType, M3Properties.returnMultiplicity, processorSupport)).append('}');
+        }
+        else if (isPackagedOrTopLevel(rawType, processorSupport) && !Measure.isUnit(rawType, processorSupport) &&
+                (processorSupport.instance_instanceOf(rawType, M3Paths.Class) || processorSupport.instance_instanceOf(rawType, M3Paths.Enumeration) || processorSupport.instance_instanceOf(rawType, M3Paths.PrimitiveType)))
+        {
+            PackageableElement.writeUserPathForPackageableElement(builder, rawType);
+        }
+        else
+        {
+            return false;
+        }
+
+        ListIterable<? extends CoreInstance> typeArguments = genericType.getValueForMetaPropertyToMany(M3Properties.typeArguments);
+        ListIterable<? extends CoreInstance> multiplicityArguments = genericType.getValueForMetaPropertyToMany(M3Properties.multiplicityArguments);
+        if (typeArguments.notEmpty() || multiplicityArguments.notEmpty())
+        {
+            builder.append('<');
+            for (CoreInstance typeArgument : typeArguments)
+            {
+                if (!appendGenericTypeKey(builder, typeArgument, processorSupport))
+                {
+                    return false;
+                }
+                builder.append(',');
+            }
+            builder.append('|');
+            multiplicityArguments.forEach(m -> appendMultiplicityKey(builder, m).append(','));
+            builder.append('>');
+        }
+        return true;
+    }
+
+    private static boolean isPackagedOrTopLevel(CoreInstance type, ProcessorSupport processorSupport)
+    {
+        // primitive types, Any and Nil are top level elements rather than package children
+        return (type.getValueForMetaPropertyToOne(M3Properties._package) != null) || (processorSupport.repository_getTopLevel(type.getName()) == type);
+    }
+
+    private static StringBuilder appendMultiplicityKey(StringBuilder builder, CoreInstance multiplicity)
+    {
+        return (multiplicity == null) ? builder.append('?') : Multiplicity.print(builder.append('['), multiplicity, false).append(']');
     }
 
     private static SetIterable<org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.PackageableElement> getValidPackages(ListIterable<String> functionPackage, FunctionExpression functionExpression, ProcessorSupport processorSupport)
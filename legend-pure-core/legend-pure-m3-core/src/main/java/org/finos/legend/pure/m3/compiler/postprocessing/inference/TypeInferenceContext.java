@@ -401,8 +401,8 @@ public class TypeInferenceContext
                 }
                 else
                 {
-                    if (org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericTypeConcrete(existingGenericType) && Type.subTypeOf(existingGenericType._rawType(), this.processorSupport.package_getByUserPath(M3Paths.Function), this.processorSupport) &&
-                            org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericTypeConcrete(genericTypeCopy) && Type.subTypeOf(genericTypeCopy._rawType(), this.processorSupport.package_getByUserPath(M3Paths.Function), this.processorSupport))
+                    if (org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericTypeConcrete(existingGenericType) && this.processorSupport.type_subTypeOf(existingGenericType._rawType(), this.processorSupport.package_getByUserPath(M3Paths.Function)) &&
+                            org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericTypeConcrete(genericTypeCopy) && this.processorSupport.type_subTypeOf(genericTypeCopy._rawType(), this.processorSupport.package_getByUserPath(M3Paths.Function)))
                     {
                         RichIterable<? extends GenericType> existingTA = ((GenericType) existing.getParameterValue())._typeArguments();
                         RichIterable<? extends GenericType> replacementTA = genericTypeCopy._typeArguments();
@@ -528,7 +528,7 @@ public class TypeInferenceContext
                     ListIterable<? extends CoreInstance> typeValues;
                     ListIterable<? extends CoreInstance> mulValues;
 
-                    if (Type.subTypeOf(templateRawType, copyRawType, this.processorSupport))
+                    if (this.processorSupport.type_subTypeOf(templateRawType, copyRawType))
                     {
                         typeTemplates = extractTypes(org.finos.legend.pure.m3.navigation.generictype.GenericType.resolveClassTypeParameterUsingInheritance(templateGenType, genericTypeCopy, this.processorSupport));
                         mulTemplates = extractMuls(org.finos.legend.pure.m3.navigation.generictype.GenericType.resolveClassMultiplicityParameterUsingInheritance(templateGenType, copyRawType, this.processorSupport));
@@ -171,11 +171,11 @@ public class AssociationProcessor extends Processor<Association>
 
     private static ClassProjection<?> findProjectionTypeMatch(Class<?> projectedRawType1, Class<?> projectedRawType2, Class<?> projectedPropertyRawType1, ClassProjection<?> projectionType1, ClassProjection<?> projectionType2, ProcessorSupport processorSupport)
     {
-        if (org.finos.legend.pure.m3.navigation.type.Type.subTypeOf(projectedRawType1, projectedPropertyRawType1, processorSupport))
+        if (processorSupport.type_subTypeOf(projectedRawType1, projectedPropertyRawType1))
         {
             return projectionType1;
         }
-        if (org.finos.legend.pure.m3.navigation.type.Type.subTypeOf(projectedRawType2, projectedPropertyRawType1, processorSupport))
+        if (processorSupport.type_subTypeOf(projectedRawType2, projectedPropertyRawType1))
         {
             return projectionType2;
         }
@@ -370,7 +370,7 @@ public class FunctionExpressionProcessor extends Processor<FunctionExpression>
             if (foundFunctions.isEmpty())
             {
                 // Match the functionExpression with the Function library (may still need to do it even if the function is a property because it may have been reprocessed as a Collect!)
-                foundFunctions.addAllIterable(FunctionExpressionMatcher.findMatchingFunctionsInTheRepository(functionExpression, true, processorSupport));
+                foundFunctions.addAllIterable(FunctionExpressionMatcher.findMatchingFunctionsInTheRepository(functionExpression, true, context, processorSupport));
                 functionName = getFunctionName(functionExpression);
             }
         }
@@ -609,7 +609,7 @@ public class FunctionExpressionProcessor extends Processor<FunctionExpression>
                 }
 
                 // Manage return type in any case
-                if (org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericTypeConcrete(templateGenericType) && org.finos.legend.pure.m3.navigation.type.Type.subTypeOf(ImportStub.withImportStubByPass(templateGenericType._rawTypeCoreInstance(), processorSupport), processorSupport.package_getByUserPath(M3Paths.Function), processorSupport))
+                if (org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericTypeConcrete(templateGenericType) && processorSupport.type_subTypeOf(ImportStub.withImportStubByPass(templateGenericType._rawTypeCoreInstance(), processorSupport), processorSupport.package_getByUserPath(M3Paths.Function)))
                 {
                     GenericType templateGenFunctionType = ListHelper.wrapListIterable(templateGenericType._typeArguments()).get(0);
                     if (org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericTypeConcrete(templateGenFunctionType) && !org.finos.legend.pure.m3.navigation.type.Type.isTopType(Instance.getValueForMetaPropertyToOneResolved(templateGenFunctionType, M3Properties.rawType, processorSupport), processorSupport))
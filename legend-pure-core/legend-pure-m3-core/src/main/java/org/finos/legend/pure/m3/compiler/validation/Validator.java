@@ -37,6 +37,8 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
+import java.util.function.Predicate;
+
 public class Validator
 {
     private Validator()
@@ -49,6 +51,20 @@ public class Validator
     }
 
     public static void validateM3(Iterable<? extends CoreInstance> newInstancesConsolidated, ValidationType validationType, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, Iterable<? extends MatchRunner> additionalValidators, RepositoryCodeStorage codeStorage, ModelRepository modelRepository, Context context, ProcessorSupport processorSupport) throws PureCompilationException
+    {
+        validateM3(newInstancesConsolidated, null, validationType, parserLibrary, inlineDSLLibrary, additionalValidators, codeStorage, modelRepository, context, processorSupport);
+    }
+
+    /**
+     * Validate instances, but only those which are owned: the instances reached while validating them (such as
+     * package children, values or property types) which are not owned are not validated, and are returned for the
+     * caller to validate later. This allows disjoint sets of instances to be validated concurrently.
+     *
+     * @param newInstancesConsolidated instances to validate
+     * @param isOwned                  which instances may be validated (null for all)
+     * @return instances reached which are not owned, in the order they were reached (possibly with duplicates)
+     */
+    public static ListIterable<CoreInstance> validateM3(Iterable<? extends CoreInstance> newInstancesConsolidated, Predicate<? super CoreInstance> isOwned, ValidationType validationType, ParserLibrary parserLibrary, InlineDSLLibrary inlineDSLLibrary, Iterable<? extends MatchRunner> additionalValidators, RepositoryCodeStorage codeStorage, ModelRepository modelRepository, Context context, ProcessorSupport processorSupport) throws PureCompilationException
     {
         // Post Process
         Matcher matcher = new Matcher(modelRepository, context, processorSupport);
@@ -57,13 +73,14 @@ public class Validator
         inlineDSLLibrary.getInlineDSLs().forEach(d -> d.getValidators().forEach(matcher::addMatchIfTypeIsKnown));
         additionalValidators.forEach(matcher::addMatchIfTypeIsKnown);
 
-        ValidatorState validatorState = new ValidatorState(validationType, codeStorage, inlineDSLLibrary, processorSupport);
+        ValidatorState validatorState = new ValidatorState(validationType, codeStorage, inlineDSLLibrary, processorSupport, isOwned);
         newInstancesConsolidated.forEach(i -> validate(i, validatorState, matcher, processorSupport));
+        return validatorState.getNotOwnedInstances();
     }
 
     public static void validate(CoreInstance coreInstance, ValidatorState validatorState, Matcher matcher, ProcessorSupport processorSupport) throws PureCompilationException
     {
-        if (!coreInstance.hasBeenValidated() && !SourceMutation.isMarkedForDeletion(coreInstance))
+        if (validatorState.owns(coreInstance) && !coreInstance.hasBeenValidated() && !SourceMutation.isMarkedForDeletion(coreInstance))
         {
             GenericTypeValidator.validateClassifierGenericTypeForInstance(coreInstance, true, processorSupport);
             coreInstance.markValidated();
@@ -14,7 +14,10 @@
 
 package org.finos.legend.pure.m3.compiler.validation;
 
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.factory.Maps;
 import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Properties;
@@ -27,6 +30,8 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 
+import java.util.function.Predicate;
+
 public class ValidatorState extends MatcherState
 {
     private final ValidationType validationType;
@@ -35,13 +40,21 @@ public class ValidatorState extends MatcherState
     private final MutableMap<String, CoreInstance> setImplementationsById = Maps.mutable.empty();
     private final MutableMap<String, CoreInstance> enumerationMappingsById = Maps.mutable.empty();
     private final InlineDSLLibrary inlineDSLLibrary;
+    private final Predicate<? super CoreInstance> isOwned;
+    private final MutableList<CoreInstance> notOwnedInstances = Lists.mutable.empty();
 
     public ValidatorState(ValidationType validationType, RepositoryCodeStorage codeStorage, InlineDSLLibrary inlineDSLLibrary, ProcessorSupport processorSupport)
+    {
+        this(validationType, codeStorage, inlineDSLLibrary, processorSupport, null);
+    }
+
+    public ValidatorState(ValidationType validationType, RepositoryCodeStorage codeStorage, InlineDSLLibrary inlineDSLLibrary, ProcessorSupport processorSupport, Predicate<? super CoreInstance> isOwned)
     {
         super(processorSupport);
         this.validationType = validationType;
         this.codeStorage = codeStorage;
         this.inlineDSLLibrary = inlineDSLLibrary;
+        this.isOwned = isOwned;
     }
 
     public ValidationType getValidationType()
@@ -54,6 +67,27 @@ public class ValidatorState extends MatcherState
         return this.codeStorage;
     }
 
+    /**
+     * Whether the instance may be validated with this state. If not, it is recorded as a not owned instance.
+     *
+     * @param instance instance
+     * @return whether the instance is owned
+     */
+    public boolean owns(CoreInstance instance)
+    {
+        if ((this.isOwned == null) || this.isOwned.test(instance))
+        {
+            return true;
+        }
+        this.notOwnedInstances.add(instance);
+        return false;
+    }
+
+    public ListIterable<CoreInstance> getNotOwnedInstances()
+    {
+        return this.notOwnedInstances.asUnmodifiable();
+    }
+
     public CoreInstance getRootMapping()
     {
         return this.rootMapping;
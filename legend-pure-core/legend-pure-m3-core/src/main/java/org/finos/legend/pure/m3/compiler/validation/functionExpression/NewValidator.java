@@ -153,7 +153,7 @@ public class NewValidator
         if (org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericTypeFullyConcrete(propertyGenericType, processorSupport))
         {
             // TODO remove this condition once we fix issues with property compatibility
-            if (!org.finos.legend.pure.m3.navigation.type.Type.subTypeOf(ImportStub.withImportStubByPass(propertyGenericType._rawTypeCoreInstance(), processorSupport), processorSupport.package_getByUserPath(M3Paths.Property), processorSupport))
+            if (!processorSupport.type_subTypeOf(ImportStub.withImportStubByPass(propertyGenericType._rawTypeCoreInstance(), processorSupport), processorSupport.package_getByUserPath(M3Paths.Property)))
             {
                 GenericType valueGenericType = value._genericType();
                 if (org.finos.legend.pure.m3.navigation.generictype.GenericType.isGenericTypeFullyConcrete(valueGenericType, processorSupport))
@@ -164,7 +164,7 @@ public class FunctionExpressionValidator implements MatchRunner<FunctionExpressi
                             boolean covariant = org.finos.legend.pure.m3.navigation.typeparameter.TypeParameter.isCovariant(typeParameters.get(k));
                             Type typeArgument2 = (Type) ImportStub.withImportStubByPass(bound.get(k)._rawTypeCoreInstance(), processorSupport);
 
-                            if (typeArgument2 != null && (covariant ? !org.finos.legend.pure.m3.navigation.type.Type.subTypeOf(typeArgument2, typeArgument1, processorSupport) : !org.finos.legend.pure.m3.navigation.type.Type.subTypeOf(typeArgument1, typeArgument2, processorSupport)))
+                            if (typeArgument2 != null && (covariant ? !processorSupport.type_subTypeOf(typeArgument2, typeArgument1) : !processorSupport.type_subTypeOf(typeArgument1, typeArgument2)))
                             {
                                 if
                                 (
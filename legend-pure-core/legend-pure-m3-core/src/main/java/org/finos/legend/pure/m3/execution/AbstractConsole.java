@@ -22,6 +22,7 @@ import java.io.PrintStream;
 public abstract class AbstractConsole implements Console
 {
     private final MutableList<String> lines = Lists.mutable.empty();
+    private final ThreadLocal<PrintStream> threadPrintStream = new ThreadLocal<>();
     private PrintStream printStream = System.out;
     private boolean isEnabled = true;
     private boolean isConsole = true;
@@ -47,9 +48,13 @@ public abstract class AbstractConsole implements Console
             {
                 if (this.bufferLines)
                 {
-                    this.lines.add(line);
+                    synchronized (this.lines)
+                    {
+                        this.lines.add(line);
+                    }
                 }
-                this.printStream.print(line);
+                PrintStream stream = this.threadPrintStream.get();
+                ((stream == null) ? this.printStream : stream).print(line);
             }
         }
     }
@@ -67,6 +72,25 @@ public abstract class AbstractConsole implements Console
         this.isConsole = false;
     }
 
+    /**
+     * Set the print stream for output printed from the current thread only,
+     * overriding the stream set with {@link #setPrintStream}. Passing null
+     * removes the override.
+     *
+     * @param printStream print stream for the current thread, or null
+     */
+    public void setThreadPrintStream(PrintStream printStream)
+    {
+        if (printStream == null)
+        {
+            this.threadPrintStream.remove();
+        }
+        else
+        {
+            this.threadPrintStream.set(printStream);
+        }
+    }
+
     @Override
     public boolean isConsole()
     {
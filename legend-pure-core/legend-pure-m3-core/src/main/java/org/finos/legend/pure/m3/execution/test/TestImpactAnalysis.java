@@ -0,0 +1,236 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.execution.test;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation._package._Package;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m3.tools.ContainingElementIndex;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * <p>Finds the tests affected by a change: the test functions which reference the changed elements, directly or
+ * through other elements. References are followed backwards through the back-references the compiler maintains in the
+ * graph (function applications, reference usages, specializations, properties from associations and annotated model
+ * elements), each referencing instance being mapped to its containing element.</p>
+ *
+ * <p>A change to a before or after package function affects every test it is a fixture for. The analysis works on the
+ * compiled graph, so it should be run after the changed sources have been compiled. An analysis holds an index of all
+ * elements in the graph and must be discarded when the graph changes.</p>
+ */
+public class TestImpactAnalysis
+{
+    private final ProcessorSupport processorSupport;
+    private final ContainingElementIndex containingElementIndex;
+
+    public TestImpactAnalysis(ProcessorSupport processorSupport)
+    {
+        this.processorSupport = processorSupport;
+        this.containingElementIndex = ContainingElementIndex.builder(processorSupport).withAllElements().build();
+    }
+
+    /**
+     * Get the elements affected by a change to the given elements: the elements themselves, plus all elements which
+     * reference an affected element.
+     *
+     * @param changedElements changed packageable elements
+     * @return affected elements
+     */
+    public SetIterable<CoreInstance> getAffectedElements(Iterable<? extends CoreInstance> changedElements)
+    {
+        MutableSet<CoreInstance> affected = Sets.mutable.empty();
+        Deque<CoreInstance> deque = new ArrayDeque<>();
+        changedElements.forEach(element ->
+        {
+            if (affected.add(element))
+            {
+                deque.add(element);
+            }
+        });
+        while (!deque.isEmpty())
+        {
+            forEachReferencingElement(deque.pollFirst(), element ->
+            {
+                if (affected.add(element))
+                {
+                    deque.addLast(element);
+                }
+            });
+        }
+        return affected;
+    }
+
+    /**
+     * Get the test functions affected by a change to the given elements.
+     *
+     * @param changedElements changed packageable elements
+     * @return affected test functions
+     */
+    public SetIterable<CoreInstance> getAffectedTests(Iterable<? extends CoreInstance> changedElements)
+    {
+        MutableSet<CoreInstance> tests = Sets.mutable.empty();
+        getAffectedElements(changedElements).forEach(element ->
+        {
+            if (TestTools.hasTestStereotype(element, this.processorSupport))
+            {
+                tests.add(element);
+            }
+            else if (TestTools.hasBeforePackageStereotype(element, this.processorSupport) || TestTools.hasAfterPackageStereotype(element, this.processorSupport))
+            {
+                collectTestsInPackage(element.getValueForMetaPropertyToOne(M3Properties._package), tests);
+            }
+        });
+        return tests;
+    }
+
+    /**
+     * Get the test functions affected by a change to the given sources, which must have been compiled.
+     *
+     * @param changedSources changed sources
+     * @return affected test functions
+     */
+    public SetIterable<CoreInstance> getAffectedTestsForSources(Iterable<? extends Source> changedSources)
+    {
+        MutableSet<CoreInstance> changedElements = Sets.mutable.empty();
+        changedSources.forEach(source -> source.getNewInstances().forEach(instance ->
+        {
+            if (PackageableElement.isPackageableElement(instance, this.processorSupport) && !_Package.isPackage(instance, this.processorSupport))
+            {
+                changedElements.add(instance);
+            }
+        }));
+        return getAffectedTests(changedElements);
+    }
+
+    /**
+     * Collect the tests under the given package which are affected by a change to the given sources, for running with
+     * a {@link TestRunner}. Before and after package functions are collected as usual.
+     *
+     * @param path                   test package path
+     * @param executionPlatformClass execution platform class
+     * @param changedSources         changed sources
+     * @return test collection with only the affected tests
+     */
+    public TestCollection collectAffectedTests(String path, Class<? extends FunctionExecution> executionPlatformClass, Iterable<? extends Source> changedSources)
+    {
+        SetIterable<CoreInstance> affectedTests = getAffectedTestsForSources(changedSources);
+        return TestCollection.collectTests(path, this.processorSupport, executionPlatformClass, affectedTests::contains);
+    }
+
+    private void forEachReferencingElement(CoreInstance element, Consumer<CoreInstance> consumer)
+    {
+        Consumer<CoreInstance> containingElementConsumer = instance ->
+        {
+            CoreInstance containingElement = this.containingElementIndex.findContainingElement(instance);
+            if ((containingElement != null) && (containingElement != element) && !_Package.isPackage(containingElement, this.processorSupport))
+            {
+                consumer.accept(containingElement);
+            }
+        };
+        forEachReferencingInstance(element, containingElementConsumer);
+        if (isInstanceOf(element, M3Paths.Class) || isInstanceOf(element, M3Paths.Association))
+        {
+            // properties are referenced on their own rather than through their owner
+            forEachProperty(element, property -> forEachReferencingInstance(property, containingElementConsumer));
+        }
+        if (isInstanceOf(element, M3Paths.Type))
+        {
+            element.getValueForMetaPropertyToMany(M3Properties.specializations).forEach(generalization ->
+            {
+                CoreInstance specific = generalization.getValueForMetaPropertyToOne(M3Properties.specific);
+                if (specific != null)
+                {
+                    consumer.accept(specific);
+                }
+            });
+        }
+        if (isInstanceOf(element, M3Paths.Profile))
+        {
+            element.getValueForMetaPropertyToMany(M3Properties.p_stereotypes).forEach(stereotype -> stereotype.getValueForMetaPropertyToMany(M3Properties.modelElements).forEach(consumer));
+            element.getValueForMetaPropertyToMany(M3Properties.p_tags).forEach(tag -> tag.getValueForMetaPropertyToMany(M3Properties.modelElements).forEach(consumer));
+        }
+    }
+
+    private void forEachReferencingInstance(CoreInstance instance, Consumer<CoreInstance> consumer)
+    {
+        if (isInstanceOf(instance, M3Paths.Function))
+        {
+            instance.getValueForMetaPropertyToMany(M3Properties.applications).forEach(consumer);
+        }
+        if (isInstanceOf(instance, M3Paths.Referenceable))
+        {
+            instance.getValueForMetaPropertyToMany(M3Properties.referenceUsages).forEach(referenceUsage ->
+            {
+                CoreInstance owner = referenceUsage.getValueForMetaPropertyToOne(M3Properties.owner);
+                if (owner != null)
+                {
+                    consumer.accept(owner);
+                }
+            });
+        }
+    }
+
+    private void forEachProperty(CoreInstance element, Consumer<CoreInstance> consumer)
+    {
+        element.getValueForMetaPropertyToMany(M3Properties.properties).forEach(consumer);
+        element.getValueForMetaPropertyToMany(M3Properties.qualifiedProperties).forEach(consumer);
+        if (isInstanceOf(element, M3Paths.Class))
+        {
+            element.getValueForMetaPropertyToMany(M3Properties.propertiesFromAssociations).forEach(consumer);
+            element.getValueForMetaPropertyToMany(M3Properties.qualifiedPropertiesFromAssociations).forEach(consumer);
+            element.getValueForMetaPropertyToMany(M3Properties.originalMilestonedProperties).forEach(consumer);
+        }
+    }
+
+    private void collectTestsInPackage(CoreInstance pkg, MutableSet<CoreInstance> tests)
+    {
+        if (pkg == null)
+        {
+            return;
+        }
+        Deque<CoreInstance> packages = new ArrayDeque<>();
+        packages.add(pkg);
+        while (!packages.isEmpty())
+        {
+            packages.pollFirst().getValueForMetaPropertyToMany(M3Properties.children).forEach(child ->
+            {
+                if (_Package.isPackage(child, this.processorSupport))
+                {
+                    packages.addLast(child);
+                }
+                else if (TestTools.hasTestStereotype(child, this.processorSupport))
+                {
+                    tests.add(child);
+                }
+            });
+        }
+    }
+
+    private boolean isInstanceOf(CoreInstance instance, String classPath)
+    {
+        return this.processorSupport.instance_instanceOf(instance, classPath);
+    }
+}
@@ -20,6 +20,7 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.finos.legend.pure.m3.exception.PureAssertFailException;
+import org.finos.legend.pure.m3.execution.AbstractConsole;
 import org.finos.legend.pure.m3.execution.Console;
 import org.finos.legend.pure.m3.execution.FunctionExecution;
 import org.finos.legend.pure.m3.navigation.Instance;
@@ -33,9 +34,12 @@ import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureException;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.PrintStream;
 import java.util.Collections;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.finos.legend.pure.m3.pct.shared.PCTTools.isPCTTest;
@@ -66,6 +70,8 @@ public class TestRunner implements Runnable
     private final FunctionExecution functionExecution;
     private final TestCallBack testCallBack;
     private final boolean shuffle;
+    private final int parallelism;
+    private final Object resultLock = new Object();
     private final AtomicBoolean stopped = new AtomicBoolean(false);
     protected UnifiedSet<String> passedTests;
     protected UnifiedSet<String> failedTests;
@@ -80,15 +86,42 @@ public class TestRunner implements Runnable
         this(tests, includeAlloyOnlyTests, functionExecution, callBack, shuffle, null);
     }
 
-    // TODO: consider refactoring this to use builder pattern
     public TestRunner(TestCollection tests, boolean includeAlloyOnlyTests, FunctionExecution functionExecution, TestCallBack callBack, boolean shuffle, String pctAdapter)
     {
+        this(tests, includeAlloyOnlyTests, functionExecution, callBack, shuffle, pctAdapter, 1);
+    }
+
+    /**
+     * Create a test runner. With a parallelism greater than 1, test collections are run concurrently on a
+     * work-stealing pool of that many threads: the sub-collections of a collection are run once its before functions
+     * have run, alongside its own tests, and its after functions are run once they have all finished. The tests of a
+     * single collection are still run one after another. Each test's console output is captured on its own thread, so
+     * the console of the function execution must support {@link AbstractConsole#setThreadPrintStream per-thread print
+     * streams}; if it does not, tests are run on the calling thread.
+     * The callback is never called concurrently.
+     *
+     * @param tests                 tests to run
+     * @param includeAlloyOnlyTests whether to include Alloy-only tests
+     * @param functionExecution     function execution to run tests with
+     * @param callBack              test callback
+     * @param shuffle               whether to shuffle tests and collections rather than sort them
+     * @param pctAdapter            PCT adapter (null for the default)
+     * @param parallelism           number of threads to run tests with (1 to run them on the calling thread)
+     */
+    // TODO: consider refactoring this to use builder pattern
+    public TestRunner(TestCollection tests, boolean includeAlloyOnlyTests, FunctionExecution functionExecution, TestCallBack callBack, boolean shuffle, String pctAdapter, int parallelism)
+    {
+        if (parallelism < 1)
+        {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got: " + parallelism);
+        }
         this.tests = tests;
         this.includeAlloyOnlyTests = includeAlloyOnlyTests;
         this.pctAdapter = pctAdapter == null ? "meta::pure::test::pct::testAdapterForInMemoryExecution_Function_1__X_o_" : pctAdapter;
         this.functionExecution = functionExecution;
         this.testCallBack = callBack;
         this.shuffle = shuffle;
+        this.parallelism = parallelism;
         callBack.foundTests(this.tests.getAllTestFunctions(includeAlloyOnlyTests));
         this.passedTests = new UnifiedSet<>();
         this.failedTests = new UnifiedSet<>();
@@ -127,15 +160,15 @@ public class TestRunner implements Runnable
     @Override
     public void run()
     {
-        try
+        Console console = this.functionExecution.getConsole();
+        console.setConsole(true);
+        if ((this.parallelism > 1) && (console instanceof AbstractConsole))
         {
-            Console console = this.functionExecution.getConsole();
-            console.setConsole(true);
-            runTestsFromCollection(this.tests, console);
+            runTestsInParallel((AbstractConsole) console);
         }
-        catch (IOException e)
+        else
         {
-            throw new RuntimeException(e);
+            runTestsFromCollection(this.tests, console);
         }
     }
 
@@ -149,15 +182,61 @@ public class TestRunner implements Runnable
         return this.tests;
     }
 
-    private void runTestsFromCollection(TestCollection testCollection, Console console) throws IOException
+    private void runTestsFromCollection(TestCollection testCollection, Console console)
     {
-        // Execute before functions
-        for (CoreInstance before : testCollection.getBeforeFunctions())
+        if (!runBeforeFunctions(testCollection, console))
+        {
+            return;
+        }
+
+        // Execute tests for subcollections
+        for (TestCollection subCollection : getSubCollections(testCollection))
         {
             if (this.stopped.get())
             {
                 return;
             }
+            runTestsFromCollection(subCollection, console);
+        }
+
+        runTests(testCollection, console, null);
+        runAfterFunctions(testCollection);
+    }
+
+    private void runTestsInParallel(AbstractConsole console)
+    {
+        // pool threads must see the same classes as the calling thread
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism, p ->
+        {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+        try
+        {
+            pool.invoke(new TestCollectionTask(this.tests, console));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Run the before functions of a collection. If one fails, all the tests of the collection and its sub-collections
+     * are failed.
+     *
+     * @return whether the tests of the collection should be run
+     */
+    private boolean runBeforeFunctions(TestCollection testCollection, Console console)
+    {
+        for (CoreInstance before : testCollection.getBeforeFunctions())
+        {
+            if (this.stopped.get())
+            {
+                return false;
+            }
             try
             {
                 executeTestFunc(before, testCollection.getTestFunctionParam(), testCollection.getTestFunctionParamCustomizer());
@@ -166,21 +245,18 @@ public class TestRunner implements Runnable
             {
                 // One of the set-up functions failed, so we fail all the tests in this collection and sub-collections
                 failTestsFromCollectionWithErrorStatus(testCollection, console, new ErrorTestStatus(t));
-                return;
-            }
-        }
-
-        // Execute tests for subcollections
-        for (TestCollection subCollection : getSubCollections(testCollection))
-        {
-            if (this.stopped.get())
-            {
-                return;
+                return false;
             }
-            runTestsFromCollection(subCollection, console);
         }
+        return !this.stopped.get();
+    }
 
-        // Execute tests
+    /**
+     * Run the tests of a collection, capturing the console output of each. If threadConsole is not null, output is
+     * captured with a print stream for the current thread only, so that tests may run concurrently.
+     */
+    private void runTests(TestCollection testCollection, Console console, AbstractConsole threadConsole)
+    {
         for (CoreInstance test : getTests(testCollection))
         {
             if (this.stopped.get())
@@ -189,30 +265,43 @@ public class TestRunner implements Runnable
             }
             ByteArrayOutputStream stream = new ByteArrayOutputStream();
             PrintStream ps = new PrintStream(stream);
-            console.setPrintStream(ps);
+            if (threadConsole != null)
+            {
+                threadConsole.setThreadPrintStream(ps);
+            }
+            else
+            {
+                console.setPrintStream(ps);
+            }
             try
             {
                 executeTestFunc(test, testCollection.getTestFunctionParam(), testCollection.getTestFunctionParamCustomizer());
-                this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), TestStatus.SUCCESS);
-                this.passedTests.add(PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]"));
+                executedTest(test, testCollection, stream.toString(), TestStatus.SUCCESS);
             }
             catch (Throwable t)
             {
                 PureException exception = PureException.findPureException(t);
                 if ((exception != null) && (exception instanceof PureAssertFailException))
                 {
-                    this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), new AssertFailTestStatus((PureAssertFailException) exception));
+                    executedTest(test, testCollection, stream.toString(), new AssertFailTestStatus((PureAssertFailException) exception));
                 }
                 else
                 {
-                    this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), stream.toString(), new ErrorTestStatus(t));
+                    executedTest(test, testCollection, stream.toString(), new ErrorTestStatus(t));
+                }
+            }
+            finally
+            {
+                if (threadConsole != null)
+                {
+                    threadConsole.setThreadPrintStream(null);
                 }
-                this.failedTests.add(PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]"));
             }
-            stream.flush();
         }
+    }
 
-        // Execute after functions
+    private void runAfterFunctions(TestCollection testCollection)
+    {
         for (CoreInstance after : testCollection.getAfterFunctions())
         {
             if (this.stopped.get())
@@ -230,6 +319,23 @@ public class TestRunner implements Runnable
         }
     }
 
+    private void executedTest(CoreInstance test, TestCollection testCollection, String consoleOutput, TestStatus status)
+    {
+        synchronized (this.resultLock)
+        {
+            this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), consoleOutput, status);
+            String testId = PackageableElement.getUserPathForPackageableElement(test) + (testCollection.getTestParameterizationId() == null ? "" : "[" + testCollection.getTestParameterizationId() + "]");
+            if (status == TestStatus.SUCCESS)
+            {
+                this.passedTests.add(testId);
+            }
+            else
+            {
+                this.failedTests.add(testId);
+            }
+        }
+    }
+
     private void executeTestFunc(CoreInstance testFunc, Object testFunctionParam, CoreInstance testFunctionParamCustomizer)
     {
         ListIterable<? extends CoreInstance> args = Lists.mutable.empty();
@@ -265,7 +371,7 @@ public class TestRunner implements Runnable
         this.functionExecution.start(testFunc, args);
     }
 
-    private void failTestsFromCollectionWithErrorStatus(TestCollection testCollection, Console console, ErrorTestStatus status) throws IOException
+    private void failTestsFromCollectionWithErrorStatus(TestCollection testCollection, Console console, ErrorTestStatus status)
     {
         // Fail tests for subcollections
         for (TestCollection subCollection : getSubCollections(testCollection))
@@ -284,7 +390,10 @@ public class TestRunner implements Runnable
             {
                 return;
             }
-            this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), "", status);
+            synchronized (this.resultLock)
+            {
+                this.testCallBack.executedTest(test, testCollection.getTestParameterizationId(), "", status);
+            }
         }
     }
 
@@ -315,4 +424,32 @@ public class TestRunner implements Runnable
         }
         return testFunctions;
     }
+
+    private class TestCollectionTask extends RecursiveAction
+    {
+        private final TestCollection testCollection;
+        private final AbstractConsole console;
+
+        private TestCollectionTask(TestCollection testCollection, AbstractConsole console)
+        {
+            this.testCollection = testCollection;
+            this.console = console;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (!runBeforeFunctions(this.testCollection, this.console))
+            {
+                return;
+            }
+
+            MutableList<TestCollectionTask> subTasks = getSubCollections(this.testCollection).collect(c -> new TestCollectionTask(c, this.console), Lists.mutable.empty());
+            subTasks.forEach(ForkJoinTask::fork);
+            runTests(this.testCollection, this.console, this.console);
+            subTasks.asReversed().forEach(ForkJoinTask::join);
+
+            runAfterFunctions(this.testCollection);
+        }
+    }
 }
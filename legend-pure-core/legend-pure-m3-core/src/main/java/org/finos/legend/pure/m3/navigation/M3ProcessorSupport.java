@@ -15,7 +15,6 @@
 package org.finos.legend.pure.m3.navigation;
 
 import org.eclipse.collections.api.RichIterable;
-import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.map.MapIterable;
@@ -30,6 +29,7 @@ import org.finos.legend.pure.m3.navigation.valuespecification.ValueSpecification
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.exception.PureCompilationException;
 
 public class M3ProcessorSupport implements ProcessorSupport
 {
@@ -136,6 +136,27 @@ public class M3ProcessorSupport implements ProcessorSupport
         return this.context.getFunctionsForName(functionName);
     }
 
+    @Override
+    public RichIterable<CoreInstance> function_getFunctionsForNameAndArity(String functionName, int arity)
+    {
+        return this.context.getFunctionsForNameAndArity(functionName, arity, this::getFunctionArity);
+    }
+
+    private int getFunctionArity(CoreInstance function)
+    {
+        CoreInstance functionType;
+        try
+        {
+            functionType = function_getFunctionType(function);
+        }
+        catch (PureCompilationException ignore)
+        {
+            // the function type cannot be resolved (yet): function matching will report the error, if any
+            return -1;
+        }
+        return (functionType == null) ? -1 : functionType.getValueForMetaPropertyToMany(M3Properties.parameters).size();
+    }
+
     @Override
     public CoreInstance newCoreInstance(String name, CoreInstance classifier, SourceInformation sourceInformation)
     {
@@ -209,7 +230,7 @@ public class M3ProcessorSupport implements ProcessorSupport
         return (type == possibleSuperType) ||
                 (type == type_BottomType()) ||
                 (possibleSuperType == type_TopType()) ||
-                this.context.getIfAbsentPutTypeGeneralizationSet(type, t -> Sets.immutable.withAll(Type.getGeneralizationResolutionOrder(t, this))).contains(possibleSuperType);
+                this.context.typeHasGeneralization(type, possibleSuperType, t -> Type.getGeneralizationResolutionOrder(t, this));
     }
 
     @Override
@@ -49,6 +49,22 @@ public interface ProcessorSupport
 
     SetIterable<CoreInstance> function_getFunctionsForName(String functionName);
 
+    /**
+     * Get candidate functions with the given name for an application
+     * with the given number of parameters. Implementations may use this
+     * to prune functions which cannot match, but are not required to:
+     * the result may include functions with a different arity, so
+     * callers must still check each candidate.
+     *
+     * @param functionName function name
+     * @param arity        number of parameters
+     * @return candidate functions
+     */
+    default RichIterable<CoreInstance> function_getFunctionsForNameAndArity(String functionName, int arity)
+    {
+        return function_getFunctionsForName(functionName);
+    }
+
     CoreInstance newCoreInstance(String name, CoreInstance classifier, SourceInformation sourceInformation);
 
     ImmutableList<CoreInstance> type_getTypeGeneralizations(CoreInstance type, Function<? super CoreInstance, ? extends ImmutableList<CoreInstance>> generator);
@@ -161,6 +161,9 @@ public class Type
     /**
      * Return whether type is a subtype of possibleSuperType.  Note that Nil is
      * a subtype of all types and Any is a super type of all types.
+     * <p>
+     * This scans the generalization resolution order of type on every call.
+     * Prefer {@link ProcessorSupport#type_subTypeOf}, which caches it.
      *
      * @param type              type
      * @param possibleSuperType possible super type
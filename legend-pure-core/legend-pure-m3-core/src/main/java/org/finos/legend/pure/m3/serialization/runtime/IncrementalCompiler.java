@@ -47,15 +47,18 @@ import org.finos.legend.pure.m3.serialization.grammar.Parser;
 import org.finos.legend.pure.m3.serialization.grammar.ParserLibrary;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSL;
 import org.finos.legend.pure.m3.serialization.grammar.m3parser.inlinedsl.InlineDSLLibrary;
+import org.finos.legend.pure.m3.serialization.grammar.top.TopParser;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary.URLPatternLibraryTransaction;
 import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
 import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.finos.legend.pure.m4.exception.PureException;
 import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 import org.finos.legend.pure.m4.tools.ConcurrentHashSet;
 import org.finos.legend.pure.m4.transaction.ModelRepositoryTransaction;
@@ -69,6 +72,7 @@ public abstract class IncrementalCompiler implements SourceEventHandler
 {
     static final int PARSE_SOURCES_THRESHOLD = 100;
     static final int CONTEXT_REGISTRATION_THRESHOLD = 100;
+    static final int VALIDATION_THRESHOLD = 100;
 
     static final Function<CoreInstance, String> GET_COREINSTANCE_REPO_NAME = object ->
     {
@@ -103,6 +107,8 @@ public abstract class IncrementalCompiler implements SourceEventHandler
     final Message message;
     final URLPatternLibrary urlPatternLibrary;
 
+    PureMetrics metrics = PureMetrics.NO_METRICS;
+
     IncrementalCompiler(RichIterable<? extends Parser> parsers, RichIterable<? extends InlineDSL> inlineDSLs, RepositoryCodeStorage codeStorage, URLPatternLibrary urlPatternLibrary, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool forkJoinPool, boolean isTransactionalByDefault)
     {
         this.message = message;
@@ -189,6 +195,49 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         return this.compile(sources, Lists.immutable.empty(), postProcessorObserver);
     }
 
+    /**
+     * Compile a new, self-contained source (such as an ad-hoc code block) in the current thread's transaction,
+     * against the graph as it stands. Unlike {@link #compileInCurrentTransaction(Source...)}, this does not process
+     * pending changes to other sources, does not update the compiler's bookkeeping, and does not notify compiler
+     * event handlers: everything it does is either recorded in the transaction or removed from the context when the
+     * transaction is rolled back. Several threads may therefore compile sources this way concurrently, each in its
+     * own transaction, provided the graph is not modified meanwhile.
+     *
+     * @param source source to compile
+     * @return source mutation
+     */
+    public SourceMutation compileIsolatedInCurrentTransaction(Source source) throws PureCompilationException, PureParserException
+    {
+        IncrementalCompilerTransaction transaction = this.transactionManager.getThreadLocalTransaction();
+        if (transaction == null)
+        {
+            throw new IllegalStateException("No current transaction");
+        }
+
+        try
+        {
+            ListMultimap<Parser, CoreInstance> newInstancesByParser = new TopParser().parse(source.getContent(), source.getId(), this.modelRepository, this.library, VoidM3M4StateListener.VOID_M3_M4_STATE_LISTENER, this.context, null);
+            updateSource(source, newInstancesByParser);
+            transaction.noteSourceCompiled(source);
+        }
+        catch (RuntimeException e)
+        {
+            if (PureException.canFindPureException(e))
+            {
+                throw e;
+            }
+            throw new PureParserException(new SourceInformation(source.getId(), -1, -1, -1, -1), "Error parsing " + source.getId(), e);
+        }
+
+        MutableList<CoreInstance> newInstances = Lists.mutable.withAll(source.getNewInstances());
+        newInstances.forEach(this::registerInstanceInContext);
+        // no progress messages: they are shared between threads and meaningless for a single source
+        SourceMutation sourceMutation = PostProcessor.process(newInstances, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, null, null);
+        newInstances.removeIf(SourceMutation::isMarkedForDeletion);
+        Validator.validateM3(newInstances, ValidationType.SHALLOW, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        return sourceMutation;
+    }
+
     SourceMutation compile(RichIterable<? extends Source> sources) throws PureCompilationException, PureParserException
     {
         return compile(sources, null);
@@ -433,6 +482,16 @@ public abstract class IncrementalCompiler implements SourceEventHandler
         this.processorSupport = processorSupport;
     }
 
+    public PureMetrics getMetrics()
+    {
+        return this.metrics;
+    }
+
+    public void setMetrics(PureMetrics metrics)
+    {
+        this.metrics = (metrics == null) ? PureMetrics.NO_METRICS : metrics;
+    }
+
     class IncrementalCompilerTransactionManager extends MultiTransactionManager<IncrementalCompilerTransaction>
     {
         @Override
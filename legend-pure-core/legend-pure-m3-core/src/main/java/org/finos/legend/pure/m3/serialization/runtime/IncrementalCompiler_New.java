@@ -18,9 +18,11 @@ import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
 import org.eclipse.collections.api.multimap.list.MutableListMultimap;
@@ -48,6 +50,7 @@ import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
 import org.finos.legend.pure.m3.tools.ListHelper;
 import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m3.tools.matcher.Matcher;
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
@@ -57,6 +60,7 @@ import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionCont
 
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 public class IncrementalCompiler_New extends IncrementalCompiler
 {
@@ -200,14 +204,18 @@ public class IncrementalCompiler_New extends IncrementalCompiler
                     throw new PureParserException(new SourceInformation(source.getId(), -1, -1, -1, -1), "Error parsing " + source.getId(), e);
                 }
             };
-            if (this.shouldParallelize(sourceTotalCount, PARSE_SOURCES_THRESHOLD))
+            try (PureMetrics.Phase ignored2 = this.metrics.startPhase(PureMetrics.PARSE))
             {
-                ForkJoinTools.forEach(this.forkJoinPool, ListHelper.wrapListIterable(sources), parseSource, PARSE_SOURCES_THRESHOLD);
-            }
-            else
-            {
-                sources.forEach(parseSource);
+                if (this.shouldParallelize(sourceTotalCount, PARSE_SOURCES_THRESHOLD))
+                {
+                    ForkJoinTools.forEach(this.forkJoinPool, ListHelper.wrapListIterable(sources), parseSource, PARSE_SOURCES_THRESHOLD);
+                }
+                else
+                {
+                    sources.forEach(parseSource);
+                }
             }
+            this.metrics.counter("compiler.parsedSources").add(sourceTotalCount);
 
 
             // Parsing for repo completed successfully
@@ -232,7 +240,10 @@ public class IncrementalCompiler_New extends IncrementalCompiler
 
             // Total Unbind set is ( generated here + obtained through call - non retained )
             MutableSet<CoreInstance> hereUnbind = toUnbindWithinRepo.union(oldButNotNew).union(instancesToUnbind.toSet());
-            Unbinder.process(hereUnbind, this.modelRepository, this.library, this.dslLibrary, this.context, this.processorSupport, new UnbindState(this.context, this.urlPatternLibrary, this.dslLibrary, this.processorSupport), this.message);
+            try (PureMetrics.Phase ignored2 = this.metrics.startPhase(PureMetrics.UNBIND))
+            {
+                Unbinder.process(hereUnbind, this.modelRepository, this.library, this.dslLibrary, this.context, this.processorSupport, new UnbindState(this.context, this.urlPatternLibrary, this.dslLibrary, this.processorSupport), this.message);
+            }
 
             // Invalidate the unbound instances
             if (hereUnbind.notEmpty())
@@ -266,7 +277,7 @@ public class IncrementalCompiler_New extends IncrementalCompiler
             repoTransactionInstances.addAllIterable(newInstancesConsolidated);
 
             // Do postprocessing, validation - can throw an error
-            SourceMutation result = this.finishRepoCompilation(repoDisplayName, allInstances, newInstancesConsolidated, ValidationType.SHALLOW, observer);
+            SourceMutation result = this.finishRepoCompilation(transaction, repoDisplayName, allInstances, newInstancesConsolidated, ValidationType.SHALLOW, observer);
 
             // Repo compilation Successful
 
@@ -295,7 +306,7 @@ public class IncrementalCompiler_New extends IncrementalCompiler
     }
 
 
-    private SourceMutation finishRepoCompilation(String repoName, MutableList<CoreInstance> allInstances, MutableList<CoreInstance> newInstancesConsolidated, ValidationType validationType, PostProcessorObserver observer) throws PureCompilationException
+    private SourceMutation finishRepoCompilation(IncrementalCompilerTransaction transaction, String repoName, MutableList<CoreInstance> allInstances, MutableList<CoreInstance> newInstancesConsolidated, ValidationType validationType, PostProcessorObserver observer) throws PureCompilationException
     {
         if (shouldParallelize(allInstances.size(), CONTEXT_REGISTRATION_THRESHOLD))
         {
@@ -306,7 +317,11 @@ public class IncrementalCompiler_New extends IncrementalCompiler
             allInstances.forEach(this::registerInstanceInContext);
         }
 
-        SourceMutation sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, observer);
+        SourceMutation sourceMutation;
+        try (PureMetrics.Phase ignored = this.metrics.startPhase(PureMetrics.POST_PROCESS))
+        {
+            sourceMutation = PostProcessor.process(newInstancesConsolidated, this.modelRepository, this.library, this.dslLibrary, this.codeStorage, this.context, this.processorSupport, this.urlPatternLibrary, this.message, observer);
+        }
 
         if (validationType == ValidationType.DEEP)
         {
@@ -316,7 +331,10 @@ public class IncrementalCompiler_New extends IncrementalCompiler
         newInstancesConsolidated.removeIf(SourceMutation::isMarkedForDeletion);
 
         this.message.setMessage("Validating " + repoName + "...");
-        Validator.validateM3(newInstancesConsolidated, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+        try (PureMetrics.Phase ignored = this.metrics.startPhase(PureMetrics.VALIDATE))
+        {
+            validate(transaction, newInstancesConsolidated, validationType);
+        }
 
         rebuildExclusionSet(this.modelRepository, this.processorSupport);
 
@@ -327,6 +345,120 @@ public class IncrementalCompiler_New extends IncrementalCompiler
         return sourceMutation;
     }
 
+    private void validate(IncrementalCompilerTransaction transaction, MutableList<CoreInstance> instances, ValidationType validationType) throws PureCompilationException
+    {
+        if (shouldParallelize(instances.size(), VALIDATION_THRESHOLD))
+        {
+            ListIterable<MutableList<CoreInstance>> partitions = partitionBySource(instances, VALIDATION_THRESHOLD);
+            if (partitions.size() > 1)
+            {
+                // Validating an instance also validates instances it reaches (package children, values, property
+                // types, ...), which may be in another partition. So each partition only validates the instances
+                // from its own sources, and the other instances it reaches are validated serially afterwards. No
+                // instance is validated by two threads, and the error reported does not depend on timing: it is the
+                // error from the first failing partition in source order, if any.
+                ListIterable<MutableSet<String>> partitionSourceIds = partitions.collect(partition -> partition.collect(IncrementalCompiler_New::getSourceId, Sets.mutable.empty()));
+                MutableSet<String> allSourceIds = partitionSourceIds.flatCollect(sourceIds -> sourceIds, Sets.mutable.empty());
+                ListIterable<PartitionValidation> results = ForkJoinTools.collect(this.forkJoinPool, partitions.zip(partitionSourceIds), partitionAndSourceIds ->
+                {
+                    MutableSet<String> sourceIds = partitionAndSourceIds.getTwo();
+                    try (ThreadLocalTransactionContext ignored = transaction != null ? transaction.openInCurrentThread() : null)
+                    {
+                        // Instances from outside this compilation are not validated by any partition: those which
+                        // have already been validated can safely be skipped here
+                        ListIterable<CoreInstance> notOwned = validateSerially(partitionAndSourceIds.getOne(), instance ->
+                        {
+                            String sourceId = getSourceId(instance);
+                            return sourceIds.contains(sourceId) || (!allSourceIds.contains(sourceId) && instance.hasBeenValidated());
+                        }, validationType);
+                        return new PartitionValidation(notOwned, null);
+                    }
+                    catch (PureCompilationException e)
+                    {
+                        return new PartitionValidation(null, e);
+                    }
+                }, 1);
+                PartitionValidation failed = results.detect(r -> r.error != null);
+                if (failed != null)
+                {
+                    throw failed.error;
+                }
+                validateSerially(results.flatCollect(r -> r.notOwned, Lists.mutable.empty()), null, validationType);
+                return;
+            }
+        }
+        validateSerially(instances, null, validationType);
+    }
+
+    private ListIterable<CoreInstance> validateSerially(ListIterable<CoreInstance> instances, Predicate<? super CoreInstance> isOwned, ValidationType validationType) throws PureCompilationException
+    {
+        return Validator.validateM3(instances, isOwned, validationType, this.library, this.dslLibrary, this.additionalValidators.asUnmodifiable(), this.codeStorage, this.modelRepository, this.context, this.processorSupport);
+    }
+
+    private static String getSourceId(CoreInstance instance)
+    {
+        SourceInformation sourceInfo = instance.getSourceInformation();
+        return (sourceInfo == null) ? null : sourceInfo.getSourceId();
+    }
+
+    private static class PartitionValidation
+    {
+        private final ListIterable<CoreInstance> notOwned;
+        private final PureCompilationException error;
+
+        private PartitionValidation(ListIterable<CoreInstance> notOwned, PureCompilationException error)
+        {
+            this.notOwned = notOwned;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Partition instances by source, preserving order within each source. Small sources are grouped together so that
+     * each partition (except possibly the last) has at least minPartitionSize instances.
+     */
+    private static ListIterable<MutableList<CoreInstance>> partitionBySource(ListIterable<CoreInstance> instances, int minPartitionSize)
+    {
+        MutableMap<String, MutableList<CoreInstance>> instancesBySource = Maps.mutable.empty();
+        MutableList<MutableList<CoreInstance>> sourcePartitions = Lists.mutable.empty();
+        for (CoreInstance instance : instances)
+        {
+            String sourceId = getSourceId(instance);
+            MutableList<CoreInstance> sourceInstances = instancesBySource.get(sourceId);
+            if (sourceInstances == null)
+            {
+                sourceInstances = Lists.mutable.empty();
+                instancesBySource.put(sourceId, sourceInstances);
+                sourcePartitions.add(sourceInstances);
+            }
+            sourceInstances.add(instance);
+        }
+
+        MutableList<MutableList<CoreInstance>> partitions = Lists.mutable.empty();
+        MutableList<CoreInstance> current = null;
+        for (MutableList<CoreInstance> sourcePartition : sourcePartitions)
+        {
+            if (current == null)
+            {
+                current = sourcePartition;
+            }
+            else
+            {
+                current.addAll(sourcePartition);
+            }
+            if (current.size() >= minPartitionSize)
+            {
+                partitions.add(current);
+                current = null;
+            }
+        }
+        if (current != null)
+        {
+            partitions.add(current);
+        }
+        return partitions;
+    }
+
     private MutableSet<CoreInstance> removeNodesFromRemovedSources(MutableSet<CoreInstance> toProcess)
     {
         final MutableSet<String> excludedSourceIds = Sets.mutable.empty();
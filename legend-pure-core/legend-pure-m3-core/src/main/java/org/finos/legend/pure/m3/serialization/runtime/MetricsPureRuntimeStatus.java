@@ -0,0 +1,105 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
+
+/**
+ * Records runtime initialization and compilation timings, and source changes, to {@link PureMetrics}. Metrics are
+ * exported at the end of each of the startup phases (initialization, and core and system compilation), which happen
+ * once per runtime; later compilations and executions are not exported here.
+ */
+public class MetricsPureRuntimeStatus implements PureRuntimeStatus
+{
+    private final PureMetrics metrics;
+    private PureMetrics.Phase initialization;
+    private PureMetrics.Phase coreCompilation;
+    private PureMetrics.Phase systemCompilation;
+
+    public MetricsPureRuntimeStatus(PureMetrics metrics)
+    {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void startRuntimeInitialization()
+    {
+        this.initialization = this.metrics.startPhase(PureMetrics.RUNTIME_INITIALIZATION);
+    }
+
+    @Override
+    public void finishRuntimeInitialization()
+    {
+        this.initialization = finish(this.initialization);
+    }
+
+    @Override
+    public void startLoadingAndCompilingCore()
+    {
+        this.coreCompilation = this.metrics.startPhase(PureMetrics.CORE_COMPILATION);
+    }
+
+    @Override
+    public void finishedLoadingAndCompilingCore()
+    {
+        this.coreCompilation = finish(this.coreCompilation);
+    }
+
+    @Override
+    public void startLoadingAndCompilingSystemFiles()
+    {
+        this.systemCompilation = this.metrics.startPhase(PureMetrics.SYSTEM_COMPILATION);
+    }
+
+    @Override
+    public void finishedLoadingAndCompilingSystemFiles()
+    {
+        this.systemCompilation = finish(this.systemCompilation);
+    }
+
+    @Override
+    public void createOrUpdateMemorySource(String id, String content)
+    {
+        this.metrics.counter("runtime.createOrUpdateMemorySource").increment();
+    }
+
+    @Override
+    public void modifySource(String sourceId, String code)
+    {
+        this.metrics.counter("runtime.modifySource").increment();
+    }
+
+    @Override
+    public void deleteSource(String sourceId)
+    {
+        this.metrics.counter("runtime.deleteSource").increment();
+    }
+
+    @Override
+    public void moveSource(String sourceId, String destinationId)
+    {
+        this.metrics.counter("runtime.moveSource").increment();
+    }
+
+    private PureMetrics.Phase finish(PureMetrics.Phase phase)
+    {
+        if (phase != null)
+        {
+            phase.close();
+            this.metrics.export();
+        }
+        return null;
+    }
+}
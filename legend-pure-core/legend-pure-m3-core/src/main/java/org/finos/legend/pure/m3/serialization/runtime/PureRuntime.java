@@ -56,6 +56,7 @@ import org.finos.legend.pure.m3.serialization.runtime.IncrementalCompiler.Increm
 import org.finos.legend.pure.m3.serialization.runtime.cache.PureGraphCache;
 import org.finos.legend.pure.m3.serialization.runtime.pattern.URLPatternLibrary;
 import org.finos.legend.pure.m3.statelistener.VoidM3M4StateListener;
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
@@ -87,6 +88,7 @@ public class PureRuntime
     private boolean initializationError = true;
     private boolean initializing = false;
     private final RuntimeOptions options;
+    private final PureMetrics metrics;
 
     private final MutableList<PureRuntimeEventHandler> eventHandlers = Lists.mutable.empty();
 
@@ -94,9 +96,10 @@ public class PureRuntime
 
     PureRuntime(MutableRepositoryCodeStorage codeStorage, PureGraphCache cache,
                 PureRuntimeStatus pureRuntimeStatus, Message message, CoreInstanceFactoryRegistry factoryRegistryOverride, ForkJoinPool incrementalCompilerForkJoinPool,
-                boolean isTransactionByDefault, boolean useFastCompiler, ExecutedTestTracker executedTestTracker, RuntimeOptions options)
+                boolean isTransactionByDefault, boolean useFastCompiler, ExecutedTestTracker executedTestTracker, RuntimeOptions options, PureMetrics metrics)
     {
-        this.pureRuntimeStatus = pureRuntimeStatus;
+        this.metrics = (metrics == null) ? PureMetrics.fromOptions(options) : metrics;
+        this.pureRuntimeStatus = this.metrics.isEnabled() ? new PureRuntimeStatusPair(pureRuntimeStatus, new MetricsPureRuntimeStatus(this.metrics)) : pureRuntimeStatus;
         this.cache = cache;
         this.cache.setPureRuntime(this);
 
@@ -109,6 +112,8 @@ public class PureRuntime
                         new IncrementalCompiler_New(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault) :
                         new IncrementalCompiler_Old(parsers, inlineDSLs, codeStorage, this.patternLibrary, message, factoryRegistryOverride, incrementalCompilerForkJoinPool, isTransactionByDefault);
 
+        this.incrementalCompiler.setMetrics(this.metrics);
+
         this.sourceRegistry = new SourceRegistry(codeStorage, this.incrementalCompiler.getParserLibrary(), Lists.fixedSize.<SourceEventHandler>of(this.incrementalCompiler));
 
         this.executedTestTracker = executedTestTracker;
@@ -434,7 +439,7 @@ public class PureRuntime
         IncrementalCompilerTransaction transaction = this.incrementalCompiler.newTransaction(false);
         try (ThreadLocalTransactionContext ignore = transaction.openInCurrentThread())
         {
-            this.incrementalCompiler.compileInCurrentTransaction(source);
+            this.incrementalCompiler.compileIsolatedInCurrentTransaction(source);
         }
         catch (PureException e)
         {
@@ -989,4 +994,15 @@ public class PureRuntime
     {
         return this.options;
     }
+
+    /**
+     * Get the metrics of this runtime. Unless set on the builder, they are configured by the runtime options (see
+     * {@link PureMetrics#fromOptions}), and disabled by default.
+     *
+     * @return runtime metrics
+     */
+    public PureMetrics getMetrics()
+    {
+        return this.metrics;
+    }
 }
@@ -20,6 +20,7 @@ import org.finos.legend.pure.m3.coreinstance.CoreInstanceFactoryRegistry;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
 import org.finos.legend.pure.m3.serialization.runtime.cache.PureGraphCache;
 import org.finos.legend.pure.m3.serialization.runtime.cache.VoidPureGraphCache;
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
 
 import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
@@ -40,6 +41,7 @@ public class PureRuntimeBuilder
     private boolean useFastCompiler = true;
     private ExecutedTestTracker executedTestTracker;
     private RuntimeOptions options = RuntimeOptions.systemPropertyOptions("pure.options.");
+    private PureMetrics metrics;
 
     public PureRuntimeBuilder(MutableRepositoryCodeStorage codeStorage)
     {
@@ -107,9 +109,15 @@ public class PureRuntimeBuilder
         return this;
     }
 
+    public PureRuntimeBuilder withMetrics(PureMetrics metrics)
+    {
+        this.metrics = metrics;
+        return this;
+    }
+
     public PureRuntime build()
     {
-        PureRuntime runtime = new PureRuntime(this.codeStorage, this.cache, this.pureRuntimeStatus, this.message, this.factoryRegistryOverride, this.incrementalCompilerForkJoinPool, this.isTransactionalByDefault, this.useFastCompiler, this.executedTestTracker, this.options);
+        PureRuntime runtime = new PureRuntime(this.codeStorage, this.cache, this.pureRuntimeStatus, this.message, this.factoryRegistryOverride, this.incrementalCompilerForkJoinPool, this.isTransactionalByDefault, this.useFastCompiler, this.executedTestTracker, this.options, this.metrics);
         this.compilerEventHandlerFactoryFunctions.forEach(factory -> runtime.getIncrementalCompiler().addCompilerEventHandler(factory.apply(runtime)));
         return runtime;
     }
@@ -27,7 +27,6 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.multimap.Multimap;
 import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
-import org.eclipse.collections.api.set.ImmutableSet;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.stack.MutableStack;
 import org.eclipse.collections.impl.factory.Multimaps;
@@ -66,8 +65,6 @@ public class Source
     public static final Function<Source, ListIterable<CoreInstance>> SOURCE_NEW_INSTANCES = Source::getNewInstances;
     public static final Predicate<Source> IS_COMPILED = Source::isCompiled;
 
-    private static final Pattern LINE_PATTERN = Pattern.compile("^.*$", Pattern.MULTILINE);
-
     private final Object lock = new Object();
 
     private SourceRegistry sourceRegistry;
@@ -80,8 +77,9 @@ public class Source
     private boolean compiled;
 
     private ImmutableList<CoreInstance> newInstances;
-    private ImmutableSet<CoreInstance> allInstances;
+    private SourceElementIndex elementIndex;
     private ImmutableListMultimap<Parser, CoreInstance> elementsByParser;
+    private SourceLineIndex lineIndex;
 
     public Source(String id, boolean immutable, boolean inMemory, String content)
     {
@@ -118,6 +116,7 @@ public class Source
 
                 String oldContent = this.content;
                 this.content = (contentFromStorage == null) ? "" : contentFromStorage;
+                this.lineIndex = null;
                 this.sourceRegistry.getSourceEventHandlers().forEach(eh -> eh.updateSource(this, oldContent));
                 unCompile();
             }
@@ -144,6 +143,7 @@ public class Source
                     }
                     String oldContent = this.content;
                     this.content = content;
+                    this.lineIndex = null;
                     this.sourceRegistry.getSourceEventHandlers().forEach(eh -> eh.updateSource(this, oldContent));
                     unCompile();
                 }
@@ -188,7 +188,7 @@ public class Source
             this.compiled = this.immutable;
             this.elementsByParser = null;
             this.newInstances = null;
-            this.allInstances = null;
+            this.elementIndex = null;
         }
     }
 
@@ -236,7 +236,7 @@ public class Source
         synchronized (this.lock)
         {
             this.newInstances = Lists.immutable.withAll(elementsByParser.valuesView());
-            this.allInstances = null;
+            this.elementIndex = null;
             this.elementsByParser = elementsByParser.toImmutable();
         }
     }
@@ -531,19 +531,22 @@ public class Source
         }
 
         MutableList<SourceCoordinates> results = Lists.mutable.with();
-        Matcher lines = LINE_PATTERN.matcher(this.content);
-        for (int i = 0; lines.find(); i++)
-        {
-            String line = lines.group();
-            Matcher matcher = pattern.matcher(lines.group());
+        SourceLineIndex lines = getLineIndex();
+        // match each line as a region of the content: with the default anchoring and opaque bounds, this behaves as
+        // matching the line on its own
+        Matcher matcher = pattern.matcher(lines.getContent());
+        for (int i = 0, lineCount = lines.getLineCount(); i < lineCount; i++)
+        {
+            int lineStart = lines.getLineStart(i);
+            matcher.region(lineStart, lines.getLineEnd(i));
+            String line = null;
             while (matcher.find())
             {
-                results.add(new SourceCoordinates(this.id, i + 1, matcher.start() + 1, i + 1, matcher.end(),
-                        new SourceCoordinates.Preview(
-                                StringUtils.stripStart(line.substring(Math.max(0, matcher.start() - SEARCH_TEXT_PREVIEW_CHARACTER_LIMIT), matcher.start()), null),
-                                line.substring(matcher.start(), matcher.end()),
-                                StringUtils.stripEnd(line.substring(matcher.end(), Math.min(line.length(), matcher.end() + SEARCH_TEXT_PREVIEW_CHARACTER_LIMIT)), null)
-                        )));
+                if (line == null)
+                {
+                    line = lines.getLine(i);
+                }
+                results.add(newSourceCoordinates(i + 1, line, line, matcher.start() - lineStart, matcher.end() - lineStart));
             }
         }
         return results;
@@ -567,19 +570,18 @@ public class Source
     private RichIterable<SourceCoordinates> findCaseSensitive(String string)
     {
         MutableList<SourceCoordinates> results = Lists.mutable.with();
-        Matcher lines = LINE_PATTERN.matcher(this.content);
+        SourceLineIndex lines = getLineIndex();
+        String content = lines.getContent();
         int length = string.length();
-        for (int i = 0; lines.find(); i++)
+        // search the whole content at once, keeping matches which do not span more than one line
+        for (int index = content.indexOf(string); index != -1; index = content.indexOf(string, index + 1))
         {
-            String line = lines.group();
-            for (int index = line.indexOf(string); index != -1; index = line.indexOf(string, index + 1))
+            int i = lines.getLineAt(index);
+            int lineStart = lines.getLineStart(i);
+            if (index + length <= lines.getLineEnd(i))
             {
-                results.add(new SourceCoordinates(this.id, i + 1, index + 1, i + 1, index + length,
-                        new SourceCoordinates.Preview(
-                                StringUtils.stripStart(line.substring(Math.max(0, index - SEARCH_TEXT_PREVIEW_CHARACTER_LIMIT), index), null),
-                                line.substring(index, index + length),
-                                StringUtils.stripEnd(line.substring(index + length, Math.min(line.length(), index + length + SEARCH_TEXT_PREVIEW_CHARACTER_LIMIT)), null)
-                        )));
+                String line = lines.getLine(i);
+                results.add(newSourceCoordinates(i + 1, line, line, index - lineStart, index - lineStart + length));
             }
         }
         return results;
@@ -589,34 +591,47 @@ public class Source
     {
         String lowerCase = string.toLowerCase();
         MutableList<SourceCoordinates> results = Lists.mutable.with();
-        Matcher lines = LINE_PATTERN.matcher(this.content);
+        SourceLineIndex lines = getLineIndex();
         int length = lowerCase.length();
-        for (int i = 0; lines.find(); i++)
+        for (int i = 0, lineCount = lines.getLineCount(); i < lineCount; i++)
         {
-            String originalLine = lines.group();
+            String originalLine = lines.getLine(i);
             String line = originalLine.toLowerCase();
             for (int index = line.indexOf(lowerCase); index != -1; index = line.indexOf(lowerCase, index + 1))
             {
-                results.add(new SourceCoordinates(this.id, i + 1, index + 1, i + 1, index + length,
-                        new SourceCoordinates.Preview(
-                                StringUtils.stripStart(originalLine.substring(Math.max(0, index - SEARCH_TEXT_PREVIEW_CHARACTER_LIMIT), index), null),
-                                originalLine.substring(index, index + length),
-                                StringUtils.stripEnd(originalLine.substring(index + length, Math.min(line.length(), index + length + SEARCH_TEXT_PREVIEW_CHARACTER_LIMIT)), null)
-                        )));
+                results.add(newSourceCoordinates(i + 1, originalLine, line, index, index + length));
             }
         }
         return results;
     }
 
-    private ListIterable<CoreInstance> findRawElementsAt(int line, int column)
+    private SourceCoordinates newSourceCoordinates(int lineNumber, String originalLine, String line, int start, int end)
+    {
+        return new SourceCoordinates(this.id, lineNumber, start + 1, lineNumber, end,
+                new SourceCoordinates.Preview(
+                        StringUtils.stripStart(originalLine.substring(Math.max(0, start - SEARCH_TEXT_PREVIEW_CHARACTER_LIMIT), start), null),
+                        originalLine.substring(start, end),
+                        StringUtils.stripEnd(originalLine.substring(end, Math.min(line.length(), end + SEARCH_TEXT_PREVIEW_CHARACTER_LIMIT)), null)
+                ));
+    }
+
+    private SourceLineIndex getLineIndex()
     {
-        registerAllInstances();
         synchronized (this.lock)
         {
-            return this.allInstances.select(e -> isElementAtPoint(e, line, column), Lists.mutable.empty());
+            if (this.lineIndex == null)
+            {
+                this.lineIndex = new SourceLineIndex(this.content);
+            }
+            return this.lineIndex;
         }
     }
 
+    private ListIterable<CoreInstance> findRawElementsAt(int line, int column)
+    {
+        return getElementIndex().getElementsAt(line, column);
+    }
+
     @Deprecated
     public ConcreteFunctionDefinition<?> findConcreteFunctionDefinitionAt(int line, int column, ProcessorSupport processorSupport)
     {
@@ -706,11 +721,11 @@ public class Source
         return (endLine >= line) && ((endLine != line) || (sourceInfo.getEndColumn() >= column));
     }
 
-    private void registerAllInstances()
+    private SourceElementIndex getElementIndex()
     {
         synchronized (this.lock)
         {
-            if (this.allInstances == null)
+            if (this.elementIndex == null)
             {
                 MutableSet<CoreInstance> result = Sets.mutable.ofInitialCapacity(this.newInstances.size());
                 MutableSet<CoreInstance> visited = Sets.mutable.ofInitialCapacity(this.newInstances.size());
@@ -737,8 +752,9 @@ public class Source
                         }
                     }
                 }
-                this.allInstances = result.toImmutable();
+                this.elementIndex = new SourceElementIndex(result);
             }
+            return this.elementIndex;
         }
     }
 
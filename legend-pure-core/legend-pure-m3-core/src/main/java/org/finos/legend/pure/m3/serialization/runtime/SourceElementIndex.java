@@ -0,0 +1,125 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+
+/**
+ * Index of the elements of a source by the range of their source information, for finding the elements at a given
+ * position. This is an interval tree: elements are sorted by start position and laid out as an implicit balanced
+ * binary tree, where each node also records the maximum end position in its subtree. Finding the elements at a
+ * position takes O(log n + k) time, where k is the number of elements found.
+ */
+class SourceElementIndex
+{
+    private final CoreInstance[] elements;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    SourceElementIndex(RichIterable<CoreInstance> elements)
+    {
+        MutableList<CoreInstance> sorted = elements.select(e -> e.getSourceInformation() != null, Lists.mutable.empty());
+        sorted.sortThisByLong(e -> getStart(e.getSourceInformation()));
+        int size = sorted.size();
+        this.elements = sorted.toArray(new CoreInstance[size]);
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+        for (int i = 0; i < size; i++)
+        {
+            SourceInformation sourceInfo = this.elements[i].getSourceInformation();
+            this.starts[i] = getStart(sourceInfo);
+            this.ends[i] = getEnd(sourceInfo);
+        }
+        computeMaxEnds(0, size - 1);
+    }
+
+    /**
+     * Get the elements whose source information range contains the given position (both ends included), in order of
+     * their start position.
+     *
+     * @param line   line
+     * @param column column
+     * @return elements at line and column
+     */
+    MutableList<CoreInstance> getElementsAt(int line, int column)
+    {
+        MutableList<CoreInstance> result = Lists.mutable.empty();
+        collectElementsAt(0, this.elements.length - 1, toPosition(line, column), result);
+        return result;
+    }
+
+    int size()
+    {
+        return this.elements.length;
+    }
+
+    private long computeMaxEnds(int low, int high)
+    {
+        if (low > high)
+        {
+            return Long.MIN_VALUE;
+        }
+        int mid = (low + high) >>> 1;
+        long maxEnd = Math.max(this.ends[mid], Math.max(computeMaxEnds(low, mid - 1), computeMaxEnds(mid + 1, high)));
+        this.maxEnds[mid] = maxEnd;
+        return maxEnd;
+    }
+
+    private void collectElementsAt(int low, int high, long position, MutableList<CoreInstance> result)
+    {
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            if (this.maxEnds[mid] < position)
+            {
+                // nothing in this subtree reaches the position
+                return;
+            }
+            collectElementsAt(low, mid - 1, position, result);
+            if (this.starts[mid] > position)
+            {
+                // everything in the right subtree starts after the position
+                return;
+            }
+            if (this.ends[mid] >= position)
+            {
+                result.add(this.elements[mid]);
+            }
+            low = mid + 1;
+        }
+    }
+
+    private static long getStart(SourceInformation sourceInfo)
+    {
+        return toPosition(sourceInfo.getStartLine(), sourceInfo.getStartColumn());
+    }
+
+    private static long getEnd(SourceInformation sourceInfo)
+    {
+        return toPosition(sourceInfo.getEndLine(), sourceInfo.getEndColumn());
+    }
+
+    private static long toPosition(int line, int column)
+    {
+        // positions compare as (line, column) pairs
+        return ((long) line << 32) + ((long) column - Integer.MIN_VALUE);
+    }
+}
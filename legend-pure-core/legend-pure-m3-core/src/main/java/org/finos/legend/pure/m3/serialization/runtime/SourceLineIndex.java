@@ -0,0 +1,113 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
+
+import java.util.Arrays;
+
+/**
+ * Table of the line offsets of some source content. Lines are separated by any of the line terminators recognized
+ * by {@link java.util.regex.Pattern} (\n, \r\n, \r, \u0085, \u2028, \u2029), and a final line terminator does not start
+ * a new line.
+ */
+class SourceLineIndex
+{
+    private final String content;
+    private final int[] lineStarts;
+    private final int[] lineEnds;
+
+    SourceLineIndex(String content)
+    {
+        this.content = content;
+        MutableIntList starts = IntLists.mutable.with(0);
+        MutableIntList ends = IntLists.mutable.empty();
+        int length = content.length();
+        int i = 0;
+        while (i < length)
+        {
+            char c = content.charAt(i);
+            if ((c == '\n') || (c == '\r') || (c == '\u0085') || (c == '\u2028') || (c == '\u2029'))
+            {
+                ends.add(i);
+                i += ((c == '\r') && (i + 1 < length) && (content.charAt(i + 1) == '\n')) ? 2 : 1;
+                if (i < length)
+                {
+                    starts.add(i);
+                }
+            }
+            else
+            {
+                i++;
+            }
+        }
+        if (ends.size() < starts.size())
+        {
+            ends.add(length);
+        }
+        this.lineStarts = starts.toArray();
+        this.lineEnds = ends.toArray();
+    }
+
+    String getContent()
+    {
+        return this.content;
+    }
+
+    int getLineCount()
+    {
+        return this.lineStarts.length;
+    }
+
+    /**
+     * Get the offset of the start of a line.
+     *
+     * @param line line index (0-based)
+     * @return line start offset
+     */
+    int getLineStart(int line)
+    {
+        return this.lineStarts[line];
+    }
+
+    /**
+     * Get the offset of the end of a line, excluding its terminator.
+     *
+     * @param line line index (0-based)
+     * @return line end offset (exclusive)
+     */
+    int getLineEnd(int line)
+    {
+        return this.lineEnds[line];
+    }
+
+    /**
+     * Get the line containing an offset. An offset within a line terminator belongs to the line it terminates.
+     *
+     * @param offset content offset
+     * @return line index (0-based)
+     */
+    int getLineAt(int offset)
+    {
+        int index = Arrays.binarySearch(this.lineStarts, offset);
+        return (index >= 0) ? index : (-index - 2);
+    }
+
+    String getLine(int line)
+    {
+        return this.content.substring(this.lineStarts[line], this.lineEnds[line]);
+    }
+}
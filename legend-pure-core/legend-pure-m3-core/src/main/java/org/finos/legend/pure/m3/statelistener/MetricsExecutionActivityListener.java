@@ -0,0 +1,69 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.statelistener;
+
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
+import org.finos.legend.pure.m3.tools.metrics.PureTimer;
+
+/**
+ * Records relational and routing activity timings to {@link PureMetrics}, then passes the activity on to another
+ * listener.
+ */
+public class MetricsExecutionActivityListener implements ExecutionActivityListener
+{
+    private final ExecutionActivityListener delegate;
+    private final PureTimer relationalExecution;
+    private final PureTimer sqlGeneration;
+    private final PureTimer connectionAcquisition;
+    private final PureTimer routing;
+
+    public MetricsExecutionActivityListener(PureMetrics metrics, ExecutionActivityListener delegate)
+    {
+        this.delegate = (delegate == null) ? VoidExecutionActivityListener.VOID_EXECUTION_ACTIVITY_LISTENER : delegate;
+        this.relationalExecution = metrics.timer("execution.relational.execute");
+        this.sqlGeneration = metrics.timer("execution.relational.sqlGeneration");
+        this.connectionAcquisition = metrics.timer("execution.relational.connectionAcquisition");
+        this.routing = metrics.timer("execution.routing");
+    }
+
+    @Override
+    public void relationalActivityCompleted(String dbHost, Integer dbPort, String dbName, String dbType, String sql, String planInfo, Long executionTime, Long sqlGenerationTime, Long connectionAcquisitionTime)
+    {
+        record(this.relationalExecution, executionTime);
+        record(this.sqlGeneration, sqlGenerationTime);
+        record(this.connectionAcquisition, connectionAcquisitionTime);
+        this.delegate.relationalActivityCompleted(dbHost, dbPort, dbName, dbType, sql, planInfo, executionTime, sqlGenerationTime, connectionAcquisitionTime);
+    }
+
+    @Override
+    public void routingActivityCompleted(Long routingTimeInNanoSeconds)
+    {
+        record(this.routing, routingTimeInNanoSeconds);
+        this.delegate.routingActivityCompleted(routingTimeInNanoSeconds);
+    }
+
+    public ExecutionActivityListener getDelegate()
+    {
+        return this.delegate;
+    }
+
+    private static void record(PureTimer timer, Long nanos)
+    {
+        if (nanos != null)
+        {
+            timer.record(nanos);
+        }
+    }
+}
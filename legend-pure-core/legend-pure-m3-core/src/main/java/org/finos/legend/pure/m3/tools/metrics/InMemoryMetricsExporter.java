@@ -0,0 +1,39 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.metrics;
+
+/**
+ * Exporter which keeps the last snapshot exported, for tests and for tools which query metrics on demand.
+ */
+public class InMemoryMetricsExporter implements MetricsExporter
+{
+    private volatile MetricsSnapshot lastSnapshot;
+
+    @Override
+    public void export(MetricsSnapshot snapshot)
+    {
+        this.lastSnapshot = snapshot;
+    }
+
+    /**
+     * Get the last snapshot exported, or null if none has been.
+     *
+     * @return last snapshot
+     */
+    public MetricsSnapshot getLastSnapshot()
+    {
+        return this.lastSnapshot;
+    }
+}
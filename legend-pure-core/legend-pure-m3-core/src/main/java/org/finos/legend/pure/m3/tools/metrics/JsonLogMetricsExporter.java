@@ -0,0 +1,46 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * Exporter which writes each snapshot as a single line of JSON, by default to the log at info level.
+ */
+public class JsonLogMetricsExporter implements MetricsExporter
+{
+    private static final Logger LOGGER = LoggerFactory.getLogger(JsonLogMetricsExporter.class);
+
+    private final Consumer<? super String> sink;
+
+    public JsonLogMetricsExporter(Consumer<? super String> sink)
+    {
+        this.sink = sink;
+    }
+
+    public JsonLogMetricsExporter()
+    {
+        this(LOGGER::info);
+    }
+
+    @Override
+    public void export(MetricsSnapshot snapshot)
+    {
+        this.sink.accept(snapshot.toJSON());
+    }
+}
@@ -0,0 +1,33 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.metrics;
+
+/**
+ * Publishes snapshots of {@link PureMetrics}.
+ */
+public interface MetricsExporter
+{
+    void export(MetricsSnapshot snapshot);
+
+    /**
+     * Called when the exporter is attached to metrics, so that exporters which are polled can read current values
+     * rather than wait for the next export.
+     *
+     * @param metrics metrics
+     */
+    default void attach(PureMetrics metrics)
+    {
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.metrics;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.json.simple.JSONObject;
+
+/**
+ * Values of the timers and counters of {@link PureMetrics} at some point in time.
+ */
+public class MetricsSnapshot
+{
+    private final long timestamp = System.currentTimeMillis();
+    private final ImmutableMap<String, TimerValue> timers;
+    private final ImmutableMap<String, Long> counters;
+
+    MetricsSnapshot(MutableMap<String, TimerValue> timers, MutableMap<String, Long> counters)
+    {
+        this.timers = timers.toImmutable();
+        this.counters = counters.toImmutable();
+    }
+
+    /**
+     * Time the snapshot was taken, in milliseconds since the epoch.
+     *
+     * @return snapshot time
+     */
+    public long getTimestamp()
+    {
+        return this.timestamp;
+    }
+
+    public ImmutableMap<String, TimerValue> getTimers()
+    {
+        return this.timers;
+    }
+
+    public ImmutableMap<String, Long> getCounters()
+    {
+        return this.counters;
+    }
+
+    public TimerValue getTimer(String name)
+    {
+        return this.timers.get(name);
+    }
+
+    public long getCounter(String name)
+    {
+        Long count = this.counters.get(name);
+        return (count == null) ? 0L : count;
+    }
+
+    /**
+     * Get the hit rate of a cache whose accesses are recorded with {@link PureMetrics#recordCacheAccess}, or -1 if
+     * there has been no access.
+     *
+     * @param cache cache name
+     * @return cache hit rate
+     */
+    public double getCacheHitRate(String cache)
+    {
+        long hits = getCounter("cache." + cache + ".hit");
+        long total = hits + getCounter("cache." + cache + ".miss");
+        return (total == 0) ? -1.0 : ((double) hits / total);
+    }
+
+    /**
+     * Merge snapshots of several {@link PureMetrics}: counters and timer counts, totals and allocations are summed,
+     * and timer maxima are the greatest of the maxima.
+     *
+     * @param snapshots snapshots to merge
+     * @return merged snapshot
+     */
+    static MetricsSnapshot merge(Iterable<? extends MetricsSnapshot> snapshots)
+    {
+        MutableMap<String, TimerValue> timers = Maps.mutable.empty();
+        MutableMap<String, Long> counters = Maps.mutable.empty();
+        snapshots.forEach(snapshot ->
+        {
+            snapshot.timers.forEachKeyValue((name, value) -> timers.merge(name, value, TimerValue::plus));
+            snapshot.counters.forEachKeyValue((name, count) -> counters.merge(name, count, Long::sum));
+        });
+        return new MetricsSnapshot(timers, counters);
+    }
+
+    @SuppressWarnings("unchecked")
+    public String toJSON()
+    {
+        JSONObject timersJson = new JSONObject();
+        this.timers.forEachKeyValue((name, value) ->
+        {
+            JSONObject timerJson = new JSONObject();
+            timerJson.put("count", value.getCount());
+            timerJson.put("totalNanos", value.getTotalNanos());
+            timerJson.put("maxNanos", value.getMaxNanos());
+            timerJson.put("allocatedBytes", value.getAllocatedBytes());
+            timersJson.put(name, timerJson);
+        });
+        JSONObject countersJson = new JSONObject();
+        countersJson.putAll(this.counters.castToMap());
+        JSONObject json = new JSONObject();
+        json.put("timestamp", this.timestamp);
+        json.put("timers", timersJson);
+        json.put("counters", countersJson);
+        return json.toJSONString();
+    }
+
+    public static class TimerValue
+    {
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long allocatedBytes;
+
+        TimerValue(long count, long totalNanos, long maxNanos, long allocatedBytes)
+        {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        public long getCount()
+        {
+            return this.count;
+        }
+
+        public long getTotalNanos()
+        {
+            return this.totalNanos;
+        }
+
+        public long getMaxNanos()
+        {
+            return this.maxNanos;
+        }
+
+        public long getMeanNanos()
+        {
+            return (this.count == 0) ? 0L : (this.totalNanos / this.count);
+        }
+
+        /**
+         * Estimate of the memory allocated, in bytes, by the thread recording the timed events (0 if not supported
+         * by the JVM or not recorded).
+         *
+         * @return allocated bytes
+         */
+        public long getAllocatedBytes()
+        {
+            return this.allocatedBytes;
+        }
+
+        private TimerValue plus(TimerValue other)
+        {
+            return new TimerValue(this.count + other.count, this.totalNanos + other.totalNanos, Math.max(this.maxNanos, other.maxNanos), this.allocatedBytes + other.allocatedBytes);
+        }
+
+        @Override
+        public String toString()
+        {
+            return "<TimerValue count=" + this.count + " totalNanos=" + this.totalNanos + " maxNanos=" + this.maxNanos + " allocatedBytes=" + this.allocatedBytes + ">";
+        }
+    }
+}
@@ -0,0 +1,124 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.metrics;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Exporter which publishes metrics to a Prometheus registry. When attached to one or more {@link PureMetrics}, each
+ * scrape reads and merges their current values (see {@link MetricsSnapshot#merge}), so that several runtimes can share
+ * an exporter such as {@link #getDefault()}; otherwise it publishes the last snapshot exported. Attached metrics are
+ * only weakly referenced, and stop being published once they are garbage collected or {@link #detach detached}.
+ * Timers are published as the summary pure_timer_seconds (count and sum) and the gauges pure_timer_seconds_max and
+ * pure_timer_allocated_bytes, and counters as pure_counter_total, all labelled by name.
+ */
+public class PrometheusMetricsExporter extends Collector implements MetricsExporter
+{
+    private static PrometheusMetricsExporter defaultExporter;
+
+    private final Set<PureMetrics> attached = Collections.newSetFromMap(new WeakHashMap<>());
+    private volatile MetricsSnapshot lastSnapshot;
+
+    public PrometheusMetricsExporter(CollectorRegistry registry)
+    {
+        registry.register(this);
+    }
+
+    @Override
+    public void export(MetricsSnapshot snapshot)
+    {
+        this.lastSnapshot = snapshot;
+    }
+
+    @Override
+    public void attach(PureMetrics metrics)
+    {
+        synchronized (this.attached)
+        {
+            this.attached.add(metrics);
+        }
+    }
+
+    /**
+     * Stop publishing the values of metrics attached to this exporter.
+     *
+     * @param metrics metrics
+     */
+    public void detach(PureMetrics metrics)
+    {
+        synchronized (this.attached)
+        {
+            this.attached.remove(metrics);
+        }
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect()
+    {
+        MutableList<PureMetrics> metrics;
+        synchronized (this.attached)
+        {
+            metrics = Lists.mutable.withAll(this.attached);
+        }
+        MetricsSnapshot snapshot = metrics.isEmpty() ? this.lastSnapshot : MetricsSnapshot.merge(metrics.collect(PureMetrics::snapshot));
+        if (snapshot == null)
+        {
+            return Collections.emptyList();
+        }
+
+        List<String> labelNames = Collections.singletonList("name");
+        MutableList<MetricFamilySamples.Sample> timerSamples = Lists.mutable.empty();
+        MutableList<MetricFamilySamples.Sample> maxSamples = Lists.mutable.empty();
+        MutableList<MetricFamilySamples.Sample> allocationSamples = Lists.mutable.empty();
+        snapshot.getTimers().forEachKeyValue((name, value) ->
+        {
+            List<String> labelValues = Collections.singletonList(name);
+            timerSamples.add(new MetricFamilySamples.Sample("pure_timer_seconds_count", labelNames, labelValues, value.getCount()));
+            timerSamples.add(new MetricFamilySamples.Sample("pure_timer_seconds_sum", labelNames, labelValues, value.getTotalNanos() / NANOSECONDS_PER_SECOND));
+            maxSamples.add(new MetricFamilySamples.Sample("pure_timer_seconds_max", labelNames, labelValues, value.getMaxNanos() / NANOSECONDS_PER_SECOND));
+            allocationSamples.add(new MetricFamilySamples.Sample("pure_timer_allocated_bytes", labelNames, labelValues, value.getAllocatedBytes()));
+        });
+        MutableList<MetricFamilySamples.Sample> counterSamples = Lists.mutable.empty();
+        snapshot.getCounters().forEachKeyValue((name, count) -> counterSamples.add(new MetricFamilySamples.Sample("pure_counter_total", labelNames, Collections.singletonList(name), count)));
+
+        return Lists.mutable.with(
+                new MetricFamilySamples("pure_timer_seconds", Type.SUMMARY, "Pure runtime timers", timerSamples),
+                new MetricFamilySamples("pure_timer_seconds_max", Type.GAUGE, "Maximum duration of Pure runtime timed events", maxSamples),
+                new MetricFamilySamples("pure_timer_allocated_bytes", Type.GAUGE, "Estimated memory allocated by Pure runtime timed events", allocationSamples),
+                new MetricFamilySamples("pure_counter", Type.COUNTER, "Pure runtime counters", counterSamples));
+    }
+
+    /**
+     * Get the exporter registered with the default Prometheus registry.
+     *
+     * @return default exporter
+     */
+    public static synchronized PrometheusMetricsExporter getDefault()
+    {
+        if (defaultExporter == null)
+        {
+            defaultExporter = new PrometheusMetricsExporter(CollectorRegistry.defaultRegistry);
+        }
+        return defaultExporter;
+    }
+}
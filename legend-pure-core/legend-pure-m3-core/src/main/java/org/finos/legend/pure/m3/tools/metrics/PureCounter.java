@@ -0,0 +1,64 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe counter.
+ */
+public class PureCounter
+{
+    static final PureCounter NO_COUNTER = new PureCounter(null);
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    PureCounter(String name)
+    {
+        this.name = name;
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    public void increment()
+    {
+        if (this != NO_COUNTER)
+        {
+            this.count.increment();
+        }
+    }
+
+    public void add(long delta)
+    {
+        if (this != NO_COUNTER)
+        {
+            this.count.add(delta);
+        }
+    }
+
+    public long getCount()
+    {
+        return this.count.sum();
+    }
+
+    void reset()
+    {
+        this.count.reset();
+    }
+}
@@ -0,0 +1,383 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.metrics;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m3.serialization.runtime.RuntimeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of the timers and counters of a Pure runtime, such as compilation phase timings, native function calls and
+ * cache accesses. Timers and counters are thread safe and cheap to update; when metrics are disabled (see
+ * {@link #NO_METRICS}), they do nothing at all. The collected values are published by taking a {@link MetricsSnapshot}
+ * and passing it to the configured {@link MetricsExporter}s, either explicitly (see {@link #export()}) or periodically
+ * (see {@link #scheduleExport(long, TimeUnit)}). The runtime exports once at the end of its initialization, but not
+ * after each compilation or execution; exporters which are polled, such as {@link PrometheusMetricsExporter}, read the
+ * current values directly instead.
+ */
+public class PureMetrics
+{
+    /**
+     * Runtime option which enables metrics.
+     */
+    public static final String METRICS_OPTION = "Metrics";
+
+    /**
+     * Runtime option which enables metrics and exports them as JSON to the log.
+     */
+    public static final String JSON_LOG_METRICS_OPTION = "MetricsJsonLog";
+
+    /**
+     * Runtime option which enables metrics and exports them to the default Prometheus registry.
+     */
+    public static final String PROMETHEUS_METRICS_OPTION = "MetricsPrometheus";
+
+    // Phases
+    public static final String RUNTIME_INITIALIZATION = "runtime.initialization";
+    public static final String CORE_COMPILATION = "runtime.compileCore";
+    public static final String SYSTEM_COMPILATION = "runtime.compileSystem";
+    public static final String PARSE = "compiler.parse";
+    public static final String UNBIND = "compiler.unbind";
+    public static final String POST_PROCESS = "compiler.postProcess";
+    public static final String VALIDATE = "compiler.validate";
+    public static final String CODEGEN = "compiled.codegen";
+    public static final String JAVAC = "compiled.javac";
+    public static final String METADATA_LOAD = "compiled.metadataLoad";
+
+    /**
+     * Interval of the periodic export set up by {@link #fromOptions} when {@link #JSON_LOG_METRICS_OPTION} is set.
+     */
+    public static final long DEFAULT_EXPORT_INTERVAL_SECONDS = 60L;
+
+    public static final PureMetrics NO_METRICS = new PureMetrics(false, Lists.immutable.empty());
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PureMetrics.class);
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean ALLOCATION_SUPPORTED = isAllocationSupported();
+
+    private final boolean enabled;
+    private final ImmutableList<MetricsExporter> exporters;
+    private final ConcurrentMutableMap<String, PureTimer> timers = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, PureCounter> counters = ConcurrentHashMap.newMap();
+    private ScheduledExport scheduledExport;
+
+    private PureMetrics(boolean enabled, ImmutableList<MetricsExporter> exporters)
+    {
+        this.enabled = enabled;
+        this.exporters = exporters;
+        if (enabled)
+        {
+            exporters.forEach(exporter -> exporter.attach(this));
+        }
+    }
+
+    public PureMetrics(Iterable<? extends MetricsExporter> exporters)
+    {
+        this(true, Lists.immutable.<MetricsExporter>withAll(exporters));
+    }
+
+    public PureMetrics(MetricsExporter... exporters)
+    {
+        this(true, Lists.immutable.with(exporters));
+    }
+
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    public ImmutableList<MetricsExporter> getExporters()
+    {
+        return this.exporters;
+    }
+
+    /**
+     * Get the timer with the given name, creating it if needed.
+     *
+     * @param name timer name
+     * @return timer
+     */
+    public PureTimer timer(String name)
+    {
+        return this.enabled ? this.timers.getIfAbsentPutWithKey(name, PureTimer::new) : PureTimer.NO_TIMER;
+    }
+
+    /**
+     * Get the counter with the given name, creating it if needed.
+     *
+     * @param name counter name
+     * @return counter
+     */
+    public PureCounter counter(String name)
+    {
+        return this.enabled ? this.counters.getIfAbsentPutWithKey(name, PureCounter::new) : PureCounter.NO_COUNTER;
+    }
+
+    /**
+     * Start timing a phase. The time (and, where the JVM supports it, an estimate of the memory allocated by the
+     * current thread) is recorded to the timer with the given name when the phase is closed.
+     *
+     * @param name timer name
+     * @return phase to close at the end
+     */
+    public Phase startPhase(String name)
+    {
+        return this.enabled ? new Phase(timer(name)) : Phase.NO_PHASE;
+    }
+
+    /**
+     * Get the hit and miss counters of a cache (cache.name.hit and cache.name.miss). Resolve them once and keep them,
+     * rather than looking them up on each access.
+     *
+     * @param cache cache name
+     * @return cache counters
+     */
+    public CacheCounters cacheCounters(String cache)
+    {
+        return this.enabled ? new CacheCounters(counter("cache." + cache + ".hit"), counter("cache." + cache + ".miss")) : CacheCounters.NO_CACHE_COUNTERS;
+    }
+
+    public MetricsSnapshot snapshot()
+    {
+        return new MetricsSnapshot(this.timers.collectValues((name, timer) -> timer.getValue()), this.counters.collectValues((name, counter) -> counter.getCount()));
+    }
+
+    /**
+     * Export a snapshot of the current values to all the exporters.
+     */
+    public void export()
+    {
+        if (this.enabled && this.exporters.notEmpty())
+        {
+            MetricsSnapshot snapshot = snapshot();
+            this.exporters.forEach(exporter -> exporter.export(snapshot));
+        }
+    }
+
+    /**
+     * Export a snapshot of the current values to all the exporters every period, on a shared daemon thread, until
+     * {@link #stopScheduledExport()} is called. This replaces any export previously scheduled. The scheduled export
+     * does not keep these metrics reachable: it stops when they are garbage collected.
+     *
+     * @param period time between exports
+     * @param unit   time unit of period
+     */
+    public synchronized void scheduleExport(long period, TimeUnit unit)
+    {
+        if (period <= 0)
+        {
+            throw new IllegalArgumentException("Export period must be positive: " + period);
+        }
+        stopScheduledExport();
+        if (this.enabled && this.exporters.notEmpty())
+        {
+            this.scheduledExport = new ScheduledExport(this, period, unit);
+        }
+    }
+
+    /**
+     * Stop the periodic export set up by {@link #scheduleExport(long, TimeUnit)}, if any.
+     */
+    public synchronized void stopScheduledExport()
+    {
+        if (this.scheduledExport != null)
+        {
+            this.scheduledExport.cancel();
+            this.scheduledExport = null;
+        }
+    }
+
+    /**
+     * Reset all timers and counters to zero. They are reset in place, so timers and counters which callers hold on to
+     * remain registered.
+     */
+    public void reset()
+    {
+        this.timers.forEachValue(PureTimer::reset);
+        this.counters.forEachValue(PureCounter::reset);
+    }
+
+    /**
+     * Create metrics as configured by runtime options: metrics are disabled unless one of {@link #METRICS_OPTION},
+     * {@link #JSON_LOG_METRICS_OPTION} or {@link #PROMETHEUS_METRICS_OPTION} is set. An in-memory exporter is always
+     * included when metrics are enabled. With {@link #JSON_LOG_METRICS_OPTION}, metrics are exported every
+     * {@link #DEFAULT_EXPORT_INTERVAL_SECONDS} seconds.
+     *
+     * @param options runtime options
+     * @return metrics
+     */
+    public static PureMetrics fromOptions(RuntimeOptions options)
+    {
+        boolean jsonLog = options.isOptionSet(JSON_LOG_METRICS_OPTION);
+        boolean prometheus = options.isOptionSet(PROMETHEUS_METRICS_OPTION);
+        if (!jsonLog && !prometheus && !options.isOptionSet(METRICS_OPTION))
+        {
+            return NO_METRICS;
+        }
+        MutableList<MetricsExporter> exporters = Lists.mutable.with(new InMemoryMetricsExporter());
+        if (jsonLog)
+        {
+            exporters.add(new JsonLogMetricsExporter());
+        }
+        if (prometheus)
+        {
+            exporters.add(PrometheusMetricsExporter.getDefault());
+        }
+        PureMetrics metrics = new PureMetrics(exporters);
+        if (jsonLog)
+        {
+            metrics.scheduleExport(DEFAULT_EXPORT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+        return metrics;
+    }
+
+    static long getAllocatedBytes()
+    {
+        return ALLOCATION_SUPPORTED ? ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).getThreadAllocatedBytes(Thread.currentThread().getId()) : -1L;
+    }
+
+    private static boolean isAllocationSupported()
+    {
+        try
+        {
+            return (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean) &&
+                    ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemorySupported() &&
+                    ((com.sun.management.ThreadMXBean) THREAD_MX_BEAN).isThreadAllocatedMemoryEnabled();
+        }
+        catch (Throwable ignore)
+        {
+            // com.sun.management is not available on all JVMs
+            return false;
+        }
+    }
+
+    /**
+     * Periodic export, which only holds a weak reference to the metrics and cancels itself once they are collected.
+     */
+    private static class ScheduledExport implements Runnable
+    {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable ->
+        {
+            Thread thread = new Thread(runnable, "pure-metrics-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        private final WeakReference<PureMetrics> metrics;
+        private volatile ScheduledFuture<?> future;
+
+        private ScheduledExport(PureMetrics metrics, long period, TimeUnit unit)
+        {
+            this.metrics = new WeakReference<>(metrics);
+            this.future = EXECUTOR.scheduleAtFixedRate(this, period, period, unit);
+        }
+
+        @Override
+        public void run()
+        {
+            PureMetrics metrics = this.metrics.get();
+            if (metrics == null)
+            {
+                cancel();
+                return;
+            }
+            try
+            {
+                metrics.export();
+            }
+            catch (Exception e)
+            {
+                // an exception would suppress all later exports
+                LOGGER.warn("Error exporting metrics", e);
+            }
+        }
+
+        private void cancel()
+        {
+            // null only if the first run comes before the constructor returns; the next run cancels then
+            ScheduledFuture<?> future = this.future;
+            if (future != null)
+            {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Hit and miss counters of a cache.
+     */
+    public static class CacheCounters
+    {
+        private static final CacheCounters NO_CACHE_COUNTERS = new CacheCounters(PureCounter.NO_COUNTER, PureCounter.NO_COUNTER);
+
+        private final PureCounter hits;
+        private final PureCounter misses;
+
+        private CacheCounters(PureCounter hits, PureCounter misses)
+        {
+            this.hits = hits;
+            this.misses = misses;
+        }
+
+        public void record(boolean hit)
+        {
+            (hit ? this.hits : this.misses).increment();
+        }
+    }
+
+    /**
+     * A timed phase, to be closed when it ends (typically with try-with-resources).
+     */
+    public static class Phase implements AutoCloseable
+    {
+        private static final Phase NO_PHASE = new Phase(null);
+
+        private final PureTimer timer;
+        private final long start;
+        private final long startAllocatedBytes;
+
+        private Phase(PureTimer timer)
+        {
+            this.timer = timer;
+            this.startAllocatedBytes = (timer == null) ? -1L : getAllocatedBytes();
+            this.start = (timer == null) ? 0L : System.nanoTime();
+        }
+
+        @Override
+        public void close()
+        {
+            if (this.timer != null)
+            {
+                long end = System.nanoTime();
+                long endAllocatedBytes = (this.startAllocatedBytes < 0) ? -1L : getAllocatedBytes();
+                this.timer.record(end - this.start, (endAllocatedBytes < 0) ? 0L : (endAllocatedBytes - this.startAllocatedBytes));
+            }
+        }
+    }
+}
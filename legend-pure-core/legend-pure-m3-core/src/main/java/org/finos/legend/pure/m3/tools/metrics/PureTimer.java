@@ -0,0 +1,98 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timer recording the number, total and maximum duration of some events, and optionally an estimate of the memory
+ * they allocated. For hot paths, use {@link #start()} and {@link #stop(long)}, which do not allocate.
+ */
+public class PureTimer
+{
+    static final PureTimer NO_TIMER = new PureTimer(null);
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    PureTimer(String name)
+    {
+        this.name = name;
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Start timing an event.
+     *
+     * @return start time, to pass to {@link #stop(long)}
+     */
+    public long start()
+    {
+        return (this == NO_TIMER) ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Stop timing an event started with {@link #start()}.
+     *
+     * @param start start time
+     */
+    public void stop(long start)
+    {
+        if (this != NO_TIMER)
+        {
+            record(System.nanoTime() - start, 0L);
+        }
+    }
+
+    public void record(long nanos)
+    {
+        record(nanos, 0L);
+    }
+
+    public void record(long nanos, long allocatedBytes)
+    {
+        if (this != NO_TIMER)
+        {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+            if (allocatedBytes > 0)
+            {
+                this.allocatedBytes.add(allocatedBytes);
+            }
+        }
+    }
+
+    void reset()
+    {
+        this.count.reset();
+        this.totalNanos.reset();
+        this.maxNanos.reset();
+        this.allocatedBytes.reset();
+    }
+
+    MetricsSnapshot.TimerValue getValue()
+    {
+        return new MetricsSnapshot.TimerValue(this.count.sum(), this.totalNanos.sum(), this.maxNanos.get(), this.allocatedBytes.sum());
+    }
+}
@@ -0,0 +1,288 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.profiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
+import org.eclipse.collections.api.tuple.primitive.ObjectLongPair;
+import org.eclipse.collections.impl.factory.primitive.ObjectLongMaps;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base class for sampling profilers. While running, the profiler periodically takes a sample of the Pure call stacks
+ * of the threads it follows (see {@link #takeSample}) on a background thread, and counts how many times each stack
+ * is seen. Executing threads are not slowed down beyond what taking a sample requires.
+ * <p>
+ * Several threads may run under the same profiler: each run is bracketed by {@link #startRun} and {@link #endRun},
+ * and sampling continues until the last run ends.
+ * <p>
+ * Results are reported in collapsed stack format: one line per distinct stack, with frames from the root separated
+ * by semicolons, followed by a space and the number of samples. This is the input format of common flame graph tools
+ * (such as flamegraph.pl or speedscope).
+ */
+public abstract class AbstractSamplingProfiler implements AutoCloseable
+{
+    public static final long DEFAULT_SAMPLING_INTERVAL_MICROS = 10_000L;
+
+    private final long samplingIntervalMicros;
+    private final MutableObjectLongMap<String> stackCounts = ObjectLongMaps.mutable.empty();
+    private final AtomicLong sampleCount = new AtomicLong();
+    private ScheduledExecutorService sampler;
+    private int activeRuns = 0;
+
+    protected AbstractSamplingProfiler(long samplingIntervalMicros)
+    {
+        if (samplingIntervalMicros <= 0)
+        {
+            throw new IllegalArgumentException("Sampling interval must be positive: " + samplingIntervalMicros);
+        }
+        this.samplingIntervalMicros = samplingIntervalMicros;
+    }
+
+    protected AbstractSamplingProfiler()
+    {
+        this(DEFAULT_SAMPLING_INTERVAL_MICROS);
+    }
+
+    public long getSamplingIntervalMicros()
+    {
+        return this.samplingIntervalMicros;
+    }
+
+    /**
+     * Start sampling, if not already started.
+     */
+    public synchronized void startSampling()
+    {
+        if (this.sampler == null)
+        {
+            this.sampler = Executors.newSingleThreadScheduledExecutor(runnable ->
+            {
+                Thread thread = new Thread(runnable, "pure-sampling-profiler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.sampler.scheduleAtFixedRate(this::sample, this.samplingIntervalMicros, this.samplingIntervalMicros, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    /**
+     * Stop sampling, if started, regardless of any active runs. Samples taken so far are kept.
+     */
+    public synchronized void stopSampling()
+    {
+        this.activeRuns = 0;
+        if (this.sampler != null)
+        {
+            this.sampler.shutdownNow();
+            try
+            {
+                this.sampler.awaitTermination(1, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+            }
+            this.sampler = null;
+            samplingStopped();
+        }
+    }
+
+    /**
+     * Start a run, starting sampling if no other run is active.
+     */
+    protected synchronized void startRun()
+    {
+        if (this.activeRuns++ == 0)
+        {
+            startSampling();
+        }
+    }
+
+    /**
+     * End a run, stopping sampling if no other run is active.
+     */
+    protected synchronized void endRun()
+    {
+        if ((this.activeRuns > 0) && (--this.activeRuns == 0))
+        {
+            stopSampling();
+        }
+    }
+
+    /**
+     * Called after sampling stops, when no sample is being taken. Subclasses may release state kept for sampling.
+     */
+    protected void samplingStopped()
+    {
+    }
+
+    public synchronized boolean isSampling()
+    {
+        return this.sampler != null;
+    }
+
+    @Override
+    public void close()
+    {
+        stopSampling();
+    }
+
+    /**
+     * Number of samples recorded: one for each followed thread with a non-empty stack at each sampling tick.
+     *
+     * @return sample count
+     */
+    public long getSampleCount()
+    {
+        return this.sampleCount.get();
+    }
+
+    public void clearSamples()
+    {
+        synchronized (this.stackCounts)
+        {
+            this.stackCounts.clear();
+        }
+        this.sampleCount.set(0L);
+    }
+
+    /**
+     * Get the samples in collapsed stack format, most frequent stacks first.
+     *
+     * @return collapsed stacks
+     */
+    public String getCollapsedStacks()
+    {
+        StringBuilder builder = new StringBuilder();
+        writeCollapsedStacks(builder);
+        return builder.toString();
+    }
+
+    public void writeCollapsedStacks(Appendable appendable)
+    {
+        MutableList<ObjectLongPair<String>> stacks;
+        synchronized (this.stackCounts)
+        {
+            stacks = Lists.mutable.withAll(this.stackCounts.keyValuesView());
+        }
+        stacks.sortThis((s1, s2) ->
+        {
+            int cmp = Long.compare(s2.getTwo(), s1.getTwo());
+            return (cmp != 0) ? cmp : s1.getOne().compareTo(s2.getOne());
+        });
+        try
+        {
+            for (ObjectLongPair<String> stack : stacks)
+            {
+                appendable.append(stack.getOne()).append(' ').append(Long.toString(stack.getTwo())).append('\n');
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Take one sample of each followed thread, calling {@link #recordSample} for each non-empty stack. This is called
+     * on the sampling thread.
+     */
+    protected abstract void takeSample();
+
+    /**
+     * Record a sampled stack.
+     *
+     * @param frames frame names, from the root of the stack
+     */
+    protected void recordSample(Iterable<String> frames)
+    {
+        StringBuilder builder = new StringBuilder();
+        for (String frame : frames)
+        {
+            if (builder.length() > 0)
+            {
+                builder.append(';');
+            }
+            appendFrame(builder, frame);
+        }
+        if (builder.length() > 0)
+        {
+            synchronized (this.stackCounts)
+            {
+                this.stackCounts.addToValue(builder.toString(), 1L);
+            }
+            this.sampleCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Frame name for a function: its path (or its name, if it is not in a package) and where it is defined.
+     *
+     * @param function function
+     * @return frame name
+     */
+    protected static String getFunctionFrameName(CoreInstance function)
+    {
+        StringBuilder builder = new StringBuilder();
+        if (function.getValueForMetaPropertyToOne(M3Properties._package) == null)
+        {
+            builder.append(function.getName());
+        }
+        else
+        {
+            PackageableElement.writeUserPathForPackageableElement(builder, function);
+        }
+        SourceInformation sourceInformation = function.getSourceInformation();
+        if (sourceInformation != null)
+        {
+            builder.append(" (").append(sourceInformation.getSourceId()).append(':').append(sourceInformation.getLine()).append(')');
+        }
+        return builder.toString();
+    }
+
+    private void sample()
+    {
+        try
+        {
+            takeSample();
+        }
+        catch (RuntimeException ignore)
+        {
+            // stacks are read while they change: a failed sample is skipped, and must not stop sampling
+        }
+    }
+
+    private static void appendFrame(StringBuilder builder, String frame)
+    {
+        // semicolons separate frames and new lines separate stacks, so neither may appear in a frame
+        for (int i = 0; i < frame.length(); i++)
+        {
+            char c = frame.charAt(i);
+            builder.append(((c == ';') || (c == '\n') || (c == '\r')) ? '_' : c);
+        }
+    }
+}
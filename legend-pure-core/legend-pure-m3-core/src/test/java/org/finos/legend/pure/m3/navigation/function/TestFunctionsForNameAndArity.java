@@ -0,0 +1,98 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.navigation.function;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestFunctionsForNameAndArity extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("test.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testOverloads()
+    {
+        compileTestSource("test.pure",
+                "function test::f(s:String[1]):String[1] { $s }\n" +
+                        "function test::f(i:Integer[1]):String[1] { $i->toString() }\n" +
+                        "function test::f(s:String[1], i:Integer[1]):String[1] { $s + $i->toString() }\n" +
+                        "function test::f(values:Any[*]):String[1] { 'many' }\n" +
+                        "function test::g():String[1] { test::f('a', 2) }\n");
+        assertFunctions(Lists.mutable.empty(), processorSupport.function_getFunctionsForNameAndArity("f", 0));
+        // a to-many parameter is still a single parameter
+        assertFunctions(Lists.mutable.with("f_Any_MANY__String_1_", "f_Integer_1__String_1_", "f_String_1__String_1_"), processorSupport.function_getFunctionsForNameAndArity("f", 1));
+        assertFunctions(Lists.mutable.with("f_String_1__Integer_1__String_1_"), processorSupport.function_getFunctionsForNameAndArity("f", 2));
+        assertFunctions(Lists.mutable.empty(), processorSupport.function_getFunctionsForNameAndArity("f", 3));
+        assertFunctions(Lists.mutable.empty(), processorSupport.function_getFunctionsForNameAndArity("notAFunction", 1));
+    }
+
+    @Test
+    public void testUnknownArity()
+    {
+        compileTestSource("test.pure",
+                "function test::h(s:String[1]):String[1] { $s }\n" +
+                        "function test::h(s:String[1], i:Integer[1]):String[1] { $s + $i->toString() }\n" +
+                        "function test::h(s:String[1], i:Integer[1], b:Boolean[1]):String[1] { $s + $i->toString() }\n");
+        // functions whose arity cannot be computed are candidates for every arity
+        String unknown = "h_String_1__Integer_1__String_1_";
+        IntFunction<CoreInstance> arityFunction = f -> unknown.equals(f.getName()) ? -1 : processorSupport.function_getFunctionType(f).getValueForMetaPropertyToMany(M3Properties.parameters).size();
+        assertFunctions(Lists.mutable.with(unknown), context.getFunctionsForNameAndArity("h", 0, arityFunction));
+        assertFunctions(Lists.mutable.with(unknown, "h_String_1__String_1_"), context.getFunctionsForNameAndArity("h", 1, arityFunction));
+        assertFunctions(Lists.mutable.with(unknown), context.getFunctionsForNameAndArity("h", 2, arityFunction));
+        assertFunctions(Lists.mutable.with("h_String_1__Integer_1__Boolean_1__String_1_", unknown), context.getFunctionsForNameAndArity("h", 3, arityFunction));
+    }
+
+    @Test
+    public void testRecompileChangesArity()
+    {
+        compileTestSource("test.pure",
+                "function test::f(s:String[1]):String[1] { $s }\n" +
+                        "function test::g():String[1] { test::f('a') }\n");
+        assertFunctions(Lists.mutable.with("f_String_1__String_1_"), processorSupport.function_getFunctionsForNameAndArity("f", 1));
+        assertFunctions(Lists.mutable.empty(), processorSupport.function_getFunctionsForNameAndArity("f", 2));
+
+        runtime.modify("test.pure",
+                "function test::f(s:String[1], i:Integer[1]):String[1] { $s + $i->toString() }\n" +
+                        "function test::g():String[1] { test::f('a', 1) }\n");
+        runtime.compile();
+        assertFunctions(Lists.mutable.empty(), processorSupport.function_getFunctionsForNameAndArity("f", 1));
+        assertFunctions(Lists.mutable.with("f_String_1__Integer_1__String_1_"), processorSupport.function_getFunctionsForNameAndArity("f", 2));
+    }
+
+    private void assertFunctions(MutableList<String> expectedNames, RichIterable<? extends CoreInstance> functions)
+    {
+        Assert.assertEquals(expectedNames, functions.collect(CoreInstance::getName, Lists.mutable.empty()).sortThis());
+    }
+}
@@ -0,0 +1,148 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.navigation.type;
+
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestTypeSubTypeOf extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("test.pure");
+        runtime.delete("test2.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testSubTypeOf()
+    {
+        compileTestSource("test.pure",
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n" +
+                        "Class test::C extends test::B {}\n" +
+                        "Class test::D {}\n" +
+                        "Class test::E extends test::C, test::D {}\n");
+        CoreInstance a = runtime.getCoreInstance("test::A");
+        CoreInstance b = runtime.getCoreInstance("test::B");
+        CoreInstance c = runtime.getCoreInstance("test::C");
+        CoreInstance d = runtime.getCoreInstance("test::D");
+        CoreInstance e = runtime.getCoreInstance("test::E");
+        CoreInstance any = runtime.getCoreInstance(M3Paths.Any);
+        CoreInstance nil = runtime.getCoreInstance(M3Paths.Nil);
+
+        for (CoreInstance type : new CoreInstance[]{a, b, c, d, e})
+        {
+            assertSubTypeOf(true, type, type);
+            assertSubTypeOf(true, type, any);
+            assertSubTypeOf(true, nil, type);
+            assertSubTypeOf(false, any, type);
+        }
+        assertSubTypeOf(true, b, a);
+        assertSubTypeOf(true, c, a);
+        assertSubTypeOf(true, e, a);
+        assertSubTypeOf(true, e, d);
+        assertSubTypeOf(false, a, b);
+        assertSubTypeOf(false, c, d);
+        assertSubTypeOf(false, d, a);
+    }
+
+    @Test
+    public void testSubTypeOfAfterHierarchyChange()
+    {
+        compileTestSource("test.pure",
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n" +
+                        "Class test::C {}\n");
+        assertSubTypeOf(true, runtime.getCoreInstance("test::B"), runtime.getCoreInstance("test::A"));
+        assertSubTypeOf(false, runtime.getCoreInstance("test::B"), runtime.getCoreInstance("test::C"));
+
+        runtime.modify("test.pure",
+                "Class test::A {}\n" +
+                        "Class test::B extends test::C {}\n" +
+                        "Class test::C {}\n");
+        runtime.compile();
+        assertSubTypeOf(false, runtime.getCoreInstance("test::B"), runtime.getCoreInstance("test::A"));
+        assertSubTypeOf(true, runtime.getCoreInstance("test::B"), runtime.getCoreInstance("test::C"));
+    }
+
+    @Test
+    public void testSubTypeOfAfterGeneralizationChangeInOtherSource()
+    {
+        compileTestSource("test.pure",
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n" +
+                        "Class test::X {}\n");
+        compileTestSource("test2.pure",
+                "Class test::C extends test::B {}\n" +
+                        "Class test::D extends test::X {}\n");
+        assertSubTypeOf(true, runtime.getCoreInstance("test::C"), runtime.getCoreInstance("test::A"));
+        assertSubTypeOf(false, runtime.getCoreInstance("test::C"), runtime.getCoreInstance("test::X"));
+        assertSubTypeOf(true, runtime.getCoreInstance("test::D"), runtime.getCoreInstance("test::X"));
+
+        // C is not in the modified source, but its generalizations change with those of B
+        runtime.modify("test.pure",
+                "Class test::A {}\n" +
+                        "Class test::B extends test::X {}\n" +
+                        "Class test::X {}\n");
+        runtime.compile();
+        assertSubTypeOf(false, runtime.getCoreInstance("test::C"), runtime.getCoreInstance("test::A"));
+        assertSubTypeOf(true, runtime.getCoreInstance("test::C"), runtime.getCoreInstance("test::X"));
+        assertSubTypeOf(true, runtime.getCoreInstance("test::D"), runtime.getCoreInstance("test::X"));
+        assertSubTypeOf(false, runtime.getCoreInstance("test::D"), runtime.getCoreInstance("test::A"));
+    }
+
+    @Test
+    public void testSubTypeOfAfterTypesRemoved()
+    {
+        compileTestSource("test.pure",
+                "Class test::A {}\n" +
+                        "Class test::B extends test::A {}\n" +
+                        "Class test::C {}\n");
+        assertSubTypeOf(true, runtime.getCoreInstance("test::B"), runtime.getCoreInstance("test::A"));
+        assertSubTypeOf(false, runtime.getCoreInstance("test::C"), runtime.getCoreInstance("test::A"));
+
+        // the types which replace the removed ones may reuse their ids
+        runtime.modify("test.pure",
+                "Class test::C {}\n" +
+                        "Class test::D extends test::C {}\n" +
+                        "Class test::E {}\n");
+        runtime.compile();
+        Assert.assertNull(runtime.getCoreInstance("test::A"));
+        assertSubTypeOf(true, runtime.getCoreInstance("test::D"), runtime.getCoreInstance("test::C"));
+        assertSubTypeOf(false, runtime.getCoreInstance("test::E"), runtime.getCoreInstance("test::C"));
+        assertSubTypeOf(false, runtime.getCoreInstance("test::E"), runtime.getCoreInstance("test::D"));
+        assertSubTypeOf(false, runtime.getCoreInstance("test::D"), runtime.getCoreInstance("test::E"));
+    }
+
+    private void assertSubTypeOf(boolean expected, CoreInstance type, CoreInstance possibleSuperType)
+    {
+        String message = type + " subTypeOf " + possibleSuperType;
+        Assert.assertEquals(message, expected, Type.subTypeOf(type, possibleSuperType, processorSupport));
+        Assert.assertEquals(message, expected, processorSupport.type_subTypeOf(type, possibleSuperType));
+    }
+}
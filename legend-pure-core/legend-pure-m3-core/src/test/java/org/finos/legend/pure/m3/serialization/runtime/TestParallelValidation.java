@@ -0,0 +1,101 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.serialization.runtime;
+
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.tests.PureAssertions;
+import org.finos.legend.pure.m4.exception.PureCompilationException;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+public class TestParallelValidation
+{
+    private static final String SOURCE_ID_1 = "/test/source1.pure";
+    private static final String SOURCE_ID_2 = "/test/source2.pure";
+
+    // More instances than the validation threshold in each source, so that each source is validated in its own partition
+    private static final int CLASS_COUNT = IncrementalCompiler.VALIDATION_THRESHOLD + 50;
+
+    private static ForkJoinPool forkJoinPool;
+    private static PureRuntime runtime;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        forkJoinPool = new ForkJoinPool(4);
+        runtime = new PureRuntimeBuilder(new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository(), GenericCodeRepository.build("test", "test(::.*)?", "platform"))))
+                .withIncrementalCompilerForkJoinPool(forkJoinPool)
+                .build();
+        runtime.loadAndCompileCore();
+    }
+
+    @AfterClass
+    public static void tearDown()
+    {
+        forkJoinPool.shutdown();
+    }
+
+    @Test
+    public void testErrorReachableFromTwoPartitions()
+    {
+        // The conflict in test::Bad (source 2) is found both when validating test::Bad and when validating its
+        // subclass test::Sub (source 1). The function in source 1 also reaches test::Bad, so validating source 1 used
+        // to report either error depending on which thread got to test::Bad first.
+        StringBuilder source1 = new StringBuilder();
+        StringBuilder source2 = new StringBuilder();
+        for (int i = 0; i < CLASS_COUNT; i++)
+        {
+            source1.append("Class test::A").append(i).append(" {}\n");
+            source2.append("Class test::B").append(i).append(" {}\n");
+        }
+        source1.append("function test::usesBad():Any[1]\n")
+                .append("{\n")
+                .append("  test::Bad\n")
+                .append("}\n")
+                .append("Class test::Sub extends test::Bad {}\n");
+        source2.append("Class test::Base\n")
+                .append("{\n")
+                .append("  prop : String[1];\n")
+                .append("}\n")
+                .append("Class test::Bad extends test::Base\n")
+                .append("{\n")
+                .append("  prop : Integer[1];\n")
+                .append("}\n");
+
+        for (int i = 0; i < 5; i++)
+        {
+            try
+            {
+                PureCompilationException e = Assert.assertThrows(PureCompilationException.class, () -> runtime.createInMemoryAndCompile(Tuples.pair(SOURCE_ID_1, source1.toString()), Tuples.pair(SOURCE_ID_2, source2.toString())));
+                PureAssertions.assertPureException(PureCompilationException.class, Pattern.compile("Property conflict on class .*"), SOURCE_ID_1, CLASS_COUNT + 5, 13, e);
+            }
+            finally
+            {
+                runtime.delete(SOURCE_ID_1);
+                runtime.delete(SOURCE_ID_2);
+                runtime.compile();
+            }
+        }
+    }
+}
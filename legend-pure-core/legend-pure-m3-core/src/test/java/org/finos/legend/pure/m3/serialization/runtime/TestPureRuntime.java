@@ -14,7 +14,13 @@
 
 package org.finos.legend.pure.m3.serialization.runtime;
 
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositoryProviderHelper;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
@@ -30,6 +36,10 @@ import org.finos.legend.pure.m4.transaction.framework.ThreadLocalTransactionCont
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class TestPureRuntime
 {
     @Test
@@ -137,6 +147,44 @@ public class TestPureRuntime
         Assert.assertFalse(runtime.compiles("asjkgljasdfjhasgasdsfdgrgrefrewfreswfreawfe"));
     }
 
+    @Test
+    public void testCompilesConcurrently() throws Exception
+    {
+        PureRuntime runtime = new PureRuntimeBuilder(new CompositeCodeStorage(new ClassLoaderCodeStorage(CodeRepositoryProviderHelper.findPlatformCodeRepository(), GenericCodeRepository.build("system", "((meta)|(system)|(apps::pure))(::.*)?", "platform")))).build();
+        runtime.loadAndCompileCore();
+        runtime.createInMemoryAndCompile(AbstractPureTestWithCoreCompiledPlatform.EXTRA);
+        int rootChildCount = runtime.getProcessorSupport().repository_getTopLevel(M3Paths.Root).getValueForMetaPropertyToMany(M3Properties.children).size();
+
+        ListIterable<Pair<String, Boolean>> codeBlocks = Lists.mutable.with(
+                Tuples.pair("1 + 2", true),
+                Tuples.pair("split('the quick brown fox', ' ')", true),
+                Tuples.pair("[1, 2, 3]->map(i | $i + 1)->filter(i | $i > 2)", true),
+                Tuples.pair("1 + 'the quick brown fox'", false),
+                Tuples.pair("'the quick brown", false),
+                Tuples.pair("asjkgljasdfjhasgasdsfdgrgrefrewfreswfreawfe", false));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Future<?>> futures = Lists.mutable.empty();
+            for (int i = 0; i < 24; i++)
+            {
+                Pair<String, Boolean> codeBlock = codeBlocks.get(i % codeBlocks.size());
+                futures.add(executor.submit(() -> Assert.assertEquals(codeBlock.getOne(), codeBlock.getTwo(), runtime.compiles(codeBlock.getOne()))));
+            }
+            for (Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(rootChildCount, runtime.getProcessorSupport().repository_getTopLevel(M3Paths.Root).getValueForMetaPropertyToMany(M3Properties.children).size());
+        Assert.assertTrue(runtime.compiles("1 + 2"));
+    }
+
     @Test
     public void testPartialCompilation()
     {
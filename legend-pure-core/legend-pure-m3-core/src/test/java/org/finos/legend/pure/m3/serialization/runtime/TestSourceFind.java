@@ -50,6 +50,20 @@ public class TestSourceFind
         Assert.assertEquals(Sets.immutable.with(new SourceCoordinates.Preview("The ", "Quick", " Brown Fox"), new SourceCoordinates.Preview("", "QUICK", "")), source.find("quick", false).collect(SourceCoordinates::getPreview).toSet());
     }
 
+    @Test
+    public void testFindWithLineTerminators()
+    {
+        Source source = new Source("testSource.pure", false, false, "the quick\r\nbrown fox\rjumped over\n\r\nthe quick\u2028lazy dog");
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates("testSource.pure", 1, 5, 1, 9), new SourceCoordinates("testSource.pure", 5, 5, 5, 9)), source.find("quick").toSet());
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates("testSource.pure", 6, 1, 6, 4)), source.find("LAZY", false).toSet());
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates("testSource.pure", 3, 1, 3, 6), new SourceCoordinates("testSource.pure", 3, 11, 3, 11)), source.find(Pattern.compile("^j\\w+|r$")).toSet());
+        Assert.assertEquals(Sets.immutable.with(), source.find("quick\r\nbrown").toSet());
+        Assert.assertEquals(Sets.immutable.with(), source.find("\n").toSet());
+
+        // check preview text
+        Assert.assertEquals(Sets.immutable.with(new SourceCoordinates.Preview("brown", " fox", "")), source.find(" fox").collect(SourceCoordinates::getPreview).toSet());
+    }
+
     @Test
     public void testFindEmptyString()
     {
@@ -0,0 +1,144 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tests.elements.function.functionMatching;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.FunctionDefinition;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.FunctionExpression;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiledPlatform;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TestFunctionMatchMemoization extends AbstractPureTestWithCoreCompiledPlatform
+{
+    private static final String CALLER_SOURCE = "caller.pure";
+    private static final String CALLER_CODE = "function test::caller():String[1]\n" +
+            "{\n" +
+            "  test::f(1)\n" +
+            "}\n";
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getExtra());
+    }
+
+    @After
+    public void clearRuntime()
+    {
+        runtime.delete("f_number.pure");
+        runtime.delete("f_integer.pure");
+        runtime.delete("types.pure");
+        runtime.delete("leaf.pure");
+        runtime.delete(CALLER_SOURCE);
+        runtime.compile();
+    }
+
+    @Test
+    public void testMatchesReusedUntilFunctionNameChanges()
+    {
+        AtomicInteger finderCalls = new AtomicInteger();
+        ListIterable<CoreInstance> first = context.getIfAbsentPutFunctionMatches("memoTestFunction", "key", () ->
+        {
+            finderCalls.incrementAndGet();
+            return Lists.immutable.with(processorSupport.package_getByUserPath("meta::pure::functions::lang::if_Boolean_1__Function_1__Function_1__T_m_"));
+        });
+        ListIterable<CoreInstance> second = context.getIfAbsentPutFunctionMatches("memoTestFunction", "key", () ->
+        {
+            finderCalls.incrementAndGet();
+            return Lists.immutable.empty();
+        });
+        Assert.assertEquals(1, finderCalls.get());
+        Assert.assertSame(first, second);
+
+        context.registerFunctionsByName("memoTestFunction", Lists.immutable.with(processorSupport.package_getByUserPath("meta::pure::functions::lang::if_Boolean_1__Function_1__Function_1__T_m_")));
+        ListIterable<CoreInstance> third = context.getIfAbsentPutFunctionMatches("memoTestFunction", "key", () ->
+        {
+            finderCalls.incrementAndGet();
+            return Lists.immutable.empty();
+        });
+        Assert.assertEquals(2, finderCalls.get());
+        Assert.assertEquals(Lists.immutable.empty(), third);
+    }
+
+    @Test
+    public void testMatchesReusedAcrossUnrelatedChanges()
+    {
+        compileTestSource("f_number.pure", "function test::f(n:Number[1]):String[1]\n{\n  'number'\n}\n");
+        compileTestSource("leaf.pure", "function test::leaf():Integer[*]\n{\n  [1, 2]->map(i | $i + 1)\n}\n");
+        compileTestSource(CALLER_SOURCE, CALLER_CODE);
+        Assert.assertEquals("test::f_Number_1__String_1_", getCalledFunctionPath());
+
+        // a code block with a lambda is compiled and rolled back, removing its function types from the context
+        Assert.assertTrue(runtime.compiles("[1, 2]->map(j | $j + 2)"));
+        long searchCount = context.getFunctionMatchSearchCount();
+
+        // edit a leaf function and recompile the caller: the caller's match is reused
+        runtime.modify("leaf.pure", "function test::leaf():Integer[*]\n{\n  [1, 2]->map(k | $k + 3)\n}\n");
+        runtime.modify(CALLER_SOURCE, CALLER_CODE.replace("test::f(1)", "test::f(2)"));
+        runtime.compile();
+        Assert.assertEquals("test::f_Number_1__String_1_", getCalledFunctionPath());
+        Assert.assertEquals(searchCount, context.getFunctionMatchSearchCount());
+    }
+
+    @Test
+    public void testNewOverloadSeenOnRecompile()
+    {
+        compileTestSource("f_number.pure", "function test::f(n:Number[1]):String[1]\n{\n  'number'\n}\n");
+        compileTestSource(CALLER_SOURCE, CALLER_CODE);
+        Assert.assertEquals("test::f_Number_1__String_1_", getCalledFunctionPath());
+
+        compileTestSource("f_integer.pure", "function test::f(i:Integer[1]):String[1]\n{\n  'integer'\n}\n");
+        runtime.modify(CALLER_SOURCE, CALLER_CODE.replace("test::f(1)", "test::f(2)"));
+        runtime.compile();
+        Assert.assertEquals("test::f_Integer_1__String_1_", getCalledFunctionPath());
+
+        runtime.delete("f_integer.pure");
+        runtime.modify(CALLER_SOURCE, CALLER_CODE);
+        runtime.compile();
+        Assert.assertEquals("test::f_Number_1__String_1_", getCalledFunctionPath());
+    }
+
+    @Test
+    public void testGeneralizationChangeSeenOnRecompile()
+    {
+        compileTestSource("types.pure", "Class test::A {}\nClass test::B {}\n" +
+                "function test::g(a:test::A[1]):String[1]\n{\n  'A'\n}\n" +
+                "function test::g(a:Any[1]):String[1]\n{\n  'Any'\n}\n");
+        String callerCode = "function test::caller():String[1]\n{\n  test::g(^test::B())\n}\n";
+        compileTestSource(CALLER_SOURCE, callerCode);
+        Assert.assertEquals("test::g_Any_1__String_1_", getCalledFunctionPath());
+
+        runtime.modify("types.pure", "Class test::A {}\nClass test::B extends test::A {}\n" +
+                "function test::g(a:test::A[1]):String[1]\n{\n  'A'\n}\n" +
+                "function test::g(a:Any[1]):String[1]\n{\n  'Any'\n}\n");
+        runtime.compile();
+        Assert.assertEquals("test::g_A_1__String_1_", getCalledFunctionPath());
+    }
+
+    private String getCalledFunctionPath()
+    {
+        FunctionDefinition<?> caller = (FunctionDefinition<?>) runtime.getFunction("test::caller():String[1]");
+        FunctionExpression expression = (FunctionExpression) caller._expressionSequence().getFirst();
+        return PackageableElement.getUserPathForPackageableElement(expression._func());
+    }
+}
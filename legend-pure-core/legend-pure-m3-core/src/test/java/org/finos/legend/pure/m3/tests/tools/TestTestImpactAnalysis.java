@@ -0,0 +1,140 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tests.tools;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.execution.test.TestImpactAnalysis;
+import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiledPlatform;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestTestImpactAnalysis extends AbstractPureTestWithCoreCompiledPlatform
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getExtra());
+    }
+
+    @Before
+    public void compileSources()
+    {
+        compileTestSource("model.pure",
+                "Class x::model::A\n" +
+                        "{\n" +
+                        "  name : String[1];\n" +
+                        "}\n" +
+                        "\n" +
+                        "Class x::model::B extends x::model::A\n" +
+                        "{\n" +
+                        "}\n" +
+                        "\n" +
+                        "Class x::model::C\n" +
+                        "{\n" +
+                        "  id : Integer[1];\n" +
+                        "}\n");
+        compileTestSource("helper.pure",
+                "function x::helper::getName(a:x::model::A[1]):String[1]\n" +
+                        "{\n" +
+                        "  $a.name\n" +
+                        "}\n");
+        compileTestSource("tests.pure",
+                "function <<test.Test>> x::tests::testGetName():Boolean[1]\n" +
+                        "{\n" +
+                        "  x::helper::getName(^x::model::A(name='a')) == 'a'\n" +
+                        "}\n" +
+                        "\n" +
+                        "function <<test.Test>> x::tests::testB():Boolean[1]\n" +
+                        "{\n" +
+                        "  ^x::model::B(name='b').name == 'b'\n" +
+                        "}\n" +
+                        "\n" +
+                        "function <<test.Test>> x::tests::testC():Boolean[1]\n" +
+                        "{\n" +
+                        "  ^x::model::C(id=1).id == 1\n" +
+                        "}\n" +
+                        "\n" +
+                        "function <<test.BeforePackage>> x::tests::fixture::setUp():Boolean[1]\n" +
+                        "{\n" +
+                        "  x::helper::getName(^x::model::A(name='s')) == 's'\n" +
+                        "}\n" +
+                        "\n" +
+                        "function <<test.Test>> x::tests::fixture::sub::testWithFixture():Boolean[1]\n" +
+                        "{\n" +
+                        "  true\n" +
+                        "}\n");
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("tests.pure");
+        runtime.delete("helper.pure");
+        runtime.delete("model.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testAffectedByFunction()
+    {
+        assertAffectedTests(Sets.mutable.with("x::tests::testGetName__Boolean_1_", "x::tests::fixture::sub::testWithFixture__Boolean_1_"), "x::helper::getName_A_1__String_1_");
+    }
+
+    @Test
+    public void testAffectedByClass()
+    {
+        assertAffectedTests(Sets.mutable.with("x::tests::testGetName__Boolean_1_", "x::tests::testB__Boolean_1_", "x::tests::fixture::sub::testWithFixture__Boolean_1_"), "x::model::A");
+        assertAffectedTests(Sets.mutable.with("x::tests::testB__Boolean_1_"), "x::model::B");
+        assertAffectedTests(Sets.mutable.with("x::tests::testC__Boolean_1_"), "x::model::C");
+    }
+
+    @Test
+    public void testAffectedByTest()
+    {
+        assertAffectedTests(Sets.mutable.with("x::tests::testC__Boolean_1_"), "x::tests::testC__Boolean_1_");
+    }
+
+    @Test
+    public void testAffectedBySourceChange()
+    {
+        runtime.modify("helper.pure",
+                "function x::helper::getName(a:x::model::A[1]):String[1]\n" +
+                        "{\n" +
+                        "  $a.name + ''\n" +
+                        "}\n");
+        runtime.compile();
+
+        TestImpactAnalysis analysis = new TestImpactAnalysis(processorSupport);
+        SetIterable<CoreInstance> affectedTests = analysis.getAffectedTestsForSources(Lists.immutable.with(runtime.getSourceById("helper.pure")));
+        Assert.assertEquals(
+                Sets.mutable.with("x::tests::testGetName__Boolean_1_", "x::tests::fixture::sub::testWithFixture__Boolean_1_"),
+                affectedTests.collect(PackageableElement::getUserPathForPackageableElement, Sets.mutable.empty()));
+    }
+
+    private void assertAffectedTests(SetIterable<String> expected, String changedElementPath)
+    {
+        CoreInstance changedElement = runtime.getCoreInstance(changedElementPath);
+        Assert.assertNotNull(changedElementPath, changedElement);
+        SetIterable<CoreInstance> affectedTests = new TestImpactAnalysis(processorSupport).getAffectedTests(Lists.immutable.with(changedElement));
+        Assert.assertEquals(changedElementPath, expected, affectedTests.collect(PackageableElement::getUserPathForPackageableElement, Sets.mutable.empty()));
+    }
+}
@@ -0,0 +1,214 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.m3.tools.metrics;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.serialization.runtime.RuntimeOptions;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class TestPureMetrics
+{
+    @Test
+    public void testTimersAndCounters()
+    {
+        InMemoryMetricsExporter exporter = new InMemoryMetricsExporter();
+        PureMetrics metrics = new PureMetrics(exporter);
+        Assert.assertTrue(metrics.isEnabled());
+        Assert.assertNull(exporter.getLastSnapshot());
+
+        PureTimer timer = metrics.timer("test.timer");
+        Assert.assertSame(timer, metrics.timer("test.timer"));
+        timer.record(100L);
+        timer.record(300L);
+        timer.stop(timer.start());
+        try (PureMetrics.Phase ignored = metrics.startPhase("test.phase"))
+        {
+            metrics.counter("test.counter").increment();
+        }
+        metrics.counter("test.counter").add(4);
+        PureMetrics.CacheCounters cacheCounters = metrics.cacheCounters("test");
+        cacheCounters.record(true);
+        cacheCounters.record(true);
+        cacheCounters.record(true);
+        cacheCounters.record(false);
+        metrics.export();
+
+        MetricsSnapshot snapshot = exporter.getLastSnapshot();
+        Assert.assertNotNull(snapshot);
+        MetricsSnapshot.TimerValue timerValue = snapshot.getTimer("test.timer");
+        Assert.assertEquals(3, timerValue.getCount());
+        Assert.assertTrue(timerValue.getTotalNanos() >= 400L);
+        Assert.assertTrue(timerValue.getMaxNanos() >= 300L);
+        Assert.assertEquals(1, snapshot.getTimer("test.phase").getCount());
+        Assert.assertEquals(5, snapshot.getCounter("test.counter"));
+        Assert.assertEquals(0, snapshot.getCounter("test.unknown"));
+        Assert.assertEquals(0.75, snapshot.getCacheHitRate("test"), 0.0);
+        Assert.assertEquals(-1.0, snapshot.getCacheHitRate("unknown"), 0.0);
+
+        // snapshots are not affected by later updates
+        timer.record(1L);
+        Assert.assertEquals(3, snapshot.getTimer("test.timer").getCount());
+        Assert.assertEquals(4, metrics.snapshot().getTimer("test.timer").getCount());
+
+        // reset in place: timers and counters which are held on to are still registered
+        metrics.reset();
+        Assert.assertEquals(0, metrics.snapshot().getTimer("test.timer").getCount());
+        Assert.assertEquals(0, metrics.snapshot().getCounter("test.counter"));
+        Assert.assertEquals(0, metrics.snapshot().getCounter("cache.test.hit"));
+        timer.record(1L);
+        cacheCounters.record(true);
+        Assert.assertEquals(1, metrics.snapshot().getTimer("test.timer").getCount());
+        Assert.assertEquals(1.0, metrics.snapshot().getCacheHitRate("test"), 0.0);
+    }
+
+    @Test
+    public void testNoMetrics()
+    {
+        PureMetrics metrics = PureMetrics.NO_METRICS;
+        Assert.assertFalse(metrics.isEnabled());
+        metrics.timer("test.timer").record(100L);
+        metrics.counter("test.counter").increment();
+        metrics.cacheCounters("test").record(true);
+        try (PureMetrics.Phase ignored = metrics.startPhase("test.phase"))
+        {
+            metrics.timer("test.timer").stop(metrics.timer("test.timer").start());
+        }
+        MetricsSnapshot snapshot = metrics.snapshot();
+        Assert.assertTrue(snapshot.getTimers().isEmpty());
+        Assert.assertTrue(snapshot.getCounters().isEmpty());
+    }
+
+    @Test
+    public void testJsonLogExport() throws Exception
+    {
+        StringBuilder builder = new StringBuilder();
+        PureMetrics metrics = new PureMetrics(new JsonLogMetricsExporter(builder::append));
+        metrics.timer("test.timer").record(1000L);
+        metrics.counter("test.counter").add(2);
+        metrics.export();
+
+        JSONObject json = (JSONObject) new JSONParser().parse(builder.toString());
+        JSONObject timer = (JSONObject) ((JSONObject) json.get("timers")).get("test.timer");
+        Assert.assertEquals(1L, timer.get("count"));
+        Assert.assertEquals(1000L, timer.get("totalNanos"));
+        Assert.assertEquals(1000L, timer.get("maxNanos"));
+        Assert.assertEquals(2L, ((JSONObject) json.get("counters")).get("test.counter"));
+    }
+
+    @Test
+    public void testPrometheusExport()
+    {
+        CollectorRegistry registry = new CollectorRegistry();
+        PrometheusMetricsExporter exporter = new PrometheusMetricsExporter(registry);
+        PureMetrics metrics = new PureMetrics(exporter);
+        String[] labelNames = {"name"};
+        String[] labelValues = {"test.counter"};
+        Assert.assertNull(registry.getSampleValue("pure_counter_total", labelNames, labelValues));
+
+        // values recorded after the last export are read on each scrape
+        metrics.export();
+        metrics.counter("test.counter").add(3);
+        metrics.timer("test.timer").record(2_000_000_000L);
+        Assert.assertEquals(3.0, registry.getSampleValue("pure_counter_total", labelNames, labelValues), 0.0);
+        Assert.assertEquals(1.0, registry.getSampleValue("pure_timer_seconds_count", labelNames, new String[]{"test.timer"}), 0.0);
+        Assert.assertEquals(2.0, registry.getSampleValue("pure_timer_seconds_max", labelNames, new String[]{"test.timer"}), 0.0);
+
+        metrics.counter("test.counter").increment();
+        Assert.assertEquals(4.0, registry.getSampleValue("pure_counter_total", labelNames, labelValues), 0.0);
+
+        MutableMap<String, Collector.Type> familyTypes = Maps.mutable.empty();
+        Collections.list(registry.metricFamilySamples()).forEach(family -> familyTypes.put(family.name, family.type));
+        Assert.assertEquals(Collector.Type.SUMMARY, familyTypes.get("pure_timer_seconds"));
+        Assert.assertEquals(Collector.Type.GAUGE, familyTypes.get("pure_timer_seconds_max"));
+    }
+
+    @Test
+    public void testPrometheusExportMergesAttachedMetrics()
+    {
+        CollectorRegistry registry = new CollectorRegistry();
+        PrometheusMetricsExporter exporter = new PrometheusMetricsExporter(registry);
+        PureMetrics metrics1 = new PureMetrics(exporter);
+        PureMetrics metrics2 = new PureMetrics(exporter);
+        String[] labelNames = {"name"};
+        String[] counterLabelValues = {"test.counter"};
+        String[] timerLabelValues = {"test.timer"};
+
+        metrics1.counter("test.counter").add(3);
+        metrics2.counter("test.counter").add(4);
+        metrics2.counter("test.other").increment();
+        metrics1.timer("test.timer").record(1_000_000_000L);
+        metrics2.timer("test.timer").record(3_000_000_000L);
+        Assert.assertEquals(7.0, registry.getSampleValue("pure_counter_total", labelNames, counterLabelValues), 0.0);
+        Assert.assertEquals(1.0, registry.getSampleValue("pure_counter_total", labelNames, new String[]{"test.other"}), 0.0);
+        Assert.assertEquals(2.0, registry.getSampleValue("pure_timer_seconds_count", labelNames, timerLabelValues), 0.0);
+        Assert.assertEquals(4.0, registry.getSampleValue("pure_timer_seconds_sum", labelNames, timerLabelValues), 0.0);
+        Assert.assertEquals(3.0, registry.getSampleValue("pure_timer_seconds_max", labelNames, timerLabelValues), 0.0);
+
+        exporter.detach(metrics2);
+        Assert.assertEquals(3.0, registry.getSampleValue("pure_counter_total", labelNames, counterLabelValues), 0.0);
+        Assert.assertNull(registry.getSampleValue("pure_counter_total", labelNames, new String[]{"test.other"}));
+        Assert.assertEquals(1.0, registry.getSampleValue("pure_timer_seconds_max", labelNames, timerLabelValues), 0.0);
+    }
+
+    @Test
+    public void testScheduledExport() throws Exception
+    {
+        CountDownLatch exports = new CountDownLatch(2);
+        PureMetrics metrics = new PureMetrics(snapshot -> exports.countDown());
+        metrics.counter("test.counter").increment();
+        metrics.scheduleExport(10, TimeUnit.MILLISECONDS);
+        try
+        {
+            Assert.assertTrue(exports.await(10, TimeUnit.SECONDS));
+        }
+        finally
+        {
+            metrics.stopScheduledExport();
+        }
+
+        // without a schedule, nothing is exported until export() is called
+        InMemoryMetricsExporter exporter = new InMemoryMetricsExporter();
+        PureMetrics unscheduled = new PureMetrics(exporter);
+        unscheduled.counter("test.counter").increment();
+        Assert.assertNull(exporter.getLastSnapshot());
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> unscheduled.scheduleExport(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFromOptions()
+    {
+        Assert.assertSame(PureMetrics.NO_METRICS, PureMetrics.fromOptions(RuntimeOptions.noOptionsSet()));
+
+        MutableMap<String, Boolean> options = Maps.mutable.with(PureMetrics.METRICS_OPTION, true);
+        PureMetrics metrics = PureMetrics.fromOptions(name -> options.getIfAbsentValue(name, false));
+        Assert.assertTrue(metrics.isEnabled());
+        Assert.assertEquals(1, metrics.getExporters().size());
+        Assert.assertTrue(metrics.getExporters().get(0) instanceof InMemoryMetricsExporter);
+
+        options.put(PureMetrics.JSON_LOG_METRICS_OPTION, true);
+        Assert.assertEquals(2, PureMetrics.fromOptions(name -> options.getIfAbsentValue(name, false)).getExporters().size());
+    }
+}
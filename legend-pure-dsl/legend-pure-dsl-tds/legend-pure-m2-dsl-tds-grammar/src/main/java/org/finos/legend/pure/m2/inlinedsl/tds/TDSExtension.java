@@ -48,6 +48,7 @@ import org.finos.legend.pure.m3.tools.matcher.MatchRunner;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
+import org.finos.legend.pure.m4.serialization.grammar.antlr.PureParserException;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
@@ -128,14 +129,17 @@ public class TDSExtension implements InlineDSL
 
     public static TDS<?> parse(String text, SourceInformation sourceInfo, ProcessorSupport processorSupport)
     {
-        CsvReader.Result result;
-        try
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        // The column values are only needed to infer untyped columns: if every column is explicitly typed, the header is enough
+        CsvReader.Result result = readCsv(makePureCsvSpecsBuilder().numRows(0).build(), bytes);
+        if (ArrayIterate.allSatisfy(result.columns(), c -> c.name().indexOf(':') != -1))
         {
-            result = CsvReader.read(makePureCsvSpecs(), new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), makePureSinkFactory());
+            // the rows are not read, so check their shape here rather than letting malformed rows fail at execution
+            validateRowShapes(text, result.columns().length, sourceInfo);
         }
-        catch (CsvReaderException e)
+        else
         {
-            throw new RuntimeException(e);
+            result = readCsv(makePureCsvSpecs(), bytes);
         }
 
         Class<?> tdsType = (Class<?>) processorSupport.package_getByUserPath(M2TDSPaths.TDS);
@@ -154,6 +158,82 @@ public class TDSExtension implements InlineDSL
                 ._csv(text.replace("\r\n", "\n"));
     }
 
+    private static void validateRowShapes(String text, int columnCount, SourceInformation sourceInfo)
+    {
+        int length = text.length();
+        int row = 0;
+        int valueCount = 1;
+        boolean blank = true;
+        boolean valueStart = true;
+        // the end of the text is treated as a final line break
+        for (int i = 0; i <= length; i++)
+        {
+            char c = (i == length) ? '\n' : text.charAt(i);
+            if ((c == '\n') || (c == '\r'))
+            {
+                if ((row > 0) && !blank && (valueCount != columnCount))
+                {
+                    throw new PureParserException(sourceInfo, "Malformed TDS: row " + row + " has " + valueCount + " value(s), but the header has " + columnCount + " column(s)");
+                }
+                if ((c == '\r') && (i + 1 < length) && (text.charAt(i + 1) == '\n'))
+                {
+                    i++;
+                }
+                row++;
+                valueCount = 1;
+                blank = true;
+                valueStart = true;
+            }
+            else if (c == ',')
+            {
+                valueCount++;
+                blank = false;
+                valueStart = true;
+            }
+            else if (!Character.isWhitespace(c))
+            {
+                if ((c == '"') && valueStart)
+                {
+                    i = findClosingQuote(text, i);
+                }
+                blank = false;
+                valueStart = false;
+            }
+        }
+    }
+
+    private static int findClosingQuote(String text, int openingQuote)
+    {
+        // a quoted value may contain delimiters, line breaks, and doubled quotes
+        int length = text.length();
+        int i = openingQuote + 1;
+        while (i < length)
+        {
+            if (text.charAt(i) == '"')
+            {
+                if ((i + 1 == length) || (text.charAt(i + 1) != '"'))
+                {
+                    return i;
+                }
+                i++;
+            }
+            i++;
+        }
+        return length - 1;
+    }
+
+    private static CsvReader.Result readCsv(CsvSpecs specs, byte[] bytes)
+    {
+        try
+        {
+            return CsvReader.read(specs, new ByteArrayInputStream(bytes), makePureSinkFactory());
+        }
+        catch (CsvReaderException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static Pair<String, String> getNameAndType(CsvReader.ResultColumn c)
     {
         String name;
@@ -234,7 +314,12 @@ public class TDSExtension implements InlineDSL
 
     public static CsvSpecs makePureCsvSpecs()
     {
-        return CsvSpecs.builder().nullValueLiterals(Arrays.asList("", "null")).build();
+        return makePureCsvSpecsBuilder().build();
+    }
+
+    private static CsvSpecs.Builder makePureCsvSpecsBuilder()
+    {
+        return CsvSpecs.builder().nullValueLiterals(Arrays.asList("", "null"));
     }
 
     public static SinkFactory makePureSinkFactory()
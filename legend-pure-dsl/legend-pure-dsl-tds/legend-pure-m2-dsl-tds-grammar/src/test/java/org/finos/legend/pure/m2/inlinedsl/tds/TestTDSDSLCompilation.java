@@ -14,11 +14,14 @@
 
 package org.finos.legend.pure.m2.inlinedsl.tds;
 
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.list.ListIterable;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.ConcreteFunctionDefinition;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.RelationType;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.relation.TDS;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.InstanceValue;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification;
+import org.finos.legend.pure.m3.navigation.relation._Column;
 import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
 import org.finos.legend.pure.m3.tools.ListHelper;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
@@ -90,6 +93,35 @@ public class TestTDSDSLCompilation extends AbstractPureTestWithCoreCompiled
         runtime.compile();
     }
 
+    @Test
+    public void testParseWithAllColumnsExplicitlyTyped()
+    {
+        TDS<?> tds = TDSExtension.parse("id:Integer, name:String, score:Float\n1, A, 1.5\n2, B, 2.5", (String) null, runtime.getProcessorSupport());
+        RelationType<?> relationType = (RelationType<?>) tds._classifierGenericType()._typeArguments().getOnly()._rawType();
+        Assert.assertEquals(
+                Lists.mutable.with("id:Integer", "name:String", "score:Float"),
+                relationType._columns().collect(c -> c._name() + ":" + _Column.getColumnType(c)._rawType().getName(), Lists.mutable.empty()));
+        Assert.assertEquals("id:Integer, name:String, score:Float\n1, A, 1.5\n2, B, 2.5", tds._csv());
+    }
+
+    @Test
+    public void testParseWithAllColumnsExplicitlyTypedMalformedRows()
+    {
+        PureParserException tooMany = Assert.assertThrows(PureParserException.class, () -> TDSExtension.parse("id:Integer, name:String\n1, A\n2, B, C\n3, D", (String) null, runtime.getProcessorSupport()));
+        Assert.assertEquals("Malformed TDS: row 2 has 3 value(s), but the header has 2 column(s)", tooMany.getInfo());
+
+        PureParserException tooFew = Assert.assertThrows(PureParserException.class, () -> TDSExtension.parse("id:Integer, name:String\r\n1, A\r\n2", (String) null, runtime.getProcessorSupport()));
+        Assert.assertEquals("Malformed TDS: row 2 has 1 value(s), but the header has 2 column(s)", tooFew.getInfo());
+    }
+
+    @Test
+    public void testParseWithAllColumnsExplicitlyTypedQuotedValues()
+    {
+        String csv = "id:Integer, name:String\n1, \"Smith, John\"\n2, \"say \"\"hi, there\"\"\"\n3, \"two\nlines, here\"\n\n4, ";
+        TDS<?> tds = TDSExtension.parse(csv, (String) null, runtime.getProcessorSupport());
+        Assert.assertEquals(csv, tds._csv());
+    }
+
     @Test
     public void testSimpleDeclarationApplyFunction()
     {
@@ -82,6 +82,12 @@ public class PureCompiledJarMojo extends AbstractMojo
     @Parameter(defaultValue = "true")
     private boolean generatePureTests;
 
+    @Parameter(defaultValue = "1")
+    private int parallelism;
+
+    @Parameter(defaultValue = "false")
+    private boolean incremental;
+
     @Override
     public void execute() throws MojoExecutionException
     {
@@ -123,7 +129,7 @@ public class PureCompiledJarMojo extends AbstractMojo
         try
         {
             Thread.currentThread().setContextClassLoader(buildClassLoader(this.project, savedClassLoader, log));
-            JavaCodeGeneration.doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, false, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, log);
+            JavaCodeGeneration.doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, false, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, parallelism, incremental, log);
         }
         catch (Exception e)
         {
@@ -14,14 +14,23 @@
 
 package org.finos.legend.pure.runtime.java.compiled.compiler;
 
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectIntMap;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.factory.primitive.ObjectIntMaps;
 import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.Log;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.JavaCompilerEventObserver;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompilerEventObserver;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
 public class Compile
 {
     private final JavaCompilerEventObserver observer;
@@ -47,18 +56,66 @@ public class Compile
         }
     }
 
-    public void compile(String compileGroup, Iterable<? extends StringJavaSource> javaSources, Log log) throws PureJavaCompileException
+    /**
+     * Compile Java sources group by group, compiling groups which do not depend on each other concurrently. Groups
+     * must be given in dependency order, and groupDependencies must return all the groups (transitively) visible to a
+     * group. Groups are compiled in waves: each wave holds the groups whose dependencies were all compiled in earlier
+     * waves.
+     *
+     * @param javaSourcesByCompileGroup Java sources by compile group, in dependency order
+     * @param groupDependencies         function from a group to all the groups it depends on
+     * @param forkJoinPool              pool to compile groups with
+     * @param log                       log
+     * @throws PureJavaCompileException if a group cannot be compiled
+     */
+    public void compileJavaCodeForSources(Iterable<? extends Pair<? extends String, ? extends Iterable<? extends StringJavaSource>>> javaSourcesByCompileGroup, Function<? super String, ? extends SetIterable<String>> groupDependencies, ForkJoinPool forkJoinPool, Log log) throws PureJavaCompileException
     {
-        this.observer.startCompilingJavaFiles(compileGroup);
-        MutableMap<String, StringJavaSource> javaSourcesByName = Maps.mutable.empty();
-        javaSources.forEach(javaSource ->
+        MutableObjectIntMap<String> waveByGroup = ObjectIntMaps.mutable.empty();
+        MutableList<MutableList<Pair<? extends String, ? extends Iterable<? extends StringJavaSource>>>> waves = Lists.mutable.empty();
+        for (Pair<? extends String, ? extends Iterable<? extends StringJavaSource>> javaSources : javaSourcesByCompileGroup)
         {
-            StringJavaSource oldSource = javaSourcesByName.put(javaSource.getName(), javaSource);
-            if ((oldSource != null) && !oldSource.getCode().equals(javaSource.getCode()))
+            String compileGroup = javaSources.getOne();
+            int wave = 0;
+            for (String dependency : groupDependencies.apply(compileGroup))
             {
-                throw new RuntimeException("Java source " + javaSource.getName() + " defined more than once with different code.\n\nSOURCE 1:\n" + oldSource.getCode() + "\n\n\n==================\nSOURCE 2:\n" + javaSource.getCode());
+                if (!compileGroup.equals(dependency) && waveByGroup.containsKey(dependency))
+                {
+                    wave = Math.max(wave, waveByGroup.get(dependency) + 1);
+                }
             }
-        });
+            waveByGroup.put(compileGroup, wave);
+            if (wave == waves.size())
+            {
+                waves.add(Lists.mutable.empty());
+            }
+            waves.get(wave).add(javaSources);
+        }
+
+        for (MutableList<Pair<? extends String, ? extends Iterable<? extends StringJavaSource>>> wave : waves)
+        {
+            if (wave.size() == 1)
+            {
+                log.debug("    Compiling group " + wave.get(0).getOne());
+                compile(wave.get(0).getOne(), wave.get(0).getTwo(), log);
+            }
+            else
+            {
+                log.debug(wave.collect(Pair::getOne).makeString("    Compiling groups ", ", ", " concurrently"));
+                wave.forEach(javaSources -> this.observer.startCompilingJavaFiles(javaSources.getOne()));
+                MutableList<RichIterable<StringJavaSource>> batches = wave.collect(javaSources -> getJavaSourcesByName(javaSources.getTwo()).valuesView());
+                long start = System.currentTimeMillis();
+                log.debug("      compiling " + batches.sumOfInt(RichIterable::size) + " sources");
+                this.pureJavaCompiler.compile(batches.select(RichIterable::notEmpty), forkJoinPool);
+                log.debug("      finished in " + ((float) (System.currentTimeMillis() - start) / 1000) + "s");
+                wave.forEach(javaSources -> this.observer.endCompilingJavaFiles(javaSources.getOne()));
+            }
+        }
+    }
+
+    public void compile(String compileGroup, Iterable<? extends StringJavaSource> javaSources, Log log) throws PureJavaCompileException
+    {
+        this.observer.startCompilingJavaFiles(compileGroup);
+        MutableMap<String, StringJavaSource> javaSourcesByName = getJavaSourcesByName(javaSources);
         long start = System.currentTimeMillis();
         log.debug("      compiling " + javaSourcesByName.valuesView().size() + " sources");
         if (javaSourcesByName.notEmpty())
@@ -69,6 +126,20 @@ public class Compile
         this.observer.endCompilingJavaFiles(compileGroup);
     }
 
+    private static MutableMap<String, StringJavaSource> getJavaSourcesByName(Iterable<? extends StringJavaSource> javaSources)
+    {
+        MutableMap<String, StringJavaSource> javaSourcesByName = Maps.mutable.empty();
+        javaSources.forEach(javaSource ->
+        {
+            StringJavaSource oldSource = javaSourcesByName.put(javaSource.getName(), javaSource);
+            if ((oldSource != null) && !oldSource.getCode().equals(javaSource.getCode()))
+            {
+                throw new RuntimeException("Java source " + javaSource.getName() + " defined more than once with different code.\n\nSOURCE 1:\n" + oldSource.getCode() + "\n\n\n==================\nSOURCE 2:\n" + javaSource.getCode());
+            }
+        });
+        return javaSourcesByName;
+    }
+
     public void compileExternalizableAPI(ListIterable<? extends StringJavaSource> externalizableSources) throws PureJavaCompileException
     {
         this.pureJavaCompiler.compile(externalizableSources);
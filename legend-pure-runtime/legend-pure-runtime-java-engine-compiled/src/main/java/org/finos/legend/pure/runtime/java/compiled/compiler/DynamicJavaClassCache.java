@@ -0,0 +1,298 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.compiler;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ImmutableList;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of classes compiled dynamically at execution time (e.g., for dynamically built lambdas and dynamically
+ * evaluated value specifications). Classes are keyed by the file manager and class loader they are compiled against
+ * and by their generated source, so compiling the same source again against the same file manager and class loader is
+ * just a lookup.
+ * <p>
+ * Classes are held by soft references, and at most {@link #getMaximumSize()} classes are kept per file manager and
+ * class loader. The maximum size of the global cache can be set with the system property
+ * {@value #MAXIMUM_SIZE_PROPERTY}; a maximum size of 0 disables caching.
+ * <p>
+ * Cached classes are loaded by children of the class loader they are compiled against, so they keep that class loader
+ * reachable. The classes for a file manager and class loader are therefore dropped once they have not been used for
+ * {@value #CONTEXT_EXPIRY_MINUTES} minutes, or when classes for more than {@value #MAXIMUM_CONTEXT_COUNT} other file
+ * managers and class loaders are cached, rather than when the class loader is collected.
+ * <p>
+ * Classes missing from the cache may also be looked up in a {@link PersistentJavaClassCache} before they are compiled,
+ * so that warm restarts can skip compilation.
+ */
+public class DynamicJavaClassCache
+{
+    public static final String MAXIMUM_SIZE_PROPERTY = "pure.dynamicJavaClassCache.maximumSize";
+    public static final long DEFAULT_MAXIMUM_SIZE = 1024L;
+
+    private static final int MAXIMUM_CONTEXT_COUNT = 32;
+    private static final long CONTEXT_EXPIRY_MINUTES = 10L;
+
+    private static final DynamicJavaClassCache GLOBAL = new DynamicJavaClassCache(Long.getLong(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE), PersistentJavaClassCache.fromSystemProperties());
+
+    private final long maximumSize;
+    private final PersistentJavaClassCache persistentCache;
+    private final Cache<CompilationContext, Cache<String, Class<?>>> cachesByContext = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CONTEXT_COUNT)
+            .expireAfterAccess(CONTEXT_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder compileTimeNanos = new LongAdder();
+
+    public DynamicJavaClassCache(long maximumSize, PersistentJavaClassCache persistentCache)
+    {
+        if (maximumSize < 0)
+        {
+            throw new IllegalArgumentException("maximumSize may not be negative: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.persistentCache = persistentCache;
+    }
+
+    public DynamicJavaClassCache(long maximumSize)
+    {
+        this(maximumSize, null);
+    }
+
+    /**
+     * Get the class with the given package and name compiled from the given code against the given file manager and
+     * class loader, compiling and loading it only if it is not already cached.
+     *
+     * @param packageName       package name
+     * @param name              simple class name
+     * @param code              Java source code
+     * @param parentFileManager file manager for classes the code may reference (may be null)
+     * @param parentClassLoader class loader for classes the code may reference
+     * @return compiled class
+     * @throws PureJavaCompileException if the code does not compile
+     * @throws ClassNotFoundException   if the class cannot be loaded after compilation
+     */
+    public Class<?> getOrCompile(String packageName, String name, String code, MemoryFileManager parentFileManager, ClassLoader parentClassLoader) throws PureJavaCompileException, ClassNotFoundException
+    {
+        if (this.maximumSize == 0L)
+        {
+            this.missCount.increment();
+            return compile(packageName, name, code, parentFileManager, parentClassLoader);
+        }
+
+        Cache<String, Class<?>> cache;
+        try
+        {
+            cache = this.cachesByContext.get(new CompilationContext(parentFileManager, parentClassLoader), this::newContextCache);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e.getCause());
+        }
+
+        String key = packageName + '.' + name + '\n' + code;
+        Class<?> cls = cache.getIfPresent(key);
+        if (cls != null)
+        {
+            this.hitCount.increment();
+            return cls;
+        }
+
+        try
+        {
+            return cache.get(key, () ->
+            {
+                this.missCount.increment();
+                return compile(packageName, name, code, parentFileManager, parentClassLoader);
+            });
+        }
+        catch (ExecutionException | UncheckedExecutionException | ExecutionError e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof PureJavaCompileException)
+            {
+                throw (PureJavaCompileException) cause;
+            }
+            if (cause instanceof ClassNotFoundException)
+            {
+                throw (ClassNotFoundException) cause;
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    public void clear()
+    {
+        this.cachesByContext.invalidateAll();
+    }
+
+    public long getMaximumSize()
+    {
+        return this.maximumSize;
+    }
+
+    /**
+     * Get the on-disk cache consulted before compiling, if any.
+     *
+     * @return persistent cache or null
+     */
+    public PersistentJavaClassCache getPersistentCache()
+    {
+        return this.persistentCache;
+    }
+
+    public long getSize()
+    {
+        return this.cachesByContext.asMap().values().stream().mapToLong(Cache::size).sum();
+    }
+
+    public long getHitCount()
+    {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount()
+    {
+        return this.missCount.sum();
+    }
+
+    public long getEvictionCount()
+    {
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * Total time spent compiling and loading classes on cache misses, in nanoseconds.
+     *
+     * @return total compile time in nanoseconds
+     */
+    public long getCompileTimeNanos()
+    {
+        return this.compileTimeNanos.sum();
+    }
+
+    private Cache<String, Class<?>> newContextCache()
+    {
+        return CacheBuilder.newBuilder()
+                .softValues()
+                .maximumSize(this.maximumSize)
+                .<String, Class<?>>removalListener(n ->
+                {
+                    if (n.wasEvicted())
+                    {
+                        this.evictionCount.increment();
+                    }
+                })
+                .build();
+    }
+
+    private Class<?> compile(String packageName, String name, String code, MemoryFileManager parentFileManager, ClassLoader parentClassLoader) throws PureJavaCompileException, ClassNotFoundException
+    {
+        long start = System.nanoTime();
+        try
+        {
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            ImmutableList<StringJavaSource> sources = Lists.immutable.with(StringJavaSource.newStringJavaSource(packageName, name, code));
+            String persistentKey = (this.persistentCache == null) ? null : computePersistentKey(sources, parentFileManager);
+            MemoryFileManager manager = (persistentKey == null) ? null : this.persistentCache.load(persistentKey, compiler, parentFileManager);
+            if (manager == null)
+            {
+                manager = new MemoryFileManager(compiler, parentFileManager, null);
+                PureJavaCompiler.compile(compiler, sources, manager);
+                if (persistentKey != null)
+                {
+                    this.persistentCache.store(persistentKey, manager);
+                }
+            }
+            return new MemoryClassLoader(manager, parentClassLoader).loadClass(packageName + "." + name);
+        }
+        finally
+        {
+            this.compileTimeNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private String computePersistentKey(ImmutableList<StringJavaSource> sources, MemoryFileManager parentFileManager)
+    {
+        try
+        {
+            return this.persistentCache.computeKey(sources, parentFileManager);
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+    }
+
+    public static DynamicJavaClassCache getGlobalCache()
+    {
+        return GLOBAL;
+    }
+
+    /**
+     * File manager and class loader that classes are compiled against, compared by identity.
+     */
+    private static final class CompilationContext
+    {
+        private final MemoryFileManager fileManager;
+        private final ClassLoader classLoader;
+
+        private CompilationContext(MemoryFileManager fileManager, ClassLoader classLoader)
+        {
+            this.fileManager = fileManager;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public boolean equals(Object other)
+        {
+            if (this == other)
+            {
+                return true;
+            }
+            if (!(other instanceof CompilationContext))
+            {
+                return false;
+            }
+            CompilationContext that = (CompilationContext) other;
+            return (this.fileManager == that.fileManager) && (this.classLoader == that.classLoader);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * System.identityHashCode(this.fileManager) + System.identityHashCode(this.classLoader);
+        }
+    }
+}
@@ -14,6 +14,8 @@
 
 package org.finos.legend.pure.runtime.java.compiled.compiler;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.collection.MutableCollection;
 import org.eclipse.collections.api.factory.Lists;
@@ -29,6 +31,7 @@ import javax.tools.JavaFileObject.Kind;
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -43,19 +46,29 @@ import java.util.zip.ZipOutputStream;
 public class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager>
 {
     private final MemoryFileManager parent;
+    private final boolean listParentStandardFiles;
     private final MutableMap<String, ClassJavaSource> codeByName = Maps.mutable.empty();
     private final MutableMap<String, MutableList<ClassJavaSource>> codeByPackage = Maps.mutable.empty();
 
     private final Message message;
     private int count = 0;
+    private String fingerprint;
+    private int fingerprintCount = -1;
+    private String parentFingerprint;
 
-    public MemoryFileManager(JavaCompiler compiler, MemoryFileManager parent, Message message)
+    private MemoryFileManager(JavaCompiler compiler, MemoryFileManager parent, boolean listParentStandardFiles, Message message)
     {
         super(compiler.getStandardFileManager(null, null, null));
         this.parent = parent;
+        this.listParentStandardFiles = listParentStandardFiles;
         this.message = message;
     }
 
+    public MemoryFileManager(JavaCompiler compiler, MemoryFileManager parent, Message message)
+    {
+        this(compiler, parent, true, message);
+    }
+
     public MemoryFileManager(JavaCompiler compiler, Message message)
     {
         this(compiler, null, message);
@@ -70,17 +83,20 @@ public class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFil
     public Iterable<JavaFileObject> list(Location location, String packageName, Set<Kind> kinds, boolean recurse) throws IOException
     {
         MutableList<JavaFileObject> result = Lists.mutable.ofInitialCapacity(this.codeByName.size());
-        collectFiles(result, location, packageName, kinds, recurse);
+        collectFiles(result, location, packageName, kinds, recurse, true);
         return result;
     }
 
-    private void collectFiles(MutableCollection<JavaFileObject> target, Location location, String packageName, Set<Kind> kinds, boolean recurse) throws IOException
+    private void collectFiles(MutableCollection<JavaFileObject> target, Location location, String packageName, Set<Kind> kinds, boolean recurse, boolean includeStandardFiles) throws IOException
     {
         if (this.parent != null)
         {
-            this.parent.collectFiles(target, location, packageName, kinds, recurse);
+            this.parent.collectFiles(target, location, packageName, kinds, recurse, includeStandardFiles && this.listParentStandardFiles);
+        }
+        if (includeStandardFiles)
+        {
+            target.addAllIterable(super.list(location, packageName, kinds, recurse));
         }
-        target.addAllIterable(super.list(location, packageName, kinds, recurse));
         if ((location == StandardLocation.CLASS_PATH) && kinds.contains(Kind.CLASS))
         {
             MutableList<ClassJavaSource> packageFiles = this.codeByPackage.get(packageName);
@@ -140,6 +156,17 @@ public class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFil
         return source;
     }
 
+    /**
+     * Add the classes from a batch file manager (see {@link #newBatchFileManager}) to this file manager, replacing the
+     * bytes of any class already present.
+     *
+     * @param batchManager batch file manager
+     */
+    void addClassJavaSources(MemoryFileManager batchManager)
+    {
+        batchManager.codeByName.forEachKeyValue((className, source) -> getClassJavaSourceForOutput(className).setBytes(source.getBytes()));
+    }
+
     ClassJavaSource getClassJavaSourceByName(String name)
     {
         return getClassJavaSourceByName(name, false);
@@ -155,6 +182,31 @@ public class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFil
         return source;
     }
 
+    /**
+     * Get a fingerprint of the classes in this file manager and its parents. The fingerprint changes whenever a class
+     * is added or rewritten, here or in a parent, and is recomputed lazily.
+     *
+     * @return class fingerprint
+     */
+    synchronized String getFingerprint()
+    {
+        String parentFingerprint = (this.parent == null) ? "" : this.parent.getFingerprint();
+        if ((this.fingerprint == null) || (this.fingerprintCount != this.count) || !parentFingerprint.equals(this.parentFingerprint))
+        {
+            Hasher hasher = Hashing.sha256().newHasher();
+            hasher.putString(parentFingerprint, StandardCharsets.UTF_8);
+            this.codeByName.keysView().toSortedList().forEach(className ->
+            {
+                byte[] bytes = this.codeByName.get(className).getBytes();
+                hasher.putString(className, StandardCharsets.UTF_8).putInt(bytes.length).putBytes(bytes);
+            });
+            this.fingerprint = hasher.hash().toString();
+            this.fingerprintCount = this.count;
+            this.parentFingerprint = parentFingerprint;
+        }
+        return this.fingerprint;
+    }
+
     // public for testing
     public RichIterable<ClassJavaSource> getAllClassJavaSources(boolean includeClassesFromParent)
     {
@@ -284,15 +336,27 @@ public class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFil
     }
 
     public void loadClassesFromDirectory(Path directory) throws IOException
+    {
+        loadClassesFromDirectory(directory, null);
+    }
+
+    /**
+     * Load the class files from a directory whose class names satisfy the filter (if any).
+     *
+     * @param directory       directory of class files
+     * @param classNameFilter class name filter (may be null)
+     * @throws IOException if a class file cannot be read
+     */
+    public void loadClassesFromDirectory(Path directory, Predicate<? super String> classNameFilter) throws IOException
     {
         if (!Files.isDirectory(directory))
         {
             throw new IllegalArgumentException("Not a directory: " + directory);
         }
-        loadFromDirectory(directory, directory);
+        loadFromDirectory(directory, directory, classNameFilter);
     }
 
-    private void loadFromDirectory(Path directory, Path root) throws IOException
+    private void loadFromDirectory(Path directory, Path root, Predicate<? super String> classNameFilter) throws IOException
     {
         try (DirectoryStream<Path> dirStream = Files.newDirectoryStream(directory))
         {
@@ -300,27 +364,45 @@ public class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFil
             {
                 if (Files.isDirectory(entry))
                 {
-                    loadFromDirectory(entry, root);
+                    loadFromDirectory(entry, root, classNameFilter);
                 }
                 else
                 {
-                    loadFromFile(entry, root);
+                    loadFromFile(entry, root, classNameFilter);
                 }
             }
         }
     }
 
-    private void loadFromFile(Path file, Path root) throws IOException
+    private void loadFromFile(Path file, Path root, Predicate<? super String> classNameFilter) throws IOException
     {
         if (file.getFileName().toString().endsWith(Kind.CLASS.extension))
         {
             String className = classFilePathToClassName(root.relativize(file));
-            byte[] fileBytes = Files.readAllBytes(file);
-            ClassJavaSource source = getClassJavaSourceForOutput(className);
-            source.setBytes(fileBytes);
+            if ((classNameFilter == null) || classNameFilter.test(className))
+            {
+                byte[] fileBytes = Files.readAllBytes(file);
+                ClassJavaSource source = getClassJavaSourceForOutput(className);
+                source.setBytes(fileBytes);
+            }
         }
     }
 
+    /**
+     * Create a file manager for compiling one of several batches concurrently against the classes in parent. The
+     * parent's in-memory classes are visible to the batch, but the parent's standard file manager is never listed:
+     * standard file managers are not thread safe, and the batch's own standard file manager already covers the class
+     * path.
+     *
+     * @param compiler Java compiler
+     * @param parent   file manager with the classes already compiled
+     * @return batch file manager
+     */
+    static MemoryFileManager newBatchFileManager(JavaCompiler compiler, MemoryFileManager parent)
+    {
+        return new MemoryFileManager(compiler, parent, false, null);
+    }
+
     private static String zipEntryNameToClassName(String zipEntryName)
     {
         char separator = ((zipEntryName.indexOf('/') != -1) || (zipEntryName.indexOf('\\') == -1)) ? '/' : '\\';
@@ -0,0 +1,366 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.compiler;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.tuple.Tuples;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * On-disk cache of dynamically compiled Java classes, so that they survive a restart of the process. Entries are keyed
+ * by a hash of the Java sources, the Java version, the compile classpath and the classes of the parent file manager
+ * they are compiled against. Each entry is a jar of the compiled classes.
+ * <p>
+ * The classpath is fingerprinted on every key computation, so that classes recompiled while the process runs are
+ * noticed. Jar entries are fingerprinted by their size and modification time. Directory entries (such as
+ * {@code target/classes}) are walked, and fingerprinted by the relative path, size and modification time of each file
+ * in them, since recompiling a class in place does not change the modification time of its directory.
+ * <p>
+ * The cache is enabled for {@link DynamicJavaClassCache#getGlobalCache()} by setting the system property
+ * {@value #DIRECTORY_PROPERTY} to a directory. The total size of the cache (in bytes) is bounded by
+ * {@value #MAXIMUM_SIZE_PROPERTY}; when it is exceeded, the least recently used entries are deleted.
+ * <p>
+ * Failing to read or write the cache never fails a compilation: unreadable entries are deleted and treated as misses.
+ */
+public class PersistentJavaClassCache
+{
+    public static final String DIRECTORY_PROPERTY = "pure.persistentJavaClassCache.directory";
+    public static final String MAXIMUM_SIZE_PROPERTY = "pure.persistentJavaClassCache.maximumSize";
+    public static final long DEFAULT_MAXIMUM_SIZE = 256L * 1024L * 1024L;
+
+    private static final String ENTRY_EXTENSION = ".jar";
+
+    private final Path directory;
+    private final long maximumSize;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    public PersistentJavaClassCache(Path directory, long maximumSize)
+    {
+        if (maximumSize < 0)
+        {
+            throw new IllegalArgumentException("maximumSize may not be negative: " + maximumSize);
+        }
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+    }
+
+    public Path getDirectory()
+    {
+        return this.directory;
+    }
+
+    public long getMaximumSize()
+    {
+        return this.maximumSize;
+    }
+
+    public long getHitCount()
+    {
+        return this.hitCount.sum();
+    }
+
+    public long getMissCount()
+    {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Total size of the cache entries, in bytes.
+     *
+     * @return cache size in bytes
+     */
+    public long getSize()
+    {
+        try
+        {
+            return listEntries().sumOfLong(PersistentJavaClassCache::getFileSize);
+        }
+        catch (IOException e)
+        {
+            return 0L;
+        }
+    }
+
+    public void clear() throws IOException
+    {
+        for (Path entry : listEntries())
+        {
+            Files.deleteIfExists(entry);
+        }
+    }
+
+    /**
+     * Compute the cache key for compiling the given sources against the given parent file manager using the current
+     * classpath.
+     *
+     * @param sources           Java sources
+     * @param parentFileManager file manager for classes the sources may reference (may be null)
+     * @return cache key
+     * @throws IOException if the content of a source cannot be read
+     */
+    String computeKey(Iterable<? extends JavaFileObject> sources, MemoryFileManager parentFileManager) throws IOException
+    {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(System.getProperty("java.specification.version", ""), StandardCharsets.UTF_8)
+                .putString(computeClassPathFingerprint(PureJavaCompiler.getClassPath()), StandardCharsets.UTF_8)
+                .putString((parentFileManager == null) ? "" : parentFileManager.getFingerprint(), StandardCharsets.UTF_8);
+        for (JavaFileObject source : sources)
+        {
+            CharSequence content = source.getCharContent(true);
+            hasher.putString(source.getName(), StandardCharsets.UTF_8)
+                    .putInt(content.length())
+                    .putString(content, StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Load the classes cached under the given key into a new file manager. Returns null if there is no such entry or
+     * if it cannot be read.
+     *
+     * @param key               cache key
+     * @param compiler          Java compiler
+     * @param parentFileManager parent file manager for the new file manager (may be null)
+     * @return file manager with the cached classes, or null
+     */
+    MemoryFileManager load(String key, JavaCompiler compiler, MemoryFileManager parentFileManager)
+    {
+        Path entry = getEntryPath(key);
+        if (Files.exists(entry))
+        {
+            try
+            {
+                MemoryFileManager fileManager = new MemoryFileManager(compiler, parentFileManager, null);
+                fileManager.loadClassesFromJarFile(entry);
+                if (fileManager.getAllClassJavaSources(false).isEmpty())
+                {
+                    throw new IOException("No classes in cache entry: " + entry);
+                }
+                Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+                this.hitCount.increment();
+                return fileManager;
+            }
+            catch (IOException | RuntimeException e)
+            {
+                deleteQuietly(entry);
+            }
+        }
+        this.missCount.increment();
+        return null;
+    }
+
+    /**
+     * Store the classes of the given file manager (excluding those of its parents) under the given key, then delete
+     * the least recently used entries if the cache exceeds its maximum size.
+     *
+     * @param key         cache key
+     * @param fileManager file manager with the compiled classes
+     */
+    void store(String key, MemoryFileManager fileManager)
+    {
+        Path entry = getEntryPath(key);
+        Path tmp = null;
+        try
+        {
+            Files.createDirectories(this.directory);
+            tmp = Files.createTempFile(this.directory, key, ".tmp");
+            try (ZipOutputStream stream = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp))))
+            {
+                fileManager.writeClassJavaSourcesToZip(stream);
+            }
+            moveEntry(tmp, entry);
+            tmp = null;
+            cleanUp();
+        }
+        catch (IOException ignore)
+        {
+            // the cache is an optimization: failing to write it must not fail the compilation
+        }
+        finally
+        {
+            if (tmp != null)
+            {
+                deleteQuietly(tmp);
+            }
+        }
+    }
+
+    private void cleanUp() throws IOException
+    {
+        MutableList<Path> entries = listEntries();
+        long totalSize = entries.sumOfLong(PersistentJavaClassCache::getFileSize);
+        if (totalSize > this.maximumSize)
+        {
+            entries.sortThis(Comparator.comparingLong(PersistentJavaClassCache::getLastModifiedTime));
+            for (Path entry : entries)
+            {
+                if (totalSize <= this.maximumSize)
+                {
+                    break;
+                }
+                long size = getFileSize(entry);
+                if (deleteQuietly(entry))
+                {
+                    totalSize -= size;
+                }
+            }
+        }
+    }
+
+    private MutableList<Path> listEntries() throws IOException
+    {
+        MutableList<Path> entries = Lists.mutable.empty();
+        if (Files.isDirectory(this.directory))
+        {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, "*" + ENTRY_EXTENSION))
+            {
+                stream.forEach(entries::add);
+            }
+        }
+        return entries;
+    }
+
+    private Path getEntryPath(String key)
+    {
+        return this.directory.resolve(key + ENTRY_EXTENSION);
+    }
+
+    private static void moveEntry(Path source, Path target) throws IOException
+    {
+        try
+        {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static String computeClassPathFingerprint(String classPath) throws IOException
+    {
+        Hasher hasher = Hashing.sha256().newHasher();
+        if (classPath != null)
+        {
+            for (String element : classPath.split(File.pathSeparator))
+            {
+                Path path = Paths.get(element);
+                hasher.putString(element, StandardCharsets.UTF_8);
+                if (Files.isDirectory(path))
+                {
+                    putDirectoryFingerprint(hasher, path);
+                }
+                else
+                {
+                    hasher.putLong(getFileSize(path)).putLong(getLastModifiedTime(path));
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putDirectoryFingerprint(Hasher hasher, Path directory) throws IOException
+    {
+        MutableList<Pair<String, BasicFileAttributes>> files = Lists.mutable.empty();
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>()
+        {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+            {
+                if (attributes.isRegularFile())
+                {
+                    files.add(Tuples.pair(directory.relativize(file).toString(), attributes));
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        // the walk order depends on the file system, so sort to get the same fingerprint for the same files
+        files.sortThisBy(Pair::getOne).forEach(file -> hasher.putString(file.getOne(), StandardCharsets.UTF_8)
+                .putLong(file.getTwo().size())
+                .putLong(file.getTwo().lastModifiedTime().toMillis()));
+    }
+
+    private static long getFileSize(Path path)
+    {
+        try
+        {
+            return Files.isRegularFile(path) ? Files.size(path) : 0L;
+        }
+        catch (IOException e)
+        {
+            return 0L;
+        }
+    }
+
+    private static long getLastModifiedTime(Path path)
+    {
+        try
+        {
+            return Files.exists(path) ? Files.getLastModifiedTime(path).toMillis() : 0L;
+        }
+        catch (IOException e)
+        {
+            return 0L;
+        }
+    }
+
+    private static boolean deleteQuietly(Path path)
+    {
+        try
+        {
+            return Files.deleteIfExists(path);
+        }
+        catch (IOException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Create a cache from the system properties {@value #DIRECTORY_PROPERTY} and {@value #MAXIMUM_SIZE_PROPERTY}.
+     * Returns null if no directory is specified.
+     *
+     * @return persistent cache or null
+     */
+    public static PersistentJavaClassCache fromSystemProperties()
+    {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        return ((directory == null) || directory.isEmpty()) ? null : new PersistentJavaClassCache(Paths.get(directory), Long.getLong(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+    }
+}
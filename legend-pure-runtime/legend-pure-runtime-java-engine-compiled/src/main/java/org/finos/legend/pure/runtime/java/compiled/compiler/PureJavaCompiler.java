@@ -16,8 +16,10 @@ package org.finos.legend.pure.runtime.java.compiled.compiler;
 
 import io.github.classgraph.ClassGraph;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.Log;
 
 import javax.lang.model.SourceVersion;
@@ -32,6 +34,7 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.JarOutputStream;
 
 public class PureJavaCompiler
@@ -65,6 +68,52 @@ public class PureJavaCompiler
         return this.globalClassLoader;
     }
 
+    /**
+     * Compile several batches of Java sources concurrently. Each batch is compiled against the classes this compiler
+     * already holds, but not against the other batches, so batches should not depend on each other. The resulting
+     * classes are added to this compiler in batch order. A batch which fails to compile on its own is retried
+     * against all the classes compiled so far before any error is reported.
+     *
+     * @param batches      independent batches of Java sources
+     * @param forkJoinPool pool to compile batches with
+     * @return class loader for all compiled classes
+     * @throws PureJavaCompileException if a batch cannot be compiled
+     */
+    public MemoryClassLoader compile(ListIterable<? extends Iterable<? extends JavaFileObject>> batches, ForkJoinPool forkJoinPool) throws PureJavaCompileException
+    {
+        // the class path depends on the context class loader, which pool threads need not share
+        String classPath = getClassPath();
+        ListIterable<MemoryFileManager> batchManagers = ForkJoinTools.collect(forkJoinPool, batches, batch ->
+        {
+            MemoryFileManager batchManager = MemoryFileManager.newBatchFileManager(this.compiler, this.dynamicManager);
+            try
+            {
+                compile(this.compiler, batch, batchManager, classPath, null);
+                return batchManager;
+            }
+            catch (PureJavaCompileException e)
+            {
+                return null;
+            }
+        }, 1);
+        batchManagers.forEach(batchManager ->
+        {
+            if (batchManager != null)
+            {
+                this.dynamicManager.addClassJavaSources(batchManager);
+            }
+        });
+        for (int i = 0; i < batches.size(); i++)
+        {
+            if (batchManagers.get(i) == null)
+            {
+                compile(this.compiler, batches.get(i), this.dynamicManager, classPath, null);
+            }
+        }
+        this.globalClassLoader = new MemoryClassLoader(this.dynamicManager, this.coreClassLoader);
+        return this.globalClassLoader;
+    }
+
     public MemoryClassLoader getCoreClassLoader()
     {
         return this.coreClassLoader;
@@ -155,7 +204,7 @@ public class PureJavaCompiler
         return SourceVersion.latest().ordinal();
     }
 
-    private static String getClassPath()
+    static String getClassPath()
     {
         return CLASSPATH_CACHE.computeIfAbsent(Thread.currentThread().getContextClassLoader(), cl -> new ClassGraph().getClasspath());
     }
@@ -15,12 +15,14 @@
 package org.finos.legend.pure.runtime.java.compiled.delta;
 
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.tuple.Tuples;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
 import org.finos.legend.pure.m3.serialization.runtime.IncrementalCompiler;
 import org.finos.legend.pure.m3.serialization.runtime.IncrementalCompiler.IncrementalCompilerTransaction;
 import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
@@ -31,6 +33,8 @@ import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSu
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.type.MetadataJavaPaths;
 import org.finos.legend.pure.runtime.java.compiled.metadata.Metadata;
 
+import java.util.concurrent.ForkJoinPool;
+
 public final class CodeBlockDeltaCompiler
 {
     private CodeBlockDeltaCompiler()
@@ -50,6 +54,21 @@ public final class CodeBlockDeltaCompiler
         return codeBlocks.collect(code -> compileCodeBlock(code, executionSupport));
     }
 
+    /**
+     * Compile code blocks concurrently in the given pool. Each code block is compiled in its own transaction, which
+     * is rolled back afterwards, so the graph must not be modified while this runs. Results are in the same order as
+     * the code blocks.
+     *
+     * @param codeBlocks       code blocks to compile
+     * @param executionSupport execution support
+     * @param forkJoinPool     pool to compile code blocks in
+     * @return compilation results
+     */
+    public static ListIterable<CompilationResult> compileCodeBlocks(ListIterable<? extends String> codeBlocks, CompiledExecutionSupport executionSupport, ForkJoinPool forkJoinPool)
+    {
+        return ForkJoinTools.collect(forkJoinPool, codeBlocks, code -> compileCodeBlock(code, executionSupport), 1);
+    }
+
     public static CompilationResult compileCodeBlock(String code, CompiledExecutionSupport executionSupport)
     {
         IncrementalCompilerTransaction transaction = executionSupport.getIncrementalCompiler().newTransaction(false);
@@ -74,7 +93,7 @@ public final class CodeBlockDeltaCompiler
         try
         {
             //First compile and validate that the code is actually correct
-            incrementalCompiler.compileInCurrentTransaction(source);
+            incrementalCompiler.compileIsolatedInCurrentTransaction(source);
             CoreInstance instance = source.getNewInstances().getFirst();
             String functionName = PackageableElement.getSystemPathForPackageableElement(instance);
             return new IntermediateCompilationResult(source, functionName);
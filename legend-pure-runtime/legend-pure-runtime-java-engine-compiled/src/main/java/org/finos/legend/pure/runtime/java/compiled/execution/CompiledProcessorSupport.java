@@ -522,8 +522,10 @@ public class CompiledProcessorSupport implements ProcessorSupport
     @Override
     public boolean type_subTypeOf(CoreInstance type, CoreInstance possibleSuperType)
     {
-        //todo - optimize
-        return Type.subTypeOf(type, possibleSuperType, this);
+        return (type == possibleSuperType) ||
+                Type.isBottomType(type, this) ||
+                Type.isTopType(possibleSuperType, this) ||
+                this.context.typeHasGeneralization(type, possibleSuperType, t -> Type.getGeneralizationResolutionOrder(t, this));
     }
 
     @Override
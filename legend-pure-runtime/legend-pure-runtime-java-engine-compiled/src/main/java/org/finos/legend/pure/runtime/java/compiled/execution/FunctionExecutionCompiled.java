@@ -52,6 +52,8 @@ import org.finos.legend.pure.m3.serialization.runtime.RepositoryComparator;
 import org.finos.legend.pure.m3.serialization.runtime.Source;
 import org.finos.legend.pure.m3.serialization.runtime.SourceRegistry;
 import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
+import org.finos.legend.pure.m3.statelistener.MetricsExecutionActivityListener;
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate;
@@ -71,6 +73,7 @@ import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataEventObserve
 import org.finos.legend.pure.runtime.java.compiled.serialization.GraphSerializer;
 import org.finos.legend.pure.runtime.java.compiled.serialization.PreCompiledPureGraphCache;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.JavaCompilerEventObserver;
+import org.finos.legend.pure.runtime.java.compiled.statelistener.MetricsJavaCompilerEventObserver;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompilerEventObserver;
 
 import java.io.IOException;
@@ -97,6 +100,8 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
     private final ConsoleCompiled consoleCompiled = new ConsoleCompiled(this::isExcluded);
 
     private PureRuntime runtime;
+    private PureMetrics metrics = PureMetrics.NO_METRICS;
+    private ExecutionActivityListener metricsExecutionActivityListener;
 
     private final boolean includePureStackTrace;
 
@@ -117,7 +122,10 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
         this.repository = runtime.getModelRepository();
         this.context = runtime.getContext();
         this.sourceRegistry = runtime.getSourceRegistry();
-        this.javaCompilerEventHandler = new JavaCompilerEventHandler(runtime, message, this.includePureStackTrace, this.javaCompilerEventObserver, this.extensions);
+        this.metrics = runtime.getMetrics();
+        this.metricsExecutionActivityListener = this.metrics.isEnabled() ? new MetricsExecutionActivityListener(this.metrics, this.executionActivityListener) : null;
+        JavaCompilerEventObserver observer = this.metrics.isEnabled() ? new MetricsJavaCompilerEventObserver(this.metrics, this.javaCompilerEventObserver) : this.javaCompilerEventObserver;
+        this.javaCompilerEventHandler = new JavaCompilerEventHandler(runtime, message, this.includePureStackTrace, observer, this.extensions);
         this.metadataCompilerEventHandler = new MetadataEagerCompilerEventHandler(runtime.getModelRepository(), getMetadataEventObserver(), message, runtime.getProcessorSupport());
 
         runtime.addEventHandler(this);
@@ -168,7 +176,7 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
                 this.sourceRegistry,
                 this.runtime.getCodeStorage(),
                 this.runtime.getIncrementalCompiler(),
-                this.executionActivityListener,
+                (this.metricsExecutionActivityListener == null) ? this.executionActivityListener : this.metricsExecutionActivityListener,
                 this.consoleCompiled,
                 this.javaCompilerEventHandler.getFunctionCache(),
                 this.javaCompilerEventHandler.getClassCache(),
@@ -494,7 +502,7 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
             PreCompiledPureGraphCache graphCache = (PreCompiledPureGraphCache) getRuntime().getCache();
             MemoryClassLoader classLoader = this.javaCompilerEventHandler.getJavaCompiler().getCoreClassLoader();
             graphCache.prepareClassLoader(classLoader);
-            this.metadataCompilerEventHandler.buildFullMetadata();
+            buildFullMetadata();
         }
         else
         {
@@ -513,8 +521,16 @@ public class FunctionExecutionCompiled implements FunctionExecution, PureRuntime
             this.javaCompilerEventHandler.generateAndCompileJavaCode(TreeSortedMap.newMap(new RepositoryComparator(this.runtime.getCodeStorage().getAllRepositories()), sourcesByRepo.toMap()));
 
             // Serialize the full graph
-            this.metadataCompilerEventHandler.buildFullMetadata();
+            buildFullMetadata();
+
+        }
+    }
 
+    private void buildFullMetadata()
+    {
+        try (PureMetrics.Phase ignored = this.metrics.startPhase(PureMetrics.METADATA_LOAD))
+        {
+            this.metadataCompilerEventHandler.buildFullMetadata();
         }
     }
 
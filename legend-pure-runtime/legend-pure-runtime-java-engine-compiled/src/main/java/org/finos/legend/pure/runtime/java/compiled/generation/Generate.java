@@ -26,6 +26,7 @@ import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.map.ordered.mutable.OrderedMapAdapter;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.Source;
+import org.finos.legend.pure.m3.tools.forkjoin.ForkJoinTools;
 import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.generation.orchestrator.Log;
 import org.finos.legend.pure.runtime.java.compiled.statelistener.JavaCompilerEventObserver;
@@ -34,19 +35,29 @@ import org.finos.legend.pure.runtime.java.compiled.statelistener.VoidJavaCompile
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.SortedMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 public class Generate
 {
+    private static final int GENERATE_SOURCES_THRESHOLD = 4;
+
     private final Message message;
     private final JavaCompilerEventObserver observer;
+    private final ForkJoinPool forkJoinPool;
     private final MutableOrderedMap<String, ImmutableList<StringJavaSource>> javaSourcesByGroup = OrderedMapAdapter.adapt(new LinkedHashMap<>());
     private ImmutableList<StringJavaSource> externalizableSources = Lists.immutable.empty();
 
-    public Generate(Message message, JavaCompilerEventObserver observer)
+    public Generate(Message message, JavaCompilerEventObserver observer, ForkJoinPool forkJoinPool)
     {
         this.message = message;
         this.observer = (observer == null) ? VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER : observer;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    public Generate(Message message, JavaCompilerEventObserver observer)
+    {
+        this(message, observer, null);
     }
 
     public Generate(Message message)
@@ -82,16 +93,30 @@ public class Generate
         javaSources.addAll(extras);
         sourceCounter.add(extras.size());
 
-        sources.forEach(source ->
+        if ((this.forkJoinPool != null) && (sources.size() > GENERATE_SOURCES_THRESHOLD))
         {
-            javaSources.addAllIterable(javaSourceCodeGenerator.generateCode(source, null, compileGroup, generatePureTests));
-            sourceCounter.increment();
+            // sources are generated independently, each with its own processor context; results are kept in source order
+            ListIterable<ListIterable<StringJavaSource>> generated = ForkJoinTools.collect(this.forkJoinPool, Lists.mutable.<Source>withAll(sources), source -> javaSourceCodeGenerator.generateCode(source, null, compileGroup, generatePureTests), GENERATE_SOURCES_THRESHOLD);
+            generated.forEach(javaSources::addAllIterable);
+            sourceCounter.add(sources.size());
             if (this.message != null)
             {
                 this.message.setMessage("Generating Java sources (" + sourceCounter.getCount() + "/" + totalSourceCount + ")");
             }
-        });
-        
+        }
+        else
+        {
+            sources.forEach(source ->
+            {
+                javaSources.addAllIterable(javaSourceCodeGenerator.generateCode(source, null, compileGroup, generatePureTests));
+                sourceCounter.increment();
+                if (this.message != null)
+                {
+                    this.message.setMessage("Generating Java sources (" + sourceCounter.getCount() + "/" + totalSourceCount + ")");
+                }
+            });
+        }
+
         javaSources.addAllIterable(javaSourceCodeGenerator.generateRegistry());
         
         this.observer.endGeneratingJavaFiles(compileGroup, javaSources);
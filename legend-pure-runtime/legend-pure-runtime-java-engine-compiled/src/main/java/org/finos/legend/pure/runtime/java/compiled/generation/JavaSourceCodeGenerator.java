@@ -46,6 +46,7 @@ import org.finos.legend.pure.m3.tools.JavaTools;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureCompilationException;
 import org.finos.legend.pure.m4.exception.PureException;
+import org.finos.legend.pure.m4.tools.ConcurrentHashSet;
 import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.extension.CompiledExtension;
 import org.finos.legend.pure.runtime.java.compiled.extension.CompiledExtensionLoader;
@@ -148,8 +149,9 @@ public final class JavaSourceCodeGenerator {
     private final String externalAPIPackage;
 
     private final boolean includePureStackTrace;
-    private final MutableSet<CoreInstance> processedClasses = Sets.mutable.empty();
-    private final MutableSet<CoreInstance> platformEnumerations = Sets.mutable.empty();
+    // sources may be generated concurrently (see Generate)
+    private final MutableSet<CoreInstance> processedClasses = new ConcurrentHashSet<>();
+    private final MutableSet<CoreInstance> platformEnumerations = new ConcurrentHashSet<>();
     private final MutableSet<CoreInstance> javaSerializedClasses = Sets.mutable.empty();
     private final ListIterable<CompiledExtension> extensions;
 
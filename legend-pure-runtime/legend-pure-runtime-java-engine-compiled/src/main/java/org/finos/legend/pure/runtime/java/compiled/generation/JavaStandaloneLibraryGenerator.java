@@ -21,6 +21,7 @@ import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.SetIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.utility.Iterate;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
@@ -43,6 +44,8 @@ import java.nio.file.Path;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.jar.JarOutputStream;
 import org.eclipse.collections.api.map.MutableMap;
@@ -62,9 +65,10 @@ public class JavaStandaloneLibraryGenerator
     private final String externalAPIPackage;
     private final Log log;
     private final boolean generatePureTests;
+    private final ForkJoinPool forkJoinPool;
     private final MutableList<JavaSourceCodeGenerator> generators = Lists.mutable.empty();
 
-    private JavaStandaloneLibraryGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, Log log)
+    private JavaStandaloneLibraryGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, ForkJoinPool forkJoinPool, Log log)
     {
         this.runtime = runtime;
         this.extensions = extensions;
@@ -72,6 +76,7 @@ public class JavaStandaloneLibraryGenerator
         this.externalAPIPackage = externalAPIPackage;
         this.log = log;
         this.generatePureTests = generatePureTests;
+        this.forkJoinPool = forkJoinPool;
     }
 
     public PureJavaCompiler compile(String repo, boolean writeJavaSourcesToDisk, Path pathToWriteTo) throws PureJavaCompileException
@@ -235,7 +240,7 @@ public class JavaStandaloneLibraryGenerator
                     log.debug("  " + message);
                 }
             }
-        });
+        }, null, this.forkJoinPool);
 
         if (modularMetadataIds)
         {
@@ -334,12 +339,21 @@ public class JavaStandaloneLibraryGenerator
 
     public static JavaStandaloneLibraryGenerator newGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, Log log)
     {
-        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, true, log);
+        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, true, null, log);
     }
 
     public static JavaStandaloneLibraryGenerator newGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, Log log)
     {
-        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, generatePureTests, log);
+        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, generatePureTests, null, log);
+    }
+
+    /**
+     * Create a generator which generates Java code for the Pure sources of a compile group concurrently on the given
+     * pool.
+     */
+    public static JavaStandaloneLibraryGenerator newGenerator(PureRuntime runtime, Iterable<? extends CompiledExtension> extensions, boolean addExternalAPI, String externalAPIPackage, boolean generatePureTests, ForkJoinPool forkJoinPool, Log log)
+    {
+        return new JavaStandaloneLibraryGenerator(runtime, extensions, addExternalAPI, externalAPIPackage, generatePureTests, forkJoinPool, log);
     }
 
     public static PureJavaCompiler compileOnly(MapIterable<? extends String, ? extends Iterable<? extends StringJavaSource>> javaSources, ListIterable<? extends StringJavaSource> externalizableSources, boolean addExternalAPI, Log log) throws PureJavaCompileException
@@ -358,6 +372,37 @@ public class JavaStandaloneLibraryGenerator
         return compile.getPureJavaCompiler();
     }
 
+    /**
+     * Compile Java sources by compile group, compiling groups which do not depend on each other concurrently on the
+     * given pool. See {@link Compile#compileJavaCodeForSources(Iterable, Function, ForkJoinPool, Log)}.
+     */
+    public static PureJavaCompiler compileOnly(MapIterable<? extends String, ? extends Iterable<? extends StringJavaSource>> javaSources, ListIterable<? extends StringJavaSource> externalizableSources, boolean addExternalAPI, Function<? super String, ? extends SetIterable<String>> groupDependencies, ForkJoinPool forkJoinPool, Log log) throws PureJavaCompileException
+    {
+        return compileOnly(new PureJavaCompiler(new Message("")), javaSources, externalizableSources, addExternalAPI, groupDependencies, forkJoinPool, log);
+    }
+
+    /**
+     * Compile Java sources by compile group with the given compiler, which may already hold classes the sources are
+     * compiled against. Groups are compiled concurrently if a pool is given, and one after another otherwise.
+     */
+    public static PureJavaCompiler compileOnly(PureJavaCompiler compiler, MapIterable<? extends String, ? extends Iterable<? extends StringJavaSource>> javaSources, ListIterable<? extends StringJavaSource> externalizableSources, boolean addExternalAPI, Function<? super String, ? extends SetIterable<String>> groupDependencies, ForkJoinPool forkJoinPool, Log log) throws PureJavaCompileException
+    {
+        Compile compile = new Compile(compiler, VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER);
+        if (forkJoinPool == null)
+        {
+            compile.compileJavaCodeForSources(javaSources.keyValuesView(), log);
+        }
+        else
+        {
+            compile.compileJavaCodeForSources(javaSources.keyValuesView(), groupDependencies, forkJoinPool, log);
+        }
+        if (addExternalAPI)
+        {
+            compile.compileExternalizableAPI(externalizableSources);
+        }
+        return compile.getPureJavaCompiler();
+    }
+
     private void writeDependencyGraph(Path directory)
     {
         MutableSet<org.finos.legend.pure.m4.coreinstance.CoreInstance> allProcessedClasses = Sets.mutable.empty();
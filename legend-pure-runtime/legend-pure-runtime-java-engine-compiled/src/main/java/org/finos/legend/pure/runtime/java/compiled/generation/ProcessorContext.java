@@ -40,6 +40,8 @@ import org.finos.legend.pure.runtime.java.compiled.generation.processors.IdBuild
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.NativeFunctionProcessor;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.natives.Native;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public class ProcessorContext
@@ -50,6 +52,7 @@ public class ProcessorContext
     private final MutableListMultimap<String, String> functionDefinitionsBySource = Multimaps.mutable.list.empty();
     private final MutableMap<String, MutableMap<String, String>> nativeLambdaFunctionsByNameBySource = Maps.mutable.empty();
     private final MutableIntObjectMap<CoreInstance> localLambdas = IntObjectMaps.mutable.empty();
+    private final Map<CoreInstance, Integer> localLambdaIds = new IdentityHashMap<>();
     private final ProcessorSupport support;
     private final NativeFunctionProcessor nativeFunctionProcessor;
 
@@ -209,11 +212,32 @@ public class ProcessorContext
         return this.objects;
     }
 
+    @Deprecated
     public void registerLocalLambdas(int id, CoreInstance function)
     {
         this.localLambdas.put(id, function);
     }
 
+    /**
+     * Register a lambda to be passed to dynamically generated code, and get its id. Ids are assigned in order of
+     * registration, starting from 0, so that the same code generated for structurally identical lambdas is identical.
+     * Registering the same lambda again returns the same id.
+     *
+     * @param function lambda function
+     * @return lambda id
+     */
+    public int registerLocalLambda(CoreInstance function)
+    {
+        Integer id = this.localLambdaIds.get(function);
+        if (id == null)
+        {
+            id = this.localLambdaIds.size();
+            this.localLambdaIds.put(function, id);
+            this.localLambdas.put(id, function);
+        }
+        return id;
+    }
+
     public IntObjectMap<CoreInstance> getLocalLambdas()
     {
         return this.localLambdas;
@@ -0,0 +1,301 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.orchestrator;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.api.set.SetIterable;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositorySet;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.RepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+
+import javax.tools.JavaFileObject;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * State of a previous Pure compiled mode Java code generation, used to only regenerate the repositories which changed
+ * since. For each repository, it records a hash of its sources and of the sources of all the repositories it depends
+ * on, together with the Java sources generated for it. A repository needs to be regenerated when its hash changes; as
+ * the hash covers dependencies, so do all the repositories which depend on it.
+ */
+class IncrementalGenerationState
+{
+    static final String FILE_NAME = "pure-compiled-jar-state.json";
+
+    private static final String OPTIONS = "options";
+    private static final String SOURCES = "sources";
+    private static final String REPOSITORIES = "repositories";
+    private static final String HASH = "hash";
+    private static final String JAVA_SOURCES = "javaSources";
+
+    private final String options;
+    private final MutableMap<String, String> sourceHashes;
+    private final MutableMap<String, String> repositoryHashes;
+    private final MutableMap<String, ImmutableList<String>> javaSourcesByRepository = Maps.mutable.empty();
+
+    private IncrementalGenerationState(String options, MutableMap<String, String> sourceHashes, MutableMap<String, String> repositoryHashes)
+    {
+        this.options = options;
+        this.sourceHashes = sourceHashes;
+        this.repositoryHashes = repositoryHashes;
+    }
+
+    /**
+     * Get the repositories which need to be regenerated since the previous state: all of them if there is no previous
+     * state or if the generation options changed, otherwise those whose hash changed or which were not generated.
+     */
+    MutableSet<String> getChangedRepositories(IncrementalGenerationState previous, Iterable<String> repositories)
+    {
+        if ((previous == null) || !this.options.equals(previous.options))
+        {
+            return Sets.mutable.withAll(repositories);
+        }
+        return Iterate.reject(repositories, r -> this.repositoryHashes.get(r).equals(previous.repositoryHashes.get(r)) && previous.javaSourcesByRepository.containsKey(r), Sets.mutable.empty());
+    }
+
+    /**
+     * Get the repositories which were generated in the previous state but are no longer selected. Their classes (and
+     * metadata) are stale.
+     */
+    MutableSet<String> getRemovedRepositories(IncrementalGenerationState previous)
+    {
+        return (previous == null) ? Sets.mutable.empty() : previous.repositoryHashes.keysView().reject(this.repositoryHashes::containsKey, Sets.mutable.empty());
+    }
+
+    SetIterable<String> getRepositories()
+    {
+        return this.repositoryHashes.keysView().toSet();
+    }
+
+    /**
+     * Get the sources which were added or modified since the previous state.
+     */
+    MutableList<String> getChangedSources(IncrementalGenerationState previous)
+    {
+        return this.sourceHashes.keysView().reject(id -> (previous != null) && this.sourceHashes.get(id).equals(previous.sourceHashes.get(id)), Lists.mutable.empty()).sortThis();
+    }
+
+    /**
+     * Get the Java sources generated for a repository, as paths without extension relative to the classes directory
+     * (e.g., org/finos/legend/pure/generated/CoreGen), or null if it has not been generated.
+     */
+    ImmutableList<String> getJavaSources(String repository)
+    {
+        return this.javaSourcesByRepository.get(repository);
+    }
+
+    void setJavaSources(String repository, Iterable<? extends StringJavaSource> javaSources)
+    {
+        this.javaSourcesByRepository.put(repository, Iterate.collect(javaSources, IncrementalGenerationState::getJavaSourcePath, Lists.mutable.empty()).toImmutable());
+    }
+
+    void setJavaSources(String repository, ImmutableList<String> javaSourcePaths)
+    {
+        this.javaSourcesByRepository.put(repository, javaSourcePaths);
+    }
+
+    MutableSet<String> getAllJavaSources()
+    {
+        MutableSet<String> all = Sets.mutable.empty();
+        this.javaSourcesByRepository.forEachValue(all::addAllIterable);
+        return all;
+    }
+
+    void write(Path file) throws IOException
+    {
+        JSONObject repositories = new JSONObject();
+        this.repositoryHashes.forEachKeyValue((repository, hash) ->
+        {
+            JSONObject repositoryState = new JSONObject();
+            repositoryState.put(HASH, hash);
+            ImmutableList<String> javaSources = this.javaSourcesByRepository.get(repository);
+            if (javaSources != null)
+            {
+                JSONArray array = new JSONArray();
+                javaSources.forEach(array::add);
+                repositoryState.put(JAVA_SOURCES, array);
+            }
+            repositories.put(repository, repositoryState);
+        });
+        JSONObject json = new JSONObject();
+        json.put(OPTIONS, this.options);
+        json.put(SOURCES, new JSONObject(this.sourceHashes));
+        json.put(REPOSITORIES, repositories);
+
+        Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+        {
+            json.writeJSONString(writer);
+        }
+    }
+
+    /**
+     * Read the state from a file. Returns null if there is no such file or if it cannot be read, in which case
+     * everything is regenerated.
+     */
+    @SuppressWarnings("unchecked")
+    static IncrementalGenerationState read(Path file, Log log)
+    {
+        if (!Files.exists(file))
+        {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8))
+        {
+            JSONObject json = (JSONObject) new JSONParser().parse(reader);
+            MutableMap<String, String> repositoryHashes = Maps.mutable.empty();
+            MutableMap<String, ImmutableList<String>> javaSources = Maps.mutable.empty();
+            ((Map<String, Map<String, Object>>) json.get(REPOSITORIES)).forEach((repository, repositoryState) ->
+            {
+                repositoryHashes.put(repository, (String) repositoryState.get(HASH));
+                List<String> repositoryJavaSources = (List<String>) repositoryState.get(JAVA_SOURCES);
+                if (repositoryJavaSources != null)
+                {
+                    javaSources.put(repository, Lists.immutable.withAll(repositoryJavaSources));
+                }
+            });
+            IncrementalGenerationState state = new IncrementalGenerationState((String) json.get(OPTIONS), Maps.mutable.withMap((Map<String, String>) json.get(SOURCES)), repositoryHashes);
+            state.javaSourcesByRepository.putAll(javaSources);
+            return state;
+        }
+        catch (Exception e)
+        {
+            log.warn("    Could not read incremental generation state from " + file + ", generating everything: " + e);
+            return null;
+        }
+    }
+
+    /**
+     * Compute the state of the sources in the code storage for the given repositories. Only the code storage is read,
+     * so this is cheap compared to initializing a Pure runtime.
+     */
+    static IncrementalGenerationState newState(String options, RepositoryCodeStorage codeStorage, CodeRepositorySet allRepositories, SetIterable<String> repositories)
+    {
+        MutableMap<String, String> sourceHashes = Maps.mutable.empty();
+        MutableMap<String, MutableList<String>> sourceIdsByRepository = Maps.mutable.empty();
+        codeStorage.getUserFiles().forEach(sourceId ->
+        {
+            String repository = CompositeCodeStorage.getSourceRepoName(sourceId);
+            if (repository != null)
+            {
+                sourceHashes.put(sourceId, Hashing.sha256().hashBytes(codeStorage.getContentAsBytes(sourceId)).toString());
+                sourceIdsByRepository.getIfAbsentPut(repository, Lists.mutable::empty).add(sourceId);
+            }
+        });
+
+        MutableMap<String, String> ownHashes = sourceIdsByRepository.collectValues((repository, sourceIds) ->
+        {
+            Hasher hasher = Hashing.sha256().newHasher();
+            sourceIds.sortThis().forEach(id -> hasher.putString(id, StandardCharsets.UTF_8).putString(sourceHashes.get(id), StandardCharsets.UTF_8));
+            return hasher.hash().toString();
+        });
+
+        MutableMap<String, String> repositoryHashes = Maps.mutable.empty();
+        repositories.forEach(repository ->
+        {
+            Hasher hasher = Hashing.sha256().newHasher();
+            allRepositories.subset(repository).getRepositoryNames().toSortedList().forEach(r -> hasher.putString(r, StandardCharsets.UTF_8).putString(ownHashes.getIfAbsentValue(r, ""), StandardCharsets.UTF_8));
+            repositoryHashes.put(repository, hasher.hash().toString());
+        });
+        return new IncrementalGenerationState(options, sourceHashes, repositoryHashes);
+    }
+
+    /**
+     * Hash the code locations (jars or class directories) of the given classes, by content.
+     */
+    static String hashCodeLocations(Iterable<? extends Class<?>> classes) throws IOException
+    {
+        MutableSet<Path> locations = Sets.mutable.empty();
+        for (Class<?> cls : classes)
+        {
+            CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+            if ((codeSource != null) && (codeSource.getLocation() != null))
+            {
+                try
+                {
+                    locations.add(Paths.get(codeSource.getLocation().toURI()));
+                }
+                catch (URISyntaxException | IllegalArgumentException e)
+                {
+                    throw new IOException("Cannot get code location of " + cls.getName(), e);
+                }
+            }
+        }
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (Path location : locations.toSortedListBy(Path::toString))
+        {
+            hasher.putString(location.toString(), StandardCharsets.UTF_8);
+            if (Files.isDirectory(location))
+            {
+                try (Stream<Path> paths = Files.walk(location))
+                {
+                    for (Path file : paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList()))
+                    {
+                        hasher.putString(location.relativize(file).toString(), StandardCharsets.UTF_8).putBytes(Files.readAllBytes(file));
+                    }
+                }
+            }
+            else if (Files.isRegularFile(location))
+            {
+                try (InputStream stream = Files.newInputStream(location))
+                {
+                    byte[] buffer = new byte[8192];
+                    for (int read = stream.read(buffer); read != -1; read = stream.read(buffer))
+                    {
+                        hasher.putBytes(buffer, 0, read);
+                    }
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    static String getJavaSourcePath(StringJavaSource javaSource)
+    {
+        String path = javaSource.toUri().getPath();
+        return path.substring(1, path.length() - JavaFileObject.Kind.SOURCE.extension.length());
+    }
+
+    static String getJavaSourcePath(String className)
+    {
+        int nestedIndex = className.indexOf('$');
+        return ((nestedIndex == -1) ? className : className.substring(0, nestedIndex)).replace('.', '/');
+    }
+}
@@ -17,6 +17,7 @@ package org.finos.legend.pure.runtime.java.compiled.generation.orchestrator;
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.SetIterable;
@@ -36,19 +37,27 @@ import org.finos.legend.pure.m3.serialization.runtime.cache.CacheState;
 import org.finos.legend.pure.m3.serialization.runtime.cache.ClassLoaderPureGraphCache;
 import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompileException;
 import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
+import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.extension.CompiledExtensionLoader;
 import org.finos.legend.pure.runtime.java.compiled.generation.Generate;
 import org.finos.legend.pure.runtime.java.compiled.generation.JavaPackageAndImportBuilder;
 import org.finos.legend.pure.runtime.java.compiled.generation.JavaStandaloneLibraryGenerator;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedMetadataHelper;
 import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedBinaryGraphSerializer;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class JavaCodeGeneration
 {
@@ -107,6 +116,8 @@ public class JavaCodeGeneration
                     new File(args[1]),
                     new File(args[2]),
                     true,
+                    Integer.getInteger("pure.codegen.parallelism", 1),
+                    Boolean.getBoolean("pure.codegen.incremental"),
                     log
             );
         }
@@ -191,6 +202,63 @@ public class JavaCodeGeneration
                             File targetDirectory,
                             boolean generatePureTests,
                             Log log)
+    {
+        doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, generateTest, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, 1, log);
+    }
+
+    public static void doIt(Set<String> repositories,
+                            Set<String> excludedRepositories,
+                            Set<String> extraRepositories,
+                            JavaCodeGeneration.GenerationType generationType,
+                            boolean skip,
+                            boolean addExternalAPI,
+                            String externalAPIPackage,
+                            boolean generateMetadata,
+                            boolean useSingleDir,
+                            boolean generateSources,
+                            boolean generateTest,
+                            boolean preventJavaCompilation,
+                            File classesDirectory,
+                            File targetDirectory,
+                            boolean generatePureTests,
+                            int parallelism,
+                            Log log)
+    {
+        doIt(repositories, excludedRepositories, extraRepositories, generationType, skip, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, generateSources, generateTest, preventJavaCompilation, classesDirectory, targetDirectory, generatePureTests, parallelism, false, log);
+    }
+
+    /**
+     * Generate (and possibly compile) Java code for the selected repositories. When parallelism is greater than 1, Java
+     * code is generated concurrently for the sources of each repository, and repositories which do not depend on each
+     * other are compiled concurrently, using up to parallelism threads.
+     * <p>
+     * When incremental is true, the state of the sources is saved in the target directory, and the next generation
+     * only regenerates the repositories whose sources (or whose dependencies' sources) changed since. Their Java
+     * classes are compiled against the classes previously written for the other repositories. With modular
+     * generation, only the distributed metadata of these repositories is rewritten; with monolithic generation,
+     * everything is regenerated if anything changed. The classes (and modular metadata) of repositories which are no
+     * longer selected are deleted. Whether anything changed is worked out from the sources and the code of the
+     * generator and its extensions before Pure is initialized, so a run with no changes is cheap. Incremental
+     * generation does not apply when generating sources.
+     */
+    public static void doIt(Set<String> repositories,
+                            Set<String> excludedRepositories,
+                            Set<String> extraRepositories,
+                            JavaCodeGeneration.GenerationType generationType,
+                            boolean skip,
+                            boolean addExternalAPI,
+                            String externalAPIPackage,
+                            boolean generateMetadata,
+                            boolean useSingleDir,
+                            boolean generateSources,
+                            boolean generateTest,
+                            boolean preventJavaCompilation,
+                            File classesDirectory,
+                            File targetDirectory,
+                            boolean generatePureTests,
+                            int parallelism,
+                            boolean incremental,
+                            Log log)
     {
         System.out.println("DEBUG: JavaCodeGeneration.doIt START");
         System.out.println("DEBUG: ClassLoader: " + Thread.currentThread().getContextClassLoader());
@@ -220,7 +288,10 @@ public class JavaCodeGeneration
         log.debug("  Generation type: " + generationType);
         log.debug("  Generate External API: '" + addExternalAPI + "' in package '" + externalAPIPackage + "'");
         log.info("  preventJavaCompilation: " + preventJavaCompilation);
+        log.debug("  Parallelism: " + parallelism);
+        log.debug("  Incremental: " + incremental);
 
+        ForkJoinPool forkJoinPool = (parallelism > 1) ? new ForkJoinPool(parallelism) : null;
         try
         {
             CodeRepositorySet allRepositories = getAllRepositories(extraRepositories);
@@ -260,15 +331,75 @@ public class JavaCodeGeneration
                 codegenDirectory = null;
             }
 
+            CompositeCodeStorage codeStorage = newCodeStorage(allRepositories, selectedRepositories);
+
+            // Work out what needs to be regenerated, from the sources alone so that a run with no changes is cheap
+            IncrementalGenerationState previousState = null;
+            IncrementalGenerationState state = null;
+            Path statePath = targetDirectory.toPath().resolve(IncrementalGenerationState.FILE_NAME);
+            SetIterable<String> repositoriesToGenerate = selectedRepositories;
+            MutableSet<String> removedRepositories = Sets.mutable.empty();
+            if (incremental && generateSources)
+            {
+                log.info("  Incremental generation does not apply when generating sources: generating everything");
+            }
+            else if (incremental)
+            {
+                String options = Lists.mutable.with(generationType, addExternalAPI, externalAPIPackage, generateMetadata, useSingleDir, distributedMetadataDirectory, classesDirectory, preventJavaCompilation, generatePureTests, getGeneratorFingerprint()).makeString("|");
+                previousState = IncrementalGenerationState.read(statePath, log);
+                state = IncrementalGenerationState.newState(options, codeStorage, allRepositories, selectedRepositories);
+                MutableSet<String> changedRepositories = state.getChangedRepositories(previousState, selectedRepositories);
+                if (!preventJavaCompilation)
+                {
+                    // regenerate repositories whose classes have gone missing
+                    IncrementalGenerationState finalPreviousState = previousState;
+                    selectedRepositories.reject(changedRepositories::contains).forEach(r ->
+                    {
+                        if (!finalPreviousState.getJavaSources(r).allSatisfy(path -> Files.exists(classesDirectory.toPath().resolve(path + ".class"))))
+                        {
+                            changedRepositories.add(r);
+                        }
+                    });
+                }
+                removedRepositories.addAllIterable(state.getRemovedRepositories(previousState));
+                if (removedRepositories.notEmpty())
+                {
+                    log.info(removedRepositories.toSortedList().makeString("  Repositories to remove: ", ", ", ""));
+                }
+                if (changedRepositories.isEmpty())
+                {
+                    if (removedRepositories.isEmpty())
+                    {
+                        log.info("  No changes since the last generation: nothing to do");
+                    }
+                    else
+                    {
+                        saveState(previousState, state, Sets.immutable.empty(), removedRepositories, null, generationType, distributedMetadataDirectory, preventJavaCompilation, classesDirectory, statePath, log);
+                    }
+                    log.info(String.format("  Finished building Pure compiled mode jar (%.9fs)", durationSinceInSeconds(start)));
+                    return;
+                }
+                log.info("  Changed sources: " + state.getChangedSources(previousState).size());
+                log.info(changedRepositories.toSortedList().makeString("  Repositories to regenerate: ", ", ", ""));
+                repositoriesToGenerate = (generationType == GenerationType.monolithic) ? selectedRepositories : changedRepositories;
+            }
+
+            PureRuntime runtime = initializeRuntime(System.nanoTime(), codeStorage, log);
+
             // Generate metadata and Java sources
-            Generate generate = generate(System.nanoTime(), allRepositories, selectedRepositories, distributedMetadataDirectory, codegenDirectory, generateMetadata, addExternalAPI, externalAPIPackage, generationType, generateSources, generatePureTests, log);
+            Generate generate = generate(runtime, repositoriesToGenerate, distributedMetadataDirectory, codegenDirectory, generateMetadata, addExternalAPI, externalAPIPackage, generationType, generateSources, generatePureTests, forkJoinPool, log);
 
             // Compile Java sources
             if (!preventJavaCompilation)
             {
                 long startCompilation = System.nanoTime();
                 log.info("  Start compiling Java classes");
-                PureJavaCompiler compiler = compileJavaSources(startCompilation, generate, addExternalAPI, log);
+                PureJavaCompiler compiler = new PureJavaCompiler(new Message(""));
+                if (state != null)
+                {
+                    loadPreviousJavaClasses(previousState, selectedRepositories.reject(repositoriesToGenerate::contains), compiler, classesDirectory, log);
+                }
+                compileJavaSources(startCompilation, compiler, allRepositories, generate, addExternalAPI, forkJoinPool, log);
                 writeJavaClassFiles(startCompilation, compiler, classesDirectory, log);
                 log.info(String.format("  Finished compiling Java classes (%.9fs)", durationSinceInSeconds(startCompilation)));
             }
@@ -277,6 +408,12 @@ public class JavaCodeGeneration
                 log.info("  Java classes compilation: skipped");
             }
 
+            // Save state for the next incremental generation
+            if (state != null)
+            {
+                saveState(previousState, state, repositoriesToGenerate, removedRepositories, generate, generationType, distributedMetadataDirectory, preventJavaCompilation, classesDirectory, statePath, log);
+            }
+
             // Write class files
             log.info(String.format("  Finished building Pure compiled mode jar (%.9fs)", durationSinceInSeconds(start)));
         }
@@ -286,6 +423,13 @@ public class JavaCodeGeneration
             log.error(String.format("    FAILURE building Pure compiled mode jar (%.9fs)", durationSinceInSeconds(start)));
             throw new RuntimeException("Error building Pure compiled mode jar", e);
         }
+        finally
+        {
+            if (forkJoinPool != null)
+            {
+                forkJoinPool.shutdown();
+            }
+        }
     }
 
     private static long startStep(String step, Log log)
@@ -360,10 +504,9 @@ public class JavaCodeGeneration
         return selected;
     }
 
-    private static Generate generate(long start, CodeRepositorySet allRepositories, SetIterable<String> selectedRepositories, Path distributedMetadataDirectory, Path codegenDirectory, boolean generateMetadata, boolean addExternalAPI, String externalAPIPackage, GenerationType generationType, boolean generateSources, boolean generatePureTests, Log log)
+    private static Generate generate(PureRuntime runtime, SetIterable<String> selectedRepositories, Path distributedMetadataDirectory, Path codegenDirectory, boolean generateMetadata, boolean addExternalAPI, String externalAPIPackage, GenerationType generationType, boolean generateSources, boolean generatePureTests, ForkJoinPool forkJoinPool, Log log)
     {
-        // Initialize runtime
-        PureRuntime runtime = initializeRuntime(start, allRepositories, selectedRepositories, log);
+        long start = System.nanoTime();
 
         // Possibly write distributed metadata
         if (generateMetadata)
@@ -391,7 +534,7 @@ public class JavaCodeGeneration
         String generateStep = "Pure compiled mode Java code generation";
         long generateStart = startStep(generateStep, log);
         Generate generate;
-        JavaStandaloneLibraryGenerator generator = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), addExternalAPI, externalAPIPackage, generatePureTests, log);
+        JavaStandaloneLibraryGenerator generator = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), addExternalAPI, externalAPIPackage, generatePureTests, forkJoinPool, log);
         switch (generationType)
         {
             case monolithic:
@@ -413,13 +556,17 @@ public class JavaCodeGeneration
         return generate;
     }
 
-    private static PureRuntime initializeRuntime(long start, CodeRepositorySet allRepositories, Iterable<String> selectedRepositories, Log log)
+    private static CompositeCodeStorage newCodeStorage(CodeRepositorySet allRepositories, Iterable<String> selectedRepositories)
+    {
+        RichIterable<CodeRepository> repositoriesForCompilation = allRepositories.subset(selectedRepositories).getRepositories();
+        return new CompositeCodeStorage(new ClassLoaderCodeStorage(Thread.currentThread().getContextClassLoader(), repositoriesForCompilation));
+    }
+
+    private static PureRuntime initializeRuntime(long start, CompositeCodeStorage codeStorage, Log log)
     {
         try
         {
             log.info("  Beginning Pure initialization");
-            RichIterable<CodeRepository> repositoriesForCompilation = allRepositories.subset(selectedRepositories).getRepositories();
-
             Message message = new Message("")
             {
                 @Override
@@ -430,7 +577,6 @@ public class JavaCodeGeneration
             };
 
             // Initialize from PAR files cache
-            CompositeCodeStorage codeStorage = new CompositeCodeStorage(new ClassLoaderCodeStorage(Thread.currentThread().getContextClassLoader(), repositoriesForCompilation));
             ClassLoaderPureGraphCache graphCache = new ClassLoaderPureGraphCache(Thread.currentThread().getContextClassLoader());
             PureRuntime runtime = new PureRuntimeBuilder(codeStorage).withMessage(message).withCache(graphCache).setTransactionalByDefault(false).buildAndTryToInitializeFromCache();
             if (!runtime.isInitialized())
@@ -486,21 +632,153 @@ public class JavaCodeGeneration
         completeStep(writeMetadataStep, writeMetadataStart, log);
     }
 
-    private static PureJavaCompiler compileJavaSources(long start, Generate generate, boolean addExternalAPI, Log log)
+    private static void compileJavaSources(long start, PureJavaCompiler compiler, CodeRepositorySet allRepositories, Generate generate, boolean addExternalAPI, ForkJoinPool forkJoinPool, Log log)
     {
         String compilationStep = "Pure compiled mode Java code compilation";
         long compilationStart = startStep(compilationStep, log);
-        PureJavaCompiler compiler;
         try
         {
-            compiler = JavaStandaloneLibraryGenerator.compileOnly(generate.getJavaSourcesByGroup(), generate.getExternalizableSources(), addExternalAPI, log);
+            JavaStandaloneLibraryGenerator.compileOnly(compiler, generate.getJavaSourcesByGroup(), generate.getExternalizableSources(), addExternalAPI, group -> allRepositories.subset(group).getRepositoryNames().toSet(), forkJoinPool, log);
         }
         catch (PureJavaCompileException e)
         {
             throw new RuntimeException(e);
         }
         completeStep(compilationStep, compilationStart, log);
-        return compiler;
+    }
+
+    /**
+     * Fingerprint of the code of the generator, the compiled extensions and the parsers, which determine the generated
+     * code as much as the Pure sources do. Implementation versions are not enough, as they do not change between
+     * snapshot builds.
+     */
+    private static String getGeneratorFingerprint() throws IOException
+    {
+        MutableSet<Class<?>> classes = Sets.mutable.with(JavaCodeGeneration.class);
+        CompiledExtensionLoader.extensions().forEach(e -> classes.add(e.getClass()));
+        ParserService parserService = new ParserService();
+        parserService.parsers().forEach(p -> classes.add(p.getClass()));
+        parserService.inlineDSLs().forEach(d -> classes.add(d.getClass()));
+        return IncrementalGenerationState.hashCodeLocations(classes);
+    }
+
+    private static void saveState(IncrementalGenerationState previousState, IncrementalGenerationState state, SetIterable<String> regeneratedRepositories, SetIterable<String> removedRepositories, Generate generate, GenerationType generationType, Path distributedMetadataDirectory, boolean preventJavaCompilation, File classesDirectory, Path statePath, Log log) throws IOException
+    {
+        state.getRepositories().forEach(r ->
+        {
+            if (regeneratedRepositories.contains(r))
+            {
+                ImmutableList<StringJavaSource> javaSources = generate.getJavaSourcesByGroup().get(r);
+                state.setJavaSources(r, (javaSources == null) ? Lists.immutable.empty() : javaSources);
+            }
+            else
+            {
+                state.setJavaSources(r, previousState.getJavaSources(r));
+            }
+        });
+        if (previousState != null)
+        {
+            if (!preventJavaCompilation)
+            {
+                deleteStaleJavaClasses(previousState, state, Sets.mutable.withAll(regeneratedRepositories).withAll(removedRepositories), classesDirectory, log);
+            }
+            if ((distributedMetadataDirectory != null) && (generationType == GenerationType.modular))
+            {
+                removedRepositories.forEach(r -> deleteModularMetadata(r, distributedMetadataDirectory, log));
+            }
+        }
+        state.write(statePath);
+    }
+
+    private static void loadPreviousJavaClasses(IncrementalGenerationState previousState, SetIterable<String> repositories, PureJavaCompiler compiler, File classesDirectory, Log log)
+    {
+        if (repositories.isEmpty())
+        {
+            return;
+        }
+        String loadStep = "loading previously compiled Java classes";
+        long loadStart = startStep(loadStep, log);
+        MutableSet<String> javaSources = Sets.mutable.empty();
+        repositories.forEach(r -> javaSources.addAllIterable(previousState.getJavaSources(r)));
+        try
+        {
+            // the core file manager is visible to the compiler, but its classes are not written out again
+            compiler.getCoreFileManager().loadClassesFromDirectory(classesDirectory.toPath(), className -> javaSources.contains(IncrementalGenerationState.getJavaSourcePath(className)));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+        completeStep(loadStep, loadStart, log);
+    }
+
+    static void deleteStaleJavaClasses(IncrementalGenerationState previousState, IncrementalGenerationState state, SetIterable<String> regeneratedRepositories, File classesDirectory, Log log)
+    {
+        MutableSet<String> current = state.getAllJavaSources();
+        MutableSet<String> stale = Sets.mutable.empty();
+        regeneratedRepositories.forEach(r ->
+        {
+            ImmutableList<String> previousJavaSources = previousState.getJavaSources(r);
+            if (previousJavaSources != null)
+            {
+                previousJavaSources.reject(current::contains, stale);
+            }
+        });
+        if (stale.notEmpty())
+        {
+            log.debug("    Deleting " + stale.size() + " stale Java class file(s)");
+            Path classesPath = classesDirectory.toPath();
+            stale.forEach(javaSource ->
+            {
+                Path classFile = classesPath.resolve(javaSource + ".class");
+                String nestedPrefix = classFile.getFileName().toString().replace(".class", "$");
+                try
+                {
+                    Files.deleteIfExists(classFile);
+                    if (Files.isDirectory(classFile.getParent()))
+                    {
+                        try (DirectoryStream<Path> nested = Files.newDirectoryStream(classFile.getParent(), p -> p.getFileName().toString().startsWith(nestedPrefix)))
+                        {
+                            for (Path nestedClassFile : nested)
+                            {
+                                Files.deleteIfExists(nestedClassFile);
+                            }
+                        }
+                    }
+                }
+                catch (IOException e)
+                {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    static void deleteModularMetadata(String repository, Path distributedMetadataDirectory, Log log)
+    {
+        log.debug("    Deleting distributed metadata for " + repository);
+        try
+        {
+            Files.deleteIfExists(distributedMetadataDirectory.resolve(DistributedMetadataHelper.getMetadataSpecificationFilePath(repository)));
+            for (String file : Lists.immutable.with(DistributedMetadataHelper.getMetadataClassifierIndexFilePath(repository, "x"), DistributedMetadataHelper.getMetadataPartitionBinFilePath(repository, 0), DistributedMetadataHelper.getClassifierIdStringsIndexFilePath(repository)))
+            {
+                Path directory = distributedMetadataDirectory.resolve(file).getParent();
+                if (Files.isDirectory(directory))
+                {
+                    try (Stream<Path> paths = Files.walk(directory))
+                    {
+                        for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList()))
+                        {
+                            Files.delete(path);
+                        }
+                    }
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private static void writeJavaClassFiles(long start, PureJavaCompiler compiler, File classesDirectory, Log log)
@@ -509,7 +787,8 @@ public class JavaCodeGeneration
         long writeClassFilesStart = startStep(writeClassFilesStep, log);
         try
         {
-            compiler.writeClassJavaSources(classesDirectory.toPath(), log);
+            // only write the classes compiled now, not those loaded from the classes directory
+            compiler.getFileManager().writeClassJavaSources(classesDirectory.toPath(), log);
         }
         catch (IOException e)
         {
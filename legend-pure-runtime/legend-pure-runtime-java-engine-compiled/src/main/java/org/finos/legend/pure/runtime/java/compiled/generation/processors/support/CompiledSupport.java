@@ -60,11 +60,8 @@ import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.coreinstance.compileState.CompileState;
 import org.finos.legend.pure.m4.coreinstance.primitive.date.PureDate;
 import org.finos.legend.pure.m4.exception.PureException;
-import org.finos.legend.pure.runtime.java.compiled.compiler.MemoryClassLoader;
+import org.finos.legend.pure.runtime.java.compiled.compiler.DynamicJavaClassCache;
 import org.finos.legend.pure.runtime.java.compiled.compiler.MemoryFileManager;
-import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompileException;
-import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
-import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledProcessorSupport;
 import org.finos.legend.pure.runtime.java.compiled.execution.ConsoleCompiled;
@@ -90,8 +87,6 @@ import org.json.simple.JSONValue;
 import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 
-import javax.tools.JavaCompiler;
-import javax.tools.ToolProvider;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -1626,6 +1621,11 @@ public class CompiledSupport
 
 
     public static Object dynamicallyBuildLambdaFunction(CoreInstance lambdaFunction, ExecutionSupport es)
+    {
+        return dynamicallyBuildLambdaFunction(lambdaFunction, es, DynamicJavaClassCache.getGlobalCache());
+    }
+
+    public static Object dynamicallyBuildLambdaFunction(CoreInstance lambdaFunction, ExecutionSupport es, DynamicJavaClassCache classCache)
     {
         ClassLoader globalClassLoader = ((CompiledExecutionSupport) es).getClassLoader();
         CompiledProcessorSupport compiledSupport = new CompiledProcessorSupport(globalClassLoader, ((CompiledExecutionSupport) es).getMetadata(), ((CompiledExecutionSupport) es).getExtraSupportedTypes());
@@ -1640,24 +1640,9 @@ public class CompiledSupport
                 "}";
 
         MemoryFileManager fileManager = ((CompiledExecutionSupport) es).getMemoryFileManager();
-        MutableList<StringJavaSource> javaClasses = Lists.mutable.empty();
-        javaClasses.add(StringJavaSource.newStringJavaSource("temp", name, _class));
-        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
-        MemoryFileManager manager = new MemoryFileManager(compiler, fileManager, null);
-
-        try
-        {
-            PureJavaCompiler.compile(compiler, javaClasses, manager);
-        }
-        catch (PureJavaCompileException e)
-        {
-            throw new RuntimeException(e);
-        }
-
-        ClassLoader cl = new MemoryClassLoader(manager, globalClassLoader);
         try
         {
-            Class<?> realClass = cl.loadClass("temp" + "." + name);
+            Class<?> realClass = classCache.getOrCompile("temp", name, _class, fileManager, globalClassLoader);
             return realClass.getMethod("build", MutableMap.class, IntObjectMap.class).invoke(null, processorContext.getObjectToPassToDynamicallyGeneratedCode(), processorContext.getLocalLambdas());
         }
         catch (Exception e)
@@ -1727,13 +1712,10 @@ public class CompiledSupport
                 "}\n";
 
         String javaPackage = JavaPackageAndImportBuilder.buildPackageForPackageableElement(valueSpecification);
-        ListIterable<StringJavaSource> javaClasses = Lists.immutable.with(StringJavaSource.newStringJavaSource(javaPackage, name, _class));
-        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
-        MemoryFileManager manager = new MemoryFileManager(compiler, fileManager, null);
-
+        Class<?> realClass;
         try
         {
-            PureJavaCompiler.compile(compiler, javaClasses, manager);
+            realClass = DynamicJavaClassCache.getGlobalCache().getOrCompile(javaPackage, name, _class, fileManager, globalClassLoader);
         }
         catch (Exception e)
         {
@@ -1747,10 +1729,8 @@ public class CompiledSupport
             throw new RuntimeException(message.toString(), e);
         }
 
-        ClassLoader cl = new MemoryClassLoader(manager, globalClassLoader);
         try
         {
-            Class<?> realClass = cl.loadClass(javaPackage + "." + name);
             return realClass.getMethod("doProcess", MapIterable.class, MutableMap.class, IntObjectMap.class, ExecutionSupport.class).invoke(null, openVars, processorContext.getObjectToPassToDynamicallyGeneratedCode(), processorContext.getLocalLambdas(), es);
         }
         catch (Exception e)
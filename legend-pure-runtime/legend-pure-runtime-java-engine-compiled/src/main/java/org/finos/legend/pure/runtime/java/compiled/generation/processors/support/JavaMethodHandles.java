@@ -0,0 +1,142 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.processors.support;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Cached method handles for the reflective dispatch done by the compiled
+ * runtime on generated classes: property getters and setters, and the name
+ * constructor of generated _Impl classes. Handles are cached per Java class,
+ * so they are released along with the class loader which loaded the class.
+ *
+ * <p>All handles are adapted to generic types, so callers can use
+ * {@link MethodHandle#invokeExact} with {@link Object} arguments and results.
+ */
+public class JavaMethodHandles
+{
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, RichIterable.class);
+    private static final MethodType NAME_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, String.class);
+    private static final String NAME_CONSTRUCTOR_KEY = "<init>";
+
+    private static final ClassValue<ConcurrentMutableMap<String, MethodHandle>> GETTERS = newHandleCache();
+    private static final ClassValue<ConcurrentMutableMap<String, MethodHandle>> SETTERS = newHandleCache();
+    private static final ClassValue<ConcurrentMutableMap<String, MethodHandle>> CONSTRUCTORS = newHandleCache();
+
+    private JavaMethodHandles()
+    {
+    }
+
+    /**
+     * Get a handle for the getter of a property, of type (Object)Object.
+     *
+     * @param javaClass    generated class or interface
+     * @param propertyName property name
+     * @return getter handle
+     */
+    public static MethodHandle getPropertyGetter(Class<?> javaClass, String propertyName) throws NoSuchMethodException, IllegalAccessException
+    {
+        ConcurrentMutableMap<String, MethodHandle> getters = GETTERS.get(javaClass);
+        MethodHandle getter = getters.get(propertyName);
+        if (getter == null)
+        {
+            getter = unreflect(javaClass.getMethod("_" + propertyName)).asType(GETTER_TYPE);
+            MethodHandle existing = getters.putIfAbsent(propertyName, getter);
+            if (existing != null)
+            {
+                getter = existing;
+            }
+        }
+        return getter;
+    }
+
+    /**
+     * Get a handle for the to-many setter of a property, of type
+     * (Object,RichIterable)void.
+     *
+     * @param javaClass    generated class
+     * @param propertyName property name
+     * @return setter handle
+     */
+    public static MethodHandle getPropertySetter(Class<?> javaClass, String propertyName) throws NoSuchMethodException, IllegalAccessException
+    {
+        ConcurrentMutableMap<String, MethodHandle> setters = SETTERS.get(javaClass);
+        MethodHandle setter = setters.get(propertyName);
+        if (setter == null)
+        {
+            setter = unreflect(javaClass.getMethod("_" + propertyName, RichIterable.class)).asType(SETTER_TYPE);
+            MethodHandle existing = setters.putIfAbsent(propertyName, setter);
+            if (existing != null)
+            {
+                setter = existing;
+            }
+        }
+        return setter;
+    }
+
+    /**
+     * Get a handle for the constructor of a generated _Impl class which
+     * takes the instance name, of type (String)Object.
+     *
+     * @param javaClass generated _Impl class
+     * @return constructor handle
+     */
+    public static MethodHandle getNameConstructor(Class<?> javaClass) throws NoSuchMethodException, IllegalAccessException
+    {
+        ConcurrentMutableMap<String, MethodHandle> constructors = CONSTRUCTORS.get(javaClass);
+        MethodHandle constructor = constructors.get(NAME_CONSTRUCTOR_KEY);
+        if (constructor == null)
+        {
+            constructor = MethodHandles.publicLookup().unreflectConstructor(javaClass.getConstructor(String.class)).asType(NAME_CONSTRUCTOR_TYPE);
+            MethodHandle existing = constructors.putIfAbsent(NAME_CONSTRUCTOR_KEY, constructor);
+            if (existing != null)
+            {
+                constructor = existing;
+            }
+        }
+        return constructor;
+    }
+
+    /**
+     * Get a handle for a public method.
+     *
+     * @param method method
+     * @return method handle
+     */
+    public static MethodHandle unreflect(Method method) throws IllegalAccessException
+    {
+        return MethodHandles.publicLookup().unreflect(method);
+    }
+
+    private static ClassValue<ConcurrentMutableMap<String, MethodHandle>> newHandleCache()
+    {
+        return new ClassValue<ConcurrentMutableMap<String, MethodHandle>>()
+        {
+            @Override
+            protected ConcurrentMutableMap<String, MethodHandle> computeValue(Class<?> type)
+            {
+                return ConcurrentHashMap.newMap();
+            }
+        };
+    }
+}
@@ -258,7 +258,7 @@ public class ValueSpecificationProcessor
     {
         String pureFunctionString = createFunctionForLambda(topLevelElement, function, processorSupport, processorContext);
         return processorContext.isInLineAllLambda() ?
-               ("new PureCompiledLambda((" + FullJavaPaths.LambdaFunction + ")localLambdas.get(" + System.identityHashCode(function) + "), " + pureFunctionString + ")") :
+               ("new PureCompiledLambda((" + FullJavaPaths.LambdaFunction + ")localLambdas.get(" + processorContext.registerLocalLambda(function) + "), " + pureFunctionString + ")") :
                ("new PureCompiledLambda(es, \"" + processorContext.getIdBuilder().buildId(function) + "\", " + pureFunctionString + ")");
     }
 
@@ -295,7 +295,7 @@ public class ValueSpecificationProcessor
             pureFunctionString = createLambdaBody(topLevelElement, function, processorContext, notOpenVariables, functionType, params);
             if (processorContext.isInLineAllLambda())
             {
-                processorContext.registerLocalLambdas(System.identityHashCode(function), function);
+                processorContext.registerLocalLambda(function);
             }
 
         }
@@ -23,19 +23,32 @@ import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureException;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CompiledSupport;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.JavaMethodHandles;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function.SharedPureFunction;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 public final class JavaMethodSharedPureFunction<R> implements SharedPureFunction<R>
 {
-    private final Method propertyMethod;
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<?> declaringClass;
+    private final MethodHandle propertyGetter;
     private final SourceInformation sourceInformation;
 
     JavaMethodSharedPureFunction(Method propertyMethod, SourceInformation sourceInformation)
     {
-        this.propertyMethod = propertyMethod;
+        this.declaringClass = propertyMethod.getDeclaringClass();
+        try
+        {
+            this.propertyGetter = JavaMethodHandles.unreflect(propertyMethod).asType(GETTER_TYPE);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new RuntimeException("Cannot access method " + propertyMethod, e);
+        }
         this.sourceInformation = sourceInformation;
     }
 
@@ -43,17 +56,22 @@ public final class JavaMethodSharedPureFunction<R> implements SharedPureFunction
     @SuppressWarnings("unchecked")
     public R execute(ListIterable<?> vars, ExecutionSupport es)
     {
+        Object instance = vars.get(0);
+        if ((instance != null) && !this.declaringClass.isInstance(instance))
+        {
+            throw new PureExecutionException(this.sourceInformation, "Error during dynamic function evaluation. The type " + ((CompiledExecutionSupport) es).getProcessorSupport().getClassifier((CoreInstance) instance).getName() + " is not compatible with the type " + CompiledSupport.getPureClassName(this.declaringClass), Stacks.mutable.empty());
+        }
         try
         {
-            return (R) this.propertyMethod.invoke(vars.get(0));
+            return (R) (Object) this.propertyGetter.invokeExact(instance);
         }
-        catch (IllegalArgumentException e)
+        catch (Error e)
         {
-            throw new PureExecutionException(this.sourceInformation, "Error during dynamic function evaluation. The type " + ((CompiledExecutionSupport) es).getProcessorSupport().getClassifier((CoreInstance) vars.get(0)).getName() + " is not compatible with the type " + CompiledSupport.getPureClassName(this.propertyMethod.getDeclaringClass()), e, Stacks.mutable.empty());
+            throw e;
         }
-        catch (Exception e)
+        catch (Throwable t)
         {
-            PureException pureException = PureException.findPureException(e);
+            PureException pureException = PureException.findPureException(t);
             if (pureException != null)
             {
                 throw pureException;
@@ -63,7 +81,7 @@ public final class JavaMethodSharedPureFunction<R> implements SharedPureFunction
             {
                 vars.asLazy().reject(v -> v instanceof ExecutionSupport).appendString(builder, " with params [", ", ", "]");
             }
-            throw new PureExecutionException(this.sourceInformation, builder.toString(), (e instanceof InvocationTargetException) ? e.getCause() : e, Stacks.mutable.empty());
+            throw new PureExecutionException(this.sourceInformation, builder.toString(), t, Stacks.mutable.empty());
         }
     }
 }
@@ -21,22 +21,41 @@ import org.finos.legend.pure.m3.execution.ExecutionSupport;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 import org.finos.legend.pure.m4.exception.PureException;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CompiledSupport;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.JavaMethodHandles;
 import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function.SharedPureFunction;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 public final class JavaMethodWithParamsSharedPureFunction<R> implements SharedPureFunction<R>
 {
-    private final Method method;
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final MethodHandle method;
     private final Class<?>[] paramClasses;
+    private final Class<?>[] methodParamClasses;
+    private final Class<?>[] methodArgClasses;
     private final SourceInformation sourceInformation;
     private final boolean appendExecutionSupportParameter;
 
     public JavaMethodWithParamsSharedPureFunction(Method method, Class<?>[] paramClasses, SourceInformation sourceInformation)
     {
-        this.method = method;
+        try
+        {
+            this.method = JavaMethodHandles.unreflect(method).asSpreader(Object[].class, method.getParameterCount()).asType(SPREAD_TYPE);
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new PureExecutionException(sourceInformation, "Failed to invoke java function.", e, Stacks.mutable.empty());
+        }
         this.paramClasses = paramClasses;
+        this.methodParamClasses = method.getParameterTypes();
+        this.methodArgClasses = new Class<?>[this.methodParamClasses.length];
+        for (int i = 0; i < this.methodParamClasses.length; i++)
+        {
+            this.methodArgClasses[i] = MethodType.methodType(this.methodParamClasses[i]).wrap().returnType();
+        }
         this.sourceInformation = sourceInformation;
         this.appendExecutionSupportParameter = (this.paramClasses.length > 0 && (this.paramClasses[paramClasses.length - 1] == ExecutionSupport.class));
     }
@@ -50,30 +69,20 @@ public final class JavaMethodWithParamsSharedPureFunction<R> implements SharedPu
     @SuppressWarnings("unchecked")
     public R execute(ListIterable<?> vars, ExecutionSupport es)
     {
+        Object[] args = getMethodArgs(vars, es);
+        // arguments are checked up front, so that anything thrown by the handle comes from the method itself
+        checkArguments(args);
         try
         {
-            return (R) this.method.invoke(null, getMethodArgs(vars, es));
+            return (R) (Object) this.method.invokeExact(args);
         }
-        catch (IllegalArgumentException e)
+        catch (Error e)
         {
-            vars.forEachWithIndex((var, i) ->
-            {
-                if (!this.paramClasses[i].isInstance(var))
-                {
-                    String argumentType = CompiledSupport.getPureClassName(var);
-                    String paramType = CompiledSupport.getPureClassName(this.paramClasses[i]);
-                    throw new PureExecutionException(this.sourceInformation, "Error during dynamic function evaluation. The type " + argumentType + " is not compatible with the type " + paramType, e, Stacks.mutable.empty());
-                }
-            });
             throw e;
         }
-        catch (IllegalAccessException e)
-        {
-            throw new PureExecutionException(this.sourceInformation, "Failed to invoke java function.", e, Stacks.mutable.empty());
-        }
-        catch (Exception e)
+        catch (Throwable t)
         {
-            PureException pureException = PureException.findPureException(e);
+            PureException pureException = PureException.findPureException(t);
             if (pureException != null)
             {
                 throw pureException;
@@ -83,7 +92,32 @@ public final class JavaMethodWithParamsSharedPureFunction<R> implements SharedPu
             {
                 vars.asLazy().reject(v -> v instanceof ExecutionSupport).appendString(builder, " with params [", ", ", "]");
             }
-            throw new PureExecutionException(this.sourceInformation, builder.toString(), (e instanceof InvocationTargetException) ? e.getCause() : e, Stacks.mutable.empty());
+            throw new PureExecutionException(this.sourceInformation, builder.toString(), t, Stacks.mutable.empty());
+        }
+    }
+
+    private void checkArguments(Object[] args)
+    {
+        if (args.length != this.methodParamClasses.length)
+        {
+            throw new IllegalArgumentException("wrong number of arguments: expected " + this.methodParamClasses.length + ", got " + args.length);
+        }
+        for (int i = 0; i < args.length; i++)
+        {
+            Object arg = args[i];
+            if (arg == null)
+            {
+                if (this.methodParamClasses[i].isPrimitive())
+                {
+                    throw new IllegalArgumentException("null cannot be passed for parameter " + i + " of primitive type " + this.methodParamClasses[i].getName());
+                }
+            }
+            else if (!this.methodArgClasses[i].isInstance(arg))
+            {
+                String argumentType = CompiledSupport.getPureClassName(arg);
+                String paramType = CompiledSupport.getPureClassName(this.methodParamClasses[i]);
+                throw new PureExecutionException(this.sourceInformation, "Error during dynamic function evaluation. The type " + argumentType + " is not compatible with the type " + paramType, Stacks.mutable.empty());
+            }
         }
     }
 
@@ -66,15 +66,17 @@ public class MetadataLazy implements Metadata {
     private final DistributedBinaryGraphDeserializer deserializer;
     private final ConcurrentMutableMap<String, Constructor<? extends CoreInstance>> constructors = ConcurrentHashMap
             .newMap();
-    private final ConcurrentMutableMap<String, ConcurrentMutableMap<String, CoreInstance>> instanceCache = ConcurrentHashMap
-            .newMap();
+    private final MetadataLazyCachePolicy cachePolicy;
+    private final ConcurrentMutableMap<String, MetadataLazyCache> instanceCache = ConcurrentHashMap.newMap();
 
     private volatile Constructor<? extends CoreInstance> enumConstructor = null; // NOSONAR we actually want to protect
                                                                                  // the pointer
 
-    private MetadataLazy(ClassLoader classLoader, DistributedBinaryGraphDeserializer deserializer) {
+    private MetadataLazy(ClassLoader classLoader, DistributedBinaryGraphDeserializer deserializer,
+            MetadataLazyCachePolicy cachePolicy) {
         this.classLoader = classLoader;
         this.deserializer = deserializer;
+        this.cachePolicy = cachePolicy;
     }
 
     @Override
@@ -99,8 +101,7 @@ public class MetadataLazy implements Metadata {
 
     @Override
     public MapIterable<String, CoreInstance> getMetadata(String classifier) {
-        return hasClassifier(classifier) ? loadAllClassifierInstances(classifier).asUnmodifiable()
-                : Maps.fixedSize.empty();
+        return hasClassifier(classifier) ? loadAllClassifierInstances(classifier) : Maps.fixedSize.empty();
     }
 
     @Override
@@ -116,19 +117,18 @@ public class MetadataLazy implements Metadata {
                     + "': unknown enumeration");
         }
 
-        ConcurrentMutableMap<String, CoreInstance> cache = getClassifierInstanceCache(enumerationName);
-        CoreInstance result = cache.get(enumName);
+        CoreInstance result = getClassifierInstanceCache(enumerationName).get(enumName);
         if (result == null) {
-            // might not have loaded yet, so request full load and try again:
-            loadAllClassifierInstances(enumerationName);
-            result = cache.get(enumName);
+            // might not have loaded yet (or may have been evicted), so request full load and try again:
+            MapIterable<String, CoreInstance> allValues = loadAllClassifierInstances(enumerationName);
+            result = allValues.get(enumName);
             if (result == null) {
                 StringBuilder builder = new StringBuilder("Cannot find enum '").append(enumName)
                         .append("' in enumeration '").append(enumerationName).append("' unknown enum value");
-                if (cache.isEmpty()) {
+                if (allValues.isEmpty()) {
                     builder.append(" (no known values)");
                 } else {
-                    cache.keysView().appendString(builder, " (known values: '", "', '", "')");
+                    allValues.keysView().appendString(builder, " (known values: '", "', '", "')");
                 }
                 throw new RuntimeException(builder.toString());
             }
@@ -173,7 +173,7 @@ public class MetadataLazy implements Metadata {
         MutableMap<ObjRef, CoreInstance> objectByRef = Maps.mutable.withInitialCapacity(objRefCounter.getCount());
         objRefsByClassifier.forEachKeyValue((classifier, objRefs) -> {
             MutableList<String> idsToDeserialize = Lists.mutable.withInitialCapacity(objRefs.size());
-            ConcurrentMutableMap<String, CoreInstance> classifierCache = getClassifierInstanceCache(classifier);
+            MetadataLazyCache classifierCache = getClassifierInstanceCache(classifier);
             objRefs.forEach(objRef -> {
                 String id = objRef.getId();
                 CoreInstance cachedInstance = classifierCache.get(id);
@@ -186,7 +186,7 @@ public class MetadataLazy implements Metadata {
             if (idsToDeserialize.notEmpty()) {
                 ListIterable<Obj> deserialized = getInstances(classifier, idsToDeserialize);
                 deserialized.forEach(obj -> {
-                    CoreInstance cachedInstance = classifierCache.getIfAbsentPut(obj.getIdentifier(),
+                    CoreInstance cachedInstance = classifierCache.computeIfAbsent(obj.getIdentifier(),
                             () -> newInstance(classifier, obj));
                     objectByRef.put(new ObjRef(obj.getClassifier(), obj.getIdentifier()), cachedInstance);
                 });
@@ -226,26 +226,52 @@ public class MetadataLazy implements Metadata {
         return this.deserializer.getInstances(classifier, instanceIds);
     }
 
-    private ConcurrentMutableMap<String, CoreInstance> loadAllClassifierInstances(String classifier) {
+    private MapIterable<String, CoreInstance> loadAllClassifierInstances(String classifier) {
         RichIterable<String> instanceIds = getClassifierInstanceIds(classifier);
-        ConcurrentMutableMap<String, CoreInstance> classifierCache = getClassifierInstanceCache(classifier);
-        if (classifierCache.size() < instanceIds.size()) {
-            MutableList<String> notLoadedIds = instanceIds.reject(classifierCache::containsKey, Lists.mutable.empty());
-            if (notLoadedIds.notEmpty()) {
-                ListIterable<Obj> objs = getInstances(classifier, notLoadedIds);
-                objs.forEach(
-                        obj -> classifierCache.getIfAbsentPut(obj.getIdentifier(), () -> newInstance(classifier, obj)));
+        MetadataLazyCache classifierCache = getClassifierInstanceCache(classifier);
+        // compare the size of the map returned rather than the cache, as instances may be evicted in between
+        MapIterable<String, CoreInstance> cachedInstances = classifierCache.asUnmodifiable();
+        if (cachedInstances.size() >= instanceIds.size()) {
+            return cachedInstances;
+        }
+
+        // The cache may not be able to hold every instance, so collect the result separately
+        MutableMap<String, CoreInstance> instances = Maps.mutable.withInitialCapacity(instanceIds.size());
+        MutableList<String> notLoadedIds = Lists.mutable.empty();
+        instanceIds.forEach(id -> {
+            CoreInstance cachedInstance = classifierCache.get(id);
+            if (cachedInstance == null) {
+                notLoadedIds.add(id);
+            } else {
+                instances.put(id, cachedInstance);
             }
+        });
+        if (notLoadedIds.notEmpty()) {
+            ListIterable<Obj> objs = getInstances(classifier, notLoadedIds);
+            objs.forEach(obj -> instances.put(obj.getIdentifier(),
+                    classifierCache.computeIfAbsent(obj.getIdentifier(), () -> newInstance(classifier, obj))));
         }
-        return classifierCache;
+        return instances.asUnmodifiable();
     }
 
     private CoreInstance toJavaObject(String classifier, String id) {
         return getClassifierInstanceCache(classifier).getIfAbsentPut(id, () -> newInstance(classifier, id));
     }
 
-    private ConcurrentMutableMap<String, CoreInstance> getClassifierInstanceCache(String classifier) {
-        return this.instanceCache.getIfAbsentPut(classifier, ConcurrentHashMap::newMap);
+    private MetadataLazyCache getClassifierInstanceCache(String classifier) {
+        return this.instanceCache.getIfAbsentPutWithKey(classifier, this.cachePolicy::newCache);
+    }
+
+    /**
+     * Get statistics for the instance cache of each classifier which has been accessed.
+     *
+     * @return cache statistics by classifier
+     */
+    public MapIterable<String, MetadataLazyCacheStatistics> getCacheStatistics() {
+        MutableMap<String, MetadataLazyCacheStatistics> statistics = Maps.mutable
+                .withInitialCapacity(this.instanceCache.size());
+        this.instanceCache.forEachKeyValue((classifier, cache) -> statistics.put(classifier, cache.getStatistics()));
+        return statistics;
     }
 
     private CoreInstance newInstance(String classifier, String id) {
@@ -312,9 +338,15 @@ public class MetadataLazy implements Metadata {
     }
 
     public static MetadataLazy newMetadata(ClassLoader classLoader, DistributedBinaryGraphDeserializer deserializer) {
+        return newMetadata(classLoader, deserializer, MetadataLazyCachePolicies.unbounded());
+    }
+
+    public static MetadataLazy newMetadata(ClassLoader classLoader, DistributedBinaryGraphDeserializer deserializer,
+            MetadataLazyCachePolicy cachePolicy) {
         Objects.requireNonNull(classLoader, "class loader may not be null");
         Objects.requireNonNull(deserializer, "deserializer may not be null");
-        return new MetadataLazy(classLoader, deserializer);
+        Objects.requireNonNull(cachePolicy, "cache policy may not be null");
+        return new MetadataLazy(classLoader, deserializer, cachePolicy);
     }
 
     public static MetadataLazy fromClassLoader(ClassLoader classLoader) {
@@ -323,7 +355,7 @@ public class MetadataLazy implements Metadata {
                 .withNoMetadataName()
                 .withObjValidation()
                 .build();
-        return new MetadataLazy(classLoader, deserializer);
+        return new MetadataLazy(classLoader, deserializer, MetadataLazyCachePolicies.unbounded());
     }
 
     public static MetadataLazy fromClassLoader(ClassLoader classLoader, String metadataName) {
@@ -349,6 +381,6 @@ public class MetadataLazy implements Metadata {
                 .withObjValidation();
         specs.forEach(spec -> builder.withMetadataName(spec.getName()));
         DistributedBinaryGraphDeserializer deserializer = builder.build();
-        return new MetadataLazy(classLoader, deserializer);
+        return new MetadataLazy(classLoader, deserializer, MetadataLazyCachePolicies.unbounded());
     }
 }
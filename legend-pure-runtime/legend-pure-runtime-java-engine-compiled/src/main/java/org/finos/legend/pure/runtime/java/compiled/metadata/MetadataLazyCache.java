@@ -0,0 +1,69 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.metadata;
+
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.map.MapIterable;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+/**
+ * Cache of the instances of a single classifier held by {@link MetadataLazy}.
+ */
+public interface MetadataLazyCache
+{
+    /**
+     * Get the cached instance for the given id, or null if it is not cached. Records a hit or miss.
+     *
+     * @param id instance id
+     * @return cached instance or null
+     */
+    CoreInstance get(String id);
+
+    /**
+     * Get the cached instance for the given id, computing and caching it if it is not present. Records a hit or miss.
+     *
+     * @param id       instance id
+     * @param function function to compute the instance
+     * @return cached instance
+     */
+    CoreInstance getIfAbsentPut(String id, Function0<? extends CoreInstance> function);
+
+    /**
+     * Get the cached instance for the given id, computing and caching it if it is not present. The function is only
+     * evaluated if there is no instance for the id. Does not record a hit or miss, as it is intended for instances
+     * loaded in bulk following a miss.
+     *
+     * @param id       instance id
+     * @param function function to compute the instance
+     * @return the instance now cached for the id
+     */
+    CoreInstance computeIfAbsent(String id, Function0<? extends CoreInstance> function);
+
+    /**
+     * Number of instances currently cached.
+     *
+     * @return cache size
+     */
+    int size();
+
+    /**
+     * Unmodifiable map of the instances currently cached. This may be either a view or a snapshot.
+     *
+     * @return cached instances by id
+     */
+    MapIterable<String, CoreInstance> asUnmodifiable();
+
+    MetadataLazyCacheStatistics getStatistics();
+}
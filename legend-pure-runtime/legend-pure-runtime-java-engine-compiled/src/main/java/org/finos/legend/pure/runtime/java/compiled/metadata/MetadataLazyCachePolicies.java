@@ -0,0 +1,212 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.metadata;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Standard cache policies for {@link MetadataLazy}.
+ * <p>
+ * Policies which evict instances still preserve instance identity: an evicted instance which is still referenced
+ * elsewhere is found again when requested, rather than created anew, so only unreferenced instances are ever
+ * recreated. Classifiers whose instances are expensive to reload (e.g., enumerations) can be kept fully resident
+ * using {@link #withPinnedClassifiers}.
+ */
+public class MetadataLazyCachePolicies
+{
+    private static final MetadataLazyCachePolicy UNBOUNDED = classifier -> new UnboundedCache();
+
+    private MetadataLazyCachePolicies()
+    {
+        // static factory
+    }
+
+    /**
+     * Cache every instance requested for as long as the metadata is in use. This is the default policy.
+     *
+     * @return unbounded cache policy
+     */
+    public static MetadataLazyCachePolicy unbounded()
+    {
+        return UNBOUNDED;
+    }
+
+    /**
+     * Cache at most the given number of instances per classifier, evicting the least recently used first.
+     *
+     * @param maximumSize maximum number of instances per classifier
+     * @return size bounded cache policy
+     */
+    public static MetadataLazyCachePolicy maximumSize(long maximumSize)
+    {
+        if (maximumSize < 0)
+        {
+            throw new IllegalArgumentException("maximumSize may not be negative: " + maximumSize);
+        }
+        return classifier -> new GuavaCache(CacheBuilder.newBuilder().recordStats().maximumSize(maximumSize).build());
+    }
+
+    /**
+     * Cache instances using soft references, so that they can be reclaimed by the garbage collector in response to
+     * memory demand.
+     *
+     * @return soft reference cache policy
+     */
+    public static MetadataLazyCachePolicy softValues()
+    {
+        return classifier -> new GuavaCache(CacheBuilder.newBuilder().recordStats().softValues().build());
+    }
+
+    /**
+     * Keep the instances of classifiers matching the predicate fully resident, and use the given policy for all
+     * other classifiers.
+     *
+     * @param pinnedClassifiers predicate for classifiers whose instances should be pinned
+     * @param policy            policy for all other classifiers
+     * @return cache policy
+     */
+    public static MetadataLazyCachePolicy withPinnedClassifiers(Predicate<? super String> pinnedClassifiers, MetadataLazyCachePolicy policy)
+    {
+        Objects.requireNonNull(pinnedClassifiers, "pinnedClassifiers may not be null");
+        Objects.requireNonNull(policy, "policy may not be null");
+        return classifier -> pinnedClassifiers.test(classifier) ? new UnboundedCache() : policy.newCache(classifier);
+    }
+
+    private static class UnboundedCache implements MetadataLazyCache
+    {
+        private final ConcurrentMutableMap<String, CoreInstance> map = ConcurrentHashMap.newMap();
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+
+        @Override
+        public CoreInstance get(String id)
+        {
+            return record(this.map.get(id));
+        }
+
+        @Override
+        public CoreInstance getIfAbsentPut(String id, Function0<? extends CoreInstance> function)
+        {
+            CoreInstance instance = record(this.map.get(id));
+            return (instance == null) ? this.map.getIfAbsentPut(id, function) : instance;
+        }
+
+        @Override
+        public CoreInstance computeIfAbsent(String id, Function0<? extends CoreInstance> function)
+        {
+            return this.map.getIfAbsentPut(id, function);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.map.size();
+        }
+
+        @Override
+        public MapIterable<String, CoreInstance> asUnmodifiable()
+        {
+            return this.map.asUnmodifiable();
+        }
+
+        @Override
+        public MetadataLazyCacheStatistics getStatistics()
+        {
+            return new MetadataLazyCacheStatistics(this.map.size(), this.hitCount.sum(), this.missCount.sum(), 0L);
+        }
+
+        private CoreInstance record(CoreInstance instance)
+        {
+            ((instance == null) ? this.missCount : this.hitCount).increment();
+            return instance;
+        }
+    }
+
+    private static class GuavaCache implements MetadataLazyCache
+    {
+        private final Cache<String, CoreInstance> cache;
+        // every instance handed out, held weakly, so that an instance evicted from cache but still referenced is
+        // found again rather than replaced by a second instance for the same id
+        private final ConcurrentMap<String, CoreInstance> instances = CacheBuilder.newBuilder().weakValues().<String, CoreInstance>build().asMap();
+        private final LongAdder hitCount = new LongAdder();
+        private final LongAdder missCount = new LongAdder();
+
+        private GuavaCache(Cache<String, CoreInstance> cache)
+        {
+            this.cache = cache;
+        }
+
+        @Override
+        public CoreInstance get(String id)
+        {
+            CoreInstance instance = this.cache.getIfPresent(id);
+            if (instance == null)
+            {
+                instance = this.instances.get(id);
+                if (instance != null)
+                {
+                    this.cache.put(id, instance);
+                }
+            }
+            ((instance == null) ? this.missCount : this.hitCount).increment();
+            return instance;
+        }
+
+        @Override
+        public CoreInstance getIfAbsentPut(String id, Function0<? extends CoreInstance> function)
+        {
+            CoreInstance instance = get(id);
+            return (instance == null) ? computeIfAbsent(id, function) : instance;
+        }
+
+        @Override
+        public CoreInstance computeIfAbsent(String id, Function0<? extends CoreInstance> function)
+        {
+            CoreInstance instance = this.instances.computeIfAbsent(id, k -> function.value());
+            this.cache.put(id, instance);
+            return instance;
+        }
+
+        @Override
+        public int size()
+        {
+            return (int) this.cache.size();
+        }
+
+        @Override
+        public MapIterable<String, CoreInstance> asUnmodifiable()
+        {
+            return Maps.immutable.withAll(this.instances);
+        }
+
+        @Override
+        public MetadataLazyCacheStatistics getStatistics()
+        {
+            return new MetadataLazyCacheStatistics(size(), this.hitCount.sum(), this.missCount.sum(), this.cache.stats().evictionCount());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.metadata;
+
+public final class MetadataLazyCacheStatistics
+{
+    private final int size;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    MetadataLazyCacheStatistics(int size, long hitCount, long missCount, long evictionCount)
+    {
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public int getSize()
+    {
+        return this.size;
+    }
+
+    public long getHitCount()
+    {
+        return this.hitCount;
+    }
+
+    public long getMissCount()
+    {
+        return this.missCount;
+    }
+
+    public long getEvictionCount()
+    {
+        return this.evictionCount;
+    }
+
+    public long getRequestCount()
+    {
+        return this.hitCount + this.missCount;
+    }
+
+    public double getHitRate()
+    {
+        long requestCount = getRequestCount();
+        return (requestCount == 0L) ? 1.0 : ((double) this.hitCount / requestCount);
+    }
+
+    @Override
+    public String toString()
+    {
+        return "<" + getClass().getSimpleName() +
+                " size=" + this.size +
+                " hitCount=" + this.hitCount +
+                " missCount=" + this.missCount +
+                " evictionCount=" + this.evictionCount +
+                ">";
+    }
+}
@@ -0,0 +1,155 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.profiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Paths;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.tools.profiler.AbstractSamplingProfiler;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.generation.JavaPackageAndImportBuilder;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.FunctionProcessor;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.IdBuilder;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sampling profiler for the compiled engine. Java stack traces of the followed threads are sampled periodically
+ * (see {@link AbstractSamplingProfiler}), and the frames of the methods generated for Pure functions are mapped back
+ * to the functions and their source. Other Java frames are left out of the report, which is in collapsed stack
+ * format, for flame graphs.
+ * <p>
+ * Frames are mapped using the functions of the runtime's sources, so generated code loaded from elsewhere (such as a
+ * pre-compiled jar with no matching sources) is not reported.
+ */
+public class SamplingProfiler extends AbstractSamplingProfiler
+{
+    private static final String GENERATED_PACKAGE_PREFIX = JavaPackageAndImportBuilder.rootPackage() + ".";
+
+    private final PureRuntime runtime;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private volatile MapIterable<String, String> frameNamesByMethod;
+
+    public SamplingProfiler(PureRuntime runtime, long samplingIntervalMicros)
+    {
+        super(samplingIntervalMicros);
+        this.runtime = runtime;
+    }
+
+    public SamplingProfiler(PureRuntime runtime)
+    {
+        this(runtime, DEFAULT_SAMPLING_INTERVAL_MICROS);
+    }
+
+    /**
+     * Follow the current thread and start sampling, if not already started by another thread.
+     */
+    public void start()
+    {
+        followThread(Thread.currentThread());
+        startRun();
+    }
+
+    /**
+     * Stop following the current thread, and stop sampling if no other thread is still running.
+     */
+    public void end()
+    {
+        endRun();
+        unfollowThread(Thread.currentThread());
+    }
+
+    public void followThread(Thread thread)
+    {
+        this.threads.add(thread);
+    }
+
+    public void unfollowThread(Thread thread)
+    {
+        this.threads.remove(thread);
+    }
+
+    @Override
+    protected void samplingStopped()
+    {
+        // sources may have changed by the next run
+        this.frameNamesByMethod = null;
+    }
+
+    @Override
+    protected void takeSample()
+    {
+        MapIterable<String, String> frameNames = getFrameNamesByMethod();
+        this.threads.removeIf(thread -> !thread.isAlive());
+        for (Thread thread : this.threads)
+        {
+            StackTraceElement[] stackTrace = thread.getStackTrace();
+            MutableList<String> frames = Lists.mutable.empty();
+            for (int i = stackTrace.length - 1; i >= 0; i--)
+            {
+                String frameName = getFrameName(frameNames, stackTrace[i]);
+                if (frameName != null)
+                {
+                    frames.add(frameName);
+                }
+            }
+            recordSample(frames);
+        }
+    }
+
+    private MapIterable<String, String> getFrameNamesByMethod()
+    {
+        if (this.frameNamesByMethod == null)
+        {
+            this.frameNamesByMethod = buildFrameNamesByMethod(this.runtime);
+        }
+        return this.frameNamesByMethod;
+    }
+
+    private static String getFrameName(MapIterable<String, String> frameNames, StackTraceElement element)
+    {
+        String className = element.getClassName();
+        if (!className.startsWith(GENERATED_PACKAGE_PREFIX) || (className.indexOf('.', GENERATED_PACKAGE_PREFIX.length()) != -1))
+        {
+            return null;
+        }
+        return frameNames.get(className.substring(GENERATED_PACKAGE_PREFIX.length()) + "." + element.getMethodName());
+    }
+
+    private static MapIterable<String, String> buildFrameNamesByMethod(PureRuntime runtime)
+    {
+        // the Java code for a function is a static method of the class generated for its source
+        ProcessorSupport processorSupport = runtime.getProcessorSupport();
+        MutableMap<String, String> frameNames = Maps.mutable.empty();
+        runtime.getSourceRegistry().getSources().forEach(source -> source.getNewInstances().forEach(instance ->
+        {
+            if ((instance.getSourceInformation() != null) && Instance.instanceOf(instance, M3Paths.ConcreteFunctionDefinition, processorSupport))
+            {
+                String frameName = getFunctionFrameName(instance);
+                String methodPrefix = IdBuilder.sourceToId(instance.getSourceInformation()) + "." + FunctionProcessor.functionNameToJava(instance);
+                frameNames.put(methodPrefix, frameName);
+                frameNames.put(methodPrefix + "_withConstraints", frameName);
+            }
+        }));
+        return frameNames;
+    }
+}
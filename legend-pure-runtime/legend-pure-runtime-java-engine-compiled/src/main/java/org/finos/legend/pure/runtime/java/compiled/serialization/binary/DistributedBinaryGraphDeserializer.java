@@ -196,6 +196,8 @@ public abstract class DistributedBinaryGraphDeserializer
     {
         private final FileReader fileReader;
         private boolean validateObjs = true;
+        private boolean offHeapStringIndex = false;
+        private int decodedStringCacheSize = 0;
         private MutableSet<String> metadataNames = null;
 
         private Builder(FileReader fileReader)
@@ -219,6 +221,33 @@ public abstract class DistributedBinaryGraphDeserializer
             return withObjValidation(false);
         }
 
+        /**
+         * Keep the metadata string index off the Java heap, decoding strings only when they are requested. This
+         * saves heap and start-up time for large metadata, at the cost of decoding strings on each use. Decoded
+         * strings are kept in a cache of the given size (rounded up to a power of 2); a size of 0 disables the cache.
+         *
+         * @param decodedStringCacheSize decoded string cache size
+         * @return this builder
+         */
+        public Builder withOffHeapStringIndex(int decodedStringCacheSize)
+        {
+            this.offHeapStringIndex = true;
+            this.decodedStringCacheSize = decodedStringCacheSize;
+            return this;
+        }
+
+        public Builder withOffHeapStringIndex()
+        {
+            return withOffHeapStringIndex(0);
+        }
+
+        public Builder withOnHeapStringIndex()
+        {
+            this.offHeapStringIndex = false;
+            this.decodedStringCacheSize = 0;
+            return this;
+        }
+
         public Builder withNoMetadataName()
         {
             this.metadataNames = null;
@@ -266,9 +295,13 @@ public abstract class DistributedBinaryGraphDeserializer
 
         public DistributedBinaryGraphDeserializer build()
         {
+            int cacheSize = this.decodedStringCacheSize;
+            StringIndexFactory stringIndexFactory = this.offHeapStringIndex ?
+                                                    (fileReader, metadataName) -> OffHeapStringIndex.fromFileReader(metadataName, fileReader, cacheSize) :
+                                                    (fileReader, metadataName) -> LazyStringIndex.fromFileReader(metadataName, fileReader);
             if (this.metadataNames == null)
             {
-                return new Single(this.fileReader, null, this.validateObjs);
+                return new Single(this.fileReader, null, stringIndexFactory, this.validateObjs);
             }
             switch (this.metadataNames.size())
             {
@@ -278,16 +311,21 @@ public abstract class DistributedBinaryGraphDeserializer
                 }
                 case 1:
                 {
-                    return new Single(this.fileReader, this.metadataNames.getAny(), this.validateObjs);
+                    return new Single(this.fileReader, this.metadataNames.getAny(), stringIndexFactory, this.validateObjs);
                 }
                 default:
                 {
-                    return new Many(this.fileReader, this.metadataNames, this.validateObjs);
+                    return new Many(this.fileReader, this.metadataNames, stringIndexFactory, this.validateObjs);
                 }
             }
         }
     }
 
+    private interface StringIndexFactory
+    {
+        StringIndex newStringIndex(FileReader fileReader, String metadataName);
+    }
+
     public static class SourceCoordinates implements Serializable
     {
         private final String identifier;
@@ -412,15 +450,15 @@ public abstract class DistributedBinaryGraphDeserializer
     {
         private final String metadataName;
         private final FileReader fileReader;
-        private final LazyStringIndex stringIndex;
+        private final StringIndex stringIndex;
         private final ImmutableMap<String, ClassifierIndex> classifierIndexes;
         private final boolean validateObjs;
 
-        private Single(FileReader fileReader, String metadataName, boolean validateObjs)
+        private Single(FileReader fileReader, String metadataName, StringIndexFactory stringIndexFactory, boolean validateObjs)
         {
             this.metadataName = DistributedMetadataHelper.validateMetadataNameIfPresent(metadataName);
             this.fileReader = fileReader;
-            this.stringIndex = LazyStringIndex.fromFileReader(this.metadataName, fileReader);
+            this.stringIndex = stringIndexFactory.newStringIndex(fileReader, this.metadataName);
             RichIterable<String> classifierIds = this.stringIndex.getClassifierIds();
             this.classifierIndexes = classifierIds.toMap(id -> id, ClassifierIndex::new, Maps.mutable.withInitialCapacity(classifierIds.size())).toImmutable();
             this.validateObjs = validateObjs;
@@ -428,7 +466,7 @@ public abstract class DistributedBinaryGraphDeserializer
 
         private Single(FileReader fileReader, boolean validateObjs)
         {
-            this(fileReader, null, validateObjs);
+            this(fileReader, null, (reader, metadataName) -> LazyStringIndex.fromFileReader(metadataName, reader), validateObjs);
         }
 
         @Override
@@ -634,9 +672,9 @@ public abstract class DistributedBinaryGraphDeserializer
         private final ListIterable<Single> deserializers;
         private final boolean validateObjs;
 
-        private Many(FileReader fileReader, Set<String> metadataNames, boolean validateObjs)
+        private Many(FileReader fileReader, Set<String> metadataNames, StringIndexFactory stringIndexFactory, boolean validateObjs)
         {
-            this.deserializers = Iterate.collect(metadataNames, n -> new Single(fileReader, n, false), Lists.mutable.ofInitialCapacity(metadataNames.size()));
+            this.deserializers = Iterate.collect(metadataNames, n -> new Single(fileReader, n, stringIndexFactory, false), Lists.mutable.ofInitialCapacity(metadataNames.size()));
             this.validateObjs = validateObjs;
         }
 
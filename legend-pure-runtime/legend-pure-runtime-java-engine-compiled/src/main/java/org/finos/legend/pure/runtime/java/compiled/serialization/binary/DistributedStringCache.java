@@ -76,6 +76,21 @@ public class DistributedStringCache extends StringCache
         return index - (index & PARTITION_MASK);
     }
 
+    static int getPartition(int index)
+    {
+        return index / PARTITION_SIZE;
+    }
+
+    static int getPartitionStart(int partition)
+    {
+        return partition * PARTITION_SIZE;
+    }
+
+    static int getPartitionCount(int stringCount)
+    {
+        return (stringCount + PARTITION_MASK) / PARTITION_SIZE;
+    }
+
     private static class DistributedStringCacheBuilder extends Builder<DistributedStringCache>
     {
         private final MutableSet<String> classifierIds = Sets.mutable.empty();
@@ -25,10 +25,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
@@ -52,6 +54,33 @@ public class FileReaders
         return new FileSystemFileReader(directory);
     }
 
+    /**
+     * Get a file reader for a directory which memory maps each file on first access. Subsequent readers for the same
+     * file share the mapped bytes, so repeated access does not require further system calls or buffer copies. Files
+     * are assumed not to change while the reader is in use.
+     *
+     * @param directory root directory
+     * @return memory mapped file reader
+     */
+    public static FileReader fromMappedDirectory(Path directory)
+    {
+        return new MappedFileSystemFileReader(directory);
+    }
+
+    /**
+     * Get the bytes of a file as mapped by a file reader from {@link #fromMappedDirectory}, or null if the file reader
+     * does not map files. The buffer shares the mapped content but has its own position, initially the start of the
+     * file.
+     *
+     * @param fileReader file reader
+     * @param path       file path
+     * @return mapped file bytes, or null
+     */
+    static ByteBuffer getMappedBytes(FileReader fileReader, String path)
+    {
+        return (fileReader instanceof MappedFileSystemFileReader) ? ((MappedFileSystemFileReader) fileReader).getMappedBytes(path) : null;
+    }
+
     public static FileReader fromInMemoryByteArrays(Map<String, ? extends byte[]> fileBytes)
     {
         return new InMemoryBytesFileReader<>(fileBytes, BinaryReaders::newBinaryReader);
@@ -161,6 +190,42 @@ public class FileReaders
         }
     }
 
+    private static class MappedFileSystemFileReader implements FileReader
+    {
+        private final Path root;
+        private final ConcurrentMutableMap<String, ByteBuffer> bufferCache = ConcurrentHashMap.newMap();
+
+        private MappedFileSystemFileReader(Path root)
+        {
+            this.root = root;
+        }
+
+        @Override
+        public Reader getReader(String path)
+        {
+            return BinaryReaders.newBinaryReader(getMappedBytes(path));
+        }
+
+        private ByteBuffer getMappedBytes(String path)
+        {
+            // duplicate shares the mapped content but has an independent position, so it is safe to hand out per reader
+            return this.bufferCache.getIfAbsentPutWithKey(path, this::mapFile).duplicate();
+        }
+
+        private ByteBuffer mapFile(String path)
+        {
+            Path fullPath = this.root.resolve(path);
+            try (FileChannel channel = FileChannel.open(fullPath, StandardOpenOption.READ))
+            {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException("Error accessing file '" + path + "'", e);
+            }
+        }
+    }
+
     private static class InMemoryBytesFileReader<T> implements FileReader
     {
         private final Map<String, ? extends T> bytesByPath;
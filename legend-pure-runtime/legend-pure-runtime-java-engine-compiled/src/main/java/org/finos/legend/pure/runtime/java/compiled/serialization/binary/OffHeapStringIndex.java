@@ -0,0 +1,229 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.serialization.binary;
+
+import org.finos.legend.pure.m4.serialization.Reader;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>A string index for distributed metadata which keeps the encoded strings off the Java heap. Each partition is read
+ * on first use into a direct buffer, which holds a table of string offsets followed by the UTF-8 bytes of the strings.
+ * When the file reader memory maps files (see {@link FileReaders#fromMappedDirectory}), the strings are not copied:
+ * only the offset table is built, and strings are decoded from the mapped partition file. Strings are decoded
+ * individually when requested, so only the strings in use are ever on the heap.</p>
+ *
+ * <p>Decoded strings may optionally be kept in a small cache, so that frequently used strings are not decoded (and
+ * allocated) over and over.</p>
+ */
+public class OffHeapStringIndex extends StringIndex
+{
+    private final String metadataName;
+    private final FileReader fileReader;
+    private final int otherStringCount;
+    private final AtomicReferenceArray<Partition> partitions;
+    private final AtomicReferenceArray<DecodedString> cache;
+    private final int cacheMask;
+
+    private OffHeapStringIndex(String[] classifierStrings, String metadataName, FileReader fileReader, int otherStringCount, int cacheSize)
+    {
+        super(classifierStrings);
+        this.metadataName = metadataName;
+        this.fileReader = fileReader;
+        this.otherStringCount = otherStringCount;
+        this.partitions = new AtomicReferenceArray<>(DistributedStringCache.getPartitionCount(otherStringCount));
+        if (cacheSize > 0)
+        {
+            int actualCacheSize = Integer.highestOneBit(cacheSize);
+            if (actualCacheSize < cacheSize)
+            {
+                actualCacheSize <<= 1;
+            }
+            this.cache = new AtomicReferenceArray<>(actualCacheSize);
+            this.cacheMask = actualCacheSize - 1;
+        }
+        else
+        {
+            this.cache = null;
+            this.cacheMask = 0;
+        }
+    }
+
+    @Override
+    protected String getOtherString(int index)
+    {
+        if (this.cache == null)
+        {
+            return decodeString(index);
+        }
+
+        int slot = index & this.cacheMask;
+        DecodedString cached = this.cache.get(slot);
+        if ((cached != null) && (cached.index == index))
+        {
+            return cached.string;
+        }
+        String string = decodeString(index);
+        this.cache.set(slot, new DecodedString(index, string));
+        return string;
+    }
+
+    private String decodeString(int index)
+    {
+        if (index >= this.otherStringCount)
+        {
+            throw new IndexOutOfBoundsException("index: " + index + ", count: " + this.otherStringCount);
+        }
+        return getPartition(DistributedStringCache.getPartition(index)).getString(index - DistributedStringCache.getStartOfPartition(index));
+    }
+
+    private Partition getPartition(int partition)
+    {
+        Partition loaded = this.partitions.get(partition);
+        if (loaded == null)
+        {
+            Partition newPartition = loadPartition(partition);
+            // if another thread loaded the partition first, use its buffers and let ours be collected
+            loaded = this.partitions.compareAndSet(partition, null, newPartition) ? newPartition : this.partitions.get(partition);
+        }
+        return loaded;
+    }
+
+    private Partition loadPartition(int partition)
+    {
+        String filePath = DistributedMetadataHelper.getOtherStringsIndexPartitionFilePath(this.metadataName, DistributedStringCache.getPartitionStart(partition));
+        ByteBuffer mapped = FileReaders.getMappedBytes(this.fileReader, filePath);
+        return (mapped == null) ? copyPartition(filePath) : indexMappedPartition(mapped);
+    }
+
+    private Partition copyPartition(String filePath)
+    {
+        try (Reader reader = this.fileReader.getReader(filePath))
+        {
+            int partitionLength = reader.readInt();
+            byte[][] strings = new byte[partitionLength][];
+            int totalLength = 0;
+            for (int i = 0; i < partitionLength; i++)
+            {
+                strings[i] = reader.readByteArray();
+                totalLength += strings[i].length;
+            }
+
+            // offset table (one more entry than strings, for the end of the last string), then string bytes
+            int offset = (partitionLength + 1) * Integer.BYTES;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(offset + totalLength);
+            for (int i = 0; i < partitionLength; i++)
+            {
+                buffer.putInt(i * Integer.BYTES, offset);
+                offset += strings[i].length;
+            }
+            buffer.putInt(partitionLength * Integer.BYTES, offset);
+            ((Buffer) buffer).position((partitionLength + 1) * Integer.BYTES);
+            for (byte[] string : strings)
+            {
+                buffer.put(string);
+            }
+            ((Buffer) buffer).clear();
+            ByteBuffer readOnly = buffer.asReadOnlyBuffer();
+            return new Partition(readOnly, readOnly, 0);
+        }
+    }
+
+    private static Partition indexMappedPartition(ByteBuffer mapped)
+    {
+        // the partition file is the string count, then each string as its byte length followed by its UTF-8 bytes: the
+        // offset table holds the position of each length, and the end of the last string
+        int partitionLength = mapped.getInt(0);
+        ByteBuffer offsets = ByteBuffer.allocateDirect((partitionLength + 1) * Integer.BYTES);
+        int position = Integer.BYTES;
+        for (int i = 0; i < partitionLength; i++)
+        {
+            offsets.putInt(i * Integer.BYTES, position);
+            position += Integer.BYTES + mapped.getInt(position);
+        }
+        offsets.putInt(partitionLength * Integer.BYTES, position);
+        return new Partition(offsets.asReadOnlyBuffer(), mapped.asReadOnlyBuffer(), Integer.BYTES);
+    }
+
+    public static OffHeapStringIndex fromFileReader(String metadataName, FileReader fileReader)
+    {
+        return fromFileReader(metadataName, fileReader, 0);
+    }
+
+    /**
+     * Build an off-heap string index from the given file reader, with a cache for decoded strings of the given size.
+     * The cache size is rounded up to a power of 2; if it is not positive, decoded strings are not cached.
+     *
+     * @param metadataName metadata name (may be null)
+     * @param fileReader   file reader
+     * @param cacheSize    decoded string cache size
+     * @return off-heap string index
+     */
+    public static OffHeapStringIndex fromFileReader(String metadataName, FileReader fileReader, int cacheSize)
+    {
+        String[] classifierIds;
+        try (Reader reader = fileReader.getReader(DistributedMetadataHelper.getClassifierIdStringsIndexFilePath(metadataName)))
+        {
+            classifierIds = readClassifierIds(reader);
+        }
+        int otherStringCount;
+        try (Reader reader = fileReader.getReader(DistributedMetadataHelper.getOtherStringsIndexFilePath(metadataName)))
+        {
+            otherStringCount = reader.readInt();
+        }
+        return new OffHeapStringIndex(classifierIds, metadataName, fileReader, otherStringCount, cacheSize);
+    }
+
+    private static class Partition
+    {
+        private final ByteBuffer offsets;
+        private final ByteBuffer bytes;
+        private final int headerLength;
+
+        private Partition(ByteBuffer offsets, ByteBuffer bytes, int headerLength)
+        {
+            this.offsets = offsets;
+            this.bytes = bytes;
+            this.headerLength = headerLength;
+        }
+
+        private String getString(int indexInPartition)
+        {
+            int offsetPosition = indexInPartition * Integer.BYTES;
+            int start = this.offsets.getInt(offsetPosition) + this.headerLength;
+            int end = this.offsets.getInt(offsetPosition + Integer.BYTES);
+            byte[] bytes = new byte[end - start];
+            ByteBuffer view = this.bytes.duplicate();
+            ((Buffer) view).position(start);
+            view.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class DecodedString
+    {
+        private final int index;
+        private final String string;
+
+        private DecodedString(int index, String string)
+        {
+            this.index = index;
+            this.string = string;
+        }
+    }
+}
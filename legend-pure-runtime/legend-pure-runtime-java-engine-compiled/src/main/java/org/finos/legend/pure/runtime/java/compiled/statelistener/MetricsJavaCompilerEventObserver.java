@@ -0,0 +1,87 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.statelistener;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.finos.legend.pure.m3.tools.metrics.PureCounter;
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
+import org.finos.legend.pure.m3.tools.metrics.PureTimer;
+import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
+
+/**
+ * Records Java code generation and compilation timings to {@link PureMetrics}, then passes the events on to another
+ * observer. Compile groups may be generated or compiled concurrently, so start times are kept by group.
+ */
+public class MetricsJavaCompilerEventObserver implements JavaCompilerEventObserver
+{
+    private final JavaCompilerEventObserver delegate;
+    private final PureTimer codeGeneration;
+    private final PureTimer compilation;
+    private final PureCounter generatedSources;
+    private final ConcurrentMutableMap<String, Long> generationStarts = ConcurrentHashMap.newMap();
+    private final ConcurrentMutableMap<String, Long> compilationStarts = ConcurrentHashMap.newMap();
+
+    public MetricsJavaCompilerEventObserver(PureMetrics metrics, JavaCompilerEventObserver delegate)
+    {
+        this.delegate = (delegate == null) ? VoidJavaCompilerEventObserver.VOID_JAVA_COMPILER_EVENT_OBSERVER : delegate;
+        this.codeGeneration = metrics.timer(PureMetrics.CODEGEN);
+        this.compilation = metrics.timer(PureMetrics.JAVAC);
+        this.generatedSources = metrics.counter("compiled.generatedSources");
+    }
+
+    @Override
+    public void startGeneratingJavaFiles(String compileGroup)
+    {
+        this.generationStarts.put(compileGroup, this.codeGeneration.start());
+        this.delegate.startGeneratingJavaFiles(compileGroup);
+    }
+
+    @Override
+    public void endGeneratingJavaFiles(String compileGroup, RichIterable<StringJavaSource> sources)
+    {
+        stop(this.codeGeneration, this.generationStarts.remove(compileGroup));
+        this.generatedSources.add(sources.size());
+        this.delegate.endGeneratingJavaFiles(compileGroup, sources);
+    }
+
+    @Override
+    public void startCompilingJavaFiles(String compileGroup)
+    {
+        this.compilationStarts.put(compileGroup, this.compilation.start());
+        this.delegate.startCompilingJavaFiles(compileGroup);
+    }
+
+    @Override
+    public void endCompilingJavaFiles(String compileGroup)
+    {
+        stop(this.compilation, this.compilationStarts.remove(compileGroup));
+        this.delegate.endCompilingJavaFiles(compileGroup);
+    }
+
+    public JavaCompilerEventObserver getDelegate()
+    {
+        return this.delegate;
+    }
+
+    private static void stop(PureTimer timer, Long start)
+    {
+        if (start != null)
+        {
+            timer.stop(start);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.delta;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class TestCodeBlockDeltaCompiler extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @Test
+    public void testCompileCodeBlock()
+    {
+        CompiledExecutionSupport executionSupport = getExecutionSupport();
+
+        CodeBlockDeltaCompiler.CompilationResult success = CodeBlockDeltaCompiler.compileCodeBlock("1 + 2", executionSupport);
+        Assert.assertNull(success.getFailureMessage());
+        Assert.assertNotNull(success.getResult());
+
+        CodeBlockDeltaCompiler.CompilationResult failure = CodeBlockDeltaCompiler.compileCodeBlock("unknownFunction()", executionSupport);
+        Assert.assertNull(failure.getResult());
+        Assert.assertNotNull(failure.getFailureMessage());
+        Assert.assertTrue(failure.getFailureMessage(), failure.getFailureMessage().contains("unknownFunction()"));
+        Assert.assertEquals(1, failure.getFailureSourceInformation().getLine());
+    }
+
+    @Test
+    public void testCompileCodeBlocksInParallel()
+    {
+        CompiledExecutionSupport executionSupport = getExecutionSupport();
+        ListIterable<String> codeBlocks = Lists.mutable.<String>empty()
+                .with("1 + 2")
+                .with("unknownFunction0()")
+                .with("'a' + 'b'")
+                .with("[1, 2, 3]->map(i | $i * 2)")
+                .with("unknownFunction4()")
+                .with("1 +")
+                .with("true && false")
+                .with("unknownFunction7(1, 2)");
+
+        ListIterable<CodeBlockDeltaCompiler.CompilationResult> sequential = codeBlocks.collect(code -> CodeBlockDeltaCompiler.compileCodeBlock(code, executionSupport));
+        ListIterable<CodeBlockDeltaCompiler.CompilationResult> parallel;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            parallel = CodeBlockDeltaCompiler.compileCodeBlocks(codeBlocks, executionSupport, pool);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        // results are in the order of the code blocks, and each failure is reported for its own block
+        Assert.assertEquals(codeBlocks.size(), parallel.size());
+        Assert.assertEquals(
+                Lists.mutable.with(true, false, true, true, false, false, true, false),
+                parallel.collect(result -> result.getFailureMessage() == null));
+        Assert.assertEquals(sequential.collect(CodeBlockDeltaCompiler.CompilationResult::getFailureMessage), parallel.collect(CodeBlockDeltaCompiler.CompilationResult::getFailureMessage));
+        Assert.assertTrue(parallel.get(1).getFailureMessage(), parallel.get(1).getFailureMessage().contains("unknownFunction0()"));
+        Assert.assertTrue(parallel.get(4).getFailureMessage(), parallel.get(4).getFailureMessage().contains("unknownFunction4()"));
+        Assert.assertTrue(parallel.get(7).getFailureMessage(), parallel.get(7).getFailureMessage().contains("unknownFunction7("));
+        parallel.forEachWithIndex((result, i) -> Assert.assertEquals(codeBlocks.get(i), result.getFailureMessage() == null, result.getResult() != null));
+    }
+
+    private static CompiledExecutionSupport getExecutionSupport()
+    {
+        return ((FunctionExecutionCompiled) functionExecution).getExecutionSupport();
+    }
+
+    protected static FunctionExecution getFunctionExecution()
+    {
+        return new FunctionExecutionCompiledBuilder().build();
+    }
+}
@@ -0,0 +1,158 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.generation.orchestrator;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.SetIterable;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositorySet;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.composite.CompositeCodeStorage;
+import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.fs.MutableFSCodeStorage;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedMetadataHelper;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class TestIncrementalGenerationState
+{
+    private static final String OPTIONS = "modular|true";
+
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private CodeRepositorySet repositories;
+    private CompositeCodeStorage codeStorage;
+    private MutableFSCodeStorage codeStorageA;
+    private MutableFSCodeStorage codeStorageB;
+    private Path classesDirectory;
+    private Path statePath;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        GenericCodeRepository repositoryA = new GenericCodeRepository("test_a", "test_a::.*");
+        GenericCodeRepository repositoryB = new GenericCodeRepository("test_b", "test_b::.*", "test_a");
+        this.repositories = CodeRepositorySet.newBuilder().withCodeRepositories(repositoryA, repositoryB).build();
+        this.codeStorageA = new MutableFSCodeStorage(repositoryA, this.tmpFolder.newFolder("test_a").toPath());
+        this.codeStorageB = new MutableFSCodeStorage(repositoryB, this.tmpFolder.newFolder("test_b").toPath());
+        this.codeStorage = new CompositeCodeStorage(this.codeStorageA, this.codeStorageB);
+        this.codeStorageA.writeContent("/test_a/a.pure", "Class test_a::A {}\n");
+        this.codeStorageB.writeContent("/test_b/b.pure", "Class test_b::B {}\n");
+        this.classesDirectory = this.tmpFolder.newFolder("classes").toPath();
+        this.statePath = this.tmpFolder.getRoot().toPath().resolve(IncrementalGenerationState.FILE_NAME);
+    }
+
+    @Test
+    public void testNoChange() throws IOException
+    {
+        IncrementalGenerationState previous = writeAndReadState(newState(OPTIONS, "test_a", "test_b"));
+
+        IncrementalGenerationState state = newState(OPTIONS, "test_a", "test_b");
+        Assert.assertEquals(Sets.mutable.empty(), state.getChangedRepositories(previous, Lists.mutable.with("test_a", "test_b")));
+        Assert.assertEquals(Sets.mutable.empty(), state.getRemovedRepositories(previous));
+        Assert.assertEquals(Lists.mutable.empty(), state.getChangedSources(previous));
+        Assert.assertEquals(Lists.immutable.with("org/finos/test_a/A"), previous.getJavaSources("test_a"));
+    }
+
+    @Test
+    public void testSourceChanged() throws IOException
+    {
+        IncrementalGenerationState previous = writeAndReadState(newState(OPTIONS, "test_a", "test_b"));
+
+        // a change to test_b only affects test_b
+        this.codeStorageB.writeContent("/test_b/b.pure", "Class test_b::B { name : String[1]; }\n");
+        IncrementalGenerationState state = newState(OPTIONS, "test_a", "test_b");
+        Assert.assertEquals(Sets.mutable.with("test_b"), state.getChangedRepositories(previous, Lists.mutable.with("test_a", "test_b")));
+        Assert.assertEquals(Lists.mutable.with("/test_b/b.pure"), state.getChangedSources(previous));
+
+        // a change to test_a also affects test_b, which depends on it
+        this.codeStorageA.writeContent("/test_a/a2.pure", "Class test_a::A2 {}\n");
+        IncrementalGenerationState state2 = newState(OPTIONS, "test_a", "test_b");
+        Assert.assertEquals(Sets.mutable.with("test_a", "test_b"), state2.getChangedRepositories(previous, Lists.mutable.with("test_a", "test_b")));
+        Assert.assertEquals(Lists.mutable.with("/test_a/a2.pure", "/test_b/b.pure"), state2.getChangedSources(previous));
+    }
+
+    @Test
+    public void testRepositoryRemoved() throws IOException
+    {
+        IncrementalGenerationState previous = writeAndReadState(newState(OPTIONS, "test_a", "test_b"));
+        Path classA = writeFile(this.classesDirectory.resolve("org/finos/test_a/A.class"));
+        Path classB = writeFile(this.classesDirectory.resolve("org/finos/test_b/B.class"));
+        Path nestedClassB = writeFile(this.classesDirectory.resolve("org/finos/test_b/B$1.class"));
+        Path metadataDirectory = this.tmpFolder.newFolder("metadata-distributed").toPath();
+        Path specA = writeFile(metadataDirectory.resolve(DistributedMetadataHelper.getMetadataSpecificationFilePath("test_a")));
+        Path specB = writeFile(metadataDirectory.resolve(DistributedMetadataHelper.getMetadataSpecificationFilePath("test_b")));
+        Path binB = writeFile(metadataDirectory.resolve(DistributedMetadataHelper.getMetadataPartitionBinFilePath("test_b", 0)));
+
+        IncrementalGenerationState state = newState(OPTIONS, "test_a");
+        Assert.assertEquals(Sets.mutable.empty(), state.getChangedRepositories(previous, Lists.mutable.with("test_a")));
+        Assert.assertEquals(Sets.mutable.with("test_b"), state.getRemovedRepositories(previous));
+
+        state.setJavaSources("test_a", previous.getJavaSources("test_a"));
+        JavaCodeGeneration.deleteStaleJavaClasses(previous, state, state.getRemovedRepositories(previous), this.classesDirectory.toFile(), new VoidLog());
+        JavaCodeGeneration.deleteModularMetadata("test_b", metadataDirectory, new VoidLog());
+        Assert.assertTrue(Files.exists(classA));
+        Assert.assertFalse(Files.exists(classB));
+        Assert.assertFalse(Files.exists(nestedClassB));
+        Assert.assertTrue(Files.exists(specA));
+        Assert.assertFalse(Files.exists(specB));
+        Assert.assertFalse(Files.exists(binB));
+    }
+
+    @Test
+    public void testOptionsChanged() throws IOException
+    {
+        IncrementalGenerationState previous = writeAndReadState(newState(OPTIONS, "test_a", "test_b"));
+
+        IncrementalGenerationState state = newState("monolithic|true", "test_a", "test_b");
+        Assert.assertEquals(Sets.mutable.with("test_a", "test_b"), state.getChangedRepositories(previous, Lists.mutable.with("test_a", "test_b")));
+        Assert.assertEquals(Sets.mutable.with("test_a", "test_b"), state.getChangedRepositories(null, Lists.mutable.with("test_a", "test_b")));
+    }
+
+    @Test
+    public void testGeneratorFingerprint() throws IOException
+    {
+        String fingerprint = IncrementalGenerationState.hashCodeLocations(Lists.mutable.with(JavaCodeGeneration.class, Assert.class));
+        Assert.assertEquals(fingerprint, IncrementalGenerationState.hashCodeLocations(Lists.mutable.with(Assert.class, JavaCodeGeneration.class)));
+        Assert.assertNotEquals(fingerprint, IncrementalGenerationState.hashCodeLocations(Lists.mutable.with(JavaCodeGeneration.class)));
+    }
+
+    private IncrementalGenerationState newState(String options, String... selectedRepositories)
+    {
+        SetIterable<String> selected = Sets.immutable.with(selectedRepositories);
+        return IncrementalGenerationState.newState(options, this.codeStorage, this.repositories, selected);
+    }
+
+    private IncrementalGenerationState writeAndReadState(IncrementalGenerationState state) throws IOException
+    {
+        state.getRepositories().forEach(r -> state.setJavaSources(r, Lists.immutable.with("org/finos/" + r + "/" + r.substring(r.length() - 1).toUpperCase())));
+        state.write(this.statePath);
+        return IncrementalGenerationState.read(this.statePath, new VoidLog());
+    }
+
+    private static Path writeFile(Path path) throws IOException
+    {
+        Files.createDirectories(path.getParent());
+        return Files.write(path, "content".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,175 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.metadata;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m3.exception.PureExecutionException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+public class TestJavaMethodSharedPureFunction
+{
+    @Test
+    public void testExecuteWithParams() throws Exception
+    {
+        JavaMethodWithParamsSharedPureFunction<Object> function = newFunction("repeat", String.class, long.class);
+        Assert.assertEquals("abab", function.execute(Lists.immutable.with("ab", 2L), null));
+    }
+
+    @Test
+    public void testArgumentTypeMismatch() throws Exception
+    {
+        JavaMethodWithParamsSharedPureFunction<Object> function = newFunction("repeat", String.class, long.class);
+        PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> function.execute(Lists.immutable.with("ab", "2"), null));
+        Assert.assertEquals("Error during dynamic function evaluation. The type String is not compatible with the type Integer", e.getInfo());
+    }
+
+    @Test
+    public void testNullForPrimitiveParameter() throws Exception
+    {
+        JavaMethodWithParamsSharedPureFunction<Object> function = newFunction("repeat", String.class, long.class);
+        Assert.assertThrows(IllegalArgumentException.class, () -> function.execute(Lists.mutable.with("ab", null), null));
+    }
+
+    @Test
+    public void testNullForReferenceParameter() throws Exception
+    {
+        JavaMethodWithParamsSharedPureFunction<Object> function = newFunction("describe", Object.class);
+        Assert.assertEquals("null", function.execute(Lists.mutable.with((Object) null), null));
+    }
+
+    @Test
+    public void testExceptionInMethodIsNotReportedAsTypeMismatch() throws Exception
+    {
+        JavaMethodWithParamsSharedPureFunction<Object> castFunction = newFunction("badCast", Object.class);
+        PureExecutionException castError = Assert.assertThrows(PureExecutionException.class, () -> castFunction.execute(Lists.immutable.with("ab"), null));
+        Assert.assertEquals("Unexpected error executing function with params [ab]", castError.getInfo());
+        Assert.assertTrue(castError.getCause() instanceof ClassCastException);
+
+        JavaMethodWithParamsSharedPureFunction<Object> argFunction = newFunction("badArgument", String.class);
+        PureExecutionException argError = Assert.assertThrows(PureExecutionException.class, () -> argFunction.execute(Lists.immutable.with("ab"), null));
+        Assert.assertEquals("Unexpected error executing function with params [ab]", argError.getInfo());
+        Assert.assertTrue(argError.getCause() instanceof IllegalArgumentException);
+        Assert.assertEquals("bad argument: ab", argError.getCause().getMessage());
+    }
+
+    @Test
+    public void testPureExceptionInMethodIsRethrown() throws Exception
+    {
+        JavaMethodWithParamsSharedPureFunction<Object> function = newFunction("pureError", String.class);
+        PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> function.execute(Lists.immutable.with("ab"), null));
+        Assert.assertEquals("pure error: ab", e.getInfo());
+    }
+
+    @Test
+    public void testErrorInMethodPropagates() throws Exception
+    {
+        JavaMethodWithParamsSharedPureFunction<Object> function = newFunction("error", String.class);
+        TestError e = Assert.assertThrows(TestError.class, () -> function.execute(Lists.immutable.with("ab"), null));
+        Assert.assertEquals("ab", e.getMessage());
+    }
+
+    @Test
+    public void testPropertyGetter() throws Exception
+    {
+        JavaMethodSharedPureFunction<Object> name = new JavaMethodSharedPureFunction<>(Bean.class.getMethod("_name"), null);
+        Assert.assertEquals("bean", name.execute(Lists.immutable.with(new Bean("bean")), null));
+
+        PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> name.execute(Lists.immutable.with(new Bean(null)), null));
+        Assert.assertTrue(e.getInfo(), e.getInfo().startsWith("Unexpected error executing function with params ["));
+        Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+
+        JavaMethodSharedPureFunction<Object> error = new JavaMethodSharedPureFunction<>(Bean.class.getMethod("_error"), null);
+        Assert.assertThrows(TestError.class, () -> error.execute(Lists.immutable.with(new Bean("bean")), null));
+    }
+
+    private static JavaMethodWithParamsSharedPureFunction<Object> newFunction(String name, Class<?>... paramClasses) throws NoSuchMethodException
+    {
+        Method method = Functions.class.getMethod(name, paramClasses);
+        return new JavaMethodWithParamsSharedPureFunction<>(method, paramClasses, null);
+    }
+
+    public static class Functions
+    {
+        public static String repeat(String string, long count)
+        {
+            StringBuilder builder = new StringBuilder();
+            for (long i = 0; i < count; i++)
+            {
+                builder.append(string);
+            }
+            return builder.toString();
+        }
+
+        public static String describe(Object object)
+        {
+            return String.valueOf(object);
+        }
+
+        public static Long badCast(Object object)
+        {
+            return (Long) object;
+        }
+
+        public static String badArgument(String string)
+        {
+            throw new IllegalArgumentException("bad argument: " + string);
+        }
+
+        public static String pureError(String string)
+        {
+            throw new PureExecutionException("pure error: " + string);
+        }
+
+        public static String error(String string)
+        {
+            throw new TestError(string);
+        }
+    }
+
+    public static class Bean
+    {
+        private final String name;
+
+        public Bean(String name)
+        {
+            this.name = name;
+        }
+
+        public String _name()
+        {
+            if (this.name == null)
+            {
+                throw new IllegalStateException("no name");
+            }
+            return this.name;
+        }
+
+        public String _error()
+        {
+            throw new TestError(this.name);
+        }
+    }
+
+    private static class TestError extends Error
+    {
+        private TestError(String message)
+        {
+            super(message);
+        }
+    }
+}
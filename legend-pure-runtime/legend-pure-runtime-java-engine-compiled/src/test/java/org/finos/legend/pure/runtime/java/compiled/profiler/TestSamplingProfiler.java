@@ -0,0 +1,131 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+
+package org.finos.legend.pure.runtime.java.compiled.profiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.generation.JavaPackageAndImportBuilder;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.FunctionProcessor;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.IdBuilder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+public class TestSamplingProfiler extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("testSource.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testGeneratedMethodsMatchFrameNames() throws Exception
+    {
+        compileTestSource("testSource.pure",
+                "function test::fib(n:Integer[1]):Integer[1]\n" +
+                        "{\n" +
+                        "   if($n < 2, |$n, |test::fib($n - 1) + test::fib($n - 2))\n" +
+                        "}\n" +
+                        "function test::positive(n:Integer[1]):Integer[1]\n" +
+                        "[\n" +
+                        "   $n > 0\n" +
+                        "]\n" +
+                        "{\n" +
+                        "   $n\n" +
+                        "}\n");
+
+        // frames are mapped by the class generated for the source and the Java name of the function
+        CoreInstance fib = runtime.getFunction("test::fib(Integer[1]):Integer[1]");
+        assertHasMethod(fib, FunctionProcessor.functionNameToJava(fib));
+
+        CoreInstance positive = runtime.getFunction("test::positive(Integer[1]):Integer[1]");
+        assertHasMethod(positive, FunctionProcessor.functionNameToJava(positive));
+        assertHasMethod(positive, FunctionProcessor.functionNameToJava(positive) + "_withConstraints");
+    }
+
+    @Test
+    public void testSampling()
+    {
+        compileTestSource("testSource.pure",
+                "function test::fib(n:Integer[1]):Integer[1]\n" +
+                        "{\n" +
+                        "   if($n < 2, |$n, |test::fib($n - 1) + test::fib($n - 2))\n" +
+                        "}\n" +
+                        "function test::go():Any[*]\n" +
+                        "{\n" +
+                        "   test::fib(27)\n" +
+                        "}\n");
+        CoreInstance go = runtime.getFunction("test::go():Any[*]");
+
+        SamplingProfiler profiler = new SamplingProfiler(runtime, 500);
+        profiler.start();
+        Assert.assertTrue(profiler.isSampling());
+        functionExecution.start(go, Lists.immutable.empty());
+        profiler.end();
+        Assert.assertFalse(profiler.isSampling());
+
+        Assert.assertTrue(profiler.getSampleCount() > 0);
+        String report = profiler.getCollapsedStacks();
+        Assert.assertTrue(report, report.contains("test::go__Any_MANY_ (testSource.pure:5);test::fib_Integer_1__Integer_1_ (testSource.pure:1)"));
+    }
+
+    @Test
+    public void testSamplingContinuesUntilLastThreadEnds() throws Exception
+    {
+        SamplingProfiler profiler = new SamplingProfiler(runtime, 500);
+        profiler.start();
+        Thread other = new Thread(profiler::start);
+        other.start();
+        other.join();
+        Assert.assertTrue(profiler.isSampling());
+
+        profiler.end();
+        Assert.assertTrue(profiler.isSampling());
+
+        other = new Thread(profiler::end);
+        other.start();
+        other.join();
+        Assert.assertFalse(profiler.isSampling());
+    }
+
+    private static void assertHasMethod(CoreInstance function, String methodName) throws ClassNotFoundException
+    {
+        Class<?> sourceClass = ((FunctionExecutionCompiled) functionExecution).getExecutionSupport().getClassLoader().loadClass(JavaPackageAndImportBuilder.rootPackage() + "." + IdBuilder.sourceToId(function.getSourceInformation()));
+        Assert.assertTrue(methodName, Arrays.stream(sourceClass.getMethods()).map(Method::getName).anyMatch(methodName::equals));
+    }
+
+    protected static FunctionExecution getFunctionExecution()
+    {
+        return new FunctionExecutionCompiledBuilder().build();
+    }
+}
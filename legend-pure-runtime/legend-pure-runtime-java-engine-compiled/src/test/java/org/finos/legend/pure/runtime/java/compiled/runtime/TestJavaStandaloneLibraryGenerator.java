@@ -20,6 +20,7 @@ import org.eclipse.collections.impl.utility.Iterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 import org.finos.legend.pure.m3.execution.ExecutionSupport;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepository;
+import org.finos.legend.pure.m3.serialization.filesystem.repository.CodeRepositorySet;
 import org.finos.legend.pure.m3.serialization.filesystem.repository.GenericCodeRepository;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.MutableRepositoryCodeStorage;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.classpath.ClassLoaderCodeStorage;
@@ -28,6 +29,8 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.empty.E
 import org.finos.legend.pure.m3.statelistener.VoidExecutionActivityListener;
 import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
 import org.finos.legend.pure.runtime.java.compiled.compiler.JavaCompilerState;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
+import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
 import org.finos.legend.pure.runtime.java.compiled.execution.CompiledProcessorSupport;
 import org.finos.legend.pure.runtime.java.compiled.execution.ConsoleCompiled;
@@ -51,6 +54,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -202,6 +206,30 @@ public class TestJavaStandaloneLibraryGenerator extends AbstractPureTestWithCore
 
     }
 
+    @Test
+    public void testGenerateAndCompileConcurrently() throws Exception
+    {
+        Generate serialGenerate = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), false, null, new VoidLog()).generateOnly(false, null);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try
+        {
+            Generate generate = JavaStandaloneLibraryGenerator.newGenerator(runtime, CompiledExtensionLoader.extensions(), false, null, true, forkJoinPool, new VoidLog()).generateOnly(false, null);
+            Assert.assertEquals(serialGenerate.getJavaSourcesByGroup().keysView().toList(), generate.getJavaSourcesByGroup().keysView().toList());
+            serialGenerate.getJavaSourcesByGroup().forEachKeyValue((group, serialSources) ->
+                    Assert.assertEquals(group, serialSources.collect(StringJavaSource::getCode), generate.getJavaSourcesByGroup().get(group).collect(StringJavaSource::getCode)));
+
+            CodeRepositorySet repositories = CodeRepositorySet.newBuilder().withCodeRepositories(runtime.getCodeStorage().getAllRepositories()).build();
+            PureJavaCompiler compiler = JavaStandaloneLibraryGenerator.compileOnly(generate.getJavaSourcesByGroup(), generate.getExternalizableSources(), false, group -> repositories.subset(group).getRepositoryNames().toSet(), forkJoinPool, new VoidLog());
+            ClassLoader classLoader = compiler.getClassLoader();
+            Assert.assertNotNull(classLoader.loadClass(JavaPackageAndImportBuilder.getRootPackage() + ".test_standalone_tests"));
+            Assert.assertNotNull(classLoader.loadClass(JavaPackageAndImportBuilder.getRootPackage() + ".Root_other_standalone_TestClassC_Impl"));
+        }
+        finally
+        {
+            forkJoinPool.shutdown();
+        }
+    }
+
     @Test
     public void testPureTestsAreSkipped() throws Exception
     {
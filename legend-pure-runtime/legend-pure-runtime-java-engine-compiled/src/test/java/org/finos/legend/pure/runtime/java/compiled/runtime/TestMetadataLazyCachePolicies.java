@@ -0,0 +1,131 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.simple.SimplePrimitiveCoreInstances;
+import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataLazyCache;
+import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataLazyCachePolicies;
+import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataLazyCachePolicy;
+import org.finos.legend.pure.runtime.java.compiled.metadata.MetadataLazyCacheStatistics;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestMetadataLazyCachePolicies
+{
+    @Test
+    public void testUnbounded()
+    {
+        MetadataLazyCache cache = MetadataLazyCachePolicies.unbounded().newCache("meta::pure::metamodel::type::Class");
+        accessInstances(cache, 100);
+        accessInstances(cache, 100);
+
+        MetadataLazyCacheStatistics stats = cache.getStatistics();
+        Assert.assertEquals(100, stats.getSize());
+        Assert.assertEquals(100L, stats.getHitCount());
+        Assert.assertEquals(100L, stats.getMissCount());
+        Assert.assertEquals(0L, stats.getEvictionCount());
+        Assert.assertEquals(100, cache.asUnmodifiable().size());
+    }
+
+    @Test
+    public void testMaximumSize()
+    {
+        MetadataLazyCache cache = MetadataLazyCachePolicies.maximumSize(10).newCache("meta::pure::metamodel::type::Class");
+        accessInstances(cache, 100);
+
+        MetadataLazyCacheStatistics stats = cache.getStatistics();
+        Assert.assertTrue(stats.getSize() <= 10);
+        Assert.assertEquals(0L, stats.getHitCount());
+        Assert.assertEquals(100L, stats.getMissCount());
+        Assert.assertEquals(100L - stats.getSize(), stats.getEvictionCount());
+    }
+
+    @Test
+    public void testComputeIfAbsent()
+    {
+        for (MetadataLazyCachePolicy policy : new MetadataLazyCachePolicy[]{MetadataLazyCachePolicies.unbounded(), MetadataLazyCachePolicies.maximumSize(10), MetadataLazyCachePolicies.softValues()})
+        {
+            MetadataLazyCache cache = policy.newCache("meta::pure::metamodel::type::Class");
+            CoreInstance first = newInstance("a");
+            Assert.assertSame(first, cache.computeIfAbsent("a", () -> first));
+            Assert.assertSame(first, cache.computeIfAbsent("a", () ->
+            {
+                throw new AssertionError("instance should not be created again");
+            }));
+            Assert.assertSame(first, cache.get("a"));
+            Assert.assertNull(cache.get("b"));
+
+            MetadataLazyCacheStatistics stats = cache.getStatistics();
+            Assert.assertEquals(1L, stats.getHitCount());
+            Assert.assertEquals(1L, stats.getMissCount());
+        }
+    }
+
+    @Test
+    public void testMaximumSizePreservesIdentity()
+    {
+        MetadataLazyCache cache = MetadataLazyCachePolicies.maximumSize(10).newCache("meta::pure::metamodel::type::Class");
+        MutableList<CoreInstance> instances = Lists.mutable.empty();
+        for (int i = 0; i < 100; i++)
+        {
+            String id = "instance_" + i;
+            instances.add(cache.getIfAbsentPut(id, () -> newInstance(id)));
+        }
+        Assert.assertTrue(cache.getStatistics().getEvictionCount() >= 90L);
+
+        // evicted instances which are still referenced are found again, not recreated
+        for (int i = 0; i < 100; i++)
+        {
+            Assert.assertSame(instances.get(i), cache.getIfAbsentPut("instance_" + i, () ->
+            {
+                throw new AssertionError("instance should not be created again");
+            }));
+        }
+        Assert.assertEquals(100L, cache.getStatistics().getHitCount());
+        Assert.assertEquals(100, cache.asUnmodifiable().size());
+    }
+
+    @Test
+    public void testPinnedClassifiers()
+    {
+        MetadataLazyCachePolicy policy = MetadataLazyCachePolicies.withPinnedClassifiers("meta::pure::metamodel::type::Enumeration"::equals, MetadataLazyCachePolicies.maximumSize(10));
+
+        MetadataLazyCache pinned = policy.newCache("meta::pure::metamodel::type::Enumeration");
+        accessInstances(pinned, 100);
+        Assert.assertEquals(100, pinned.getStatistics().getSize());
+        Assert.assertEquals(0L, pinned.getStatistics().getEvictionCount());
+
+        MetadataLazyCache bounded = policy.newCache("meta::pure::metamodel::type::Class");
+        accessInstances(bounded, 100);
+        Assert.assertTrue(bounded.getStatistics().getSize() <= 10);
+    }
+
+    private static void accessInstances(MetadataLazyCache cache, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            String id = "instance_" + i;
+            Assert.assertEquals(id, cache.getIfAbsentPut(id, () -> newInstance(id)).getName());
+        }
+    }
+
+    private static CoreInstance newInstance(String id)
+    {
+        return SimplePrimitiveCoreInstances.newStringCoreInstance(id, null, -1);
+    }
+}
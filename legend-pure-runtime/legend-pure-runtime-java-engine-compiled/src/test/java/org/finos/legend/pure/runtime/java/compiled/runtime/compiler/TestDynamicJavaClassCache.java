@@ -0,0 +1,113 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.compiler;
+
+import org.finos.legend.pure.runtime.java.compiled.compiler.DynamicJavaClassCache;
+import org.finos.legend.pure.runtime.java.compiled.compiler.MemoryFileManager;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompileException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+public class TestDynamicJavaClassCache
+{
+    private static final String PACKAGE = "org.finos.legend.pure.runtime.java.compiled.runtime.compiler.dynamic";
+
+    @Test
+    public void testCacheHit() throws Exception
+    {
+        DynamicJavaClassCache cache = new DynamicJavaClassCache(10);
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        Class<?> cls = cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, classLoader);
+        Assert.assertEquals(PACKAGE + ".Dyna", cls.getName());
+        Assert.assertEquals(1, cls.getMethod("value").invoke(null));
+        Assert.assertSame(cls, cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, classLoader));
+
+        Class<?> otherCls = cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 2), null, classLoader);
+        Assert.assertNotSame(cls, otherCls);
+        Assert.assertEquals(2, otherCls.getMethod("value").invoke(null));
+
+        Assert.assertEquals(1L, cache.getHitCount());
+        Assert.assertEquals(2L, cache.getMissCount());
+        Assert.assertEquals(2L, cache.getSize());
+        Assert.assertTrue(cache.getCompileTimeNanos() > 0L);
+    }
+
+    @Test
+    public void testKeyedByFileManager() throws Exception
+    {
+        DynamicJavaClassCache cache = new DynamicJavaClassCache(10);
+        ClassLoader classLoader = getClass().getClassLoader();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        MemoryFileManager fileManager1 = new MemoryFileManager(compiler);
+        MemoryFileManager fileManager2 = new MemoryFileManager(compiler);
+
+        Class<?> cls1 = cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), fileManager1, classLoader);
+        Class<?> cls2 = cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), fileManager2, classLoader);
+        Assert.assertNotSame(cls1, cls2);
+        Assert.assertSame(cls1, cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), fileManager1, classLoader));
+        Assert.assertSame(cls2, cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), fileManager2, classLoader));
+
+        Assert.assertEquals(2L, cache.getHitCount());
+        Assert.assertEquals(2L, cache.getMissCount());
+        Assert.assertEquals(2L, cache.getSize());
+    }
+
+    @Test
+    public void testEviction() throws Exception
+    {
+        DynamicJavaClassCache cache = new DynamicJavaClassCache(1);
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, classLoader);
+        cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 2), null, classLoader);
+        Assert.assertEquals(1L, cache.getSize());
+        Assert.assertEquals(1L, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testCachingDisabled() throws Exception
+    {
+        DynamicJavaClassCache cache = new DynamicJavaClassCache(0);
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        Class<?> cls = cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, classLoader);
+        Assert.assertNotSame(cls, cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, classLoader));
+        Assert.assertEquals(0L, cache.getHitCount());
+        Assert.assertEquals(2L, cache.getMissCount());
+    }
+
+    @Test
+    public void testCompileError()
+    {
+        DynamicJavaClassCache cache = new DynamicJavaClassCache(10);
+        Assert.assertThrows(PureJavaCompileException.class, () -> cache.getOrCompile(PACKAGE, "Dyna", "public class Dyna { not java }", null, getClass().getClassLoader()));
+        Assert.assertEquals(0L, cache.getSize());
+    }
+
+    private static String getCode(String name, int value)
+    {
+        return "public class " + name + "\n" +
+                "{\n" +
+                "    public static int value()\n" +
+                "    {\n" +
+                "        return " + value + ";\n" +
+                "    }\n" +
+                "}\n";
+    }
+}
@@ -0,0 +1,132 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.compiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.compiled.compiler.DynamicJavaClassCache;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PersistentJavaClassCache;
+import org.finos.legend.pure.runtime.java.compiled.execution.CompiledExecutionSupport;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiled;
+import org.finos.legend.pure.runtime.java.compiled.execution.FunctionExecutionCompiledBuilder;
+import org.finos.legend.pure.runtime.java.compiled.factory.JavaModelFactoryRegistryLoader;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.CompiledSupport;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.LambdaCompiledExtended;
+import org.finos.legend.pure.runtime.java.compiled.generation.processors.support.function.SharedPureFunction;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+
+public class TestDynamicLambdaClassCache extends AbstractPureTestWithCoreCompiled
+{
+    private static final String SOURCE_ID = "lambdas.pure";
+    private static final String SOURCE = "function test::lambda1():Function<{Integer[1]->Integer[1]}>[1]\n" +
+            "{\n" +
+            "  {x:Integer[1] | $x}\n" +
+            "}\n" +
+            "\n" +
+            "function test::lambda2():Function<{Integer[1]->Integer[1]}>[1]\n" +
+            "{\n" +
+            "  {x:Integer[1] | $x}\n" +
+            "}\n";
+
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), JavaModelFactoryRegistryLoader.loader());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete(SOURCE_ID);
+        runtime.compile();
+    }
+
+    @Test
+    public void testIdenticalLambdasShareClass()
+    {
+        compileTestSource(SOURCE_ID, SOURCE);
+        CompiledExecutionSupport executionSupport = getExecutionSupport();
+        CoreInstance lambda1 = getLambda("test::lambda1__Function_1_");
+        CoreInstance lambda2 = getLambda("test::lambda2__Function_1_");
+        Assert.assertNotSame(lambda1, lambda2);
+
+        DynamicJavaClassCache cache = new DynamicJavaClassCache(10);
+        Object compiled1 = CompiledSupport.dynamicallyBuildLambdaFunction(lambda1, executionSupport, cache);
+        Object compiled2 = CompiledSupport.dynamicallyBuildLambdaFunction(lambda2, executionSupport, cache);
+        Assert.assertEquals(1L, cache.getMissCount());
+        Assert.assertEquals(1L, cache.getHitCount());
+        Assert.assertEquals(1L, cache.getSize());
+
+        // each lambda is still built from its own function
+        Assert.assertEquals(5L, execute(compiled1, 5L, executionSupport));
+        Assert.assertEquals(7L, execute(compiled2, 7L, executionSupport));
+    }
+
+    @Test
+    public void testLambdaClassLoadedAfterRestart() throws Exception
+    {
+        compileTestSource(SOURCE_ID, SOURCE);
+        CompiledExecutionSupport executionSupport = getExecutionSupport();
+        Path directory = this.tmpFolder.newFolder().toPath();
+
+        PersistentJavaClassCache persistentCache1 = new PersistentJavaClassCache(directory, PersistentJavaClassCache.DEFAULT_MAXIMUM_SIZE);
+        CompiledSupport.dynamicallyBuildLambdaFunction(getLambda("test::lambda1__Function_1_"), executionSupport, new DynamicJavaClassCache(10, persistentCache1));
+        Assert.assertEquals(1L, persistentCache1.getMissCount());
+
+        // after a restart, the same lambda is a different instance: new caches on the same directory simulate that
+        PersistentJavaClassCache persistentCache2 = new PersistentJavaClassCache(directory, PersistentJavaClassCache.DEFAULT_MAXIMUM_SIZE);
+        Object compiled = CompiledSupport.dynamicallyBuildLambdaFunction(getLambda("test::lambda2__Function_1_"), executionSupport, new DynamicJavaClassCache(10, persistentCache2));
+        Assert.assertEquals(1L, persistentCache2.getHitCount());
+        Assert.assertEquals(0L, persistentCache2.getMissCount());
+        Assert.assertEquals(3L, execute(compiled, 3L, executionSupport));
+    }
+
+    protected static CoreInstance getLambda(String functionId)
+    {
+        CoreInstance function = runtime.getFunction(functionId);
+        CoreInstance expression = function.getValueForMetaPropertyToMany(M3Properties.expressionSequence).getFirst();
+        return Instance.getValueForMetaPropertyToOneResolved(expression, M3Properties.values, processorSupport);
+    }
+
+    protected static Object execute(Object lambda, Object arg, CompiledExecutionSupport executionSupport)
+    {
+        SharedPureFunction<?> function = ((LambdaCompiledExtended<?>) lambda).pureFunction();
+        return function.execute(Lists.immutable.with(arg), executionSupport);
+    }
+
+    protected static CompiledExecutionSupport getExecutionSupport()
+    {
+        return ((FunctionExecutionCompiled) functionExecution).getExecutionSupport();
+    }
+
+    protected static FunctionExecution getFunctionExecution()
+    {
+        return new FunctionExecutionCompiledBuilder().build();
+    }
+}
@@ -0,0 +1,243 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.compiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.finos.legend.pure.runtime.java.compiled.compiler.DynamicJavaClassCache;
+import org.finos.legend.pure.runtime.java.compiled.compiler.MemoryFileManager;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PersistentJavaClassCache;
+import org.finos.legend.pure.runtime.java.compiled.compiler.PureJavaCompiler;
+import org.finos.legend.pure.runtime.java.compiled.compiler.StringJavaSource;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TestPersistentJavaClassCache
+{
+    private static final String PACKAGE = "org.finos.legend.pure.runtime.java.compiled.runtime.compiler.persistent";
+
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Test
+    public void testLoadAfterRestart() throws Exception
+    {
+        Path directory = this.tmpFolder.newFolder().toPath();
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        PersistentJavaClassCache persistentCache1 = new PersistentJavaClassCache(directory, PersistentJavaClassCache.DEFAULT_MAXIMUM_SIZE);
+        Class<?> cls1 = new DynamicJavaClassCache(10, persistentCache1).getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, classLoader);
+        Assert.assertEquals(1, cls1.getMethod("value").invoke(null));
+        Assert.assertEquals(0L, persistentCache1.getHitCount());
+        Assert.assertEquals(1L, persistentCache1.getMissCount());
+        Assert.assertTrue(persistentCache1.getSize() > 0L);
+
+        // a new cache on the same directory simulates a restart
+        PersistentJavaClassCache persistentCache2 = new PersistentJavaClassCache(directory, PersistentJavaClassCache.DEFAULT_MAXIMUM_SIZE);
+        DynamicJavaClassCache cache2 = new DynamicJavaClassCache(10, persistentCache2);
+        Class<?> cls2 = cache2.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, classLoader);
+        Assert.assertNotSame(cls1, cls2);
+        Assert.assertEquals(1, cls2.getMethod("value").invoke(null));
+        Assert.assertEquals(1L, persistentCache2.getHitCount());
+        Assert.assertEquals(0L, persistentCache2.getMissCount());
+
+        Class<?> cls3 = cache2.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 2), null, classLoader);
+        Assert.assertEquals(2, cls3.getMethod("value").invoke(null));
+        Assert.assertEquals(1L, persistentCache2.getMissCount());
+    }
+
+    @Test
+    public void testLoadInOtherProcess() throws Exception
+    {
+        Path directory = this.tmpFolder.newFolder().toPath();
+        PersistentJavaClassCache persistentCache = new PersistentJavaClassCache(directory, PersistentJavaClassCache.DEFAULT_MAXIMUM_SIZE);
+        new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, getClass().getClassLoader());
+        Assert.assertEquals(1L, persistentCache.getMissCount());
+
+        Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                OtherProcess.class.getName(),
+                directory.toString())
+                .redirectErrorStream(true)
+                .start();
+        String output;
+        try (InputStream stream = process.getInputStream())
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read = stream.read(buffer); read != -1; read = stream.read(buffer))
+            {
+                bytes.write(buffer, 0, read);
+            }
+            output = bytes.toString(StandardCharsets.UTF_8.name()).trim();
+        }
+        Assert.assertTrue("other process did not finish", process.waitFor(2, TimeUnit.MINUTES));
+        Assert.assertEquals(output, 0, process.exitValue());
+        Assert.assertEquals("value=1 hits=1 misses=0", output);
+    }
+
+    @Test
+    public void testMissAfterGrandparentChange() throws Exception
+    {
+        Path directory = this.tmpFolder.newFolder().toPath();
+        ClassLoader classLoader = getClass().getClassLoader();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        MemoryFileManager grandparent = new MemoryFileManager(compiler);
+        MemoryFileManager parent = new MemoryFileManager(compiler, grandparent, null);
+
+        PersistentJavaClassCache persistentCache = new PersistentJavaClassCache(directory, PersistentJavaClassCache.DEFAULT_MAXIMUM_SIZE);
+        new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), parent, classLoader);
+        new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), parent, classLoader);
+        Assert.assertEquals(1L, persistentCache.getHitCount());
+        Assert.assertEquals(1L, persistentCache.getMissCount());
+
+        // a class added to the grandparent may change what the code compiles to, so the entry must not be reused
+        PureJavaCompiler.compile(compiler, Lists.immutable.with(StringJavaSource.newStringJavaSource(PACKAGE, "Other", getCode("Other", 2))), grandparent);
+        new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), parent, classLoader);
+        Assert.assertEquals(1L, persistentCache.getHitCount());
+        Assert.assertEquals(2L, persistentCache.getMissCount());
+    }
+
+    @Test
+    public void testMissAfterClassRecompiledInClassPathDirectory() throws Exception
+    {
+        Path directory = this.tmpFolder.newFolder().toPath();
+        Path sourceDirectory = this.tmpFolder.newFolder().toPath();
+        Path classDirectory = this.tmpFolder.newFolder().toPath();
+        compileToDirectory("Helper", getCode("Helper", 1), sourceDirectory, classDirectory);
+        String code = "public class Dyna\n" +
+                "{\n" +
+                "    public static int value()\n" +
+                "    {\n" +
+                "        return Helper.value();\n" +
+                "    }\n" +
+                "}\n";
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classDirectory.toUri().toURL()}, getClass().getClassLoader()))
+        {
+            // the compile classpath is taken from the context class loader
+            thread.setContextClassLoader(classLoader);
+            PersistentJavaClassCache persistentCache = new PersistentJavaClassCache(directory, PersistentJavaClassCache.DEFAULT_MAXIMUM_SIZE);
+            Class<?> cls = new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", code, null, classLoader);
+            Assert.assertEquals(1, cls.getMethod("value").invoke(null));
+            new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", code, null, classLoader);
+            Assert.assertEquals(1L, persistentCache.getHitCount());
+            Assert.assertEquals(1L, persistentCache.getMissCount());
+
+            // recompiling a class in place leaves the modification time of its directory unchanged
+            Path classFile = classDirectory.resolve(PACKAGE.replace('.', '/')).resolve("Helper.class");
+            FileTime classFileTime = Files.getLastModifiedTime(classFile);
+            FileTime classDirectoryTime = Files.getLastModifiedTime(classFile.getParent());
+            compileToDirectory("Helper", getCode("Helper", 2), sourceDirectory, classDirectory);
+            Files.setLastModifiedTime(classFile, FileTime.fromMillis(classFileTime.toMillis() + 10_000L));
+            Files.setLastModifiedTime(classFile.getParent(), classDirectoryTime);
+
+            new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", code, null, classLoader);
+            Assert.assertEquals(1L, persistentCache.getHitCount());
+            Assert.assertEquals(2L, persistentCache.getMissCount());
+        }
+        finally
+        {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    @Test
+    public void testSizeBound() throws Exception
+    {
+        Path directory = this.tmpFolder.newFolder().toPath();
+        PersistentJavaClassCache persistentCache = new PersistentJavaClassCache(directory, 0L);
+        DynamicJavaClassCache cache = new DynamicJavaClassCache(10, persistentCache);
+
+        Class<?> cls = cache.getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, getClass().getClassLoader());
+        Assert.assertEquals(1, cls.getMethod("value").invoke(null));
+        Assert.assertEquals(0L, persistentCache.getSize());
+    }
+
+    @Test
+    public void testCorruptEntryIsRecompiled() throws Exception
+    {
+        Path directory = this.tmpFolder.newFolder().toPath();
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        PersistentJavaClassCache persistentCache = new PersistentJavaClassCache(directory, PersistentJavaClassCache.DEFAULT_MAXIMUM_SIZE);
+        new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, classLoader);
+        try (Stream<Path> entries = Files.list(directory))
+        {
+            for (Path entry : entries.collect(Collectors.toList()))
+            {
+                Files.write(entry, "not a jar".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        Class<?> cls = new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, classLoader);
+        Assert.assertEquals(1, cls.getMethod("value").invoke(null));
+        Assert.assertEquals(0L, persistentCache.getHitCount());
+        Assert.assertEquals(2L, persistentCache.getMissCount());
+    }
+
+    private static void compileToDirectory(String name, String code, Path sourceDirectory, Path classDirectory) throws IOException
+    {
+        Path sourceFile = sourceDirectory.resolve(name + ".java");
+        Files.write(sourceFile, ("package " + PACKAGE + ";\n\n" + code).getBytes(StandardCharsets.UTF_8));
+        int result = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-d", classDirectory.toString(), sourceFile.toString());
+        Assert.assertEquals("javac exit code for " + name, 0, result);
+    }
+
+    private static String getCode(String name, int value)
+    {
+        return "public class " + name + "\n" +
+                "{\n" +
+                "    public static int value()\n" +
+                "    {\n" +
+                "        return " + value + ";\n" +
+                "    }\n" +
+                "}\n";
+    }
+
+    /**
+     * Loads the class compiled by {@link #testLoadInOtherProcess} from the cache directory given as the only argument,
+     * and prints the result and cache statistics.
+     */
+    public static class OtherProcess
+    {
+        public static void main(String[] args) throws Exception
+        {
+            PersistentJavaClassCache persistentCache = new PersistentJavaClassCache(Paths.get(args[0]), PersistentJavaClassCache.DEFAULT_MAXIMUM_SIZE);
+            Class<?> cls = new DynamicJavaClassCache(10, persistentCache).getOrCompile(PACKAGE, "Dyna", getCode("Dyna", 1), null, OtherProcess.class.getClassLoader());
+            System.out.println("value=" + cls.getMethod("value").invoke(null) + " hits=" + persistentCache.getHitCount() + " misses=" + persistentCache.getMissCount());
+        }
+    }
+}
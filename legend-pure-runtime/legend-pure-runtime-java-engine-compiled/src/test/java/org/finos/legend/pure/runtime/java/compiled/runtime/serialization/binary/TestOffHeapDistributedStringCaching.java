@@ -0,0 +1,112 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.compiled.runtime.serialization.binary;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.DistributedStringCache;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileReader;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileReaders;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriter;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.FileWriters;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.OffHeapStringIndex;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.StringCache;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.StringCacheOrIndex;
+import org.finos.legend.pure.runtime.java.compiled.serialization.binary.StringIndex;
+import org.finos.legend.pure.runtime.java.compiled.serialization.model.Obj;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+
+public class TestOffHeapDistributedStringCaching extends TestStringCaching<DistributedStringCache>
+{
+    private static final String METADATA_NAME = "platform";
+
+    // each object contributes its identifier and its name, so these span three partitions of 32K strings
+    private static final int MANY_OBJ_COUNT = 40_000;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Override
+    protected StringCache.Builder<DistributedStringCache> newBuilder()
+    {
+        return DistributedStringCache.newBuilder();
+    }
+
+    @Override
+    protected void serialize(DistributedStringCache cache, FileWriter fileWriter)
+    {
+        cache.write(METADATA_NAME, fileWriter);
+    }
+
+    @Override
+    protected StringIndex buildIndex(FileReader fileReader)
+    {
+        return OffHeapStringIndex.fromFileReader(METADATA_NAME, fileReader, 100);
+    }
+
+    @Test
+    public void testManyPartitionsInMemory()
+    {
+        DistributedStringCache cache = buildManyStringsCache();
+        MutableMap<String, byte[]> serialization = Maps.mutable.empty();
+        cache.write(METADATA_NAME, FileWriters.fromInMemoryByteArrayMap(serialization));
+        FileReader fileReader = FileReaders.fromInMemoryByteArrays(serialization);
+        assertOtherStrings(cache, OffHeapStringIndex.fromFileReader(METADATA_NAME, fileReader, 100));
+        assertOtherStrings(cache, OffHeapStringIndex.fromFileReader(METADATA_NAME, fileReader, 0));
+    }
+
+    @Test
+    public void testManyPartitionsMappedDirectory()
+    {
+        DistributedStringCache cache = buildManyStringsCache();
+        Path directory = this.temporaryFolder.getRoot().toPath();
+        cache.write(METADATA_NAME, FileWriters.fromDirectory(directory));
+        FileReader fileReader = FileReaders.fromMappedDirectory(directory);
+        assertOtherStrings(cache, OffHeapStringIndex.fromFileReader(METADATA_NAME, fileReader, 100));
+        assertOtherStrings(cache, OffHeapStringIndex.fromFileReader(METADATA_NAME, fileReader, 0));
+    }
+
+    private static DistributedStringCache buildManyStringsCache()
+    {
+        StringCache.Builder<DistributedStringCache> builder = DistributedStringCache.newBuilder();
+        for (int i = 0; i < MANY_OBJ_COUNT; i++)
+        {
+            // include multi-byte characters, so that byte and character lengths differ
+            builder.withObj(Obj.newObj("test::Class", "id_" + i, "name_\u00e9\u4e2d_" + i, null, null, false));
+        }
+        DistributedStringCache cache = builder.build();
+        Assert.assertTrue(cache.getOtherStringsArray().length > 2 * 32 * 1024);
+        return cache;
+    }
+
+    private static void assertOtherStrings(DistributedStringCache cache, StringIndex index)
+    {
+        String[] expected = cache.getOtherStringsArray();
+        // read backwards first, so that later partitions are loaded before earlier ones
+        for (int i = expected.length - 1; i >= 0; i--)
+        {
+            Assert.assertEquals(expected[i], index.getString(StringCacheOrIndex.otherStringIndexToId(i)));
+        }
+        for (int i = 0; i < expected.length; i++)
+        {
+            Assert.assertEquals(expected[i], index.getString(StringCacheOrIndex.otherStringIndexToId(i)));
+        }
+    }
+}
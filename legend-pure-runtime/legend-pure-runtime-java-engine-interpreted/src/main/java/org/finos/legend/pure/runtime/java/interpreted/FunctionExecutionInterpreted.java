@@ -14,14 +14,17 @@
 
 package org.finos.legend.pure.runtime.java.interpreted;
 
+import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Stacks;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ConcurrentMutableMap;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.stack.MutableStack;
 import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.FunctionCoreInstanceWrapper;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunction;
 import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.LambdaFunctionCoreInstanceWrapper;
@@ -49,10 +52,14 @@ import org.finos.legend.pure.m3.navigation.multiplicity.Multiplicity;
 import org.finos.legend.pure.m3.navigation.type.Type;
 import org.finos.legend.pure.m3.navigation.valuespecification.ValueSpecification;
 import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.RepositoryCodeStorage;
+import org.finos.legend.pure.m3.serialization.runtime.CompilerEventHandler;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
 import org.finos.legend.pure.m3.serialization.runtime.PureRuntime;
+import org.finos.legend.pure.m3.serialization.runtime.Source;
 import org.finos.legend.pure.m3.statelistener.ExecutionActivityListener;
+import org.finos.legend.pure.m3.statelistener.MetricsExecutionActivityListener;
 import org.finos.legend.pure.m3.statelistener.VoidExecutionActivityListener;
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.exception.PureException;
@@ -225,18 +232,47 @@ import org.finos.legend.pure.runtime.java.interpreted.profiler.VoidProfiler;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.SortedMap;
 import java.util.Stack;
+import java.util.WeakHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 @ExecutionPlatform(name = "Interpreted")
 public class FunctionExecutionInterpreted implements FunctionExecution
 {
+    /**
+     * Runtime option which enables caching of the parts of function expressions which do not depend on the values
+     * they are executed with (see {@link PreparedFunctionExpression}).
+     */
+    public static final String PREPARED_EXECUTION_OPTION = "InterpretedPreparedExecution";
+
     private static final int DEFAULT_MAX_SQL_ROWS = 200;
+    private static final int MAX_PREPARED_FUNCTION_EXPRESSIONS = 10_000;
 
     private final AtomicBoolean cancelExecution = new AtomicBoolean(false);
+    private final ConcurrentMutableMap<CoreInstance, Executor> executorsByClassifier = ConcurrentHashMap.newMap();
+    // prepared expressions reference their function expressions (through their parameters), so they cannot be held
+    // weakly; instead, the least recently used are evicted once there are more than MAX_PREPARED_FUNCTION_EXPRESSIONS
+    private final java.util.Map<CoreInstance, PreparedFunctionExpression> preparedFunctionExpressions = Collections.synchronizedMap(new LinkedHashMap<CoreInstance, PreparedFunctionExpression>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(java.util.Map.Entry<CoreInstance, PreparedFunctionExpression> eldest)
+        {
+            return size() > MAX_PREPARED_FUNCTION_EXPRESSIONS;
+        }
+    });
+    private final java.util.Map<CoreInstance, String[]> parameterNamesByFunctionType = Collections.synchronizedMap(new WeakHashMap<>());
+    private final CompilerEventHandler cacheInvalidationHandler = new CacheInvalidationHandler();
+    private boolean preparedExecution = false;
     private final ExecutionActivityListener executionActivityListener;
+    private ExecutionActivityListener metricsExecutionActivityListener;
+    private PureMetrics metrics = PureMetrics.NO_METRICS;
+    private PureMetrics.CacheCounters preparedFunctionExpressionCacheCounters = PureMetrics.NO_METRICS.cacheCounters("interpreted.preparedFunctionExpression");
+    private PureMetrics.CacheCounters executorsByClassifierCacheCounters = PureMetrics.NO_METRICS.cacheCounters("interpreted.executorsByClassifier");
     private PureRuntime runtime;
 
     private final Console console = new ConsoleInterpreted();
@@ -280,6 +316,14 @@ public class FunctionExecutionInterpreted implements FunctionExecution
 
         this.processorSupport = new M3ProcessorSupport(this.runtime.getContext(), this.runtime.getModelRepository());
 
+        clearCaches();
+        this.preparedExecution = runtime.getOptions().isOptionSet(PREPARED_EXECUTION_OPTION);
+        this.metrics = runtime.getMetrics();
+        this.metricsExecutionActivityListener = this.metrics.isEnabled() ? new MetricsExecutionActivityListener(this.metrics, this.executionActivityListener) : null;
+        this.preparedFunctionExpressionCacheCounters = this.metrics.cacheCounters("interpreted.preparedFunctionExpression");
+        this.executorsByClassifierCacheCounters = this.metrics.cacheCounters("interpreted.executorsByClassifier");
+        runtime.getIncrementalCompiler().addCompilerEventHandler(this.cacheInvalidationHandler);
+
         this.nativeFunctions = Maps.mutable.empty();
 
         ModelRepository repository = runtime.getModelRepository();
@@ -292,6 +336,16 @@ public class FunctionExecutionInterpreted implements FunctionExecution
 
 
         this.extensions.asLazy().flatCollect(InterpretedExtension::getExtraNatives).forEach(extraNative -> this.nativeFunctions.put(extraNative.getOne(), extraNative.getTwo().apply(this, repository)));
+
+        if (this.metrics.isEnabled())
+        {
+            this.nativeFunctions = this.nativeFunctions.collectValues(this::timeNativeFunction);
+        }
+    }
+
+    private NativeFunction timeNativeFunction(String signature, NativeFunction function)
+    {
+        return new TimedNativeFunction(function, this.metrics.timer("native." + signature));
     }
 
     private void registerGrammarNatives(ModelRepository repository)
@@ -596,12 +650,12 @@ public class FunctionExecutionInterpreted implements FunctionExecution
 
     public ExecutionActivityListener getExecutionActivityListener()
     {
-        return this.executionActivityListener;
+        return (this.metricsExecutionActivityListener == null) ? this.executionActivityListener : this.metricsExecutionActivityListener;
     }
 
     public void addNativeFunction(String signature, NativeFunction function)
     {
-        this.nativeFunctions.put(signature, function);
+        this.nativeFunctions.put(signature, this.metrics.isEnabled() ? timeNativeFunction(signature, function) : function);
     }
 
     @Override
@@ -658,6 +712,47 @@ public class FunctionExecutionInterpreted implements FunctionExecution
         return this.nativeFunctions.get(functionName);
     }
 
+    PreparedFunctionExpression getPreparedFunctionExpression(CoreInstance functionExpression, java.util.function.Function<? super CoreInstance, ? extends PreparedFunctionExpression> prepare)
+    {
+        if (!this.preparedExecution)
+        {
+            return prepare.apply(functionExpression);
+        }
+        PreparedFunctionExpression prepared = this.preparedFunctionExpressions.get(functionExpression);
+        this.preparedFunctionExpressionCacheCounters.record(prepared != null);
+        if (prepared == null)
+        {
+            // only successful preparations are cached
+            prepared = prepare.apply(functionExpression);
+            this.preparedFunctionExpressions.put(functionExpression, prepared);
+        }
+        return prepared;
+    }
+
+    private String[] getParameterNames(CoreInstance functionType, ListIterable<? extends CoreInstance> signatureVars)
+    {
+        String[] parameterNames = this.parameterNamesByFunctionType.get(functionType);
+        if ((parameterNames == null) || (parameterNames.length != signatureVars.size()))
+        {
+            ProcessorSupport processorSupport = this.runtime.getProcessorSupport();
+            parameterNames = new String[signatureVars.size()];
+            for (int i = 0; i < parameterNames.length; i++)
+            {
+                CoreInstance varName = Instance.getValueForMetaPropertyToOneResolved(signatureVars.get(i), M3Properties.name, processorSupport);
+                parameterNames[i] = (varName == null) ? "Unknown" : varName.getName();
+            }
+            this.parameterNamesByFunctionType.put(functionType, parameterNames);
+        }
+        return parameterNames;
+    }
+
+    private void clearCaches()
+    {
+        this.executorsByClassifier.clear();
+        this.preparedFunctionExpressions.clear();
+        this.parameterNamesByFunctionType.clear();
+    }
+
     public String printStack(Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, ProcessorSupport processorSupport)
     {
         int size = resolvedTypeParameters.size();
@@ -731,7 +826,8 @@ public class FunctionExecutionInterpreted implements FunctionExecution
             }
 
             ProcessorSupport processorSupport = this.runtime.getProcessorSupport();
-            ListIterable<? extends CoreInstance> signatureVars = Instance.getValueForMetaPropertyToManyResolved(processorSupport.function_getFunctionType(function), M3Properties.parameters, processorSupport);
+            CoreInstance functionType = processorSupport.function_getFunctionType(function);
+            ListIterable<? extends CoreInstance> signatureVars = Instance.getValueForMetaPropertyToManyResolved(functionType, M3Properties.parameters, processorSupport);
             if (signatureVars.size() != params.size())
             {
                 StringBuilder builder = new StringBuilder();
@@ -743,7 +839,7 @@ public class FunctionExecutionInterpreted implements FunctionExecution
                 throw new PureExecutionException(functionExpressionCallStack.isEmpty() ? null : functionExpressionCallStack.peek().getSourceInformation(), message, functionExpressionCallStack);
             }
 
-            VariableContext variableContext = this.moveParametersIntoVariableContext(varContext, signatureVars, params, functionExpressionCallStack);
+            VariableContext variableContext = this.moveParametersIntoVariableContext(varContext, functionType, signatureVars, params, functionExpressionCallStack);
             if (limitScope)
             {
                 variableContext.markVariableScopeBoundary();
@@ -1024,6 +1120,19 @@ public class FunctionExecutionInterpreted implements FunctionExecution
         {
             throw new PureExecutionException("Execution cancelled!", functionExpressionCallStack);
         }
+        CoreInstance classifier = processorSupport.getClassifier(instance);
+        Executor executor = functionExecutionInterpreted.executorsByClassifier.get(classifier);
+        functionExecutionInterpreted.executorsByClassifierCacheCounters.record(executor != null);
+        if (executor == null)
+        {
+            executor = findExecutorForType(instance, functionExpressionCallStack, processorSupport);
+            functionExecutionInterpreted.executorsByClassifier.put(classifier, executor);
+        }
+        return executor;
+    }
+
+    private static Executor findExecutorForType(CoreInstance instance, MutableStack<CoreInstance> functionExpressionCallStack, ProcessorSupport processorSupport)
+    {
         if (Instance.instanceOf(instance, M3Paths.FunctionExpression, processorSupport))
         {
             return FunctionExpressionExecutor.INSTANCE;
@@ -1050,16 +1159,15 @@ public class FunctionExecutionInterpreted implements FunctionExecution
         }
     }
 
-    private VariableContext moveParametersIntoVariableContext(VariableContext variableContext, ListIterable<? extends CoreInstance> signatureVars, ListIterable<? extends CoreInstance> parameters, MutableStack<CoreInstance> functionExpressionCallStack)
+    private VariableContext moveParametersIntoVariableContext(VariableContext variableContext, CoreInstance functionType, ListIterable<? extends CoreInstance> signatureVars, ListIterable<? extends CoreInstance> parameters, MutableStack<CoreInstance> functionExpressionCallStack)
     {
-        VariableContext newVarContext = VariableContext.newVariableContext(variableContext);
+        String[] parameterNames = getParameterNames(functionType, signatureVars);
+        VariableContext newVarContext = VariableContext.newVariableContext(variableContext, parameterNames.length);
         try
         {
-            ProcessorSupport processorSupport = this.runtime.getProcessorSupport();
-            for (int i = 0, length = signatureVars.size(); i < length; i++)
+            for (int i = 0; i < parameterNames.length; i++)
             {
-                CoreInstance varName = Instance.getValueForMetaPropertyToOneResolved(signatureVars.get(i), M3Properties.name, processorSupport);
-                newVarContext.registerValue(varName == null ? "Unknown" : varName.getName(), parameters.get(i));
+                newVarContext.registerValue(parameterNames[i], parameters.get(i));
             }
         }
         catch (VariableNameConflictException e)
@@ -1078,6 +1186,11 @@ public class FunctionExecutionInterpreted implements FunctionExecution
     @Override
     public void resetEventHandlers()
     {
+        if (this.runtime != null)
+        {
+            this.runtime.getIncrementalCompiler().removeCompilerEventHandler(this.cacheInvalidationHandler);
+        }
+        clearCaches();
     }
 
     @Override
@@ -1097,4 +1210,37 @@ public class FunctionExecutionInterpreted implements FunctionExecution
     {
         return new OutputWriterInterpreted();
     }
+
+    private class CacheInvalidationHandler implements CompilerEventHandler
+    {
+        @Override
+        public void finishedCompilingCore(RichIterable<? extends Source> compiledSources)
+        {
+            clearCaches();
+        }
+
+        @Override
+        public void compiled(SortedMap<String, RichIterable<? extends Source>> compiledSourcesByRepo, RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+        {
+            clearCaches();
+        }
+
+        @Override
+        public void invalidate(RichIterable<? extends CoreInstance> consolidatedCoreInstances)
+        {
+            clearCaches();
+        }
+
+        @Override
+        public boolean isInitialized()
+        {
+            return true;
+        }
+
+        @Override
+        public void reset()
+        {
+            clearCaches();
+        }
+    }
 }
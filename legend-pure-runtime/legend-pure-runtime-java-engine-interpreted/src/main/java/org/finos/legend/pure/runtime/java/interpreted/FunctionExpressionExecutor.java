@@ -57,16 +57,13 @@ class FunctionExpressionExecutor implements Executor
         functionExpressionCallStack.push(instance);
         try
         {
-            FunctionExpression functionExpression = FunctionExpressionCoreInstanceWrapper.toFunctionExpression(instance);
-            ListIterable<? extends ValueSpecification> params = ListHelper.wrapListIterable(functionExpression._parametersValues());
-            Function<?> function = FunctionCoreInstanceWrapper.toFunction(functionExpression._func());
+            PreparedFunctionExpression prepared = functionExecutionInterpreted.getPreparedFunctionExpression(instance, i -> prepare(i, functionExpressionCallStack, functionExecutionInterpreted, processorSupport));
+            ListIterable<? extends ValueSpecification> params = prepared.getParameters();
+            Function<?> function = prepared.getFunction();
+            MutableMap<String, CoreInstance> localResolvedTypeParameters = prepared.newLocalResolvedTypeParameters();
+            MutableMap<String, CoreInstance> localResolvedMultiplicityParameters = prepared.newLocalResolvedMultiplicityParameters();
 
-            MutableMap<String, CoreInstance> localResolvedTypeParameters = Maps.mutable.empty();
-            MutableMap<String, CoreInstance> localResolvedMultiplicityParameters = Maps.mutable.empty();
-            this.resolveLocalTypeAndMultiplicityParams(functionExpression, functionExpressionCallStack, processorSupport, params, function, localResolvedTypeParameters, localResolvedMultiplicityParameters);
-            boolean deferExecution = Instance.instanceOf(function, M3Paths.NativeFunction, processorSupport) && functionExecutionInterpreted.getNativeFunction(function.getName()) != null && functionExecutionInterpreted.getNativeFunction(function.getName()).deferParameterExecution();
-
-            MutableList<CoreInstance> parameters = (deferExecution || params.isEmpty()) ?
+            MutableList<CoreInstance> parameters = (prepared.isDeferParameterExecution() || params.isEmpty()) ?
                                                    Lists.mutable.withAll(params) :
                                                    params.collect(p ->
                                                    {
@@ -74,7 +71,7 @@ class FunctionExpressionExecutor implements Executor
                                                        return executor.execute(p, resolvedTypeParameters, resolvedMultiplicityParameters, functionExpressionCallStack, variableContext, profiler, instantiationContext, executionSupport, functionExecutionInterpreted, processorSupport);
                                                    }, Lists.mutable.ofInitialCapacity(params.size()));
 
-            if (Instance.instanceOf(function, M3Paths.QualifiedProperty, processorSupport))
+            if (prepared.isQualifiedProperty())
             {
                 parameters.addAll(1, parameters.get(0).getValueForMetaPropertyToOne(M3Properties.genericType).getValueForMetaPropertyToMany(M3Properties.typeVariableValues).toList());
             }
@@ -98,6 +95,20 @@ class FunctionExpressionExecutor implements Executor
         }
     }
 
+    private PreparedFunctionExpression prepare(CoreInstance instance, MutableStack<CoreInstance> functionExpressionCallStack, FunctionExecutionInterpreted functionExecutionInterpreted, ProcessorSupport processorSupport)
+    {
+        FunctionExpression functionExpression = FunctionExpressionCoreInstanceWrapper.toFunctionExpression(instance);
+        ListIterable<? extends ValueSpecification> params = ListHelper.wrapListIterable(functionExpression._parametersValues());
+        Function<?> function = FunctionCoreInstanceWrapper.toFunction(functionExpression._func());
+
+        MutableMap<String, CoreInstance> localResolvedTypeParameters = Maps.mutable.empty();
+        MutableMap<String, CoreInstance> localResolvedMultiplicityParameters = Maps.mutable.empty();
+        this.resolveLocalTypeAndMultiplicityParams(functionExpression, functionExpressionCallStack, processorSupport, params, function, localResolvedTypeParameters, localResolvedMultiplicityParameters);
+        boolean deferExecution = Instance.instanceOf(function, M3Paths.NativeFunction, processorSupport) && functionExecutionInterpreted.getNativeFunction(function.getName()) != null && functionExecutionInterpreted.getNativeFunction(function.getName()).deferParameterExecution();
+        boolean qualifiedProperty = Instance.instanceOf(function, M3Paths.QualifiedProperty, processorSupport);
+        return new PreparedFunctionExpression(function, params, deferExecution, qualifiedProperty, localResolvedTypeParameters, localResolvedMultiplicityParameters);
+    }
+
     private void resolveLocalTypeAndMultiplicityParams(FunctionExpression functionExpression, MutableStack<CoreInstance> functionExpressionCallStack, ProcessorSupport processorSupport, ListIterable<? extends CoreInstance> params, Function<?> function, MutableMap<String, CoreInstance> localResolvedTypeParameters, MutableMap<String, CoreInstance> localResolvedMultiplicityParameters)
     {
         CoreInstance functionType = processorSupport.function_getFunctionType(function);
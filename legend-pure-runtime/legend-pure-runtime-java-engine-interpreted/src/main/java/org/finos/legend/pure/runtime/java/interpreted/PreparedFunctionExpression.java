@@ -0,0 +1,95 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted;
+
+import org.eclipse.collections.api.factory.Maps;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.Function;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.valuespecification.ValueSpecification;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+/**
+ * The parts of a function expression that do not depend on the values it is executed with: the function it calls, its
+ * parameter expressions, how its parameters are executed, and its local type and multiplicity parameters. These can be
+ * computed once and reused when the same expression is executed again.
+ */
+final class PreparedFunctionExpression
+{
+    private final Function<?> function;
+    private final ListIterable<? extends ValueSpecification> parameters;
+    private final boolean deferParameterExecution;
+    private final boolean qualifiedProperty;
+    private final MapIterable<String, CoreInstance> localResolvedTypeParameters;
+    private final MapIterable<String, CoreInstance> localResolvedMultiplicityParameters;
+
+    PreparedFunctionExpression(Function<?> function, ListIterable<? extends ValueSpecification> parameters, boolean deferParameterExecution, boolean qualifiedProperty, MapIterable<String, CoreInstance> localResolvedTypeParameters, MapIterable<String, CoreInstance> localResolvedMultiplicityParameters)
+    {
+        this.function = function;
+        this.parameters = parameters;
+        this.deferParameterExecution = deferParameterExecution;
+        this.qualifiedProperty = qualifiedProperty;
+        this.localResolvedTypeParameters = localResolvedTypeParameters;
+        this.localResolvedMultiplicityParameters = localResolvedMultiplicityParameters;
+    }
+
+    Function<?> getFunction()
+    {
+        return this.function;
+    }
+
+    ListIterable<? extends ValueSpecification> getParameters()
+    {
+        return this.parameters;
+    }
+
+    boolean isDeferParameterExecution()
+    {
+        return this.deferParameterExecution;
+    }
+
+    boolean isQualifiedProperty()
+    {
+        return this.qualifiedProperty;
+    }
+
+    /**
+     * Get a new mutable copy of the local resolved type parameters.
+     *
+     * @return local resolved type parameters
+     */
+    MutableMap<String, CoreInstance> newLocalResolvedTypeParameters()
+    {
+        return copy(this.localResolvedTypeParameters);
+    }
+
+    /**
+     * Get a new mutable copy of the local resolved multiplicity parameters.
+     *
+     * @return local resolved multiplicity parameters
+     */
+    MutableMap<String, CoreInstance> newLocalResolvedMultiplicityParameters()
+    {
+        return copy(this.localResolvedMultiplicityParameters);
+    }
+
+    private static MutableMap<String, CoreInstance> copy(MapIterable<String, CoreInstance> map)
+    {
+        MutableMap<String, CoreInstance> copy = Maps.mutable.ofInitialCapacity(map.size());
+        map.forEachKeyValue(copy::put);
+        return copy;
+    }
+}
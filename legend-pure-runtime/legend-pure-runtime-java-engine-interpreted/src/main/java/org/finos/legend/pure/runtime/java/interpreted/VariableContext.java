@@ -14,6 +14,7 @@
 
 package org.finos.legend.pure.runtime.java.interpreted;
 
+import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.factory.Maps;
@@ -21,22 +22,47 @@ import org.eclipse.collections.impl.factory.Sets;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 
 import java.io.PrintStream;
+import java.util.Arrays;
 
+/**
+ * Variable values for one frame of execution. Most frames hold only a few variables (typically function parameters
+ * and let variables), so names and values are stored in slots of parallel arrays and looked up by a linear scan.
+ * Frames which grow beyond {@link #MAX_SLOTS} variables switch to a map.
+ */
 public class VariableContext
 {
+    private static final int MAX_SLOTS = 8;
+    private static final String[] NO_NAMES = new String[0];
+    private static final CoreInstance[] NO_VALUES = new CoreInstance[0];
+
     private final VariableContext parent;
+    private String[] names;
+    private CoreInstance[] values;
+    private int size = 0;
     private MutableMap<String, CoreInstance> mapping;
     private boolean functionScopeLimitMarker = false;
 
-    private VariableContext(VariableContext parent)
+    private VariableContext(VariableContext parent, int expectedSize)
     {
         this.parent = parent;
+        if (expectedSize > 0)
+        {
+            this.names = new String[expectedSize];
+            this.values = new CoreInstance[expectedSize];
+        }
+        else
+        {
+            this.names = NO_NAMES;
+            this.values = NO_VALUES;
+        }
     }
 
     private VariableContext(VariableContext parent, String name, CoreInstance value)
     {
-        this(parent);
-        this.mapping = Maps.mutable.with(name, value);
+        this(parent, 1);
+        this.names[0] = name;
+        this.values[0] = value;
+        this.size = 1;
     }
 
     /**
@@ -68,7 +94,12 @@ public class VariableContext
      */
     public CoreInstance getLocalValue(String name)
     {
-        return (this.mapping == null) ? null : this.mapping.get(name);
+        if (this.mapping != null)
+        {
+            return this.mapping.get(name);
+        }
+        int index = indexOf(name);
+        return (index == -1) ? null : this.values[index];
     }
 
     /**
@@ -82,11 +113,7 @@ public class VariableContext
      */
     public void registerValue(String name, CoreInstance value) throws VariableNameConflictException
     {
-        if (this.mapping == null)
-        {
-            this.mapping = Maps.mutable.with(name, value);
-        }
-        else
+        if (this.mapping != null)
         {
             CoreInstance previous = this.mapping.put(name, value);
             if (previous != null)
@@ -94,6 +121,40 @@ public class VariableContext
                 this.mapping.put(name, previous);
                 throw new VariableNameConflictException(name);
             }
+            return;
+        }
+
+        int index = indexOf(name);
+        if ((index != -1) && (this.values[index] != null))
+        {
+            throw new VariableNameConflictException(name);
+        }
+        if (index != -1)
+        {
+            this.values[index] = value;
+        }
+        else if (this.size < this.names.length)
+        {
+            this.names[this.size] = name;
+            this.values[this.size++] = value;
+        }
+        else if (this.size < MAX_SLOTS)
+        {
+            int newLength = Math.min(Math.max(this.size * 2, 2), MAX_SLOTS);
+            this.names = Arrays.copyOf(this.names, newLength);
+            this.values = Arrays.copyOf(this.values, newLength);
+            this.names[this.size] = name;
+            this.values[this.size++] = value;
+        }
+        else
+        {
+            MutableMap<String, CoreInstance> map = Maps.mutable.ofInitialCapacity(this.size + 1);
+            forEachLocal(map::put);
+            map.put(name, value);
+            this.mapping = map;
+            this.names = NO_NAMES;
+            this.values = NO_VALUES;
+            this.size = 0;
         }
     }
 
@@ -123,10 +184,7 @@ public class VariableContext
         else
         {
             MutableSet<String> names = this.parent.getVariableNames();
-            if (this.mapping != null)
-            {
-                names.addAllIterable(this.mapping.keysView());
-            }
+            forEachLocal((name, value) -> names.add(name));
             return names;
         }
     }
@@ -140,15 +198,17 @@ public class VariableContext
      */
     public MutableSet<String> getLocalVariableNames()
     {
-        return (this.mapping == null) ? Sets.mutable.<String>with() : Sets.mutable.withAll(this.mapping.keysView());
+        MutableSet<String> names = Sets.mutable.empty();
+        forEachLocal((name, value) -> names.add(name));
+        return names;
     }
 
     public void print(PrintStream printStream)
     {
-        if (this.mapping != null)
+        if (this.isNotEmpty())
         {
-            printStream.println("   " + this.mapping.keysView().makeString(",") + ":freeze:" + this.functionScopeLimitMarker);
-            if (this.parent != null && this.parent.mapping != null)
+            printStream.println("   " + getLocalVariableNames().makeString(",") + ":freeze:" + this.functionScopeLimitMarker);
+            if (this.parent != null && this.parent.isNotEmpty())
             {
                 printStream.print("   parent:");
                 this.parent.print(printStream);
@@ -156,6 +216,40 @@ public class VariableContext
         }
     }
 
+    private boolean isNotEmpty()
+    {
+        return (this.mapping != null) || (this.size > 0);
+    }
+
+    private int indexOf(String name)
+    {
+        String[] localNames = this.names;
+        for (int i = 0, localSize = this.size; i < localSize; i++)
+        {
+            String localName = localNames[i];
+            if ((localName == name) || localName.equals(name))
+            {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void forEachLocal(Procedure2<String, CoreInstance> procedure)
+    {
+        if (this.mapping != null)
+        {
+            this.mapping.forEachKeyValue(procedure);
+        }
+        else
+        {
+            for (int i = 0; i < this.size; i++)
+            {
+                procedure.value(this.names[i], this.values[i]);
+            }
+        }
+    }
+
     /**
      * Return a new variable context with no parent context.
      *
@@ -175,7 +269,20 @@ public class VariableContext
      */
     public static VariableContext newVariableContext(VariableContext parent)
     {
-        return new VariableContext(parent);
+        return new VariableContext(parent, 0);
+    }
+
+    /**
+     * Return a new variable context with the given parent, which
+     * may be null, with room for the expected number of variables.
+     *
+     * @param parent       parent variable context
+     * @param expectedSize expected number of variables
+     * @return new variable context
+     */
+    public static VariableContext newVariableContext(VariableContext parent, int expectedSize)
+    {
+        return new VariableContext(parent, Math.min(expectedSize, MAX_SLOTS));
     }
 
     /**
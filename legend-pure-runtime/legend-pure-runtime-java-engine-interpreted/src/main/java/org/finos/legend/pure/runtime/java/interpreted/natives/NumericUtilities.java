@@ -213,6 +213,19 @@ public class NumericUtilities
      */
     public static Number toJavaNumber(CoreInstance pureNumber, ProcessorSupport processorSupport)
     {
+        // primitive core instances already hold their Java values
+        if (pureNumber instanceof IntegerCoreInstance)
+        {
+            return ((IntegerCoreInstance) pureNumber).getValue();
+        }
+        if (pureNumber instanceof FloatCoreInstance)
+        {
+            return ((FloatCoreInstance) pureNumber).getValue();
+        }
+        if (pureNumber instanceof DecimalCoreInstance)
+        {
+            return ((DecimalCoreInstance) pureNumber).getValue();
+        }
         CoreInstance classifier = processorSupport.getClassifier(pureNumber);
         if (classifier.getValueForMetaPropertyToOne(M3Properties._package) == null)
         {
@@ -22,7 +22,6 @@ import org.finos.legend.pure.m3.navigation.Instance;
 import org.finos.legend.pure.m3.navigation.M3Properties;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
-import org.finos.legend.pure.m3.navigation.type.Type;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
@@ -47,9 +46,8 @@ public class SubTypeOf extends NativeFunction
     public CoreInstance execute(ListIterable<? extends CoreInstance> params, Stack<MutableMap<String, CoreInstance>> resolvedTypeParameters, Stack<MutableMap<String, CoreInstance>> resolvedMultiplicityParameters, VariableContext variableContext, MutableStack<CoreInstance> functionExpressionCallStack, Profiler profiler, InstantiationContext instantiationContext, ExecutionSupport executionSupport, Context context, ProcessorSupport processorSupport)
     {
         return ValueSpecificationBootstrap.newBooleanLiteral(this.modelRepository,
-                Type.subTypeOf(Instance.getValueForMetaPropertyToOneResolved(params.get(0), M3Properties.values, processorSupport),
-                        Instance.getValueForMetaPropertyToOneResolved(params.get(1), M3Properties.values, processorSupport),
-                        processorSupport),
+                processorSupport.type_subTypeOf(Instance.getValueForMetaPropertyToOneResolved(params.get(0), M3Properties.values, processorSupport),
+                        Instance.getValueForMetaPropertyToOneResolved(params.get(1), M3Properties.values, processorSupport)),
                 processorSupport
         );
     }
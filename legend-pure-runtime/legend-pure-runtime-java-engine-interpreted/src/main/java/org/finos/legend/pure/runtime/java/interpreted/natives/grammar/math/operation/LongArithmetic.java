@@ -0,0 +1,146 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted.natives.grammar.math.operation;
+
+import org.eclipse.collections.api.list.ListIterable;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.IntegerCoreInstance;
+
+/**
+ * Fast path for arithmetic on Pure Integers whose values fit in a Java long. Each method returns null if any of the
+ * numbers is not such an Integer, or if the result overflows, in which case the caller should fall back to
+ * {@link NumericAccumulator}.
+ */
+final class LongArithmetic
+{
+    private LongArithmetic()
+    {
+        // Utility class
+    }
+
+    static CoreInstance negate(CoreInstance number, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        if (!isLong(number))
+        {
+            return null;
+        }
+        try
+        {
+            return newIntegerValueExpression(Math.negateExact(longValue(number)), repository, processorSupport);
+        }
+        catch (ArithmeticException e)
+        {
+            return null;
+        }
+    }
+
+    static CoreInstance add(ListIterable<? extends CoreInstance> numbers, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        if (!allLongs(numbers))
+        {
+            return null;
+        }
+        try
+        {
+            long result = longValue(numbers.get(0));
+            for (int i = 1, size = numbers.size(); i < size; i++)
+            {
+                result = Math.addExact(result, longValue(numbers.get(i)));
+            }
+            return newIntegerValueExpression(result, repository, processorSupport);
+        }
+        catch (ArithmeticException e)
+        {
+            return null;
+        }
+    }
+
+    static CoreInstance subtract(ListIterable<? extends CoreInstance> numbers, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        if (!allLongs(numbers))
+        {
+            return null;
+        }
+        try
+        {
+            long result = longValue(numbers.get(0));
+            for (int i = 1, size = numbers.size(); i < size; i++)
+            {
+                result = Math.subtractExact(result, longValue(numbers.get(i)));
+            }
+            return newIntegerValueExpression(result, repository, processorSupport);
+        }
+        catch (ArithmeticException e)
+        {
+            return null;
+        }
+    }
+
+    static CoreInstance multiply(ListIterable<? extends CoreInstance> numbers, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        if (!allLongs(numbers))
+        {
+            return null;
+        }
+        try
+        {
+            long result = longValue(numbers.get(0));
+            for (int i = 1, size = numbers.size(); i < size; i++)
+            {
+                result = Math.multiplyExact(result, longValue(numbers.get(i)));
+            }
+            return newIntegerValueExpression(result, repository, processorSupport);
+        }
+        catch (ArithmeticException e)
+        {
+            return null;
+        }
+    }
+
+    private static boolean allLongs(ListIterable<? extends CoreInstance> numbers)
+    {
+        for (int i = 0, size = numbers.size(); i < size; i++)
+        {
+            if (!isLong(numbers.get(i)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLong(CoreInstance number)
+    {
+        if (!(number instanceof IntegerCoreInstance))
+        {
+            return false;
+        }
+        Number value = ((IntegerCoreInstance) number).getValue();
+        return (value instanceof Long) || (value instanceof Integer);
+    }
+
+    private static long longValue(CoreInstance number)
+    {
+        return ((IntegerCoreInstance) number).getValue().longValue();
+    }
+
+    private static CoreInstance newIntegerValueExpression(long value, ModelRepository repository, ProcessorSupport processorSupport)
+    {
+        return ValueSpecificationBootstrap.wrapValueSpecification(repository.newIntegerCoreInstance(value), true, processorSupport);
+    }
+}
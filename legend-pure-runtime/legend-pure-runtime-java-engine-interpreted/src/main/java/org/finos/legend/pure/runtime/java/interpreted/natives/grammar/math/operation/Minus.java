@@ -56,12 +56,22 @@ public class Minus extends NativeFunction
             case 1:
             {
                 CoreInstance number = numbers.get(0);
+                CoreInstance result = LongArithmetic.negate(number, this.repository, processorSupport);
+                if (result != null)
+                {
+                    return result;
+                }
                 NumericAccumulator accumulator = NumericAccumulator.newAccumulator(0);
                 accumulator.subtract(NumericUtilities.toJavaNumber(number, processorSupport));
                 return NumericUtilities.toPureNumberValueExpression(accumulator.getValue(), NumericUtilities.isDecimal(number, processorSupport), this.repository, processorSupport);
             }
             default:
             {
+                CoreInstance result = LongArithmetic.subtract(numbers, this.repository, processorSupport);
+                if (result != null)
+                {
+                    return result;
+                }
                 NumericAccumulator accumulator = NumericAccumulator.newAccumulator(NumericUtilities.toJavaNumber(numbers.get(0), processorSupport));
                 boolean bigDecimalToPureDecimal = numbers.anySatisfy(n -> NumericUtilities.isDecimal(n, processorSupport));
                 for (int i = 1; i < size; i++)
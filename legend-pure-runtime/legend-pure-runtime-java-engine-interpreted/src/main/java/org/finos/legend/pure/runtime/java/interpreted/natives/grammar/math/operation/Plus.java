@@ -59,6 +59,11 @@ public class Plus extends NativeFunction
             }
             default:
             {
+                CoreInstance result = LongArithmetic.add(numbers, this.repository, processorSupport);
+                if (result != null)
+                {
+                    return result;
+                }
                 NumericAccumulator accumulator = NumericAccumulator.newAccumulator(NumericUtilities.toJavaNumber(numbers.get(0), processorSupport));
                 boolean bigDecimalToPureDecimal = numbers.anySatisfy(n -> NumericUtilities.isDecimal(n, processorSupport));
                 for (int i = 1; i < size; i++)
@@ -58,6 +58,11 @@ public class Times extends NativeFunction
             }
             default:
             {
+                CoreInstance result = LongArithmetic.multiply(numbers, this.repository, processorSupport);
+                if (result != null)
+                {
+                    return result;
+                }
                 NumericAccumulator accumulator = NumericAccumulator.newAccumulator(NumericUtilities.toJavaNumber(numbers.get(0), processorSupport));
                 boolean bigDecimalToPureDecimal = numbers.anySatisfy(n -> NumericUtilities.isDecimal(n, processorSupport));
                 for (int i = 1; i < size; i++)
@@ -0,0 +1,193 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted.profiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
+import org.finos.legend.pure.m3.navigation.Instance;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.navigation.ProcessorSupport;
+import org.finos.legend.pure.m3.tools.profiler.AbstractSamplingProfiler;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Low overhead alternative to {@link ActiveProfiler}. Rather than timing every function expression, each executing
+ * thread only keeps track of its stack of function expressions, and a background thread periodically samples those
+ * stacks (see {@link AbstractSamplingProfiler}). Sampling runs from the first {@link #start} until the matching
+ * {@link #end} of every thread which called it; the report is in collapsed stack format, for flame graphs.
+ */
+public class SamplingProfiler extends AbstractSamplingProfiler implements Profiler
+{
+    private final ProcessorSupport processorSupport;
+    private final ThreadLocal<ThreadStack> threadStack = ThreadLocal.withInitial(this::newThreadStack);
+    private final Set<ThreadStack> threadStacks = ConcurrentHashMap.newKeySet();
+    private final MutableMap<CoreInstance, String> frameNames = UnifiedMapWithHashingStrategy.newMap(new IdentityHashingStrategy());
+
+    public SamplingProfiler(ProcessorSupport processorSupport, long samplingIntervalMicros)
+    {
+        super(samplingIntervalMicros);
+        this.processorSupport = processorSupport;
+    }
+
+    public SamplingProfiler(ProcessorSupport processorSupport)
+    {
+        this(processorSupport, DEFAULT_SAMPLING_INTERVAL_MICROS);
+    }
+
+    @Override
+    public void start(CoreInstance coreInstance)
+    {
+        this.threadStack.get().push(coreInstance, null);
+        startRun();
+    }
+
+    @Override
+    public void end(CoreInstance coreInstance)
+    {
+        endRun();
+        this.threadStack.get().pop(coreInstance);
+    }
+
+    @Override
+    public void startExecutingFunctionExpression(CoreInstance instance, CoreInstance parent)
+    {
+        this.threadStack.get().push(instance, parent);
+    }
+
+    @Override
+    public void finishedExecutingFunctionExpression(CoreInstance instance)
+    {
+        this.threadStack.get().pop(instance);
+    }
+
+    public String getReport()
+    {
+        return getCollapsedStacks();
+    }
+
+    @Override
+    protected void samplingStopped()
+    {
+        // frame names are only needed while sampling, and keep the functions they name reachable
+        this.frameNames.clear();
+    }
+
+    @Override
+    protected void takeSample()
+    {
+        this.threadStacks.removeIf(stack -> !stack.thread.isAlive());
+        for (ThreadStack stack : this.threadStacks)
+        {
+            CoreInstance[] frames = stack.snapshot();
+            if (frames.length > 0)
+            {
+                MutableList<String> frameNames = Lists.mutable.ofInitialCapacity(frames.length);
+                for (CoreInstance frame : frames)
+                {
+                    if (frame != null)
+                    {
+                        frameNames.add(this.frameNames.getIfAbsentPutWithKey(frame, this::getFrameName));
+                    }
+                }
+                recordSample(frameNames);
+            }
+        }
+    }
+
+    private String getFrameName(CoreInstance functionExpression)
+    {
+        CoreInstance function = Instance.getValueForMetaPropertyToOneResolved(functionExpression, M3Properties.func, this.processorSupport);
+        return (function == null) ? functionExpression.getName() : getFunctionFrameName(function);
+    }
+
+    private ThreadStack newThreadStack()
+    {
+        ThreadStack stack = new ThreadStack(Thread.currentThread());
+        this.threadStacks.add(stack);
+        return stack;
+    }
+
+    /**
+     * Function expression stack of one thread. Only the owning thread changes the stack; the sampling thread reads it
+     * without locking, so a sample may be slightly out of date, but never fails.
+     */
+    private static class ThreadStack
+    {
+        private final Thread thread;
+        private volatile CoreInstance[] frames = new CoreInstance[64];
+        private volatile int size = 0;
+
+        private ThreadStack(Thread thread)
+        {
+            this.thread = thread;
+        }
+
+        private void push(CoreInstance instance, CoreInstance parent)
+        {
+            CoreInstance[] current = this.frames;
+            int newSize = this.size;
+            if ((parent != null) && (newSize > 0) && (current[newSize - 1] != parent))
+            {
+                // frames may be left behind when an expression fails: unwind to the parent
+                int parentIndex = lastIndexOf(current, newSize, parent);
+                if (parentIndex != -1)
+                {
+                    newSize = parentIndex + 1;
+                }
+            }
+            if (newSize == current.length)
+            {
+                current = Arrays.copyOf(current, newSize * 2);
+                this.frames = current;
+            }
+            current[newSize] = instance;
+            this.size = newSize + 1;
+        }
+
+        private void pop(CoreInstance instance)
+        {
+            int index = lastIndexOf(this.frames, this.size, instance);
+            if (index != -1)
+            {
+                this.size = index;
+            }
+        }
+
+        private CoreInstance[] snapshot()
+        {
+            int currentSize = this.size;
+            CoreInstance[] current = this.frames;
+            return Arrays.copyOf(current, Math.min(currentSize, current.length));
+        }
+
+        private static int lastIndexOf(CoreInstance[] frames, int size, CoreInstance instance)
+        {
+            for (int i = size - 1; i >= 0; i--)
+            {
+                if (frames[i] == instance)
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
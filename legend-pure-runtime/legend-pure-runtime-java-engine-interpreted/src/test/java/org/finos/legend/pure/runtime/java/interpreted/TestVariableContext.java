@@ -0,0 +1,152 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted;
+
+import org.eclipse.collections.api.factory.Sets;
+import org.eclipse.collections.api.set.MutableSet;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.simple.SimpleCoreInstanceFactory;
+import org.finos.legend.pure.runtime.java.interpreted.VariableContext.VariableNameConflictException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestVariableContext
+{
+    private static final SimpleCoreInstanceFactory FACTORY = new SimpleCoreInstanceFactory();
+
+    @Test
+    public void testRegisterBeyondSlots() throws VariableNameConflictException
+    {
+        for (int count : new int[]{1, 8, 9, 20})
+        {
+            VariableContext context = VariableContext.newVariableContext();
+            CoreInstance[] values = registerValues(context, "v", count);
+            MutableSet<String> expectedNames = Sets.mutable.empty();
+            for (int i = 0; i < count; i++)
+            {
+                Assert.assertSame("v" + i, values[i], context.getLocalValue("v" + i));
+                Assert.assertSame("v" + i, values[i], context.getValue("v" + i));
+                expectedNames.add("v" + i);
+            }
+            Assert.assertNull(context.getValue("v" + count));
+            Assert.assertEquals(expectedNames, context.getLocalVariableNames());
+        }
+    }
+
+    @Test
+    public void testExpectedSizeBeyondSlots() throws VariableNameConflictException
+    {
+        VariableContext context = VariableContext.newVariableContext(null, 20);
+        CoreInstance[] values = registerValues(context, "v", 20);
+        for (int i = 0; i < 20; i++)
+        {
+            Assert.assertSame("v" + i, values[i], context.getValue("v" + i));
+        }
+    }
+
+    @Test
+    public void testNameConflict() throws VariableNameConflictException
+    {
+        for (int count : new int[]{1, 8, 9, 20})
+        {
+            VariableContext context = VariableContext.newVariableContext();
+            CoreInstance[] values = registerValues(context, "v", count);
+            for (int i = 0; i < count; i++)
+            {
+                String name = "v" + i;
+                VariableNameConflictException e = Assert.assertThrows(name, VariableNameConflictException.class, () -> context.registerValue(name, newValue(name)));
+                Assert.assertEquals("'" + name + "' has already been defined!", e.getMessage());
+                Assert.assertSame(name, values[i], context.getLocalValue(name));
+            }
+            Assert.assertEquals(count, context.getLocalVariableNames().size());
+        }
+    }
+
+    @Test
+    public void testReregisterNullValue() throws VariableNameConflictException
+    {
+        for (int count : new int[]{1, 8, 9, 20})
+        {
+            VariableContext context = VariableContext.newVariableContext();
+            context.registerValue("x", null);
+            registerValues(context, "v", count - 1);
+            Assert.assertNull(context.getLocalValue("x"));
+
+            CoreInstance x = newValue("x");
+            context.registerValue("x", x);
+            Assert.assertSame(x, context.getLocalValue("x"));
+            Assert.assertThrows(VariableNameConflictException.class, () -> context.registerValue("x", newValue("x")));
+            Assert.assertSame(x, context.getLocalValue("x"));
+            Assert.assertEquals(count, context.getLocalVariableNames().size());
+        }
+    }
+
+    @Test
+    public void testLookupThroughParents() throws VariableNameConflictException
+    {
+        // the grandparent uses a map, the parent and the child use slots
+        VariableContext grandparent = VariableContext.newVariableContext();
+        CoreInstance[] grandparentValues = registerValues(grandparent, "g", 10);
+        CoreInstance shadowed = newValue("shadowed");
+        grandparent.registerValue("x", shadowed);
+
+        VariableContext parent = VariableContext.newVariableContext(grandparent, 2);
+        CoreInstance[] parentValues = registerValues(parent, "p", 2);
+        CoreInstance x = newValue("x");
+        parent.registerValue("x", x);
+
+        CoreInstance c = newValue("c");
+        VariableContext child = VariableContext.newVariableContextWith(parent, "c", c);
+
+        Assert.assertSame(c, child.getValue("c"));
+        Assert.assertSame(x, child.getValue("x"));
+        Assert.assertSame(shadowed, grandparent.getValue("x"));
+        Assert.assertSame(parentValues[1], child.getValue("p1"));
+        Assert.assertSame(grandparentValues[9], child.getValue("g9"));
+        Assert.assertNull(child.getLocalValue("g9"));
+        Assert.assertNull(child.getValue("unknown"));
+        Assert.assertNull(parent.getValue("c"));
+        Assert.assertEquals(Sets.mutable.with("c"), child.getLocalVariableNames());
+        Assert.assertEquals(14, child.getVariableNames().size());
+
+        // a child can define a name already defined by a parent
+        CoreInstance childX = newValue("x");
+        child.registerValue("x", childX);
+        Assert.assertSame(childX, child.getValue("x"));
+        Assert.assertSame(x, parent.getValue("x"));
+
+        // lookup stops at a function scope boundary
+        parent.markVariableScopeBoundary();
+        Assert.assertSame(parentValues[0], child.getValue("p0"));
+        Assert.assertNull(child.getValue("g0"));
+        Assert.assertSame(grandparentValues[0], grandparent.getValue("g0"));
+    }
+
+    private static CoreInstance[] registerValues(VariableContext context, String prefix, int count) throws VariableNameConflictException
+    {
+        CoreInstance[] values = new CoreInstance[count];
+        for (int i = 0; i < count; i++)
+        {
+            values[i] = newValue(prefix + i);
+            context.registerValue(prefix + i, values[i]);
+        }
+        return values;
+    }
+
+    private static CoreInstance newValue(String name)
+    {
+        return FACTORY.createCoreInstance(name, 0, null, (CoreInstance) null, null, false);
+    }
+}
@@ -0,0 +1,110 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted.profiler;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Stacks;
+import org.finos.legend.pure.m3.coreinstance.meta.pure.metamodel.function.FunctionCoreInstanceWrapper;
+import org.finos.legend.pure.m3.navigation.M3Properties;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
+import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
+import org.finos.legend.pure.runtime.java.interpreted.VariableContext;
+import org.finos.legend.pure.runtime.java.interpreted.natives.InstantiationContext;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Stack;
+
+public class TestSamplingProfiler extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(new FunctionExecutionInterpreted());
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("testSource.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testSampling()
+    {
+        compileTestSource("testSource.pure",
+                "function test::fib(n:Integer[1]):Integer[1]\n" +
+                        "{\n" +
+                        "   if($n < 2, |$n, |test::fib($n - 1) + test::fib($n - 2))\n" +
+                        "}\n" +
+                        "function test::go():Any[*]\n" +
+                        "{\n" +
+                        "   test::fib(20)\n" +
+                        "}\n");
+        CoreInstance go = runtime.getFunction("test::go():Any[*]");
+        CoreInstance root = go.getValueForMetaPropertyToMany(M3Properties.expressionSequence).getFirst();
+
+        SamplingProfiler profiler = new SamplingProfiler(processorSupport, 500);
+        profiler.start(root);
+        Assert.assertTrue(profiler.isSampling());
+        CoreInstance result = ((FunctionExecutionInterpreted) functionExecution).executeFunction(false, FunctionCoreInstanceWrapper.toFunction(go), Lists.immutable.empty(), new Stack<>(), new Stack<>(), VariableContext.newVariableContext(), Stacks.mutable.empty(), profiler, new InstantiationContext(), new ExecutionSupport());
+        profiler.end(root);
+        Assert.assertFalse(profiler.isSampling());
+        Assert.assertEquals("6765", result.getValueForMetaPropertyToOne(M3Properties.values).getName());
+
+        Assert.assertTrue(profiler.getSampleCount() > 0);
+        String report = profiler.getReport();
+        for (String line : report.split("\n"))
+        {
+            Assert.assertTrue(line, line.matches("test::fib_Integer_1__Integer_1_ \\(testSource.pure:1\\)(;[^;]+)* \\d+"));
+        }
+        Assert.assertTrue(report, report.contains(";meta::pure::functions::lang::if_Boolean_1__Function_1__Function_1__T_m_ ("));
+    }
+
+    @Test
+    public void testSamplingContinuesUntilLastThreadEnds() throws Exception
+    {
+        compileTestSource("testSource.pure",
+                "function test::go():Any[*]\n" +
+                        "{\n" +
+                        "   1\n" +
+                        "}\n");
+        CoreInstance root = runtime.getFunction("test::go():Any[*]").getValueForMetaPropertyToMany(M3Properties.expressionSequence).getFirst();
+
+        SamplingProfiler profiler = new SamplingProfiler(processorSupport, 500);
+        profiler.start(root);
+        Thread other = new Thread(() -> profiler.start(root));
+        other.start();
+        other.join();
+        Assert.assertTrue(profiler.isSampling());
+
+        profiler.end(root);
+        Assert.assertTrue(profiler.isSampling());
+
+        other = new Thread(() -> profiler.end(root));
+        other.start();
+        other.join();
+        Assert.assertFalse(profiler.isSampling());
+
+        // ending again does nothing
+        profiler.end(root);
+        Assert.assertFalse(profiler.isSampling());
+    }
+}
@@ -0,0 +1,93 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted.runtime.api;
+
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.m3.tools.metrics.InMemoryMetricsExporter;
+import org.finos.legend.pure.m3.tools.metrics.MetricsSnapshot;
+import org.finos.legend.pure.m3.tools.metrics.PureMetrics;
+import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestInterpretedMetrics extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(new FunctionExecutionInterpreted(), name -> PureMetrics.METRICS_OPTION.equals(name) || FunctionExecutionInterpreted.PREPARED_EXECUTION_OPTION.equals(name));
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("testSource.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testMetrics()
+    {
+        PureMetrics metrics = runtime.getMetrics();
+        Assert.assertTrue(metrics.isEnabled());
+
+        compileTestSource("testSource.pure",
+                "function test::go():Any[*]\n" +
+                        "{\n" +
+                        "   assertEquals(3, [1, 2]->map(i | $i + 1)->at(1));\n" +
+                        "}\n");
+        execute("test::go():Any[*]");
+        execute("test::go():Any[*]");
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        Assert.assertNotNull(snapshot.getTimer(PureMetrics.PARSE));
+        Assert.assertNotNull(snapshot.getTimer(PureMetrics.POST_PROCESS));
+        Assert.assertNotNull(snapshot.getTimer(PureMetrics.VALIDATE));
+        Assert.assertTrue(snapshot.getTimer("native.map_T_m__Function_1__V_m_").getCount() >= 2);
+        Assert.assertTrue(snapshot.getTimer("native.plus_Integer_MANY__Integer_1_").getCount() >= 4);
+        Assert.assertTrue(snapshot.getCacheHitRate("interpreted.executorsByClassifier") > 0.0);
+        Assert.assertTrue(snapshot.getCacheHitRate("interpreted.preparedFunctionExpression") > 0.0);
+    }
+
+    @Test
+    public void testMetricsExportedExplicitly()
+    {
+        PureMetrics metrics = runtime.getMetrics();
+        InMemoryMetricsExporter exporter = (InMemoryMetricsExporter) metrics.getExporters().detect(e -> e instanceof InMemoryMetricsExporter);
+        Assert.assertNotNull(exporter);
+
+        // exported at the end of initialization
+        MetricsSnapshot afterInitialization = exporter.getLastSnapshot();
+        Assert.assertNotNull(afterInitialization);
+
+        compileTestSource("testSource.pure",
+                "function test::go():Any[*]\n" +
+                        "{\n" +
+                        "   'a'->toUpper();\n" +
+                        "}\n");
+        execute("test::go():Any[*]");
+
+        // neither compilation nor execution exports
+        Assert.assertSame(afterInitialization, exporter.getLastSnapshot());
+
+        metrics.export();
+        MetricsSnapshot afterExport = exporter.getLastSnapshot();
+        Assert.assertNotSame(afterInitialization, afterExport);
+        long toUpperCount = (afterInitialization.getTimer("native.toUpper_String_1__String_1_") == null) ? 0L : afterInitialization.getTimer("native.toUpper_String_1__String_1_").getCount();
+        Assert.assertEquals(toUpperCount + 1, afterExport.getTimer("native.toUpper_String_1__String_1_").getCount());
+    }
+}
@@ -0,0 +1,99 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.interpreted.runtime.api;
+
+import org.finos.legend.pure.m3.execution.FunctionExecution;
+import org.finos.legend.pure.m3.tests.AbstractPureTestWithCoreCompiled;
+import org.finos.legend.pure.runtime.java.interpreted.FunctionExecutionInterpreted;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class TestPreparedExecution extends AbstractPureTestWithCoreCompiled
+{
+    @BeforeClass
+    public static void setUp()
+    {
+        setUpRuntime(getFunctionExecution(), FunctionExecutionInterpreted.PREPARED_EXECUTION_OPTION::equals);
+    }
+
+    @After
+    public void cleanRuntime()
+    {
+        runtime.delete("testSource.pure");
+        runtime.compile();
+    }
+
+    @Test
+    public void testRepeatedExecution()
+    {
+        compileTestSource("testSource.pure",
+                "Class test::Person\n" +
+                        "{\n" +
+                        "   firstName : String[1];\n" +
+                        "   lastName : String[1];\n" +
+                        "   name(){$this.firstName + ' ' + $this.lastName}:String[1];\n" +
+                        "}\n" +
+                        "function test::fib(n:Integer[1]):Integer[1]\n" +
+                        "{\n" +
+                        "   if($n < 2, |$n, |test::fib($n - 1) + test::fib($n - 2))\n" +
+                        "}\n" +
+                        "function test::names<T>(items:T[*], f:Function<{T[1]->String[1]}>[1]):String[*]\n" +
+                        "{\n" +
+                        "   $items->map(i | $f->eval($i))\n" +
+                        "}\n" +
+                        "function test::go():Any[*]\n" +
+                        "{\n" +
+                        "   assertEquals(55, test::fib(10));\n" +
+                        "   let people = [^test::Person(firstName='John', lastName='Smith'), ^test::Person(firstName='Jane', lastName='Doe')];\n" +
+                        "   assertEquals(['John Smith', 'Jane Doe'], test::names($people, p | $p.name()));\n" +
+                        "   assertEquals(['1', '2'], test::names([1, 2], i | $i->toString()));\n" +
+                        "}\n");
+        execute("test::go():Any[*]");
+        execute("test::go():Any[*]");
+    }
+
+    @Test
+    public void testExecutionAfterRecompilation()
+    {
+        compileTestSource("testSource.pure",
+                "function test::value():Integer[1]\n" +
+                        "{\n" +
+                        "   1\n" +
+                        "}\n" +
+                        "function test::go():Any[*]\n" +
+                        "{\n" +
+                        "   assertEquals(1, test::value());\n" +
+                        "}\n");
+        execute("test::go():Any[*]");
+
+        runtime.modify("testSource.pure",
+                "function test::value():String[1]\n" +
+                        "{\n" +
+                        "   'one'\n" +
+                        "}\n" +
+                        "function test::go():Any[*]\n" +
+                        "{\n" +
+                        "   assertEquals('one', test::value());\n" +
+                        "}\n");
+        runtime.compile();
+        execute("test::go():Any[*]");
+    }
+
+    protected static FunctionExecution getFunctionExecution()
+    {
+        return new FunctionExecutionInterpreted();
+    }
+}
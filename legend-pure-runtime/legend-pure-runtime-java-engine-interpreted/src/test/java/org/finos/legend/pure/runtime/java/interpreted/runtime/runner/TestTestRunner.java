@@ -24,6 +24,7 @@ import org.finos.legend.pure.m3.execution.test.AssertFailTestStatus;
 import org.finos.legend.pure.m3.execution.test.ErrorTestStatus;
 import org.finos.legend.pure.m3.execution.test.SuccessTestStatus;
 import org.finos.legend.pure.m3.execution.test.TestCallBack;
+import org.finos.legend.pure.m3.execution.test.TestCollection;
 import org.finos.legend.pure.m3.execution.test.TestRunner;
 import org.finos.legend.pure.m3.execution.test.TestStatus;
 import org.finos.legend.pure.m3.navigation.PackageableElement.PackageableElement;
@@ -182,6 +183,55 @@ public class TestTestRunner extends AbstractPureTestWithCoreCompiled
         Verify.assertInstanceOf(SuccessTestStatus.class, group.getStatus());
     }
 
+    @Test
+    public void testRunInParallel()
+    {
+        StringBuilder code = new StringBuilder("function <<test.BeforePackage>> x::y::setUp():Nil[0]\n" +
+                "{\n" +
+                "   print('setup XY', 1);\n" +
+                "}\n" +
+                "function <<test.BeforePackage>> x::y::p3::setUp():Nil[0]\n" +
+                "{\n" +
+                "   print([1, 2]->at(5), 1);\n" +
+                "}\n");
+        for (int p = 0; p < 6; p++)
+        {
+            for (int t = 0; t < 5; t++)
+            {
+                code.append("function <<test.Test>> x::y::p").append(p).append("::test").append(t).append("():Boolean[1]\n")
+                        .append("{\n")
+                        .append("   print('p").append(p).append(" t").append(t).append("', 1);\n")
+                        .append("   assert(").append(t != 4).append(", |'');\n")
+                        .append("}\n");
+            }
+        }
+        compileTestSource("fromString.pure", code.toString());
+
+        UnitTestTestCallBack callback = new UnitTestTestCallBack();
+        TestRunner testRunner = new TestRunner(TestCollection.collectTests("x::y", runtime.getProcessorSupport(), functionExecution.getClass()), false, functionExecution, callback, false, null, 4);
+        testRunner.run();
+
+        MutableList<CallBackGroup> groups = callback.getGroups();
+        Assert.assertEquals(30, groups.size());
+        groups.forEach(group ->
+        {
+            String path = PackageableElement.getUserPathForPackageableElement(group.getFunction());
+            String pkg = path.substring("x::y::".length(), path.lastIndexOf("::"));
+            String test = path.substring(path.lastIndexOf("::") + 2, path.indexOf('_'));
+            if ("p3".equals(pkg))
+            {
+                Assert.assertEquals(path, "", group.getMessage());
+                Verify.assertInstanceOf(path, ErrorTestStatus.class, group.getStatus());
+            }
+            else
+            {
+                // each test sees only its own output
+                Assert.assertEquals(path, "'" + pkg + " t" + test.substring("test".length()) + "'", group.getMessage());
+                Verify.assertInstanceOf(path, "test4".equals(test) ? AssertFailTestStatus.class : SuccessTestStatus.class, group.getStatus());
+            }
+        });
+    }
+
     protected static FunctionExecution getFunctionExecution()
     {
         return new FunctionExecutionInterpreted();
@@ -135,7 +135,7 @@ public class RelationalInstanceSetImplementationValidator implements MatchRunner
                     }
                     else
                     {
-                        if (!org.finos.legend.pure.m3.navigation.type.Type.subTypeOf(ImportStub.withImportStubByPass(inlineSetInstanceMapping._classCoreInstance(), processorSupport), targetClass, processorSupport))
+                        if (!processorSupport.type_subTypeOf(ImportStub.withImportStubByPass(inlineSetInstanceMapping._classCoreInstance(), processorSupport), targetClass))
                         {
                             throw new PureCompilationException(propertyMapping.getSourceInformation(), "Mapping Error! The inlineSetImplementationId '" + inlineSetId + "' is implementing the class '" + ((Class<?>) ImportStub.withImportStubByPass(inlineSetInstanceMapping._classCoreInstance(), processorSupport))._name() + "' which is not a subType of '" + targetClass._name() + "' (return type of the mapped property '" + property.getName() + "')");
                         }
@@ -189,7 +189,7 @@ public class RelationalInstanceSetImplementationValidator implements MatchRunner
 //                        throw new RuntimeException("Mapping error: The target instance mapping '"+targetId+"' for the property '"+property.getName()+"' can't be found in the mapping "+mappingForSearch.getName()+".");
 //                    }
 
-                    if (targetInstanceMapping != null && !org.finos.legend.pure.m3.navigation.type.Type.subTypeOf(ImportStub.withImportStubByPass(targetInstanceMapping._classCoreInstance(), processorSupport), targetClass, processorSupport))
+                    if (targetInstanceMapping != null && !processorSupport.type_subTypeOf(ImportStub.withImportStubByPass(targetInstanceMapping._classCoreInstance(), processorSupport), targetClass))
                     {
                         throw new PureCompilationException(propertyMapping.getSourceInformation(), "Mapping Error! The setImplementationId '" + targetId + "' is implementing the class '" + ((Class<?>) ImportStub.withImportStubByPass(targetInstanceMapping._classCoreInstance(), processorSupport))._name() + "' which is not a subType of '" + targetClass._name() + "' (return type of the mapped property '" + property.getName() + "'");
                     }
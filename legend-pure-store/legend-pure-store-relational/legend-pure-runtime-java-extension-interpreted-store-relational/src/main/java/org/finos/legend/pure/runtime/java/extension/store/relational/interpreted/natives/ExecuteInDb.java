@@ -30,12 +30,9 @@ import org.finos.legend.pure.m3.navigation.PrimitiveUtilities;
 import org.finos.legend.pure.m3.navigation.ProcessorSupport;
 import org.finos.legend.pure.m3.navigation.ValueSpecificationBootstrap;
 import org.finos.legend.pure.m3.serialization.runtime.Message;
-import org.finos.legend.pure.m3.tools.BinaryUtils;
 import org.finos.legend.pure.m3.tools.MetricsRecorder;
 import org.finos.legend.pure.m4.ModelRepository;
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
-import org.finos.legend.pure.m4.coreinstance.primitive.date.DateFunctions;
-import org.finos.legend.pure.m4.coreinstance.primitive.date.StrictDate;
 import org.finos.legend.pure.runtime.java.extension.store.relational.shared.*;
 import org.finos.legend.pure.runtime.java.interpreted.ExecutionSupport;
 import org.finos.legend.pure.runtime.java.interpreted.VariableContext;
@@ -43,7 +40,6 @@ import org.finos.legend.pure.runtime.java.interpreted.natives.InstantiationConte
 import org.finos.legend.pure.runtime.java.interpreted.natives.NativeFunction;
 import org.finos.legend.pure.runtime.java.interpreted.profiler.Profiler;
 
-import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -244,6 +240,12 @@ public class ExecuteInDb extends NativeFunction
         return pureResult;
     }
 
+    /**
+     * Read all rows of the result set (up to maxRows, if positive) into the rows of pureResult. The rows are
+     * materialised, as the interpreted engine copies property values into instance values on access, so memory grows
+     * with the number of rows. Column readers are resolved once per query rather than per cell. Streaming results in
+     * bounded memory are only supported by the compiled engine, when {@code CanStreamState} allows it.
+     */
     public static void createPureResultSetFromDatabaseResultSet(CoreInstance pureResult, ResultSet rs, CoreInstance functionExpression, CoreInstance rowClassifier, String tz, ModelRepository repository,
                                                                 long start, int maxRows, ProcessorSupport processorSupport) throws SQLException
     {
@@ -264,156 +266,19 @@ public class ExecuteInDb extends NativeFunction
         if (rs.next())
         {
             Instance.addValueToProperty(pureResult, "executionTimeInNanoSecond", repository.newIntegerCoreInstance(System.nanoTime() - start), processorSupport);
-            MutableList<CoreInstance> rows = Lists.mutable.ofInitialCapacity(maxRows);
+            ListIterable<ResultSetColumnReaders.ColumnReader> readers = ResultSetColumnReaders.getReaders(metaData, columnPureTypes);
+            GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone(tz));
+            MutableList<CoreInstance> rows = Lists.mutable.empty();
             int rowNum = 0;
             do
             {
                 CoreInstance row = repository.newAnonymousCoreInstance(functionExpression.getSourceInformation(), rowClassifier);
                 Instance.addValueToProperty(row, "parent", pureResult, processorSupport);
-                GregorianCalendar calendar = new GregorianCalendar(TimeZone.getTimeZone(tz));
 
                 MutableList<CoreInstance> rowValues = Lists.mutable.ofInitialCapacity(count);
                 for (int i = 1; i <= count; i++)
                 {
-                    CoreInstance value = nullValue;
-                    switch (metaData.getColumnType(i))
-                    {
-                        case Types.DATE:
-                        {
-                            java.sql.Date date = rs.getDate(i);
-                            if (date != null)
-                            {
-                                value = repository.newDateCoreInstance(StrictDate.fromSQLDate(date));
-                            }
-                            break;
-                        }
-                        case Types.TIMESTAMP:
-                        case Types.TIMESTAMP_WITH_TIMEZONE:
-                        {
-                            java.sql.Timestamp timestamp = rs.getTimestamp(i, calendar);
-                            if (timestamp != null)
-                            {
-                                value = repository.newDateCoreInstance(DateFunctions.fromSQLTimestamp(timestamp));
-                            }
-                            break;
-                        }
-                        case Types.TINYINT:
-                        case Types.SMALLINT:
-                        case Types.INTEGER:
-                        {
-                            int num = rs.getInt(i);
-                            if (!rs.wasNull())
-                            {
-                                value = repository.newIntegerCoreInstance(num);
-                            }
-                            break;
-                        }
-                        case Types.BIGINT:
-                        {
-                            long num = rs.getLong(i);
-                            if (!rs.wasNull())
-                            {
-                                value = repository.newIntegerCoreInstance(num);
-                            }
-                            break;
-                        }
-                        case Types.REAL:
-                        case Types.FLOAT:
-                        case Types.DOUBLE:
-                        {
-                            double num = rs.getDouble(i);
-                            if (!rs.wasNull())
-                            {
-                                value = repository.newFloatCoreInstance(BigDecimal.valueOf(num));
-                            }
-                            break;
-                        }
-                        case Types.DECIMAL:
-                        case Types.NUMERIC:
-                        {
-                            BigDecimal num = rs.getBigDecimal(i);
-                            if (num != null)
-                            {
-                                value = repository.newFloatCoreInstance(num);
-                            }
-                            break;
-                        }
-                        case Types.CHAR:
-                        case Types.VARCHAR:
-                        case Types.LONGVARCHAR:
-                        case Types.NCHAR:
-                        case Types.NVARCHAR:
-                        case Types.LONGNVARCHAR:
-                        case Types.OTHER:
-                        {
-                            if (metaData.getColumnTypeName(i).equals("HUGEINT"))      // DuckDB Specific datatype
-                            {
-                                long num = rs.getLong(i);
-                                if (!rs.wasNull())
-                                {
-                                    value = repository.newIntegerCoreInstance(num);
-                                }
-                            }
-                            else
-                            {
-                                String string = rs.getString(i);
-                                if (string != null)
-                                {
-                                    value = repository.newStringCoreInstance(string);
-                                }
-                            }
-                            break;
-                        }
-                        case Types.BIT:
-                        case Types.BOOLEAN:
-                        {
-                            boolean boolValue = rs.getBoolean(i);
-                            if (!rs.wasNull())
-                            {
-                                value = repository.newBooleanCoreInstance(boolValue);
-                            }
-                            break;
-                        }
-                        case Types.BINARY:
-                        case Types.VARBINARY:
-                        case Types.LONGVARBINARY:
-                        {
-                            byte[] bytes = rs.getBytes(i);
-                            if (bytes != null)
-                            {
-                                String string = BinaryUtils.encodeHex(bytes);
-                                value = repository.newStringCoreInstance(string);
-                            }
-                            break;
-                        }
-                        case Types.JAVA_OBJECT:
-                        {
-                            if (metaData.getColumnTypeName(i).equals("HUGEINT"))      // DuckDB Specific datatype
-                            {
-                                long num = rs.getLong(i);
-                                if (!rs.wasNull())
-                                {
-                                    value = repository.newIntegerCoreInstance(num);
-                                }
-                                break;
-                            }
-                            break;
-                        }
-                        case Types.NULL:
-                        {
-                            // do nothing: value is already assigned to null
-                            break;
-                        }
-                        default:
-                        {
-                            Object obj = rs.getObject(i);
-                            if (obj != null)
-                            {
-                                value = repository.newEphemeralCoreInstance(obj.toString(), columnPureTypes.get(i - 1), null);
-                            }
-                        }
-                    }
-                    rowValues.add(value);
+                    rowValues.add(readers.get(i - 1).read(rs, i, repository, nullValue, calendar));
                 }
                 Instance.setValuesForProperty(row, M3Properties.values, rowValues, processorSupport);
                 rows.add(row);
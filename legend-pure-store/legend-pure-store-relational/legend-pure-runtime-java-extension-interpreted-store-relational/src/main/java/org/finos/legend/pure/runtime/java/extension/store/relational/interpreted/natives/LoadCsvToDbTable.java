@@ -85,6 +85,14 @@ public class LoadCsvToDbTable extends NativeFunction
     }
 
     public static Iterable<ListIterable<?>> collectIterable(LazyIterable iterable, final String filePath, final String tableName, final ListIterable<? extends CoreInstance> columns, final ListIterable<String> columnTypes, MutableStack<CoreInstance> functionExpressionCallStack)
+    {
+        // the rows may be converted on another thread (see LoadToDbTableHelper.insertBatch), so column names for error
+        // messages are read from the graph here rather than while converting
+        ListIterable<String> columnNames = columns.collect(column -> column.getValueForMetaPropertyToOne(M3Properties.name).getName()).toImmutable();
+        return collectIterableWithColumnNames(iterable, filePath, tableName, columnNames, columnTypes, functionExpressionCallStack);
+    }
+
+    public static Iterable<ListIterable<?>> collectIterableWithColumnNames(LazyIterable iterable, final String filePath, final String tableName, final ListIterable<String> columnNames, final ListIterable<String> columnTypes, MutableStack<CoreInstance> functionExpressionCallStack)
     {
         return iterable.collect(new Function<Iterable<String>, ListIterable<?>>()
         {
@@ -126,7 +134,7 @@ public class LoadCsvToDbTable extends NativeFunction
                 catch (NumberFormatException ex)
                 {
                     throw new PureExecutionException("Failed to load CSV file " + filePath + " into DB table " + tableName +
-                            ".\n Table requires a " + columnTypes.get(i) + " for column " + columns.get(i).getValueForMetaPropertyToOne(M3Properties.name).getName() +
+                            ".\n Table requires a " + columnTypes.get(i) + " for column " + columnNames.get(i) +
                             ". CSV row:" + (csvRecord instanceof CSVRecord ? ((CSVRecord)csvRecord).getRecordNumber() : "N/A") + " column:" + (i + 1) + " failed to convert to " + columnTypes.get(i) + " with error '" + ex.getMessage() + "'", ex, functionExpressionCallStack);
                 }
                 return result;
@@ -0,0 +1,204 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.store.relational.interpreted.natives;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.tools.BinaryUtils;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.date.DateFunctions;
+import org.finos.legend.pure.m4.coreinstance.primitive.date.StrictDate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+
+/**
+ * Column readers converting JDBC result set values to Pure instances. Readers are resolved once per column from the
+ * result set metadata, so that reading a row does not need to inspect the metadata again.
+ */
+final class ResultSetColumnReaders
+{
+    private static final ColumnReader NULL = (rs, i, repository, nullValue, calendar) -> nullValue;
+
+    private static final ColumnReader DATE = (rs, i, repository, nullValue, calendar) ->
+    {
+        Date date = rs.getDate(i);
+        return (date == null) ? nullValue : repository.newDateCoreInstance(StrictDate.fromSQLDate(date));
+    };
+
+    private static final ColumnReader TIMESTAMP = (rs, i, repository, nullValue, calendar) ->
+    {
+        Timestamp timestamp = rs.getTimestamp(i, calendar);
+        return (timestamp == null) ? nullValue : repository.newDateCoreInstance(DateFunctions.fromSQLTimestamp(timestamp));
+    };
+
+    private static final ColumnReader INT = (rs, i, repository, nullValue, calendar) ->
+    {
+        int num = rs.getInt(i);
+        return rs.wasNull() ? nullValue : repository.newIntegerCoreInstance(num);
+    };
+
+    private static final ColumnReader LONG = (rs, i, repository, nullValue, calendar) ->
+    {
+        long num = rs.getLong(i);
+        return rs.wasNull() ? nullValue : repository.newIntegerCoreInstance(num);
+    };
+
+    private static final ColumnReader DOUBLE = (rs, i, repository, nullValue, calendar) ->
+    {
+        double num = rs.getDouble(i);
+        return rs.wasNull() ? nullValue : repository.newFloatCoreInstance(BigDecimal.valueOf(num));
+    };
+
+    private static final ColumnReader DECIMAL = (rs, i, repository, nullValue, calendar) ->
+    {
+        BigDecimal num = rs.getBigDecimal(i);
+        return (num == null) ? nullValue : repository.newFloatCoreInstance(num);
+    };
+
+    private static final ColumnReader STRING = (rs, i, repository, nullValue, calendar) ->
+    {
+        String string = rs.getString(i);
+        return (string == null) ? nullValue : repository.newStringCoreInstance(string);
+    };
+
+    private static final ColumnReader BOOLEAN = (rs, i, repository, nullValue, calendar) ->
+    {
+        boolean boolValue = rs.getBoolean(i);
+        return rs.wasNull() ? nullValue : repository.newBooleanCoreInstance(boolValue);
+    };
+
+    private static final ColumnReader BINARY = (rs, i, repository, nullValue, calendar) ->
+    {
+        byte[] bytes = rs.getBytes(i);
+        return (bytes == null) ? nullValue : repository.newStringCoreInstance(BinaryUtils.encodeHex(bytes));
+    };
+
+    private ResultSetColumnReaders()
+    {
+    }
+
+    /**
+     * Resolve a reader for each column of a result set.
+     *
+     * @param metaData         result set metadata
+     * @param columnPureTypes  Pure type for each column, used for columns with no specific reader
+     * @return column readers, in column order
+     */
+    static ListIterable<ColumnReader> getReaders(ResultSetMetaData metaData, ListIterable<? extends CoreInstance> columnPureTypes) throws SQLException
+    {
+        int count = metaData.getColumnCount();
+        MutableList<ColumnReader> readers = Lists.mutable.ofInitialCapacity(count);
+        for (int i = 1; i <= count; i++)
+        {
+            readers.add(getReader(metaData, i, columnPureTypes.get(i - 1)));
+        }
+        return readers;
+    }
+
+    private static ColumnReader getReader(ResultSetMetaData metaData, int i, CoreInstance columnPureType) throws SQLException
+    {
+        switch (metaData.getColumnType(i))
+        {
+            case Types.DATE:
+            {
+                return DATE;
+            }
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+            {
+                return TIMESTAMP;
+            }
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            {
+                return INT;
+            }
+            case Types.BIGINT:
+            {
+                return LONG;
+            }
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            {
+                return DOUBLE;
+            }
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            {
+                return DECIMAL;
+            }
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.OTHER:
+            {
+                // DuckDB specific datatype
+                return isHugeInt(metaData, i) ? LONG : STRING;
+            }
+            case Types.BIT:
+            case Types.BOOLEAN:
+            {
+                return BOOLEAN;
+            }
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            {
+                return BINARY;
+            }
+            case Types.JAVA_OBJECT:
+            {
+                // DuckDB specific datatype
+                return isHugeInt(metaData, i) ? LONG : NULL;
+            }
+            case Types.NULL:
+            {
+                return NULL;
+            }
+            default:
+            {
+                return (rs, index, repository, nullValue, calendar) ->
+                {
+                    Object obj = rs.getObject(index);
+                    return (obj == null) ? nullValue : repository.newEphemeralCoreInstance(obj.toString(), columnPureType, null);
+                };
+            }
+        }
+    }
+
+    private static boolean isHugeInt(ResultSetMetaData metaData, int i) throws SQLException
+    {
+        return "HUGEINT".equals(metaData.getColumnTypeName(i));
+    }
+
+    interface ColumnReader
+    {
+        CoreInstance read(ResultSet rs, int i, ModelRepository repository, CoreInstance nullValue, Calendar calendar) throws SQLException;
+    }
+}
@@ -0,0 +1,198 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.store.relational.interpreted.natives;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.finos.legend.pure.m3.tools.BinaryUtils;
+import org.finos.legend.pure.m4.ModelRepository;
+import org.finos.legend.pure.m4.coreinstance.CoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.DateCoreInstance;
+import org.finos.legend.pure.m4.coreinstance.primitive.date.DateFunctions;
+import org.finos.legend.pure.m4.coreinstance.primitive.date.StrictDate;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+public class TestResultSetColumnReaders
+{
+    private static final String QUERY = "SELECT *, NULL AS c_null FROM all_types ORDER BY c_int NULLS LAST";
+    // c_hugeint is reported as a DuckDB HUGEINT column, which H2 does not have
+    private static final int HUGEINT_COLUMN = 16;
+
+    private final ModelRepository repository = new ModelRepository();
+    private final CoreInstance nullValue = this.repository.newStringCoreInstance("NULL");
+    private final CoreInstance defaultType = this.repository.getOrCreateTopLevel(ModelRepository.STRING_TYPE_NAME, null);
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException
+    {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:");
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute("CREATE TABLE all_types (c_tinyint TINYINT, c_smallint SMALLINT, c_int INT, c_bigint BIGINT, " +
+                    "c_real REAL, c_double DOUBLE PRECISION, c_decimal DECIMAL(10, 2), c_char CHAR(3), c_varchar VARCHAR(10), " +
+                    "c_boolean BOOLEAN, c_binary VARBINARY(4), c_date DATE, c_timestamp TIMESTAMP(3), " +
+                    "c_timestamp_tz TIMESTAMP(3) WITH TIME ZONE, c_time TIME, c_hugeint NUMERIC(38))");
+            statement.execute("INSERT INTO all_types VALUES (1, 2, 3, 4000000000, 1.5, 2.5, 12.34, 'abc', 'hello', TRUE, X'0a0b', " +
+                    "DATE '2024-03-05', TIMESTAMP '2024-03-05 10:11:12.123', TIMESTAMP WITH TIME ZONE '2024-03-05 10:11:12.123+01:00', " +
+                    "TIME '10:11:12', 123456789012345)");
+            statement.execute("INSERT INTO all_types VALUES (NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL)");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException
+    {
+        this.connection.close();
+    }
+
+    @Test
+    public void testColumnTypes() throws SQLException
+    {
+        MutableList<MutableList<CoreInstance>> rows = readRows(Types.OTHER, TimeZone.getTimeZone("GMT"));
+        Assert.assertEquals(2, rows.size());
+
+        MutableList<CoreInstance> row = rows.get(0);
+        Assert.assertEquals(
+                Lists.mutable.with("1", "2", "3", "4000000000", "1.5", "2.5", "12.34", "abc", "hello", "true", BinaryUtils.encodeHex(new byte[]{0x0a, 0x0b})),
+                row.subList(0, 11).collect(CoreInstance::getName, Lists.mutable.empty()));
+        assertDate(StrictDate.fromSQLDate(Date.valueOf("2024-03-05")), row.get(11));
+        assertDate(DateFunctions.fromSQLTimestamp(Timestamp.from(Instant.parse("2024-03-05T10:11:12.123Z"))), row.get(12));
+        assertDate(DateFunctions.fromSQLTimestamp(Timestamp.from(Instant.parse("2024-03-05T09:11:12.123Z"))), row.get(13));
+
+        // columns with no specific reader are read as instances of the given Pure type
+        Assert.assertEquals("10:11:12", row.get(14).getName());
+        Assert.assertSame(this.defaultType, row.get(14).getClassifier());
+
+        Assert.assertEquals("123456789012345", row.get(15).getName());
+        Assert.assertSame(this.nullValue, row.get(16));
+    }
+
+    @Test
+    public void testNulls() throws SQLException
+    {
+        MutableList<CoreInstance> row = readRows(Types.OTHER, TimeZone.getTimeZone("GMT")).get(1);
+        Assert.assertEquals(17, row.size());
+        row.forEachWithIndex((value, i) -> Assert.assertSame("column " + (i + 1), this.nullValue, value));
+    }
+
+    @Test
+    public void testHugeIntAsJavaObject() throws SQLException
+    {
+        MutableList<MutableList<CoreInstance>> rows = readRows(Types.JAVA_OBJECT, TimeZone.getTimeZone("GMT"));
+        Assert.assertEquals("123456789012345", rows.get(0).get(HUGEINT_COLUMN - 1).getName());
+        Assert.assertSame(this.nullValue, rows.get(1).get(HUGEINT_COLUMN - 1));
+    }
+
+    @Test
+    public void testTimestampCalendar() throws SQLException
+    {
+        MutableList<CoreInstance> row = readRows(Types.OTHER, TimeZone.getTimeZone("America/New_York")).get(0);
+        // a timestamp without time zone is interpreted in the calendar's time zone
+        assertDate(DateFunctions.fromSQLTimestamp(Timestamp.from(Instant.parse("2024-03-05T15:11:12.123Z"))), row.get(12));
+        // a timestamp with time zone is not
+        assertDate(DateFunctions.fromSQLTimestamp(Timestamp.from(Instant.parse("2024-03-05T09:11:12.123Z"))), row.get(13));
+        // dates are not affected by the calendar
+        assertDate(StrictDate.fromSQLDate(Date.valueOf("2024-03-05")), row.get(11));
+    }
+
+    private MutableList<MutableList<CoreInstance>> readRows(int hugeIntType, TimeZone timeZone) throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement();
+             ResultSet rs = statement.executeQuery(QUERY))
+        {
+            ResultSetMetaData metaData = asHugeInt(rs.getMetaData(), hugeIntType);
+            int count = metaData.getColumnCount();
+            MutableList<CoreInstance> columnPureTypes = Lists.mutable.empty();
+            for (int i = 0; i < count; i++)
+            {
+                columnPureTypes.add(this.defaultType);
+            }
+            ListIterable<ResultSetColumnReaders.ColumnReader> readers = ResultSetColumnReaders.getReaders(metaData, columnPureTypes);
+            Calendar calendar = new GregorianCalendar(timeZone);
+
+            MutableList<MutableList<CoreInstance>> rows = Lists.mutable.empty();
+            while (rs.next())
+            {
+                MutableList<CoreInstance> row = Lists.mutable.ofInitialCapacity(count);
+                for (int i = 1; i <= count; i++)
+                {
+                    row.add(readers.get(i - 1).read(rs, i, this.repository, this.nullValue, calendar));
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+    }
+
+    private static ResultSetMetaData asHugeInt(ResultSetMetaData metaData, int hugeIntType)
+    {
+        return (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) ->
+        {
+            if ((args != null) && (args.length == 1) && Integer.valueOf(HUGEINT_COLUMN).equals(args[0]))
+            {
+                switch (method.getName())
+                {
+                    case "getColumnType":
+                    {
+                        return hugeIntType;
+                    }
+                    case "getColumnTypeName":
+                    {
+                        return "HUGEINT";
+                    }
+                    default:
+                    {
+                        // fall through to the H2 metadata
+                    }
+                }
+            }
+            try
+            {
+                return method.invoke(metaData, args);
+            }
+            catch (InvocationTargetException e)
+            {
+                throw e.getCause();
+            }
+        });
+    }
+
+    private static void assertDate(Object expected, CoreInstance actual)
+    {
+        Assert.assertTrue(String.valueOf(actual), actual instanceof DateCoreInstance);
+        Assert.assertEquals(expected, ((DateCoreInstance) actual).getValue());
+    }
+}
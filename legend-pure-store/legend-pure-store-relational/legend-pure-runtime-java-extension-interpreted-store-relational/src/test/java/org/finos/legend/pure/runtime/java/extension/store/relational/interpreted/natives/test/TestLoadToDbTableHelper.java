@@ -0,0 +1,179 @@
+// Copyright 2026 Goldman Sachs
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//      http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package org.finos.legend.pure.runtime.java.extension.store.relational.interpreted.natives.test;
+
+import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Stacks;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.utility.LazyIterate;
+import org.finos.legend.pure.m3.exception.PureExecutionException;
+import org.finos.legend.pure.runtime.java.extension.store.relational.interpreted.natives.LoadCsvToDbTable;
+import org.finos.legend.pure.runtime.java.extension.store.relational.shared.LoadToDbTableHelper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TestLoadToDbTableHelper
+{
+    private static final String INSERT = LoadToDbTableHelper.buildInsertStatementHeader("default", "person", Lists.immutable.with("id", "name")).toString();
+
+    private Connection connection;
+
+    @Before
+    public void setUp() throws SQLException
+    {
+        this.connection = DriverManager.getConnection("jdbc:h2:mem:");
+        try (Statement statement = this.connection.createStatement())
+        {
+            statement.execute("CREATE TABLE person (id INT PRIMARY KEY, name VARCHAR(100))");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException
+    {
+        this.connection.close();
+    }
+
+    @Test
+    public void testEmpty() throws SQLException
+    {
+        try (PreparedStatement statement = this.connection.prepareStatement(INSERT))
+        {
+            Assert.assertArrayEquals(new int[0], LoadToDbTableHelper.insertBatch(Lists.immutable.empty(), statement, 3));
+        }
+        Assert.assertEquals(0, countRows());
+    }
+
+    @Test
+    public void testRowCountMultipleOfBatchSize() throws SQLException
+    {
+        MutableList<ListIterable<?>> rows = Lists.mutable.empty();
+        for (int i = 0; i < 6; i++)
+        {
+            rows.add(Lists.immutable.with(i, (i == 4) ? null : ("name" + i)));
+        }
+        try (PreparedStatement statement = this.connection.prepareStatement(INSERT))
+        {
+            Assert.assertArrayEquals(new int[]{1, 1, 1, 1, 1, 1}, LoadToDbTableHelper.insertBatch(rows, statement, 3));
+        }
+        Assert.assertEquals(6, countRows());
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM person WHERE name IS NULL"))
+        {
+            Assert.assertTrue(resultSet.next());
+            Assert.assertEquals(1, resultSet.getInt(1));
+        }
+    }
+
+    @Test
+    public void testConversionErrorRethrownOnCaller() throws SQLException
+    {
+        MutableList<ListIterable<String>> csvRows = Lists.mutable.empty();
+        for (int i = 0; i < 10; i++)
+        {
+            csvRows.add(Lists.immutable.with((i == 7) ? "seven" : String.valueOf(i), "name" + i));
+        }
+        Iterable<ListIterable<?>> rows = LoadCsvToDbTable.collectIterableWithColumnNames(LazyIterate.adapt(csvRows), "people.csv", "person", Lists.immutable.with("id", "name"), Lists.immutable.with("Integer", "Varchar"), Stacks.mutable.empty());
+        try (PreparedStatement statement = this.connection.prepareStatement(INSERT))
+        {
+            PureExecutionException e = Assert.assertThrows(PureExecutionException.class, () -> LoadToDbTableHelper.insertBatch(rows, statement, 3));
+            Assert.assertEquals(
+                    "Failed to load CSV file people.csv into DB table person.\n Table requires a Integer for column id. CSV row:N/A column:1 failed to convert to Integer with error 'For input string: \"seven\"'",
+                    e.getInfo());
+        }
+        // the chunks before the failing one were inserted, then rolled back
+        Assert.assertEquals(0, countRows());
+        Assert.assertTrue(this.connection.getAutoCommit());
+    }
+
+    @Test
+    public void testTransactionLeftToCallerWithoutAutoCommit() throws SQLException
+    {
+        MutableList<ListIterable<?>> rows = Lists.mutable.empty();
+        for (int i = 0; i < 5; i++)
+        {
+            rows.add(Lists.immutable.with(i, "name" + i));
+        }
+        this.connection.setAutoCommit(false);
+        try (PreparedStatement statement = this.connection.prepareStatement(INSERT))
+        {
+            LoadToDbTableHelper.insertBatch(rows, statement, 3);
+        }
+        Assert.assertFalse(this.connection.getAutoCommit());
+        Assert.assertEquals(5, countRows());
+
+        this.connection.rollback();
+        Assert.assertEquals(0, countRows());
+    }
+
+    @Test
+    public void testFailedBatchStopsReader() throws SQLException, InterruptedException
+    {
+        // endless rows: the first two have the same id, so the first batch fails
+        AtomicReference<Thread> readerThread = new AtomicReference<>();
+        AtomicInteger readCount = new AtomicInteger();
+        Iterable<ListIterable<?>> rows = () -> new Iterator<ListIterable<?>>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                readerThread.set(Thread.currentThread());
+                return true;
+            }
+
+            @Override
+            public ListIterable<?> next()
+            {
+                int i = readCount.getAndIncrement();
+                return Lists.immutable.with(Math.max(i - 1, 0), "name" + i);
+            }
+        };
+        try (PreparedStatement statement = this.connection.prepareStatement(INSERT))
+        {
+            Assert.assertThrows(SQLException.class, () -> LoadToDbTableHelper.insertBatch(rows, statement, 3));
+        }
+
+        Thread reader = readerThread.get();
+        Assert.assertNotNull(reader);
+        Assert.assertNotSame(Thread.currentThread(), reader);
+        reader.join(10_000);
+        Assert.assertFalse("reader thread still running", reader.isAlive());
+        // the reader can fill the three chunks at most, as the failed chunk is never handed back
+        Assert.assertTrue(String.valueOf(readCount.get()), readCount.get() <= 3 * 3);
+    }
+
+    private int countRows() throws SQLException
+    {
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM person"))
+        {
+            Assert.assertTrue(resultSet.next());
+            return resultSet.getInt(1);
+        }
+    }
+}
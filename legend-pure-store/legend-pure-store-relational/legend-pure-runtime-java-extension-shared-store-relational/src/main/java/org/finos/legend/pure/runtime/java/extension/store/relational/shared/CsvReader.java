@@ -24,6 +24,7 @@ import org.finos.legend.pure.m3.serialization.filesystem.usercodestorage.Reposit
 import org.finos.legend.pure.m4.coreinstance.CoreInstance;
 import org.finos.legend.pure.m4.coreinstance.SourceInformation;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
@@ -52,12 +53,13 @@ public class CsvReader
             CSVParser csvParser;
             if (codeStorage != null && codeStorage.exists(filePath))
             {
-                String file = codeStorage.getContentAsText(filePath);
-                if (file.getBytes(StandardCharsets.UTF_8).length > sizeLimitBytes)
+                // parse from the bytes rather than a decoded copy of the whole file
+                byte[] file = codeStorage.getContentAsBytes(filePath);
+                if (file.length > sizeLimitBytes)
                 {
-                    throw new PureExecutionException("File is too large, file was " + String.format("%.2f", file.length() * 1.0 / MEGA_BYTE) + " Mb, limit is " + sizeLimitMegabytes + " Mb", functionExpressionCallStack);
+                    throw new PureExecutionException("File is too large, file was " + String.format("%.2f", file.length * 1.0 / MEGA_BYTE) + " Mb, limit is " + sizeLimitMegabytes + " Mb", functionExpressionCallStack);
                 }
-                csvParser = CSVParser.parse(file, CSVFormat.EXCEL);
+                csvParser = CSVParser.parse(new ByteArrayInputStream(file), StandardCharsets.UTF_8, CSVFormat.EXCEL);
             }
             else
             {
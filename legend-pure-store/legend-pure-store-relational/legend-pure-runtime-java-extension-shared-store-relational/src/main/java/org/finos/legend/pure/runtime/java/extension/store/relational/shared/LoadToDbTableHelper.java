@@ -20,15 +20,28 @@ import org.eclipse.collections.api.factory.Lists;
 import org.eclipse.collections.api.factory.Stacks;
 import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.primitive.MutableIntList;
+import org.eclipse.collections.impl.factory.primitive.IntLists;
 import org.eclipse.collections.impl.utility.StringIterate;
 import org.finos.legend.pure.m3.exception.PureExecutionException;
 
+import java.sql.Connection;
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 public class LoadToDbTableHelper
 {
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    // chunks circulating between the reading and the inserting thread
+    private static final int CHUNK_COUNT = 3;
+
     @SuppressWarnings("unchecked")
     public static Iterable<ListIterable<?>> collectIterable(LazyIterable<?> iterable, ListIterable<String> columnTypes, String filePath, String tableName)
     {
@@ -82,28 +95,249 @@ public class LoadToDbTableHelper
     }
 
     public static int[] insertBatch(Iterable<? extends Iterable<?>> values, PreparedStatement statement) throws SQLException
+    {
+        return insertBatch(values, statement, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Insert rows using a prepared insert statement. Rows are read from values (and so parsed and converted, when
+     * values is lazy) on a separate thread into chunks of batchSize rows, while the calling thread binds each chunk
+     * and executes it as one JDBC batch. The parameter types of the statement are looked up once.
+     * <p>
+     * Only a few chunks of rows are waiting to be inserted at any time, but this does not bound memory use: values
+     * may itself be backed by the whole input (CsvReader reads code storage files fully into memory), and converting
+     * rows still allocates for each row. Since values is iterated on another thread, it must not depend on
+     * thread-local state such as the current graph transaction. Unchecked exceptions thrown while iterating values
+     * are rethrown as is on the calling thread.
+     * <p>
+     * The insert is all or nothing, even though rows are sent in several batches. If the connection of the statement
+     * is in auto-commit mode, auto-commit is turned off for the insert, all the rows are committed at the end, and on
+     * failure the rows already inserted are rolled back; auto-commit is restored in both cases. Otherwise, the
+     * transaction is left to the caller to commit or roll back.
+     *
+     * @param values    rows to insert
+     * @param statement prepared insert statement
+     * @param batchSize maximum number of rows per JDBC batch
+     * @return update counts for all rows
+     * @throws SQLException if a batch fails
+     */
+    public static int[] insertBatch(Iterable<? extends Iterable<?>> values, PreparedStatement statement, int batchSize) throws SQLException
+    {
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException("Batch size must be positive, got: " + batchSize);
+        }
+
+        Connection connection = statement.getConnection();
+        boolean autoCommit = connection.getAutoCommit();
+        if (!autoCommit)
+        {
+            return insertChunks(values, statement, batchSize);
+        }
+
+        connection.setAutoCommit(false);
+        try
+        {
+            int[] updateCounts = insertChunks(values, statement, batchSize);
+            connection.commit();
+            return updateCounts;
+        }
+        catch (Throwable t)
+        {
+            try
+            {
+                connection.rollback();
+            }
+            catch (SQLException e)
+            {
+                t.addSuppressed(e);
+            }
+            throw t;
+        }
+        finally
+        {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static int[] insertChunks(Iterable<? extends Iterable<?>> values, PreparedStatement statement, int batchSize) throws SQLException
+    {
+        BlockingQueue<RowChunk> freeChunks = new ArrayBlockingQueue<>(CHUNK_COUNT);
+        BlockingQueue<RowChunk> fullChunks = new ArrayBlockingQueue<>(CHUNK_COUNT + 1);
+        for (int i = 0; i < CHUNK_COUNT; i++)
+        {
+            freeChunks.add(new RowChunk(batchSize));
+        }
+        Thread reader = new Thread(() -> readChunks(values, freeChunks, fullChunks), "pure-db-bulk-load-reader");
+        reader.setDaemon(true);
+        reader.start();
+
+        MutableIntList updateCounts = IntLists.mutable.empty();
+        int[] parameterTypes = null;
+        try
+        {
+            while (true)
+            {
+                RowChunk chunk = fullChunks.take();
+                if (chunk.error != null)
+                {
+                    if (chunk.error instanceof RuntimeException)
+                    {
+                        throw (RuntimeException) chunk.error;
+                    }
+                    if (chunk.error instanceof Error)
+                    {
+                        throw (Error) chunk.error;
+                    }
+                    throw new RuntimeException(chunk.error);
+                }
+                if (chunk.size > 0)
+                {
+                    if (parameterTypes == null)
+                    {
+                        parameterTypes = getParameterTypes(statement);
+                    }
+                    updateCounts.addAll(executeChunk(chunk, statement, parameterTypes));
+                }
+                if (chunk.last)
+                {
+                    return updateCounts.toArray();
+                }
+                freeChunks.put(chunk);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while inserting rows", e);
+        }
+        finally
+        {
+            // stops the reader if the insert failed part way through
+            reader.interrupt();
+        }
+    }
+
+    private static void readChunks(Iterable<? extends Iterable<?>> values, BlockingQueue<RowChunk> freeChunks, BlockingQueue<RowChunk> fullChunks)
+    {
+        try
+        {
+            Iterator<? extends Iterable<?>> iterator = values.iterator();
+            boolean last = false;
+            while (!last)
+            {
+                RowChunk chunk = freeChunks.take();
+                last = chunk.fill(iterator);
+                fullChunks.put(chunk);
+            }
+        }
+        catch (InterruptedException e)
+        {
+            // the inserting thread has given up
+        }
+        catch (Throwable t)
+        {
+            // there is always room: the queue holds one more element than there are chunks
+            fullChunks.add(new RowChunk(t));
+        }
+    }
+
+    private static int[] getParameterTypes(PreparedStatement statement) throws SQLException
     {
         ParameterMetaData metaData = statement.getParameterMetaData();
+        int[] parameterTypes = new int[metaData.getParameterCount()];
+        for (int i = 0; i < parameterTypes.length; i++)
+        {
+            parameterTypes[i] = metaData.getParameterType(i + 1);
+        }
+        return parameterTypes;
+    }
 
-        for (Iterable<?> row : values)
+    private static int[] executeChunk(RowChunk chunk, PreparedStatement statement, int[] parameterTypes) throws SQLException
+    {
+        for (int r = 0; r < chunk.size; r++)
         {
-            int i = 1;
-            for (Object object : row)
+            Object[] row = chunk.rows[r];
+            int rowLength = chunk.rowLengths[r];
+            if (rowLength < parameterTypes.length)
             {
+                // do not leave values from the previous row in place
+                statement.clearParameters();
+            }
+            for (int i = 0; i < rowLength; i++)
+            {
+                Object object = row[i];
+                int parameterType = (i < parameterTypes.length) ? parameterTypes[i] : Types.OTHER;
                 if (object == null)
                 {
-                    statement.setNull(i, metaData.getParameterType(i));
+                    statement.setNull(i + 1, parameterType);
                 }
                 else
                 {
-                    statement.setObject(i, object, metaData.getParameterType(i));
+                    statement.setObject(i + 1, object, parameterType);
                 }
-                i++;
             }
             statement.addBatch();
-            statement.clearParameters();
         }
-
         return statement.executeBatch();
     }
+
+    private static class RowChunk
+    {
+        private final Object[][] rows;
+        private final int[] rowLengths;
+        private final Throwable error;
+        private int size = 0;
+        private boolean last = false;
+
+        private RowChunk(int capacity)
+        {
+            this.rows = new Object[capacity][];
+            this.rowLengths = new int[capacity];
+            this.error = null;
+        }
+
+        private RowChunk(Throwable error)
+        {
+            this.rows = null;
+            this.rowLengths = null;
+            this.error = error;
+        }
+
+        /**
+         * Fill the chunk with the next rows from iterator, reusing the row buffers of the previous fill.
+         *
+         * @return whether iterator is exhausted
+         */
+        private boolean fill(Iterator<? extends Iterable<?>> iterator)
+        {
+            this.size = 0;
+            while ((this.size < this.rows.length) && iterator.hasNext())
+            {
+                Object[] row = this.rows[this.size];
+                int length = 0;
+                for (Object object : iterator.next())
+                {
+                    if (row == null)
+                    {
+                        row = new Object[8];
+                    }
+                    else if (length == row.length)
+                    {
+                        row = Arrays.copyOf(row, length * 2);
+                    }
+                    row[length++] = object;
+                }
+                if (row != null)
+                {
+                    Arrays.fill(row, length, row.length, null);
+                }
+                this.rows[this.size] = row;
+                this.rowLengths[this.size] = length;
+                this.size++;
+            }
+            this.last = !iterator.hasNext();
+            return this.last;
+        }
+    }
 }